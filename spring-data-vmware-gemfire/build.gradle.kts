@@ -72,6 +72,7 @@ dependencies {
   compileOnly(libs.cdi.api) {
     exclude("javax.annotation", "jsr250-api")
   }
+  compileOnly(libs.micrometer.core)
 
   testImplementation(libs.bundles.gemfire)
 
@@ -80,6 +81,7 @@ dependencies {
   }
   testImplementation(libs.interceptor.api)
   testImplementation(libs.logback)
+  testImplementation(libs.micrometer.core)
   testImplementation(libs.log4J)
   testImplementation(libs.annotation.api)
   testImplementation(libs.derby)
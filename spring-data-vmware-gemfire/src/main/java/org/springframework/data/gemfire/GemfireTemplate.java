@@ -26,9 +26,11 @@ import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.transaction.TransactionalWriteBuffer;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -50,6 +52,13 @@ import org.springframework.util.StringUtils;
  * only have to deal with business objects, query objects, and <code>org.springframework.dao</code>
  * {@link Exception Exceptions}.
  *
+ * Within a cache transaction managed by a
+ * {@link org.springframework.data.gemfire.transaction.GemfireTransactionManager} with write buffering enabled,
+ * puts and removes are buffered in the {@link TransactionalWriteBuffer} and applied just before the transaction
+ * is committed, and reads of buffered keys are served from the buffer. All other operations apply the buffered
+ * writes first. Buffered puts and removes return the buffered old value of the key, or {@literal null}
+ * if no write to the key is buffered, without reading the {@link Region}.
+ *
  * @author Costin Leau
  * @author John Blum
  * @see Map
@@ -62,6 +71,7 @@ import org.springframework.util.StringUtils;
  * @see SelectResults
  * @see GemfireAccessor
  * @see GemfireOperations
+ * @see TransactionalWriteBuffer
  */
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
@@ -136,28 +146,45 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 	@Override
 	public boolean containsKey(Object key) {
-		return getRegion().containsKey(key);
+
+		TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+		return writeBuffer != null && writeBuffer.isBuffered(getRegion(), key)
+			? writeBuffer.get(getRegion(), key) != null
+			: getRegion().containsKey(key);
 	}
 
 	@Override
 	public boolean containsKeyOnServer(Object key) {
+
+		flushTransactionalWriteBuffer(getRegion());
+
 		return getRegion().containsKeyOnServer(key);
 	}
 
 	@Override
 	public boolean containsValue(Object value) {
+
+		flushTransactionalWriteBuffer(getRegion());
+
 		return getRegion().containsValue(value);
 	}
 
 	@Override
 	public boolean containsValueForKey(Object key) {
-		return getRegion().containsValueForKey(key);
+
+		TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+		return writeBuffer != null && writeBuffer.isBuffered(getRegion(), key)
+			? writeBuffer.get(getRegion(), key) != null
+			: getRegion().containsValueForKey(key);
 	}
 
 	@Override
 	public <K, V> void create(K key, V value) {
 
 		try {
+			flushTransactionalWriteBuffer(getRegion());
 			getRegion().create(key, value);
 		}
 		catch (GemFireException cause) {
@@ -169,7 +196,12 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> V get(K key) {
 
 		try {
-			return this.<K, V>getRegion().get(key);
+
+			TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+			return writeBuffer != null && writeBuffer.isBuffered(getRegion(), key)
+				? writeBuffer.get(getRegion(), key)
+				: this.<K, V>getRegion().get(key);
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
@@ -180,7 +212,12 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
 
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+
+			TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+			return writeBuffer != null
+				? writeBuffer.getAll(this.<K, V>getRegion(), keys)
+				: this.<K, V>getRegion().getAll(keys);
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
@@ -191,6 +228,18 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> V put(K key, V value) {
 
 		try {
+
+			TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+			if (writeBuffer != null) {
+
+				V oldValue = getBufferedValue(writeBuffer, key);
+
+				writeBuffer.put(getRegion(), key, value);
+
+				return oldValue;
+			}
+
 			return this.<K, V>getRegion().put(key, value);
 		}
 		catch (GemFireException cause) {
@@ -198,11 +247,28 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Returns the buffered value of the given key, or {@literal null} if no write to the key is buffered.
+	 * The {@link Region} is never read, so that buffering a write neither fetches the value from the servers
+	 * nor invokes a {@link org.apache.geode.cache.CacheLoader}.
+	 */
+	private <K, V> V getBufferedValue(TransactionalWriteBuffer writeBuffer, K key) {
+		return writeBuffer.isBuffered(getRegion(), key) ? writeBuffer.get(getRegion(), key) : null;
+	}
+
 	@Override
 	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
 
 		try {
-			this.<K, V>getRegion().putAll(map);
+
+			TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+			if (writeBuffer != null) {
+				writeBuffer.putAll(getRegion(), map);
+			}
+			else {
+				this.<K, V>getRegion().putAll(map);
+			}
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
@@ -213,6 +279,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> V putIfAbsent(K key, V value) {
 
 		try {
+			flushTransactionalWriteBuffer(getRegion());
 			return this.<K, V>getRegion().putIfAbsent(key, value);
 		}
 		catch (GemFireException cause) {
@@ -224,6 +291,18 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> V remove(K key) {
 
 		try {
+
+			TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+			if (writeBuffer != null) {
+
+				V oldValue = getBufferedValue(writeBuffer, key);
+
+				writeBuffer.remove(getRegion(), key);
+
+				return oldValue;
+			}
+
 			return this.<K, V>getRegion().remove(key);
 		}
 		catch (GemFireException cause) {
@@ -235,7 +314,15 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public void removeAll(Collection<?> keys) {
 
 		try {
-			getRegion().removeAll(keys);
+
+			TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+			if (writeBuffer != null) {
+				writeBuffer.removeAll(getRegion(), keys);
+			}
+			else {
+				getRegion().removeAll(keys);
+			}
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
@@ -246,6 +333,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> V replace(K key, V value) {
 
 		try {
+			flushTransactionalWriteBuffer(getRegion());
 			return this.<K, V>getRegion().replace(key, value);
 		}
 		catch (GemFireException cause) {
@@ -257,6 +345,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <K, V> boolean replace(K key, V oldValue, V newValue) {
 
 		try {
+			flushTransactionalWriteBuffer(getRegion());
 			return this.<K, V>getRegion().replace(key, oldValue, newValue);
 		}
 		catch (GemFireException cause) {
@@ -268,6 +357,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <E> SelectResults<E> query(String query) {
 
 		try {
+			flushTransactionalWriteBuffer();
 			return getRegion().query(query);
 		}
 		catch (IndexInvalidException | QueryInvalidException cause) {
@@ -295,6 +385,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
+			flushTransactionalWriteBuffer();
+
 			QueryService queryService = resolveQueryService(getRegion());
 
 			Query compiledQuery = queryService.newQuery(query);
@@ -338,6 +430,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
+			flushTransactionalWriteBuffer();
+
 			QueryService queryService = resolveQueryService(getRegion());
 
 			Query compiledQuery = queryService.newQuery(query);
@@ -383,6 +477,35 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Returns the {@link TransactionalWriteBuffer} of the cache transaction in progress on the current {@link Thread}.
+	 *
+	 * @return the {@link TransactionalWriteBuffer} of the current cache transaction, or {@literal null}
+	 * if no cache transaction is in progress or the transaction does not buffer writes.
+	 * @see TransactionalWriteBuffer#getCurrent(Region)
+	 */
+	protected @Nullable TransactionalWriteBuffer getTransactionalWriteBuffer() {
+		return TransactionalWriteBuffer.getCurrent(getRegion());
+	}
+
+	private void flushTransactionalWriteBuffer() {
+
+		TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+		if (writeBuffer != null) {
+			writeBuffer.flush();
+		}
+	}
+
+	private void flushTransactionalWriteBuffer(Region<?, ?> region) {
+
+		TransactionalWriteBuffer writeBuffer = getTransactionalWriteBuffer();
+
+		if (writeBuffer != null) {
+			writeBuffer.flush(region);
+		}
+	}
+
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
@@ -478,6 +601,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
+			flushTransactionalWriteBuffer();
+
 			Region<?, ?> regionArgument = exposeNativeRegion ? getRegion() : this.regionProxy;
 
 			return action.doInGemfire(regionArgument);
@@ -4,11 +4,27 @@
  */
 package org.springframework.data.gemfire.cache;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -22,6 +38,16 @@ import org.springframework.util.Assert;
 @SuppressWarnings("rawtypes")
 public class GemfireCache implements Cache {
 
+	private final ConcurrentMap<Object, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+
+	private volatile Executor asyncExecutor;
+
+	private volatile GetAllBatcher getAllBatcher;
+
+	private volatile GemfireCacheStatistics statistics;
+
+	private volatile NearCache nearCache;
+
 	private final Region region;
 
 	/**
@@ -51,6 +77,120 @@ public class GemfireCache implements Cache {
 		this.region = region;
 	}
 
+	/**
+	 * Fronts this Spring {@link Cache} with the given, bounded in-JVM {@link NearCache}, which is invalidated
+	 * by the events of the backing GemFire {@link Region}.
+	 *
+	 * @param nearCache {@link NearCache} serving cache hits without accessing the {@link Region};
+	 * must not be {@literal null}.
+	 * @return this {@link GemfireCache}.
+	 * @throws IllegalArgumentException if {@link NearCache} is {@literal null}.
+	 * @see NearCache
+	 */
+	public GemfireCache withNearCache(NearCache nearCache) {
+
+		Assert.notNull(nearCache, "NearCache must not be null");
+
+		nearCache.bind(getNativeCache());
+
+		this.nearCache = nearCache;
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link NearCache} fronting this Spring {@link Cache}.
+	 *
+	 * @return the {@link NearCache} fronting this Spring {@link Cache}, or {@literal null} if not configured.
+	 * @see #withNearCache(NearCache)
+	 */
+	public @Nullable NearCache getNearCache() {
+		return this.nearCache;
+	}
+
+	/**
+	 * Records the operations performed on this Spring {@link Cache} in the given {@link GemfireCacheStatistics}.
+	 *
+	 * @param statistics {@link GemfireCacheStatistics} recording the operations; must not be {@literal null}.
+	 * @return this {@link GemfireCache}.
+	 * @throws IllegalArgumentException if {@link GemfireCacheStatistics} is {@literal null}.
+	 * @see GemfireCacheStatistics
+	 * @see GemfireCacheMetrics
+	 */
+	public GemfireCache withStatistics(GemfireCacheStatistics statistics) {
+
+		Assert.notNull(statistics, "GemfireCacheStatistics must not be null");
+
+		this.statistics = statistics;
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link GemfireCacheStatistics} recording the operations performed on this Spring {@link Cache}.
+	 *
+	 * @return the {@link GemfireCacheStatistics}, or {@literal null} if statistics are not recorded.
+	 * @see #withStatistics(GemfireCacheStatistics)
+	 */
+	public @Nullable GemfireCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Enables coalescing of concurrent single-key cache reads issued within the given window
+	 * into a single {@link Region#getAll(Collection)}.
+	 *
+	 * A cache read issued while no other read is in flight reads its key immediately. Otherwise, the read waits
+	 * up to the window, or until the reads in flight complete, for other reads to join its batch, trading latency
+	 * for fewer round-trips to the servers when many keys are read concurrently, for example in a loop over
+	 * parallel requests.
+	 *
+	 * @param window {@link Duration} for which a batch collects keys; must not be {@literal null} or negative.
+	 * @param maximumBatchSize maximum number of keys in a batch, after which the batch is read immediately;
+	 * must be greater than {@literal 0}.
+	 * @return this {@link GemfireCache}.
+	 * @throws IllegalArgumentException if the window is {@literal null} or negative,
+	 * or the maximum batch size is less than {@literal 1}.
+	 * @see #getAll(Collection)
+	 */
+	public GemfireCache withGetBatching(Duration window, int maximumBatchSize) {
+		this.getAllBatcher = new GetAllBatcher(getNativeCache(), window, maximumBatchSize);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to access the backing GemFire {@link Region} for asynchronous
+	 * {@link #retrieve(Object) retrieval}.
+	 *
+	 * The {@link Executor} is not managed by this {@link GemfireCache}; the caller remains responsible
+	 * for shutting it down.
+	 *
+	 * @param asyncExecutor {@link Executor} used for asynchronous retrieval.
+	 * @see GemfireCacheManager#setAsyncExecutor(Executor)
+	 * @see #retrieve(Object, Supplier)
+	 * @see #retrieve(Object)
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to access the backing GemFire {@link Region} for asynchronous
+	 * {@link #retrieve(Object) retrieval}.
+	 *
+	 * @return the {@link Executor} used for asynchronous retrieval.
+	 * @throws IllegalStateException if no {@link Executor} was {@link #setAsyncExecutor(Executor) set}.
+	 */
+	public @NonNull Executor getAsyncExecutor() {
+
+		Executor asyncExecutor = this.asyncExecutor;
+
+		Assert.state(asyncExecutor != null, () -> String.format(
+			"An async Executor must be set to asynchronously retrieve values from cache [%s]", getName()));
+
+		return asyncExecutor;
+	}
+
 	/**
 	 * Returns the GemFire {@link Region} used as the implementation for this Spring {@link Cache}.
 	 *
@@ -77,7 +217,14 @@ public class GemfireCache implements Cache {
 	 * @see Region#clear()
 	 */
 	public void clear() {
+
 		getNativeCache().clear();
+
+		NearCache nearCache = getNearCache();
+
+		if (nearCache != null) {
+			nearCache.invalidateAll();
+		}
 	}
 
 	/**
@@ -88,6 +235,13 @@ public class GemfireCache implements Cache {
 	 */
 	public void evict(Object key) {
 		getNativeCache().remove(key);
+		invalidateNearCache(key);
+
+		GemfireCacheStatistics statistics = getStatistics();
+
+		if (statistics != null) {
+			statistics.recordRemoval();
+		}
 	}
 
 	/**
@@ -101,7 +255,9 @@ public class GemfireCache implements Cache {
 	 */
 	public ValueWrapper get(Object key) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
+
+		recordLookup(value);
 
 		return value != null ? new SimpleValueWrapper(value) : null;
 	}
@@ -119,7 +275,9 @@ public class GemfireCache implements Cache {
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
+
+		recordLookup(value);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -130,11 +288,168 @@ public class GemfireCache implements Cache {
 		return (T) value;
 	}
 
+	private Object lookup(Object key) {
+
+		NearCache nearCache = getNearCache();
+
+		Object value = nearCache != null ? nearCache.get(key) : null;
+
+		return value != null ? value : lookupNativeCache(nearCache, key);
+	}
+
+	private void recordLookup(@Nullable Object value) {
+
+		GemfireCacheStatistics statistics = getStatistics();
+
+		if (statistics != null) {
+			statistics.recordLookup(value);
+		}
+	}
+
+	private void recordLoad(long startTime, boolean successful) {
+
+		GemfireCacheStatistics statistics = getStatistics();
+
+		if (statistics != null) {
+			statistics.recordLoad(System.nanoTime() - startTime, successful);
+		}
+	}
+
+	private Object lookupNativeCache(@Nullable NearCache nearCache, Object key) {
+
+		if (nearCache == null) {
+			return getNativeCacheValue(key);
+		}
+
+		long invalidationSequence = nearCache.getInvalidationSequence(key);
+
+		Object value = getNativeCacheValue(key);
+
+		nearCache.put(key, value, invalidationSequence);
+
+		return value;
+	}
+
+	private Object getNativeCacheValue(Object key) {
+
+		GetAllBatcher getAllBatcher = this.getAllBatcher;
+
+		return getAllBatcher != null ? getAllBatcher.get(key) : getNativeCache().get(key);
+	}
+
+	/**
+	 * Returns the cache values for the given keys, reading all values not served by the
+	 * {@link #getNearCache() NearCache} with a single {@link Region#getAll(Collection)}.
+	 *
+	 * @param keys {@link Collection} of keys identifying the values to retrieve from the cache.
+	 * @return a {@link Map} of the given keys to the cache values; keys without a value are not contained
+	 * in the {@link Map}.
+	 * @see Region#getAll(Collection)
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Object, Object> getAll(Collection<?> keys) {
+
+		Map<Object, Object> values = new LinkedHashMap<>(keys.size());
+
+		NearCache nearCache = getNearCache();
+
+		List<Object> nativeCacheKeys = new ArrayList<>(keys.size());
+
+		for (Object key : keys) {
+
+			Object value = nearCache != null ? nearCache.get(key) : null;
+
+			if (value != null) {
+				values.put(key, value);
+				recordLookup(value);
+			}
+			else {
+				nativeCacheKeys.add(key);
+			}
+		}
+
+		if (!nativeCacheKeys.isEmpty()) {
+
+			long[] invalidationSequences = new long[nativeCacheKeys.size()];
+
+			if (nearCache != null) {
+				for (int index = 0; index < invalidationSequences.length; index++) {
+					invalidationSequences[index] = nearCache.getInvalidationSequence(nativeCacheKeys.get(index));
+				}
+			}
+
+			Map<Object, Object> nativeCacheValues = getNativeCache().getAll(nativeCacheKeys);
+
+			for (int index = 0; index < invalidationSequences.length; index++) {
+
+				Object key = nativeCacheKeys.get(index);
+				Object value = nativeCacheValues != null ? nativeCacheValues.get(key) : null;
+
+				recordLookup(value);
+
+				if (value != null) {
+
+					values.put(key, value);
+
+					if (nearCache != null) {
+						nearCache.put(key, value, invalidationSequences[index]);
+					}
+				}
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Stores all the given entries in the cache with a single {@link Region#putAll(Map)}.
+	 * Entries with {@literal null} values are not stored.
+	 *
+	 * @param entries {@link Map} of keys to the values to store in the cache.
+	 * @see Region#putAll(Map)
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(Map<?, ?> entries) {
+
+		Map<Object, Object> nonNullEntries = new LinkedHashMap<>(entries.size());
+
+		entries.forEach((key, value) -> {
+			if (value != null) {
+				nonNullEntries.put(key, value);
+			}
+		});
+
+		if (!nonNullEntries.isEmpty()) {
+
+			getNativeCache().putAll(nonNullEntries);
+			nonNullEntries.keySet().forEach(this::invalidateNearCache);
+
+			GemfireCacheStatistics statistics = getStatistics();
+
+			if (statistics != null) {
+				nonNullEntries.values().forEach(statistics::recordPut);
+			}
+		}
+	}
+
+	private void invalidateNearCache(Object key) {
+
+		NearCache nearCache = getNearCache();
+
+		if (nearCache != null) {
+			nearCache.invalidate(key);
+		}
+	}
+
 	/**
 	 * Returns the cache value for given key.  If the value is {@literal null}, then the provided
 	 * {@link Callable} {@code valueLoader} will be called to obtain a value and add the entry
 	 * to this cache.
 	 *
+	 * Concurrent cache misses for the same key share a single call to a {@code valueLoader}, while cache misses
+	 * for different keys are loaded in parallel. The {@code valueLoader} must not load the same key from this cache,
+	 * which, rather than wait for itself forever, fails with an {@link IllegalStateException}.
+	 *
 	 * @param <T> {@link Class} type of the value.
 	 * @param key key identifying the the value to retrieve from the cache.
 	 * @param valueLoader {@link Callable} object used to load a value if the entry identified by the key
@@ -143,30 +458,215 @@ public class GemfireCache implements Cache {
 	 * if the value for key is {@literal null}.
 	 * @throws ValueRetrievalException if an error occurs while trying to
 	 * load a value for given key using the {@link Callable}.
+	 * @throws IllegalStateException if called by the {@code valueLoader} of the same key.
 	 * @see #get(Object, Class)
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Callable<T> valueLoader) {
 
-		T value = (T) get(key, Object.class);
+		T value = (T) lookup(key);
 
-		if (value == null) {
-			synchronized (getNativeCache()) {
-				value = (T) get(key, Object.class);
+		recordLookup(value);
 
-				if (value == null) {
-					try {
-						value = valueLoader.call();
-						put(key, value);
-					}
-					catch (Exception e) {
-						throw new ValueRetrievalException(key, valueLoader, e);
-					}
-				}
+		return value != null ? value : load(key, valueLoader);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T load(Object key, Callable<T> valueLoader) {
+
+		InFlightLoad load = new InFlightLoad(Thread.currentThread());
+
+		InFlightLoad inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+
+			Assert.state(!inFlightLoad.isLoadedBy(Thread.currentThread()),
+				() -> String.format("Recursive load of key [%s] in cache [%s]", key, getName()));
+
+			return (T) await(key, valueLoader, inFlightLoad);
+		}
+
+		try {
+
+			T value = (T) lookup(key);
+
+			if (value == null) {
+				value = call(valueLoader);
+				put(key, value);
 			}
+
+			load.complete(value);
+
+			return value;
 		}
+		catch (Exception cause) {
 
-		return value;
+			ValueRetrievalException exception = new ValueRetrievalException(key, valueLoader, cause);
+
+			load.completeExceptionally(exception);
+
+			throw exception;
+		}
+		catch (Throwable cause) {
+			// complete the shared load on an Error as well so that concurrent callers waiting on it are released
+			load.completeExceptionally(cause);
+			throw cause;
+		}
+		finally {
+			this.inFlightLoads.remove(key, load);
+		}
+	}
+
+	private <T> T call(Callable<T> valueLoader) throws Exception {
+
+		long startTime = System.nanoTime();
+
+		try {
+
+			T value = valueLoader.call();
+
+			recordLoad(startTime, true);
+
+			return value;
+		}
+		catch (Throwable cause) {
+			recordLoad(startTime, false);
+			throw cause;
+		}
+	}
+
+	private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlightLoad) {
+
+		try {
+			return inFlightLoad.get();
+		}
+		catch (ExecutionException cause) {
+
+			Throwable loadFailure = cause.getCause() instanceof ValueRetrievalException
+				&& cause.getCause().getCause() != null
+				? cause.getCause().getCause()
+				: cause.getCause();
+
+			throw new ValueRetrievalException(key, valueLoader, loadFailure);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key.
+	 *
+	 * The backing GemFire {@link Region} is accessed on the {@link #getAsyncExecutor() async Executor},
+	 * unless the value is served by the {@link #getNearCache() NearCache}.
+	 *
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @return a {@link CompletableFuture} completing with the cache value, or with {@literal null}
+	 * if the cache contains no value for the given key.
+	 * @throws IllegalStateException if no {@link #setAsyncExecutor(Executor) async Executor} was set.
+	 * @see #retrieve(Object, Supplier)
+	 */
+	@Override
+	public CompletableFuture<?> retrieve(Object key) {
+
+		NearCache nearCache = getNearCache();
+
+		Object value = nearCache != null ? nearCache.get(key) : null;
+
+		if (value != null) {
+			recordLookup(value);
+			return CompletableFuture.completedFuture(value);
+		}
+
+		return CompletableFuture.supplyAsync(() -> {
+
+			Object nativeCacheValue = lookupNativeCache(nearCache, key);
+
+			recordLookup(nativeCacheValue);
+
+			return nativeCacheValue;
+
+		}, getAsyncExecutor());
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key.  If the value is {@literal null}, then
+	 * the {@link CompletableFuture} supplied by the {@code valueLoader} provides the value, which is then
+	 * added to this cache.
+	 *
+	 * Concurrent cache misses for the same key, whether asynchronous or from {@link #get(Object, Callable)},
+	 * share a single load, while cache misses for different keys are loaded in parallel.
+	 *
+	 * @param <T> {@link Class} type of the value.
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @param valueLoader {@link Supplier} of a {@link CompletableFuture} providing the value if the entry
+	 * identified by the key does not already have value.
+	 * @return a {@link CompletableFuture} completing with the cache value or the loaded value,
+	 * or completing exceptionally with the failure of the {@code valueLoader}.
+	 * @see #retrieve(Object)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		return retrieve(key).thenCompose(value -> value != null
+			? CompletableFuture.completedFuture((T) value)
+			: loadAsync(key, valueLoader));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<T> loadAsync(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		InFlightLoad load = new InFlightLoad(null);
+
+		CompletableFuture<Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+			return (CompletableFuture<T>) inFlightLoad.copy();
+		}
+
+		CompletableFuture.supplyAsync(() -> lookupNativeCache(getNearCache(), key), getAsyncExecutor())
+			.thenCompose(value -> value != null
+				? CompletableFuture.completedFuture(value)
+				: loadAndPutAsync(key, valueLoader))
+			.whenComplete((value, cause) -> {
+
+				this.inFlightLoads.remove(key, load);
+
+				if (cause != null) {
+					load.completeExceptionally(cause instanceof CompletionException && cause.getCause() != null
+						? cause.getCause()
+						: cause);
+				}
+				else {
+					load.complete(value);
+				}
+			});
+
+		return (CompletableFuture<T>) load.copy();
+	}
+
+	private <T> CompletableFuture<Object> loadAndPutAsync(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		long startTime = System.nanoTime();
+
+		CompletableFuture<T> loadedValue;
+
+		try {
+			loadedValue = valueLoader.get();
+		}
+		catch (RuntimeException cause) {
+			recordLoad(startTime, false);
+			return CompletableFuture.failedFuture(cause);
+		}
+
+		return loadedValue
+			.whenComplete((value, cause) -> recordLoad(startTime, cause == null))
+			.thenApplyAsync(value -> {
+				put(key, value);
+				return value;
+			}, getAsyncExecutor());
 	}
 
 	/**
@@ -182,6 +682,17 @@ public class GemfireCache implements Cache {
 
 		if (value != null) {
 			getNativeCache().put(key, value);
+			invalidateNearCache(key);
+			recordPut(value);
+		}
+	}
+
+	private void recordPut(Object value) {
+
+		GemfireCacheStatistics statistics = getStatistics();
+
+		if (statistics != null) {
+			statistics.recordPut(value);
 		}
 	}
 
@@ -199,6 +710,29 @@ public class GemfireCache implements Cache {
 
 		Object existingValue = getNativeCache().putIfAbsent(key, value);
 
+		invalidateNearCache(key);
+
+		if (existingValue == null) {
+			recordPut(value);
+		}
+
 		return (existingValue != null ? new SimpleValueWrapper(existingValue) : null);
 	}
+
+	/**
+	 * Load of a cache value shared by concurrent cache misses for the same key, recording the {@link Thread}
+	 * calling the {@code valueLoader}, if any, so that a recursive load of the same key is detected.
+	 */
+	private static final class InFlightLoad extends CompletableFuture<Object> {
+
+		private final Thread loadingThread;
+
+		private InFlightLoad(@Nullable Thread loadingThread) {
+			this.loadingThread = loadingThread;
+		}
+
+		private boolean isLoadedBy(Thread thread) {
+			return this.loadingThread == thread;
+		}
+	}
 }
@@ -5,15 +5,20 @@
 
 package org.springframework.data.gemfire.cache;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -23,25 +28,47 @@ import org.springframework.util.Assert;
  * Automatically discovers available caches (or GemFire {@link Region Regions}) when a cache for a given name
  * is missing and dynamic cache lookup/creation is enabled.
  *
+ * Unless an {@link #setAsyncExecutor(Executor) async Executor} is set, the Spring {@link Cache Caches}
+ * asynchronously retrieve values on a bounded pool of daemon {@link Thread Threads} owned by this
+ * {@link CacheManager} and shut down when this {@link CacheManager} is {@link #destroy() destroyed}.
+ *
  * @author Costin Leau
  * @author David Turanski
  * @author John Blum
  * @see CacheManager
  * @see AbstractCacheManager
+ * @see DisposableBean
  * @see ClientCache
  * @see Region
  */
 @SuppressWarnings("unused")
-public class GemfireCacheManager extends AbstractCacheManager {
+public class GemfireCacheManager extends AbstractCacheManager implements DisposableBean {
+
+	protected static final int DEFAULT_ASYNC_EXECUTOR_POOL_SIZE =
+		Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	protected static final String DEFAULT_ASYNC_EXECUTOR_THREAD_NAME_PREFIX = "GemfireCache-";
 
 	private final AtomicBoolean dynamic = new AtomicBoolean(true);
 
+	private boolean statisticsEnabled;
+
+	private int getBatchingMaximumBatchSize;
+
+	private Duration getBatchingWindow;
+
 	private ClientCache gemfireCache;
 
 	private Set<Region<?, ?>> regions;
 
 	private Set<String> cacheNames;
 
+	private Executor asyncExecutor;
+
+	private ThreadPoolTaskExecutor defaultAsyncExecutor;
+
+	private Function<String, NearCache> nearCacheProvider;
+
 	/* (non-Javadoc) */
 	@SuppressWarnings("all")
 	<T extends ClientCache> T assertGemFireCacheAvailable(T gemfireCache) {
@@ -131,7 +158,69 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	 * @see Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+
+		GemfireCache cache = GemfireCache.wrap(region);
+
+		cache.setAsyncExecutor(resolveAsyncExecutor());
+
+		if (this.getBatchingWindow != null) {
+			cache.withGetBatching(this.getBatchingWindow, this.getBatchingMaximumBatchSize);
+		}
+
+		if (isStatisticsEnabled()) {
+			cache.withStatistics(new GemfireCacheStatistics());
+		}
+
+		NearCache nearCache = this.nearCacheProvider != null
+			? this.nearCacheProvider.apply(cache.getName())
+			: null;
+
+		return nearCache != null ? cache.withNearCache(nearCache) : cache;
+	}
+
+	/**
+	 * Resolves the {@link Executor} used by the Spring {@link Cache Caches} for asynchronous retrieval,
+	 * initializing the default {@link Executor} owned by this {@link CacheManager} if none was set.
+	 *
+	 * @return the {@link Executor} used for asynchronous retrieval.
+	 * @see #setAsyncExecutor(Executor)
+	 */
+	protected synchronized Executor resolveAsyncExecutor() {
+
+		if (this.asyncExecutor != null) {
+			return this.asyncExecutor;
+		}
+
+		if (this.defaultAsyncExecutor == null) {
+
+			ThreadPoolTaskExecutor defaultAsyncExecutor = new ThreadPoolTaskExecutor();
+
+			defaultAsyncExecutor.setAllowCoreThreadTimeOut(true);
+			defaultAsyncExecutor.setCorePoolSize(DEFAULT_ASYNC_EXECUTOR_POOL_SIZE);
+			defaultAsyncExecutor.setDaemon(true);
+			defaultAsyncExecutor.setMaxPoolSize(DEFAULT_ASYNC_EXECUTOR_POOL_SIZE);
+			defaultAsyncExecutor.setThreadNamePrefix(DEFAULT_ASYNC_EXECUTOR_THREAD_NAME_PREFIX);
+			defaultAsyncExecutor.initialize();
+
+			this.defaultAsyncExecutor = defaultAsyncExecutor;
+		}
+
+		return this.defaultAsyncExecutor;
+	}
+
+	/**
+	 * Shuts down the default {@link Executor} used by the Spring {@link Cache Caches} for asynchronous retrieval,
+	 * if initialized. An {@link #setAsyncExecutor(Executor) async Executor} set by the caller is not shut down.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		ThreadPoolTaskExecutor defaultAsyncExecutor = this.defaultAsyncExecutor;
+
+		if (defaultAsyncExecutor != null) {
+			this.defaultAsyncExecutor = null;
+			defaultAsyncExecutor.shutdown();
+		}
 	}
 
 	/* (non-Javadoc) */
@@ -234,4 +323,97 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	protected Set<Region<?, ?>> getRegions() {
 		return this.regions;
 	}
+
+	/**
+	 * Sets the {@link Function} providing the {@link NearCache} fronting the Spring {@link Cache}
+	 * with the given name.
+	 *
+	 * The {@link Function} must return a new {@link NearCache} for each Spring {@link Cache},
+	 * or {@literal null} if the Spring {@link Cache} should not be fronted by a {@link NearCache}.
+	 *
+	 * @param nearCacheProvider {@link Function} providing the {@link NearCache} for a Spring {@link Cache} name.
+	 * @see GemfireCache#withNearCache(NearCache)
+	 * @see NearCache
+	 */
+	public void setNearCacheProvider(Function<String, NearCache> nearCacheProvider) {
+		this.nearCacheProvider = nearCacheProvider;
+	}
+
+	/**
+	 * Returns the {@link Function} providing the {@link NearCache} fronting the Spring {@link Cache}
+	 * with the given name.
+	 *
+	 * @return the {@link Function} providing the {@link NearCache} for a Spring {@link Cache} name.
+	 */
+	protected Function<String, NearCache> getNearCacheProvider() {
+		return this.nearCacheProvider;
+	}
+
+	/**
+	 * Enables coalescing of concurrent single-key reads of each Spring {@link Cache} issued within the given window
+	 * into a single {@link Region#getAll(Collection)}.
+	 *
+	 * @param window {@link Duration} for which a batch collects keys; must not be {@literal null} or negative.
+	 * @param maximumBatchSize maximum number of keys in a batch, after which the batch is read immediately;
+	 * must be greater than {@literal 0}.
+	 * @return this {@link GemfireCacheManager}.
+	 * @throws IllegalArgumentException if the window is {@literal null} or negative,
+	 * or the maximum batch size is less than {@literal 1}.
+	 * @see GemfireCache#withGetBatching(Duration, int)
+	 */
+	public GemfireCacheManager withGetBatching(Duration window, int maximumBatchSize) {
+
+		Assert.notNull(window, "Window must not be null");
+		Assert.isTrue(!window.isNegative(), () -> String.format("Window [%s] must not be negative", window));
+		Assert.isTrue(maximumBatchSize > 0,
+			() -> String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.getBatchingWindow = window;
+		this.getBatchingMaximumBatchSize = maximumBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Executor} used by the Spring {@link Cache Caches} for asynchronous retrieval.
+	 *
+	 * The {@link Executor} is not shut down by this {@link CacheManager}.
+	 *
+	 * @param asyncExecutor {@link Executor} used for asynchronous retrieval.
+	 * @see GemfireCache#setAsyncExecutor(Executor)
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used by the Spring {@link Cache Caches} for asynchronous retrieval.
+	 *
+	 * @return the {@link Executor} used for asynchronous retrieval, or {@literal null} if the Spring
+	 * {@link Cache Caches} use the default {@link Executor} owned by this {@link CacheManager}.
+	 * @see #resolveAsyncExecutor()
+	 */
+	protected Executor getAsyncExecutor() {
+		return this.asyncExecutor;
+	}
+
+	/**
+	 * Sets whether the Spring {@link Cache Caches} record {@link GemfireCacheStatistics}.
+	 *
+	 * @param statisticsEnabled boolean indicating whether the Spring {@link Cache Caches} record statistics.
+	 * @see GemfireCache#withStatistics(GemfireCacheStatistics)
+	 * @see GemfireCacheMetrics
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
+	/**
+	 * Determines whether the Spring {@link Cache Caches} record {@link GemfireCacheStatistics}.
+	 *
+	 * @return a boolean indicating whether the Spring {@link Cache Caches} record statistics.
+	 */
+	public boolean isStatisticsEnabled() {
+		return this.statisticsEnabled;
+	}
 }
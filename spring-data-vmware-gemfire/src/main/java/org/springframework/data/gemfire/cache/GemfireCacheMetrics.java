@@ -0,0 +1,286 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Micrometer {@link CacheMeterBinder} exposing the {@link GemfireCacheStatistics} of a {@link GemfireCache}
+ * with the Micrometer cache meter conventions ({@literal cache.gets}, {@literal cache.puts}
+ * and {@literal cache.size}). {@literal cache.size} is the number of entries stored locally, and is not reported
+ * for {@link Region Regions} storing no entries locally, such as client {@literal PROXY} {@link Region Regions}.
+ *
+ * {@literal cache.evictions} is not recorded since evictions performed by the {@link Region}
+ * are not exposed by the public API; entries explicitly removed with {@link GemfireCache#evict(Object)} are counted
+ * as {@literal cache.removals} instead.
+ *
+ * Additionally records the following meters, tagged with the {@literal cache} name:
+ *
+ * <ul>
+ *     <li>{@literal cache.removals} {@link FunctionCounter}</li>
+ *     <li>{@literal cache.load} {@link FunctionCounter}, tagged with the {@literal result}</li>
+ *     <li>{@literal cache.load.duration} {@link Timer}, with a percentile histogram</li>
+ *     <li>{@literal cache.value.size} {@link Gauge} of the average estimated value size in bytes,
+ *     when the {@link GemfireCacheStatistics} {@link GemfireCacheStatistics#isValueSizeEstimated() estimate}
+ *     value sizes</li>
+ *     <li>{@literal cache.near.gets}, {@literal cache.near.evictions} and {@literal cache.near.invalidations}
+ *     {@link FunctionCounter FunctionCounters}, and the {@literal cache.near.invalidation.lag} {@link Gauge},
+ *     when the {@link GemfireCache} is fronted by a {@link NearCache}</li>
+ * </ul>
+ *
+ * Micrometer is an optional dependency and must be on the application classpath to use these metrics.
+ *
+ * @see GemfireCacheStatistics
+ * @see io.micrometer.core.instrument.binder.cache.CacheMeterBinder
+ */
+public class GemfireCacheMetrics extends CacheMeterBinder<GemfireCache> {
+
+	private final GemfireCacheStatistics statistics;
+
+	/**
+	 * Records the {@link GemfireCacheStatistics} of the given {@link GemfireCache} in the given
+	 * {@link MeterRegistry}, enabling statistics on the {@link GemfireCache} if necessary.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which the meters are recorded.
+	 * @param cache {@link GemfireCache} to monitor.
+	 * @param tags additional {@link Tag Tags} of the meters.
+	 * @return the monitored {@link GemfireCache}.
+	 */
+	public static @NonNull GemfireCache monitor(@NonNull MeterRegistry meterRegistry, @NonNull GemfireCache cache,
+			@Nullable Iterable<Tag> tags) {
+
+		if (cache.getStatistics() == null) {
+			cache.withStatistics(new GemfireCacheStatistics());
+		}
+
+		new GemfireCacheMetrics(cache, tags).bindTo(meterRegistry);
+
+		return cache;
+	}
+
+	/**
+	 * Records the {@link GemfireCacheStatistics} of all {@link GemfireCache GemfireCaches} currently managed by
+	 * the given {@link GemfireCacheManager} in the given {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which the meters are recorded.
+	 * @param cacheManager {@link GemfireCacheManager} managing the {@link GemfireCache GemfireCaches} to monitor.
+	 * @param tags additional {@link Tag Tags} of the meters.
+	 * @see GemfireCacheManager#setStatisticsEnabled(boolean)
+	 */
+	public static void monitor(@NonNull MeterRegistry meterRegistry, @NonNull GemfireCacheManager cacheManager,
+			@Nullable Iterable<Tag> tags) {
+
+		for (String cacheName : cacheManager.getCacheNames()) {
+
+			Cache cache = cacheManager.getCache(cacheName);
+
+			if (cache instanceof GemfireCache) {
+				monitor(meterRegistry, (GemfireCache) cache, tags);
+			}
+		}
+	}
+
+	/**
+	 * Constructs a new {@link GemfireCacheMetrics} for the given {@link GemfireCache}.
+	 *
+	 * @param cache {@link GemfireCache} recording {@link GemfireCacheStatistics}; must not be {@literal null}.
+	 * @param tags additional {@link Tag Tags} of the meters.
+	 * @throws IllegalArgumentException if {@link GemfireCache} is {@literal null}.
+	 * @throws IllegalStateException if the {@link GemfireCache} does not record {@link GemfireCacheStatistics}.
+	 */
+	public GemfireCacheMetrics(@NonNull GemfireCache cache, @Nullable Iterable<Tag> tags) {
+
+		super(requireCache(cache), cache.getName(), tags != null ? tags : Tags.empty());
+
+		GemfireCacheStatistics statistics = cache.getStatistics();
+
+		Assert.state(statistics != null, () -> String.format("GemfireCache [%s] does not record statistics",
+			cache.getName()));
+
+		this.statistics = statistics;
+	}
+
+	private static GemfireCache requireCache(GemfireCache cache) {
+		Assert.notNull(cache, "GemfireCache must not be null");
+		return cache;
+	}
+
+	protected @NonNull GemfireCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Returns the number of entries stored locally by the {@link Region}, or {@literal null} if the {@link Region}
+	 * stores no entries locally, such as a client {@literal PROXY} {@link Region}, where the size would always
+	 * be {@literal 0}. The size of the {@link Region} on the servers is not read, since that requires a round-trip
+	 * to the servers on each sample.
+	 *
+	 * @return the number of entries stored locally, or {@literal null} if no entries are stored locally.
+	 */
+	@Override
+	protected Long size() {
+
+		GemfireCache cache = getCache();
+
+		return cache != null && isStoringEntriesLocally(cache.getNativeCache())
+			? (long) cache.getNativeCache().size()
+			: null;
+	}
+
+	private static boolean isStoringEntriesLocally(Region<?, ?> region) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		DataPolicy dataPolicy = regionAttributes != null ? regionAttributes.getDataPolicy() : null;
+
+		return dataPolicy == null || dataPolicy.withStorage();
+	}
+
+	@Override
+	protected long hitCount() {
+		return getStatistics().getHitCount();
+	}
+
+	@Override
+	protected Long missCount() {
+		return getStatistics().getMissCount();
+	}
+
+	@Override
+	protected Long evictionCount() {
+		return null;
+	}
+
+	@Override
+	protected long putCount() {
+		return getStatistics().getPutCount();
+	}
+
+	@Override
+	protected void bindImplementationSpecificMetrics(@NonNull MeterRegistry meterRegistry) {
+
+		GemfireCacheStatistics statistics = getStatistics();
+
+		FunctionCounter.builder("cache.removals", statistics, GemfireCacheStatistics::getRemovalCount)
+			.description("The number of entries explicitly removed from the cache")
+			.tags(getTagsWithCacheName())
+			.register(meterRegistry);
+
+		FunctionCounter.builder("cache.load", statistics, GemfireCacheStatistics::getLoadSuccessCount)
+			.description("The number of values loaded successfully on a cache miss")
+			.tags(getTagsWithCacheName())
+			.tag("result", "success")
+			.register(meterRegistry);
+
+		FunctionCounter.builder("cache.load", statistics, GemfireCacheStatistics::getLoadFailureCount)
+			.description("The number of failures loading a value on a cache miss")
+			.tags(getTagsWithCacheName())
+			.tag("result", "failure")
+			.register(meterRegistry);
+
+		Timer loadDuration = Timer.builder("cache.load.duration")
+			.description("The time taken to load a value on a cache miss")
+			.tags(getTagsWithCacheName())
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+
+		statistics.addLoadTimeRecorder(new LoadDurationRecorder(loadDuration));
+
+		if (statistics.isValueSizeEstimated()) {
+			Gauge.builder("cache.value.size", statistics, GemfireCacheStatistics::getAverageValueSize)
+				.description("The average estimated size of the values put in the cache")
+				.tags(getTagsWithCacheName())
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		}
+
+		GemfireCache cache = getCache();
+
+		NearCache nearCache = cache != null ? cache.getNearCache() : null;
+
+		if (nearCache != null) {
+			bindNearCacheMetrics(meterRegistry, nearCache);
+		}
+	}
+
+	private void bindNearCacheMetrics(MeterRegistry meterRegistry, NearCache nearCache) {
+
+		registerNearCacheCounter(meterRegistry, nearCache, "cache.near.gets", NearCache::getHitCount,
+			"The number of times a value was served by the near cache", Tags.of("result", "hit"));
+
+		registerNearCacheCounter(meterRegistry, nearCache, "cache.near.gets", NearCache::getMissCount,
+			"The number of times a value was not served by the near cache", Tags.of("result", "miss"));
+
+		registerNearCacheCounter(meterRegistry, nearCache, "cache.near.evictions", NearCache::getEvictionCount,
+			"The number of entries evicted from, or not admitted into, the near cache", Tags.empty());
+
+		registerNearCacheCounter(meterRegistry, nearCache, "cache.near.invalidations",
+			NearCache::getInvalidationCount, "The number of near cache invalidations", Tags.empty());
+
+		Gauge.builder("cache.near.invalidation.lag", nearCache,
+				it -> it.getMaximumInvalidationLag().toNanos() / (double) TimeUnit.SECONDS.toNanos(1L))
+			.description("The maximum time between an entry being modified and the near cache being invalidated")
+			.tags(getTagsWithCacheName())
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	private void registerNearCacheCounter(MeterRegistry meterRegistry, NearCache nearCache, String name,
+			ToDoubleFunction<NearCache> count, String description, Tags tags) {
+
+		FunctionCounter.builder(name, nearCache, count)
+			.description(description)
+			.tags(getTagsWithCacheName())
+			.tags(tags)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Records load durations in a {@link Timer}. Recorders of the same {@link Timer} are equal, so that binding
+	 * the metrics to the same {@link MeterRegistry} more than once does not record each load more than once.
+	 */
+	private static final class LoadDurationRecorder implements LongConsumer {
+
+		private final Timer loadDuration;
+
+		private LoadDurationRecorder(Timer loadDuration) {
+			this.loadDuration = loadDuration;
+		}
+
+		@Override
+		public void accept(long loadTime) {
+			this.loadDuration.record(loadTime, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof LoadDurationRecorder && ((LoadDurationRecorder) obj).loadDuration == this.loadDuration;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.loadDuration);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Statistics of the operations performed on a {@link GemfireCache}.
+ *
+ * Counters are striped ({@link LongAdder}) so that recording the statistics does not contend on the hot path.
+ *
+ * The size of cached values is only estimated when constructed with an {@link ObjectSizer}, since the value is
+ * sized on the {@link Thread} putting it in the cache, and then only for a sample of
+ * {@link #getValueSizeSampleRate() 1 in N} puts.
+ *
+ * @see GemfireCache#withStatistics(GemfireCacheStatistics)
+ * @see GemfireCacheMetrics
+ */
+public class GemfireCacheStatistics {
+
+	public static final int DEFAULT_VALUE_SIZE_SAMPLE_RATE = 64;
+
+	private final int valueSizeSampleRate;
+
+	private final Set<LongConsumer> loadTimeRecorders = new CopyOnWriteArraySet<>();
+
+	private final LongAccumulator maximumLoadTime = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder removalCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder valueSizeSampleCount = new LongAdder();
+	private final LongAdder valueSizeSampleTotal = new LongAdder();
+
+	private final ObjectSizer objectSizer;
+
+	/**
+	 * Constructs new {@link GemfireCacheStatistics} that do not estimate value sizes.
+	 */
+	public GemfireCacheStatistics() {
+		this.objectSizer = null;
+		this.valueSizeSampleRate = DEFAULT_VALUE_SIZE_SAMPLE_RATE;
+	}
+
+	/**
+	 * Constructs new {@link GemfireCacheStatistics} estimating value sizes with the given {@link ObjectSizer}
+	 * for {@link #DEFAULT_VALUE_SIZE_SAMPLE_RATE 1 in 64} puts.
+	 *
+	 * @param objectSizer {@link ObjectSizer} used to estimate value sizes; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ObjectSizer} is {@literal null}.
+	 * @see ObjectSizer#DEFAULT
+	 */
+	public GemfireCacheStatistics(@NonNull ObjectSizer objectSizer) {
+		this(objectSizer, DEFAULT_VALUE_SIZE_SAMPLE_RATE);
+	}
+
+	/**
+	 * Constructs new {@link GemfireCacheStatistics} estimating value sizes with the given {@link ObjectSizer}
+	 * for 1 in {@code valueSizeSampleRate} puts.
+	 *
+	 * @param objectSizer {@link ObjectSizer} used to estimate value sizes; must not be {@literal null}.
+	 * @param valueSizeSampleRate number of puts per value size estimate; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link ObjectSizer} is {@literal null}
+	 * or {@code valueSizeSampleRate} is less than {@literal 1}.
+	 */
+	public GemfireCacheStatistics(@NonNull ObjectSizer objectSizer, int valueSizeSampleRate) {
+
+		Assert.notNull(objectSizer, "ObjectSizer must not be null");
+		Assert.isTrue(valueSizeSampleRate > 0,
+			() -> String.format("Value size sample rate [%d] must be greater than 0", valueSizeSampleRate));
+
+		this.objectSizer = objectSizer;
+		this.valueSizeSampleRate = valueSizeSampleRate;
+	}
+
+	/**
+	 * Adds a callback receiving the duration, in nanoseconds, of each load, for example to record
+	 * the durations in a histogram. Adding an equal callback more than once has no effect.
+	 *
+	 * @param loadTimeRecorder {@link LongConsumer} receiving load durations in nanoseconds;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link LongConsumer} is {@literal null}.
+	 */
+	public void addLoadTimeRecorder(@NonNull LongConsumer loadTimeRecorder) {
+
+		Assert.notNull(loadTimeRecorder, "Load time recorder must not be null");
+
+		this.loadTimeRecorders.add(loadTimeRecorder);
+	}
+
+	/**
+	 * Removes a callback {@link #addLoadTimeRecorder(LongConsumer) added} to receive the duration of each load.
+	 *
+	 * @param loadTimeRecorder {@link LongConsumer} to remove.
+	 */
+	public void removeLoadTimeRecorder(@Nullable LongConsumer loadTimeRecorder) {
+		this.loadTimeRecorders.remove(loadTimeRecorder);
+	}
+
+	public int getValueSizeSampleRate() {
+		return this.valueSizeSampleRate;
+	}
+
+	/**
+	 * Determines whether the size of the values put in the cache is estimated.
+	 *
+	 * @return a boolean value indicating whether value sizes are estimated.
+	 * @see #getAverageValueSize()
+	 */
+	public boolean isValueSizeEstimated() {
+		return this.objectSizer != null;
+	}
+
+	void recordHit() {
+		this.hitCount.increment();
+	}
+
+	void recordMiss() {
+		this.missCount.increment();
+	}
+
+	void recordLookup(@Nullable Object value) {
+
+		if (value != null) {
+			recordHit();
+		}
+		else {
+			recordMiss();
+		}
+	}
+
+	void recordRemoval() {
+		this.removalCount.increment();
+	}
+
+	void recordPut(@Nullable Object value) {
+
+		this.putCount.increment();
+
+		if (value != null && isValueSizeEstimated() && isSampled()) {
+			this.valueSizeSampleCount.increment();
+			this.valueSizeSampleTotal.add(this.objectSizer.sizeof(value));
+		}
+	}
+
+	private boolean isSampled() {
+		return this.valueSizeSampleRate == 1 || ThreadLocalRandom.current().nextInt(this.valueSizeSampleRate) == 0;
+	}
+
+	void recordLoad(long loadTimeInNanoseconds, boolean successful) {
+
+		if (successful) {
+			this.loadSuccessCount.increment();
+		}
+		else {
+			this.loadFailureCount.increment();
+		}
+
+		this.totalLoadTime.add(loadTimeInNanoseconds);
+		this.maximumLoadTime.accumulate(loadTimeInNanoseconds);
+
+		for (LongConsumer loadTimeRecorder : this.loadTimeRecorders) {
+			loadTimeRecorder.accept(loadTimeInNanoseconds);
+		}
+	}
+
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of cache hits to all cache lookups.
+	 *
+	 * @return the ratio of cache hits to all cache lookups, or {@literal 0.0} if no lookups were recorded.
+	 */
+	public double getHitRatio() {
+
+		long hitCount = getHitCount();
+		long requestCount = hitCount + getMissCount();
+
+		return requestCount > 0 ? (double) hitCount / requestCount : 0.0d;
+	}
+
+	public long getPutCount() {
+		return this.putCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries explicitly removed with {@link GemfireCache#evict(Object)}.
+	 *
+	 * Entries evicted or expired by the {@link org.apache.geode.cache.Region} itself are not counted.
+	 *
+	 * @return the number of entries explicitly removed from the cache.
+	 */
+	public long getRemovalCount() {
+		return this.removalCount.sum();
+	}
+
+	public long getLoadSuccessCount() {
+		return this.loadSuccessCount.sum();
+	}
+
+	public long getLoadFailureCount() {
+		return this.loadFailureCount.sum();
+	}
+
+	/**
+	 * Returns the total time spent loading values.
+	 *
+	 * @return the total time spent loading values.
+	 */
+	public @NonNull Duration getTotalLoadTime() {
+		return Duration.ofNanos(this.totalLoadTime.sum());
+	}
+
+	/**
+	 * Returns the longest time spent loading a value.
+	 *
+	 * @return the longest time spent loading a value.
+	 */
+	public @NonNull Duration getMaximumLoadTime() {
+		return Duration.ofNanos(this.maximumLoadTime.get());
+	}
+
+	/**
+	 * Returns the average estimated size, in bytes, of the sampled values put in the cache.
+	 *
+	 * @return the average estimated value size in bytes, or {@literal 0.0} if no values were sampled.
+	 * @see #isValueSizeEstimated()
+	 */
+	public double getAverageValueSize() {
+
+		long sampleCount = this.valueSizeSampleCount.sum();
+
+		return sampleCount > 0 ? (double) this.valueSizeSampleTotal.sum() / sampleCount : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("GemfireCacheStatistics { hitCount = %d, missCount = %d, putCount = %d,"
+				+ " removalCount = %d, loadSuccessCount = %d, loadFailureCount = %d }", getHitCount(), getMissCount(),
+			getPutCount(), getRemovalCount(), getLoadSuccessCount(), getLoadFailureCount());
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Coalesces concurrent single-key {@link Region#get(Object) gets} issued within a short window
+ * into a single {@link Region#getAll(java.util.Collection)}.
+ *
+ * A key read while no other read is in flight is read immediately, so uncontended reads never wait.
+ * Otherwise, the first {@link Thread} reading a key opens a batch and waits for the window to elapse, for the batch
+ * to reach its maximum size, or for the reads in flight to complete, whichever comes first, before reading all keys
+ * in the batch. {@link Thread Threads} reading keys while the batch is open wait for the batch to be read.
+ *
+ * @see GemfireCache#withGetBatching(Duration, int)
+ */
+class GetAllBatcher {
+
+	private int inFlightReads;
+
+	private final int maximumBatchSize;
+
+	private final long windowInNanoseconds;
+
+	private Batch openBatch;
+
+	@SuppressWarnings("rawtypes")
+	private final Region region;
+
+	GetAllBatcher(@NonNull Region<?, ?> region, @NonNull Duration window, int maximumBatchSize) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(window, "Window must not be null");
+		Assert.isTrue(!window.isNegative(), () -> String.format("Window [%s] must not be negative", window));
+		Assert.isTrue(maximumBatchSize > 0,
+			() -> String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.region = region;
+		this.windowInNanoseconds = window.toNanos();
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
+	int getMaximumBatchSize() {
+		return this.maximumBatchSize;
+	}
+
+	Duration getWindow() {
+		return Duration.ofNanos(this.windowInNanoseconds);
+	}
+
+	/**
+	 * Reads the value for the given key in a batch with the keys read concurrently by other {@link Thread Threads}.
+	 *
+	 * @param key key of the value to read.
+	 * @return the value for the given key, or {@literal null} if the {@link Region} contains no value for the key.
+	 */
+	Object get(Object key) {
+
+		Batch batch;
+		CompletableFuture<Object> value;
+
+		boolean leader = false;
+
+		synchronized (this) {
+
+			if (this.openBatch == null) {
+				this.openBatch = new Batch();
+				leader = true;
+			}
+
+			batch = this.openBatch;
+			value = batch.values.computeIfAbsent(key, it -> new CompletableFuture<>());
+
+			if (batch.values.size() >= getMaximumBatchSize() || this.inFlightReads == 0) {
+				close(batch);
+			}
+		}
+
+		if (leader) {
+			read(batch);
+		}
+
+		try {
+			return value.join();
+		}
+		catch (CompletionException cause) {
+
+			if (cause.getCause() instanceof Error) {
+				throw (Error) cause.getCause();
+			}
+
+			throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+		}
+	}
+
+	/**
+	 * Closes the given batch to further keys and releases the leader to read the batch.
+	 * Must be called while holding the lock on this {@link GetAllBatcher}.
+	 */
+	private void close(Batch batch) {
+
+		if (!batch.closed) {
+
+			batch.closed = true;
+			this.inFlightReads++;
+
+			if (this.openBatch == batch) {
+				this.openBatch = null;
+			}
+
+			batch.ready.countDown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void read(Batch batch) {
+
+		try {
+			batch.ready.await(this.windowInNanoseconds, TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+
+		synchronized (this) {
+			close(batch);
+		}
+
+		try {
+
+			Map<Object, Object> values = this.region.getAll(batch.values.keySet());
+
+			batch.values.forEach((key, value) -> value.complete(values != null ? values.get(key) : null));
+		}
+		catch (Throwable cause) {
+			batch.values.values().forEach(value -> value.completeExceptionally(cause));
+		}
+		finally {
+			synchronized (this) {
+				if (--this.inFlightReads == 0 && this.openBatch != null) {
+					close(this.openBatch);
+				}
+			}
+		}
+	}
+
+	private static final class Batch {
+
+		private boolean closed;
+
+		private final CountDownLatch ready = new CountDownLatch(1);
+
+		private final Map<Object, CompletableFuture<Object>> values = new LinkedHashMap<>();
+
+	}
+}
@@ -0,0 +1,738 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.data.gemfire.client.PoolResolver;
+import org.springframework.data.gemfire.client.support.PoolManagerPoolResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, in-JVM (L1) cache of values read through a {@link GemfireCache}, avoiding a {@link Region#get(Object)},
+ * and for client {@literal PROXY} {@link Region Regions} a network round-trip, for every cache hit.
+ *
+ * Entries expire after the configured {@link #getTimeToLive() time-to-live} and, once the
+ * {@link #getMaximumSize() maximum size} is reached, are evicted using a W-TinyLFU policy: new entries enter
+ * a small LRU admission window, and an entry leaving the window is only admitted into the main LRU space
+ * when it was accessed more frequently than the entry it would evict, as estimated by a count-min sketch.
+ *
+ * Cache hits only read a {@link ConcurrentMap} and record the access in a lossy buffer; the eviction policy
+ * is updated from the buffer, and expired entries are removed, in batches, by the {@link Thread} that
+ * acquires the policy lock when caching a value or after a number of reads, or by {@link #cleanUp()}.
+ *
+ * Entries are invalidated by {@link Region} events. When {@link #bind(Region) bound} to a client {@link Region},
+ * interest in all keys is registered, without values, so that updates made by other clients invalidate this cache.
+ * Alternatively, a {@link #newCqListener() CqListener} can be registered on a Continuous Query.
+ *
+ * @see GemfireCache#withNearCache(NearCache)
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ */
+public class NearCache extends CacheListenerAdapter<Object, Object> {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5L);
+
+	private static final double WINDOW_RATIO = 0.01d;
+
+	private static final int INVALIDATION_STRIPES = 64;
+	private static final int READ_BUFFER_DRAIN_INTERVAL = 32;
+	private static final int READ_BUFFER_SIZE = 128;
+
+	private static final long UNKNOWN_EVENT_TIME = 0L;
+
+	private boolean registerInterest = true;
+
+	private final int maximumSize;
+	private final int windowSize;
+
+	private final long timeToLiveInNanoseconds;
+
+	private final AtomicLong readBufferWriteCount = new AtomicLong();
+
+	private final AtomicLongArray invalidationSequences = new AtomicLongArray(INVALIDATION_STRIPES);
+
+	private final AtomicReferenceArray<Object> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+	private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+
+	private final FrequencySketch frequencySketch;
+
+	private volatile LongSupplier clock = System::nanoTime;
+
+	private final LongAccumulator maximumInvalidationLag = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+	private final LongAdder invalidationLagCount = new LongAdder();
+	private final LongAdder invalidationLagTotal = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private final Map<Object, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<Object, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<Object, Entry> writeOrder = new LinkedHashMap<>();
+
+	private volatile PoolResolver poolResolver = new PoolManagerPoolResolver();
+
+	private final ReentrantLock policyLock = new ReentrantLock();
+
+	private volatile ToLongFunction<EntryEvent<Object, Object>> eventTimeResolver = event -> UNKNOWN_EVENT_TIME;
+
+	/**
+	 * Constructs a new {@link NearCache} holding at most {@link #DEFAULT_MAXIMUM_SIZE 10000} entries
+	 * for {@link #DEFAULT_TIME_TO_LIVE 5 minutes}.
+	 */
+	public NearCache() {
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Constructs a new {@link NearCache} holding at most {@code maximumSize} entries for the given {@link Duration}.
+	 *
+	 * @param maximumSize maximum number of entries; must be greater than {@literal 0}.
+	 * @param timeToLive {@link Duration} after which an entry expires; must not be {@literal null} or negative.
+	 * @throws IllegalArgumentException if {@code maximumSize} is less than {@literal 1},
+	 * or {@link Duration timeToLive} is {@literal null} or negative.
+	 */
+	public NearCache(int maximumSize, @NonNull Duration timeToLive) {
+
+		Assert.isTrue(maximumSize > 0, () -> String.format("Maximum size [%d] must be greater than 0", maximumSize));
+		Assert.notNull(timeToLive, "Time-to-live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), () -> String.format("Time-to-live [%s] must not be negative", timeToLive));
+
+		this.maximumSize = maximumSize;
+		this.windowSize = Math.max(1, (int) (maximumSize * WINDOW_RATIO));
+		this.timeToLiveInNanoseconds = timeToLive.toNanos();
+		this.frequencySketch = new FrequencySketch(maximumSize);
+	}
+
+	void setClock(@NonNull LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the maximum number of entries held by this cache.
+	 *
+	 * @return the maximum number of entries held by this cache.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which an entry expires.
+	 *
+	 * @return the {@link Duration} after which an entry expires.
+	 */
+	public @NonNull Duration getTimeToLive() {
+		return Duration.ofNanos(this.timeToLiveInNanoseconds);
+	}
+
+	/**
+	 * Sets the function resolving, from a {@link Region} event, the time in milliseconds since the epoch at which
+	 * the entry was modified, used to measure the {@link #getAverageInvalidationLag() invalidation lag}.
+	 *
+	 * The public API does not expose the version timestamp of an event, so by default the time is unknown
+	 * and no lag is recorded. Applications may, for example, resolve a timestamp carried by the new value
+	 * or callback argument, returning {@literal 0} when the time is unknown.
+	 *
+	 * @param eventTimeResolver function resolving the modification time of an event;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the function is {@literal null}.
+	 */
+	public void setEventTimeResolver(@NonNull ToLongFunction<EntryEvent<Object, Object>> eventTimeResolver) {
+
+		Assert.notNull(eventTimeResolver, "Event time resolver must not be null");
+
+		this.eventTimeResolver = eventTimeResolver;
+	}
+
+	/**
+	 * Sets the {@link PoolResolver} used to resolve the {@link Pool} of a client {@link Region}
+	 * this cache is {@link #bind(Region) bound} to.
+	 *
+	 * @param poolResolver {@link PoolResolver} used to resolve the {@link Pool}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link PoolResolver} is {@literal null}.
+	 */
+	public void setPoolResolver(@NonNull PoolResolver poolResolver) {
+
+		Assert.notNull(poolResolver, "PoolResolver must not be null");
+
+		this.poolResolver = poolResolver;
+	}
+
+	/**
+	 * Sets whether interest in all keys is registered when this cache is {@link #bind(Region) bound}
+	 * to a client {@link Region}.
+	 *
+	 * Disable interest registration when this cache is invalidated by a {@link #newCqListener() CqListener}
+	 * or the {@link Region} already registers interest.
+	 *
+	 * @param registerInterest boolean indicating whether to register interest in all keys.
+	 */
+	public void setRegisterInterest(boolean registerInterest) {
+		this.registerInterest = registerInterest;
+	}
+
+	public boolean isRegisterInterest() {
+		return this.registerInterest;
+	}
+
+	/**
+	 * Binds this cache to the given {@link Region}, registering this cache as a
+	 * {@link org.apache.geode.cache.CacheListener} and, for client {@link Region Regions} configured
+	 * to {@link #isRegisterInterest() register interest}, registering interest in all keys.
+	 *
+	 * @param region {@link Region} whose events invalidate this cache; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @throws IllegalStateException if interest is registered and the {@link Pool} of the client {@link Region}
+	 * does not enable subscriptions.
+	 */
+	@SuppressWarnings("unchecked")
+	void bind(@NonNull Region<?, ?> region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		boolean registerInterest = isRegisterInterest() && isClientRegion(region);
+
+		if (registerInterest) {
+
+			Pool pool = this.poolResolver.resolve(region);
+
+			Assert.state(pool == null || pool.getSubscriptionEnabled(), () -> String.format(
+				"Pool [%1$s] of Region [%2$s] must enable subscriptions for NearCache to register interest;"
+					+ " otherwise, disable interest registration and invalidate NearCache with a CqListener",
+				pool.getName(), region.getFullPath()));
+		}
+
+		((Region<Object, Object>) region).getAttributesMutator().addCacheListener(this);
+
+		if (registerInterest) {
+			region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+		}
+	}
+
+	private boolean isClientRegion(Region<?, ?> region) {
+		return region.getAttributes() != null && region.getAttributes().getPoolName() != null;
+	}
+
+	/**
+	 * Returns a {@link CqListener} invalidating this cache on the events of a Continuous Query.
+	 *
+	 * @return a {@link CqListener} invalidating this cache.
+	 */
+	public @NonNull CqListener newCqListener() {
+
+		return new CqListener() {
+
+			@Override
+			public void onEvent(CqEvent event) {
+				invalidate(event.getKey(), UNKNOWN_EVENT_TIME);
+			}
+
+			@Override
+			public void onError(CqEvent event) {
+				invalidateAll();
+			}
+		};
+	}
+
+	/**
+	 * Returns the number of invalidations of the given key, or of keys sharing its stripe, used to detect values
+	 * read from the {@link Region} concurrently with an invalidation.
+	 *
+	 * @param key key of the value read from the {@link Region}.
+	 * @return the number of invalidations of the stripe of the key.
+	 * @see #put(Object, Object, long)
+	 */
+	long getInvalidationSequence(@Nullable Object key) {
+		return this.invalidationSequences.get(stripe(key));
+	}
+
+	private int stripe(@Nullable Object key) {
+
+		int hash = Objects.hashCode(key) * 0x9e3779b9;
+
+		return (hash ^ (hash >>> 16)) & (INVALIDATION_STRIPES - 1);
+	}
+
+	/**
+	 * Returns the value cached for the given key.
+	 *
+	 * @param key key of the value.
+	 * @return the cached value, or {@literal null} if the key is not cached or the entry expired.
+	 */
+	@Nullable Object get(@NonNull Object key) {
+
+		Entry entry = this.entries.get(key);
+
+		recordAccess(key);
+
+		if (entry != null && entry.isExpired(this.clock.getAsLong())) {
+			this.entries.remove(key, entry);
+			entry = null;
+		}
+
+		if (entry != null) {
+			this.hitCount.increment();
+			return entry.value;
+		}
+
+		this.missCount.increment();
+
+		return null;
+	}
+
+	private void recordAccess(Object key) {
+
+		long index = this.readBufferWriteCount.getAndIncrement();
+
+		this.readBuffer.lazySet((int) (index % READ_BUFFER_SIZE), key);
+
+		if (index % READ_BUFFER_DRAIN_INTERVAL == READ_BUFFER_DRAIN_INTERVAL - 1 && this.policyLock.tryLock()) {
+			try {
+				maintain();
+			}
+			finally {
+				this.policyLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Caches the given value read from, or written to, the {@link Region} unless the key was invalidated
+	 * since the given invalidation sequence.
+	 *
+	 * @param key key of the value.
+	 * @param value value to cache; {@literal null} values are not cached.
+	 * @param invalidationSequence {@link #getInvalidationSequence(Object) invalidation sequence} of the key
+	 * observed before the value was read from the {@link Region}.
+	 */
+	void put(@NonNull Object key, @Nullable Object value, long invalidationSequence) {
+
+		if (value != null) {
+
+			Entry entry = new Entry(value, this.clock.getAsLong() + this.timeToLiveInNanoseconds);
+
+			this.policyLock.lock();
+
+			try {
+
+				if (invalidationSequence != getInvalidationSequence(key)) {
+					return;
+				}
+
+				this.entries.put(key, entry);
+				this.writeOrder.remove(key);
+				this.writeOrder.put(key, entry);
+
+				if (this.main.containsKey(key)) {
+					this.main.put(key, entry);
+				}
+				else {
+					this.window.put(key, entry);
+				}
+
+				maintain();
+			}
+			finally {
+				this.policyLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Applies the accesses recorded since the last maintenance to the eviction policy and removes expired entries.
+	 *
+	 * Maintenance is also performed when values are cached and after a number of reads, so calling this method is
+	 * only required to remove expired entries from a cache that is neither read nor written.
+	 */
+	public void cleanUp() {
+
+		this.policyLock.lock();
+
+		try {
+			maintain();
+		}
+		finally {
+			this.policyLock.unlock();
+		}
+	}
+
+	private void maintain() {
+		drainReadBuffer();
+		evict();
+		removeExpiredEntries();
+	}
+
+	private void drainReadBuffer() {
+
+		for (int index = 0; index < READ_BUFFER_SIZE; index++) {
+
+			Object key = this.readBuffer.getAndSet(index, null);
+
+			if (key != null) {
+
+				this.frequencySketch.increment(key);
+
+				if (this.window.get(key) == null) {
+					this.main.get(key);
+				}
+			}
+		}
+	}
+
+	private void evict() {
+
+		while (this.window.size() > this.windowSize) {
+
+			Iterator<Map.Entry<Object, Entry>> windowIterator = this.window.entrySet().iterator();
+			Map.Entry<Object, Entry> candidate = windowIterator.next();
+
+			windowIterator.remove();
+
+			if (this.main.size() < this.maximumSize - this.windowSize) {
+				this.main.put(candidate.getKey(), candidate.getValue());
+			}
+			else {
+
+				Object evictedKey = candidate.getKey();
+
+				Iterator<Map.Entry<Object, Entry>> mainIterator = this.main.entrySet().iterator();
+
+				if (mainIterator.hasNext()) {
+
+					Object victimKey = mainIterator.next().getKey();
+
+					if (this.frequencySketch.frequency(candidate.getKey())
+						> this.frequencySketch.frequency(victimKey)) {
+
+						mainIterator.remove();
+						this.main.put(candidate.getKey(), candidate.getValue());
+						evictedKey = victimKey;
+					}
+				}
+
+				this.entries.remove(evictedKey);
+				this.writeOrder.remove(evictedKey);
+				this.evictionCount.increment();
+			}
+		}
+	}
+
+	private void removeExpiredEntries() {
+
+		long now = this.clock.getAsLong();
+
+		Iterator<Map.Entry<Object, Entry>> iterator = this.writeOrder.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+
+			Map.Entry<Object, Entry> oldest = iterator.next();
+
+			if (!oldest.getValue().isExpired(now)) {
+				break;
+			}
+
+			iterator.remove();
+			this.entries.remove(oldest.getKey(), oldest.getValue());
+			this.window.remove(oldest.getKey());
+			this.main.remove(oldest.getKey());
+		}
+	}
+
+	/**
+	 * Invalidates the entry for the given key.
+	 *
+	 * @param key key of the entry to invalidate.
+	 */
+	void invalidate(@Nullable Object key) {
+		invalidate(key, UNKNOWN_EVENT_TIME);
+	}
+
+	private void invalidate(@Nullable Object key, long eventTime) {
+
+		this.policyLock.lock();
+
+		try {
+			this.invalidationSequences.incrementAndGet(stripe(key));
+
+			if (key != null) {
+				this.entries.remove(key);
+				this.writeOrder.remove(key);
+				this.window.remove(key);
+				this.main.remove(key);
+			}
+		}
+		finally {
+			this.policyLock.unlock();
+		}
+
+		this.invalidationCount.increment();
+
+		if (eventTime > UNKNOWN_EVENT_TIME) {
+
+			long lag = Math.max(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - eventTime), 0L);
+
+			this.invalidationLagCount.increment();
+			this.invalidationLagTotal.add(lag);
+			this.maximumInvalidationLag.accumulate(lag);
+		}
+	}
+
+	/**
+	 * Invalidates all entries.
+	 */
+	void invalidateAll() {
+
+		this.policyLock.lock();
+
+		try {
+			for (int stripe = 0; stripe < INVALIDATION_STRIPES; stripe++) {
+				this.invalidationSequences.incrementAndGet(stripe);
+			}
+
+			this.entries.clear();
+			this.writeOrder.clear();
+			this.window.clear();
+			this.main.clear();
+		}
+		finally {
+			this.policyLock.unlock();
+		}
+
+		this.invalidationCount.increment();
+	}
+
+	/**
+	 * Returns the number of entries currently cached, including expired entries not yet removed.
+	 *
+	 * @return the number of entries currently cached.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of cache hits to all cache lookups.
+	 *
+	 * @return the ratio of cache hits to all cache lookups, or {@literal 0.0} if no lookups were performed.
+	 */
+	public double getHitRatio() {
+
+		long hitCount = getHitCount();
+		long requestCount = hitCount + getMissCount();
+
+		return requestCount > 0 ? (double) hitCount / requestCount : 0.0d;
+	}
+
+	public long getInvalidationCount() {
+		return this.invalidationCount.sum();
+	}
+
+	/**
+	 * Returns the average time between an entry being modified on the server and the resulting invalidation
+	 * of this cache.
+	 *
+	 * The lag is only recorded for events whose modification time is resolved by the configured
+	 * {@link #setEventTimeResolver(ToLongFunction) event time resolver}, and is subject to clock skew
+	 * between the client and the servers.
+	 *
+	 * @return the average invalidation lag, or {@link Duration#ZERO} if no lag was recorded.
+	 */
+	public @NonNull Duration getAverageInvalidationLag() {
+
+		long count = this.invalidationLagCount.sum();
+
+		return count > 0 ? Duration.ofNanos(this.invalidationLagTotal.sum() / count) : Duration.ZERO;
+	}
+
+	/**
+	 * Returns the maximum time between an entry being modified on the server and the resulting invalidation
+	 * of this cache.
+	 *
+	 * @return the maximum invalidation lag, or {@link Duration#ZERO} if no lag was recorded.
+	 * @see #getAverageInvalidationLag()
+	 */
+	public @NonNull Duration getMaximumInvalidationLag() {
+		return Duration.ofNanos(this.maximumInvalidationLag.get());
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<Object, Object> event) {
+		invalidate(event);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<Object, Object> event) {
+		invalidate(event);
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<Object, Object> event) {
+		invalidate(event);
+	}
+
+	private void invalidate(EntryEvent<Object, Object> event) {
+		invalidate(event.getKey(), this.eventTimeResolver.applyAsLong(event));
+	}
+
+	@Override
+	public void afterRegionClear(RegionEvent<Object, Object> event) {
+		invalidateAll();
+	}
+
+	@Override
+	public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+		invalidateAll();
+	}
+
+	@Override
+	public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+		invalidateAll();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NearCache { maximumSize = %d, timeToLive = %s, size = %d, hitRatio = %s }",
+			getMaximumSize(), getTimeToLive(), size(), getHitRatio());
+	}
+
+	private static final class Entry {
+
+		private final long expirationTime;
+
+		private final Object value;
+
+		private Entry(Object value, long expirationTime) {
+			this.value = value;
+			this.expirationTime = expirationTime;
+		}
+
+		private boolean isExpired(long now) {
+			return now - this.expirationTime >= 0L;
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4-bit counters estimating the access frequency of keys, periodically halved
+	 * so that the estimates favor recent accesses. Guarded by the policy lock.
+	 */
+	private static final class FrequencySketch {
+
+		private static final int DEPTH = 4;
+		private static final int MAXIMUM_FREQUENCY = 15;
+
+		private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+
+		private final byte[] counters;
+
+		private final int mask;
+		private final int sampleSize;
+
+		private int additions;
+
+		private FrequencySketch(int maximumSize) {
+
+			int width = Integer.highestOneBit(Math.max(maximumSize, 8) * 2 - 1) * 2;
+
+			this.counters = new byte[width * DEPTH];
+			this.mask = width - 1;
+			this.sampleSize = Math.max(maximumSize, 8) * 10;
+		}
+
+		private int index(Object key, int row) {
+
+			int spreadHash = key.hashCode() * 0x9e3779b9;
+
+			long hash = (spreadHash + SEEDS[row]) * SEEDS[row];
+
+			hash += hash >>> 32;
+
+			return row * (this.mask + 1) + ((int) hash & this.mask);
+		}
+
+		private void increment(Object key) {
+
+			boolean incremented = false;
+
+			for (int row = 0; row < DEPTH; row++) {
+
+				int index = index(key, row);
+
+				if (this.counters[index] < MAXIMUM_FREQUENCY) {
+					this.counters[index]++;
+					incremented = true;
+				}
+			}
+
+			if (incremented && ++this.additions >= this.sampleSize) {
+				reset();
+			}
+		}
+
+		private int frequency(Object key) {
+
+			int frequency = MAXIMUM_FREQUENCY;
+
+			for (int row = 0; row < DEPTH; row++) {
+				frequency = Math.min(frequency, this.counters[index(key, row)]);
+			}
+
+			return frequency;
+		}
+
+		private void reset() {
+
+			for (int index = 0; index < this.counters.length; index++) {
+				this.counters[index] >>>= 1;
+			}
+
+			this.additions /= 2;
+		}
+	}
+}
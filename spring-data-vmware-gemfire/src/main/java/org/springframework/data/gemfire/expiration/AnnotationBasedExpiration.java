@@ -5,7 +5,16 @@
 package org.springframework.data.gemfire.expiration;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.apache.geode.cache.CustomExpiry;
 import org.apache.geode.cache.ExpirationAction;
@@ -20,18 +29,28 @@ import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.expression.EnvironmentAccessor;
 import org.springframework.context.expression.MapAccessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.ast.Operator;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.support.StandardTypeConverter;
 import org.springframework.expression.spel.support.StandardTypeLocator;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * The {@link AnnotationBasedExpiration} class is an implementation of the {@link CustomExpiry} interface
@@ -39,6 +58,15 @@ import org.springframework.util.ObjectUtils;
  * by introspecting the {@link Region} entry's class type and reflecting on any {@link Region} entries annotated
  * with SDG's Expiration-based Annotations.
  *
+ * The expiration policy is resolved once per {@link Region} entry value {@link Class type} and cached.
+ * Timeouts and actions declared as literals or property placeholders are resolved once, while SpEL expressions
+ * are parsed once and only re-evaluated for each {@link Region} entry when they reference beans, properties
+ * or other dynamic state.
+ *
+ * Time-To-Live (TTL) expiration may also be determined per {@link Region} entry by annotating a property
+ * of the application domain object with {@link TimeToLive}. The property is read with the accessor generated
+ * from the {@link GemfireMappingContext} mapping meta-data rather than with reflection.
+ *
  * @author John Blum
  * @see Annotation
  * @see BeanFactory
@@ -46,6 +74,7 @@ import org.springframework.util.ObjectUtils;
  * @see ExpirationActionType
  * @see Expiration
  * @see IdleTimeoutExpiration
+ * @see TimeToLive
  * @see TimeToLiveExpiration
  * @see CustomExpiry
  * @see ExpirationAction
@@ -65,6 +94,17 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	//private ExpirationAttributes defaultExpirationAttributes = ExpirationAttributes.DEFAULT;
 	private ExpirationAttributes defaultExpirationAttributes;
 
+	private final Map<Class<? extends Annotation>, ConcurrentMap<Class<?>, Optional<CompiledExpirationMetaData>>>
+		compiledExpirationMetaData = Map.of(
+			Expiration.class, new ConcurrentHashMap<>(),
+			IdleTimeoutExpiration.class, new ConcurrentHashMap<>(),
+			TimeToLiveExpiration.class, new ConcurrentHashMap<>());
+
+	private final ConcurrentMap<Class<?>, Optional<TimeToLiveProperty>> timeToLiveProperties =
+		new ConcurrentHashMap<>();
+
+	private volatile GemfireMappingContext mappingContext;
+
 	/**
 	 * Constructs a new instance of the AnnotationBasedExpiration class with no default expiration policy.
 	 */
@@ -122,9 +162,9 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			@Override
 			protected ExpirationMetaData getExpirationMetaData(Region.Entry<K, V> entry) {
 
-				return isIdleTimeoutConfigured(entry)
-					? ExpirationMetaData.from(getIdleTimeout(entry))
-					: super.getExpirationMetaData(entry);
+				ExpirationMetaData expirationMetaData = resolveExpirationMetaData(entry, IdleTimeoutExpiration.class);
+
+				return expirationMetaData != null ? expirationMetaData : super.getExpirationMetaData(entry);
 			}
 		};
 	}
@@ -168,9 +208,12 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			@Override
 			protected ExpirationMetaData getExpirationMetaData(Region.Entry<K, V> entry) {
 
-				return isTimeToLiveConfigured(entry)
-					? ExpirationMetaData.from(getTimeToLive(entry))
-					: super.getExpirationMetaData(entry);
+				ExpirationMetaData expirationMetaData = resolveTimeToLiveProperty(entry);
+
+				expirationMetaData = expirationMetaData != null ? expirationMetaData
+					: resolveExpirationMetaData(entry, TimeToLiveExpiration.class);
+
+				return expirationMetaData != null ? expirationMetaData : super.getExpirationMetaData(entry);
 			}
 		};
 	}
@@ -265,6 +308,62 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 		return this.defaultExpirationAttributes;
 	}
 
+	/**
+	 * Sets the {@link GemfireMappingContext} used to access {@link TimeToLive} annotated properties
+	 * of application domain objects.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} containing the mapping meta-data
+	 * of the application domain objects.
+	 * @see GemfireMappingContext
+	 * @see #getMappingContext()
+	 */
+	public void setMappingContext(GemfireMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Gets the {@link GemfireMappingContext} used to access {@link TimeToLive} annotated properties
+	 * of application domain objects.
+	 *
+	 * Defaults to the {@link GemfireMappingContext} bean declared in the Spring {@link BeanFactory}, if unique,
+	 * or a new {@link GemfireMappingContext} otherwise.
+	 *
+	 * @return the {@link GemfireMappingContext} containing the mapping meta-data of the application domain objects.
+	 * @see GemfireMappingContext
+	 * @see #setMappingContext(GemfireMappingContext)
+	 */
+	protected GemfireMappingContext getMappingContext() {
+
+		GemfireMappingContext mappingContext = this.mappingContext;
+
+		if (mappingContext == null) {
+			synchronized (this) {
+				mappingContext = this.mappingContext;
+				if (mappingContext == null) {
+					mappingContext = resolveMappingContext();
+					this.mappingContext = mappingContext;
+				}
+			}
+		}
+
+		return mappingContext;
+	}
+
+	private GemfireMappingContext resolveMappingContext() {
+
+		BeanFactory beanFactory = BEAN_FACTORY_REFERENCE.get();
+
+		GemfireMappingContext mappingContext = null;
+
+		try {
+			mappingContext = beanFactory != null ? beanFactory.getBean(GemfireMappingContext.class) : null;
+		}
+		catch (BeansException ignore) {
+		}
+
+		return mappingContext != null ? mappingContext : new GemfireMappingContext();
+	}
+
 	/**
 	 * Calculate the expiration for a given entry. Returning {@literal null} indicates that the default
 	 * for the {@link Region} should be used. The entry parameter should not be used after this method
@@ -291,7 +390,67 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 * @see ExpirationMetaData
 	 */
 	protected ExpirationMetaData getExpirationMetaData(Region.Entry<K, V> entry) {
-		return isExpirationConfigured(entry) ? ExpirationMetaData.from(getExpiration(entry)) : null;
+		return resolveExpirationMetaData(entry, Expiration.class);
+	}
+
+	/**
+	 * Resolves the Time-To-Live (TTL) expiration policy meta-data from the {@link TimeToLive} annotated property
+	 * of the {@link Region} entry value.
+	 *
+	 * @param entry {@link Region} entry used as the source of the expiration policy meta-data.
+	 * @return {@link ExpirationMetaData} for the {@link Region} entry or {@literal null} if the {@link Region} entry
+	 * value has no {@link TimeToLive} annotated property, or the property has no positive timeout.
+	 * @see TimeToLive
+	 */
+	protected ExpirationMetaData resolveTimeToLiveProperty(Region.Entry<K, V> entry) {
+
+		Object value = entry != null ? entry.getValue() : null;
+
+		if (value == null) {
+			return null;
+		}
+
+		Optional<TimeToLiveProperty> timeToLiveProperty = this.timeToLiveProperties.get(value.getClass());
+
+		if (timeToLiveProperty == null) {
+			timeToLiveProperty = this.timeToLiveProperties.computeIfAbsent(value.getClass(),
+				type -> Optional.ofNullable(TimeToLiveProperty.compile(this::getMappingContext, type)));
+		}
+
+		return timeToLiveProperty.map(it -> it.resolve(value)).orElse(null);
+	}
+
+	/**
+	 * Resolves the expiration policy meta-data declared with the given Expiration Annotation on the {@link Class type}
+	 * of the {@link Region} entry value, compiling the Annotation once per {@link Class type}.
+	 *
+	 * @param entry {@link Region} entry used as the source of the expiration policy meta-data.
+	 * @param annotationType {@link Class type} of Expiration Annotation declaring the expiration policy.
+	 * @return {@link ExpirationMetaData} for the {@link Region} entry or {@literal null}
+	 * if the {@link Region} entry value is not annotated with the given Expiration Annotation.
+	 * @see ExpirationMetaData
+	 */
+	protected ExpirationMetaData resolveExpirationMetaData(Region.Entry<K, V> entry,
+			Class<? extends Annotation> annotationType) {
+
+		Object value = entry != null ? entry.getValue() : null;
+
+		if (value == null) {
+			return null;
+		}
+
+		ConcurrentMap<Class<?>, Optional<CompiledExpirationMetaData>> compiledExpirationMetaData =
+			this.compiledExpirationMetaData.get(annotationType);
+
+		Optional<CompiledExpirationMetaData> compiledValueExpirationMetaData =
+			compiledExpirationMetaData.get(value.getClass());
+
+		if (compiledValueExpirationMetaData == null) {
+			compiledValueExpirationMetaData = compiledExpirationMetaData.computeIfAbsent(value.getClass(),
+				type -> Optional.ofNullable(CompiledExpirationMetaData.compile(type, annotationType)));
+		}
+
+		return compiledValueExpirationMetaData.map(CompiledExpirationMetaData::resolve).orElse(null);
 	}
 
 	/**
@@ -437,8 +596,6 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 */
 	protected static class ExpirationMetaData {
 
-		private static final ExpirationActionConverter EXPIRATION_ACTION_CONVERTER = new ExpirationActionConverter();
-
 		private final int timeout;
 
 		private final ExpirationActionType action;
@@ -454,98 +611,27 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 		}
 
 		protected static ExpirationMetaData from(Expiration expiration) {
-			return new ExpirationMetaData(parseTimeout(expiration.timeout()), parseAction(expiration.action()));
+			return CompiledExpirationMetaData.compile(expiration.timeout(), expiration.action()).resolve();
 		}
 
 		protected static ExpirationMetaData from(IdleTimeoutExpiration expiration) {
-			return new ExpirationMetaData(parseTimeout(expiration.timeout()), parseAction(expiration.action()));
+			return CompiledExpirationMetaData.compile(expiration.timeout(), expiration.action()).resolve();
 		}
 
 		protected static ExpirationMetaData from(TimeToLiveExpiration expiration) {
-			return new ExpirationMetaData(parseTimeout(expiration.timeout()), parseAction(expiration.action()));
+			return CompiledExpirationMetaData.compile(expiration.timeout(), expiration.action()).resolve();
 		}
 
 		public ExpirationAttributes toExpirationAttributes() {
 			return new ExpirationAttributes(timeout(), expirationAction());
 		}
 
-		@SuppressWarnings("all")
 		protected static int parseTimeout(String timeout) {
-
-			try {
-				return Integer.parseInt(timeout);
-			}
-			catch (NumberFormatException cause) {
-
-				try {
-					// Next, try to parse the 'timeout' as a Spring Expression using SpEL.
-					return new SpelExpressionParser()
-						.parseExpression(timeout)
-						.getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
-				}
-				catch (ParseException e) {
-
-					// Finally, try to process the 'timeout' as a Spring Property Placeholder.
-					if (BEAN_FACTORY_REFERENCE.get() instanceof ConfigurableBeanFactory) {
-						return Integer.parseInt(((ConfigurableBeanFactory) BEAN_FACTORY_REFERENCE.get())
-							.resolveEmbeddedValue(timeout));
-					}
-
-					throw cause;
-				}
-			}
+			return CompiledTimeout.compile(timeout).resolve();
 		}
 
 		protected static ExpirationActionType parseAction(String action) {
-
-			try {
-				return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER.convert(action));
-			}
-			catch (IllegalArgumentException cause) {
-
-				// Next, try to parse the 'action' as a Spring Expression using SpEL.
-				EvaluationException evaluationException = new EvaluationException(String.format(
-					"[%s] is not resolvable as an ExpirationAction(Type)", action), cause);
-
-				EvaluationContext evaluationContext = EVALUATION_CONTEXT_REFERENCE.get();
-
-				try {
-
-					Expression expression = new SpelExpressionParser().parseExpression(action);
-
-					Class<?> valueType = expression.getValueType(evaluationContext);
-
-					if (String.class.equals(valueType)) {
-						return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER
-							.convert(expression.getValue(evaluationContext, String.class)));
-					}
-					else if (ExpirationAction.class.equals(valueType)) {
-						return ExpirationActionType.valueOf(expression.getValue(evaluationContext, ExpirationAction.class));
-					}
-					else if (ExpirationActionType.class.equals(valueType)) {
-						return expression.getValue(evaluationContext, ExpirationActionType.class);
-					}
-
-					throw evaluationException;
-				}
-				catch (ParseException e) {
-
-					// Finally, try to process the 'action' as a Spring Property Placeholder.
-					if (BEAN_FACTORY_REFERENCE.get() instanceof ConfigurableBeanFactory) {
-						try {
-
-							String resolvedValue =
-								((ConfigurableBeanFactory) BEAN_FACTORY_REFERENCE.get()).resolveEmbeddedValue(action);
-
-							return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER.convert(resolvedValue));
-						}
-						catch (IllegalArgumentException ignore) {
-						}
-					}
-
-					throw evaluationException;
-				}
-			}
+			return CompiledAction.compile(action).resolve();
 		}
 
 		public ExpirationActionType action() {
@@ -603,4 +689,385 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 				getClass().getName(), timeout(), action());
 		}
 	}
+
+	/**
+	 * Expiration policy declared by an Expiration Annotation, with the timeout and action compiled
+	 * for repeated resolution.
+	 */
+	static final class CompiledExpirationMetaData {
+
+		private final CompiledAction action;
+
+		private final CompiledTimeout timeout;
+
+		private final ExpirationMetaData staticExpirationMetaData;
+
+		static CompiledExpirationMetaData compile(Class<?> type, Class<? extends Annotation> annotationType) {
+
+			if (!type.isAnnotationPresent(annotationType)) {
+				return null;
+			}
+
+			Annotation annotation = AnnotationUtils.getAnnotation(type, annotationType);
+
+			if (annotation instanceof Expiration) {
+				return compile(((Expiration) annotation).timeout(), ((Expiration) annotation).action());
+			}
+			else if (annotation instanceof IdleTimeoutExpiration) {
+				return compile(((IdleTimeoutExpiration) annotation).timeout(),
+					((IdleTimeoutExpiration) annotation).action());
+			}
+			else if (annotation instanceof TimeToLiveExpiration) {
+				return compile(((TimeToLiveExpiration) annotation).timeout(),
+					((TimeToLiveExpiration) annotation).action());
+			}
+
+			return null;
+		}
+
+		static CompiledExpirationMetaData compile(String timeout, String action) {
+			return new CompiledExpirationMetaData(CompiledTimeout.compile(timeout), CompiledAction.compile(action));
+		}
+
+		private CompiledExpirationMetaData(CompiledTimeout timeout, CompiledAction action) {
+
+			this.timeout = timeout;
+			this.action = action;
+
+			this.staticExpirationMetaData = timeout.isStatic() && action.isStatic()
+				? new ExpirationMetaData(timeout.resolve(), action.resolve())
+				: null;
+		}
+
+		boolean isStatic() {
+			return this.staticExpirationMetaData != null;
+		}
+
+		ExpirationMetaData resolve() {
+
+			return this.staticExpirationMetaData != null
+				? this.staticExpirationMetaData
+				: new ExpirationMetaData(this.timeout.resolve(), this.action.resolve());
+		}
+
+		static Expression parseExpression(String expressionString) {
+			return EXPRESSION_PARSER.parseExpression(expressionString);
+		}
+
+		static boolean isPropertyPlaceholder(String value) {
+			return value != null && value.contains("${");
+		}
+
+		static String resolvePropertyPlaceholder(String value) {
+
+			BeanFactory beanFactory = BEAN_FACTORY_REFERENCE.get();
+
+			return beanFactory instanceof ConfigurableBeanFactory
+				? ((ConfigurableBeanFactory) beanFactory).resolveEmbeddedValue(value)
+				: null;
+		}
+
+		/**
+		 * Determines whether the value of the {@link Expression} is constant, consisting only of literals
+		 * and operators, so that the value can be evaluated once.
+		 */
+		static boolean isStatic(Expression expression) {
+			return expression instanceof SpelExpression && isStatic(((SpelExpression) expression).getAST());
+		}
+
+		private static boolean isStatic(SpelNode node) {
+
+			if (!(node instanceof Literal || node instanceof Operator)) {
+				return false;
+			}
+
+			for (int index = 0; index < node.getChildCount(); index++) {
+				if (!isStatic(node.getChild(index))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+	}
+
+	/**
+	 * Expiration timeout declared as an integer literal, property placeholder or SpEL expression.
+	 */
+	static final class CompiledTimeout {
+
+		private final Expression expression;
+
+		private final Integer staticTimeout;
+
+		static CompiledTimeout compile(String timeout) {
+
+			if (isInteger(timeout)) {
+				return new CompiledTimeout(Integer.parseInt(timeout), null);
+			}
+
+			if (CompiledExpirationMetaData.isPropertyPlaceholder(timeout)) {
+				return new CompiledTimeout(parsePropertyPlaceholder(timeout), null);
+			}
+
+			try {
+
+				Expression expression = CompiledExpirationMetaData.parseExpression(timeout);
+
+				return CompiledExpirationMetaData.isStatic(expression)
+					? new CompiledTimeout(expression.getValue(Integer.TYPE), null)
+					: new CompiledTimeout(null, expression);
+			}
+			catch (ParseException cause) {
+				return new CompiledTimeout(parsePropertyPlaceholder(timeout), null);
+			}
+		}
+
+		private static boolean isInteger(String value) {
+
+			int length = value != null ? value.length() : 0;
+			int start = length > 1 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+
+			if (length == 0 || length - start > 9) {
+				return false;
+			}
+
+			for (int index = start; index < length; index++) {
+				if (!Character.isDigit(value.charAt(index))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static int parsePropertyPlaceholder(String timeout) {
+
+			String resolvedTimeout = CompiledExpirationMetaData.resolvePropertyPlaceholder(timeout);
+
+			if (resolvedTimeout == null) {
+				throw new NumberFormatException(String.format("For input string: \"%s\"", timeout));
+			}
+
+			return Integer.parseInt(resolvedTimeout);
+		}
+
+		private CompiledTimeout(Integer staticTimeout, Expression expression) {
+			this.staticTimeout = staticTimeout;
+			this.expression = expression;
+		}
+
+		boolean isStatic() {
+			return this.staticTimeout != null;
+		}
+
+		@SuppressWarnings("all")
+		int resolve() {
+
+			return this.staticTimeout != null
+				? this.staticTimeout
+				: this.expression.getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
+		}
+	}
+
+	/**
+	 * Expiration action declared as an {@link ExpirationActionType} name, property placeholder or SpEL expression.
+	 */
+	static final class CompiledAction {
+
+		private static final ExpirationActionConverter EXPIRATION_ACTION_CONVERTER = new ExpirationActionConverter();
+
+		private final Expression expression;
+
+		private final ExpirationActionType staticAction;
+
+		private final String action;
+
+		static CompiledAction compile(String action) {
+
+			ExpirationActionType expirationActionType = ExpirationActionType.valueOfIgnoreCase(action);
+
+			if (expirationActionType != null) {
+				return new CompiledAction(action, expirationActionType, null);
+			}
+
+			if (CompiledExpirationMetaData.isPropertyPlaceholder(action)) {
+				return new CompiledAction(action, parsePropertyPlaceholder(action), null);
+			}
+
+			try {
+
+				Expression expression = CompiledExpirationMetaData.parseExpression(action);
+
+				CompiledAction compiledAction = new CompiledAction(action, null, expression);
+
+				return CompiledExpirationMetaData.isStatic(expression)
+					? new CompiledAction(action, compiledAction.evaluate(new StandardEvaluationContext()), null)
+					: compiledAction;
+			}
+			catch (ParseException cause) {
+				return new CompiledAction(action, parsePropertyPlaceholder(action), null);
+			}
+		}
+
+		private static ExpirationActionType parsePropertyPlaceholder(String action) {
+
+			ExpirationActionType expirationActionType;
+
+			try {
+				expirationActionType = ExpirationActionType.valueOfIgnoreCase(
+					CompiledExpirationMetaData.resolvePropertyPlaceholder(action));
+			}
+			catch (IllegalArgumentException ignore) {
+				expirationActionType = null;
+			}
+
+			if (expirationActionType == null) {
+				throw newEvaluationException(action);
+			}
+
+			return expirationActionType;
+		}
+
+		private static EvaluationException newEvaluationException(String action) {
+
+			return new EvaluationException(String.format("[%s] is not resolvable as an ExpirationAction(Type)", action),
+				new IllegalArgumentException(String.format("[%s] is not a valid ExpirationAction", action)));
+		}
+
+		private CompiledAction(String action, ExpirationActionType staticAction, Expression expression) {
+			this.action = action;
+			this.staticAction = staticAction;
+			this.expression = expression;
+		}
+
+		boolean isStatic() {
+			return this.staticAction != null;
+		}
+
+		ExpirationActionType resolve() {
+
+			return this.staticAction != null
+				? this.staticAction
+				: evaluate(EVALUATION_CONTEXT_REFERENCE.get());
+		}
+
+		private ExpirationActionType evaluate(EvaluationContext evaluationContext) {
+
+			Class<?> valueType = this.expression.getValueType(evaluationContext);
+
+			if (String.class.equals(valueType)) {
+				return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER
+					.convert(this.expression.getValue(evaluationContext, String.class)));
+			}
+			else if (ExpirationAction.class.equals(valueType)) {
+				return ExpirationActionType.valueOf(this.expression.getValue(evaluationContext, ExpirationAction.class));
+			}
+			else if (ExpirationActionType.class.equals(valueType)) {
+				return this.expression.getValue(evaluationContext, ExpirationActionType.class);
+			}
+
+			throw newEvaluationException(this.action);
+		}
+	}
+
+	/**
+	 * {@link TimeToLive} annotated property of an application domain object, read with the
+	 * {@link org.springframework.data.mapping.PersistentPropertyAccessor} of the {@link GemfirePersistentEntity}.
+	 */
+	static final class TimeToLiveProperty {
+
+		private final CompiledAction action;
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final GemfirePersistentProperty property;
+
+		private final TimeUnit unit;
+
+		static TimeToLiveProperty compile(Supplier<GemfireMappingContext> mappingContext, Class<?> type) {
+
+			if (!isTimeToLiveDeclared(type)) {
+				return null;
+			}
+
+			GemfirePersistentEntity<?> entity = mappingContext.get().getPersistentEntity(type);
+
+			GemfirePersistentProperty property = entity != null ? entity.getPersistentProperty(TimeToLive.class) : null;
+
+			if (property == null) {
+				return null;
+			}
+
+			Class<?> propertyType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+
+			Assert.isTrue(Number.class.isAssignableFrom(propertyType) || Duration.class.equals(propertyType)
+					|| Instant.class.equals(propertyType) || Date.class.isAssignableFrom(propertyType),
+				() -> String.format("Property [%1$s] of type [%2$s] annotated with @TimeToLive must be a Number,"
+					+ " Duration, Instant or Date", property.getName(), type.getName()));
+
+			TimeToLive timeToLive = property.findAnnotation(TimeToLive.class);
+
+			return new TimeToLiveProperty(entity, property, timeToLive.unit(),
+				CompiledAction.compile(timeToLive.action()));
+		}
+
+		private static boolean isTimeToLiveDeclared(Class<?> type) {
+
+			boolean[] declared = { false };
+
+			ReflectionUtils.doWithFields(type,
+				field -> declared[0] = true,
+				field -> !declared[0] && AnnotatedElementUtils.hasAnnotation(field, TimeToLive.class));
+
+			ReflectionUtils.doWithMethods(type,
+				method -> declared[0] = true,
+				method -> !declared[0] && AnnotatedElementUtils.hasAnnotation(method, TimeToLive.class));
+
+			return declared[0];
+		}
+
+		private TimeToLiveProperty(GemfirePersistentEntity<?> entity, GemfirePersistentProperty property,
+				TimeUnit unit, CompiledAction action) {
+
+			this.entity = entity;
+			this.property = property;
+			this.unit = unit;
+			this.action = action;
+		}
+
+		ExpirationMetaData resolve(Object value) {
+
+			long timeout = toSeconds(this.entity.getPropertyAccessor(value).getProperty(this.property));
+
+			return timeout > 0
+				? new ExpirationMetaData((int) Math.min(timeout, Integer.MAX_VALUE), this.action.resolve())
+				: null;
+		}
+
+		private long toSeconds(Object timeout) {
+
+			if (timeout instanceof Number) {
+				return toSeconds(Duration.of(((Number) timeout).longValue(), this.unit.toChronoUnit()));
+			}
+			else if (timeout instanceof Duration) {
+				return toSeconds((Duration) timeout);
+			}
+			else if (timeout instanceof Instant) {
+				return Math.max(toSeconds(Duration.between(Instant.now(), (Instant) timeout)), 1L);
+			}
+			else if (timeout instanceof Date) {
+				return Math.max(toSeconds(Duration.between(Instant.now(), ((Date) timeout).toInstant())), 1L);
+			}
+
+			return 0L;
+		}
+
+		private static long toSeconds(Duration timeout) {
+			return timeout.isNegative() ? 0L : timeout.getSeconds() + (timeout.getNano() > 0 ? 1L : 0L);
+		}
+	}
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.data.gemfire.expiration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeToLive marks a property of an application domain object whose value determines the time-to-live (TTL)
+ * expiration of the individual Region entry storing the object.
+ *
+ * The property may be a {@link Number} expressed in the configured {@link #unit()}, a {@link java.time.Duration},
+ * or an absolute expiration time declared as a {@link java.time.Instant} or {@link java.util.Date}.
+ * A {@literal null}, zero or negative timeout falls back to the type-level expiration policy of the object,
+ * while an absolute expiration time in the past expires the Region entry after one second.
+ *
+ * @see AnnotationBasedExpiration#forTimeToLive(org.apache.geode.cache.ExpirationAttributes)
+ * @see ExpirationActionType
+ * @see TimeToLiveExpiration
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface TimeToLive {
+
+	String action() default "INVALIDATE";
+
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+}
@@ -10,26 +10,46 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
- * Sends {@link Collection} {@link Function} results using a {@link ResultSender} in chunks
- * determined by {@code batchSize}.
+ * Sends {@link Collection} {@link Function} results using a {@link ResultSender} in chunks bounded by
+ * a {@code batchSize}, an estimated number of bytes and/or a latency.
+ *
+ * A chunk is sent as soon as any of the configured limits is reached: the number of results in the chunk reaches
+ * the {@link #getBatchSize() batch size}, the estimated size of the results in the chunk, as determined by
+ * the {@link #getObjectSizer() ObjectSizer}, reaches the {@link #getMaxBatchBytes() maximum batch bytes}, or the time
+ * elapsed since the first result was added to the chunk reaches the {@link #getMaxBatchLatency() maximum batch latency}.
+ * Limits are evaluated as each result is added to the chunk.
+ *
+ * Server-side {@link Function} beans obtain a {@link BatchingResultSender} for the {@link FunctionContext}
+ * of each invocation from a {@link BatchingResultSenderFactory} bean.
  *
  * @author David Turanski
  * @author Udo Kohlmeyer
  * @author John Blum
+ * @see org.apache.geode.cache.execute.ResultSender
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see BatchingResultSenderFactory
  * @since 1.3.0
  */
-class BatchingResultSender {
+public class BatchingResultSender {
 
 	private final int batchSize;
 
+	private long maxBatchBytes;
+	private long maxBatchLatency;
+
+	private ObjectSizer objectSizer = ObjectSizer.DEFAULT;
+
 	private ResultSender<Object> resultSender;
 
 	/**
@@ -61,6 +81,34 @@ class BatchingResultSender {
 		return this.batchSize;
 	}
 
+	/**
+	 * Returns the estimated number of bytes after which a chunk of results is sent.
+	 *
+	 * @return the estimated number of bytes after which a chunk of results is sent; {@literal 0} if unbounded.
+	 */
+	public long getMaxBatchBytes() {
+		return this.maxBatchBytes;
+	}
+
+	/**
+	 * Returns the amount of time, in milliseconds, after which a chunk of results is sent.
+	 *
+	 * @return the amount of time, in milliseconds, after which a chunk of results is sent; {@literal 0} if unbounded.
+	 */
+	public long getMaxBatchLatency() {
+		return this.maxBatchLatency;
+	}
+
+	/**
+	 * Returns the {@link ObjectSizer} used to estimate the size of each result.
+	 *
+	 * @return the {@link ObjectSizer} used to estimate the size of each result.
+	 * @see ObjectSizer
+	 */
+	public ObjectSizer getObjectSizer() {
+		return this.objectSizer;
+	}
+
 	/**
 	 * Returns a reference to the configured {@link ResultSender} used to send {@link Function} results.
 	 *
@@ -71,12 +119,65 @@ class BatchingResultSender {
 		return this.resultSender;
 	}
 
+	/**
+	 * Builder method used to send a chunk of results once their estimated size reaches the given number of bytes.
+	 *
+	 * @param maxBatchBytes estimated number of bytes after which a chunk of results is sent;
+	 * {@literal 0} to disable.
+	 * @return this {@link BatchingResultSender}.
+	 * @throws IllegalArgumentException if {@code maxBatchBytes} is less than {@literal 0}.
+	 */
+	public BatchingResultSender withMaxBatchBytes(long maxBatchBytes) {
+
+		Assert.isTrue(maxBatchBytes >= 0, "maxBatchBytes must be greater than equal to 0");
+
+		this.maxBatchBytes = maxBatchBytes;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to send a chunk of results once the given amount of time has elapsed since
+	 * the first result was added to the chunk.
+	 *
+	 * @param maxBatchLatency amount of time, in milliseconds, after which a chunk of results is sent;
+	 * {@literal 0} to disable.
+	 * @return this {@link BatchingResultSender}.
+	 * @throws IllegalArgumentException if {@code maxBatchLatency} is less than {@literal 0}.
+	 */
+	public BatchingResultSender withMaxBatchLatency(long maxBatchLatency) {
+
+		Assert.isTrue(maxBatchLatency >= 0, "maxBatchLatency must be greater than equal to 0");
+
+		this.maxBatchLatency = maxBatchLatency;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to set the {@link ObjectSizer} used to estimate the size of each result.
+	 *
+	 * Defaults to {@link ObjectSizer#DEFAULT}.
+	 *
+	 * @param objectSizer {@link ObjectSizer} used to estimate the size of each result; must not be {@literal null}.
+	 * @return this {@link BatchingResultSender}.
+	 * @throws IllegalArgumentException if {@link ObjectSizer} is {@literal null}.
+	 */
+	public BatchingResultSender withObjectSizer(ObjectSizer objectSizer) {
+
+		Assert.notNull(objectSizer, "ObjectSizer must not be null");
+
+		this.objectSizer = objectSizer;
+
+		return this;
+	}
+
 	protected boolean isBatchingDisabled() {
 		return !isBatchingEnabled();
 	}
 
 	protected boolean isBatchingEnabled() {
-		return getBatchSize() > 0;
+		return getBatchSize() > 0 || getMaxBatchBytes() > 0 || getMaxBatchLatency() > 0;
 	}
 
 	protected boolean doNotSendChunks(boolean resultSetIsEmpty) {
@@ -87,31 +188,31 @@ class BatchingResultSender {
 
 		ResultSender<Object> resultSender = getResultSender();
 
-		if (doNotSendChunks(!result.iterator().hasNext())) {
+		Iterator<?> it = result.iterator();
+
+		if (doNotSendChunks(!it.hasNext())) {
 			resultSender.lastResult(result);
 		}
 		else {
 
-			int batchSize = getBatchSize();
-
-			List<Object> chunk = new ArrayList<>(batchSize);
+			Batch batch = new Batch();
 
-			for (Iterator<?> it = result.iterator(); it.hasNext(); ) {
+			List<Object> chunk = new ArrayList<>();
 
-				if (chunk.size() < batchSize) {
-					chunk.add(it.next());
-				}
+			while (it.hasNext()) {
 
-				if (chunk.size() == batchSize || !it.hasNext()) {
+				Object element = it.next();
 
-					if (it.hasNext()) {
-						resultSender.sendResult(chunk);
-					}
-					else {
-						resultSender.lastResult(chunk);
-					}
+				chunk.add(element);
+				batch.add(element);
 
-					chunk.clear();
+				if (!it.hasNext()) {
+					resultSender.lastResult(chunk);
+				}
+				else if (batch.isFull()) {
+					resultSender.sendResult(chunk);
+					chunk = new ArrayList<>(chunk.size());
+					batch.reset();
 				}
 			}
 		}
@@ -131,11 +232,15 @@ class BatchingResultSender {
 		}
 		else {
 
-			int batchSize = getBatchSize();
+			Batch batch = new Batch();
 
-			for (int from = 0; from < arrayLength; from += batchSize) {
+			for (int from = 0, to = 0; from < arrayLength; from = to) {
 
-				int to = Math.min(arrayLength, from + batchSize);
+				do {
+					batch.add(getMaxBatchBytes() > 0 ? Array.get(result, to) : null);
+					to++;
+				}
+				while (to < arrayLength && !batch.isFull());
 
 				Object chunk = copyOfRange(result, from, to);
 
@@ -145,10 +250,47 @@ class BatchingResultSender {
 				else {
 					resultSender.sendResult(chunk);
 				}
+
+				batch.reset();
 			}
 		}
 	}
 
+	/**
+	 * Tracks the number, estimated size and age of the results in the current chunk.
+	 */
+	private final class Batch {
+
+		private int count;
+
+		private long bytes;
+		private long startTime;
+
+		private void add(Object element) {
+
+			if (this.count++ == 0 && getMaxBatchLatency() > 0) {
+				this.startTime = System.nanoTime();
+			}
+
+			if (getMaxBatchBytes() > 0 && element != null) {
+				this.bytes += getObjectSizer().sizeof(element);
+			}
+		}
+
+		private boolean isFull() {
+
+			return (getBatchSize() > 0 && this.count >= getBatchSize())
+				|| (getMaxBatchBytes() > 0 && this.bytes >= getMaxBatchBytes())
+				|| (getMaxBatchLatency() > 0
+					&& TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime) >= getMaxBatchLatency());
+		}
+
+		private void reset() {
+			this.count = 0;
+			this.bytes = 0L;
+		}
+	}
+
 	private Object copyOfRange(Object result, int from, int to) {
 
 		Class<?> resultType = result.getClass();
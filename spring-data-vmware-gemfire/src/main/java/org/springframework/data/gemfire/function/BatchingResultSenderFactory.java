@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function;
+
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.util.Assert;
+
+/**
+ * Factory for {@link BatchingResultSender BatchingResultSenders} sharing the same batching configuration.
+ *
+ * Declare a {@link BatchingResultSenderFactory} bean and inject it into server-side {@link Function} beans,
+ * which then send (large) result sets in evenly sized chunks:
+ *
+ * <pre>
+ * <code>
+ * public void execute(FunctionContext&lt;Object&gt; context) {
+ *   batchingResultSenderFactory.create(context).sendResults(results);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @see BatchingResultSender
+ * @see org.apache.geode.cache.execute.FunctionContext
+ * @see org.apache.geode.cache.util.ObjectSizer
+ */
+public class BatchingResultSenderFactory {
+
+	private int batchSize;
+
+	private long maxBatchBytes;
+	private long maxBatchLatency;
+
+	private ObjectSizer objectSizer = ObjectSizer.DEFAULT;
+
+	/**
+	 * Creates a new {@link BatchingResultSender} sending results with the {@link ResultSender}
+	 * of the given {@link FunctionContext}.
+	 *
+	 * @param functionContext {@link FunctionContext} of the {@link Function} invocation; must not be {@literal null}.
+	 * @return a new {@link BatchingResultSender}.
+	 * @throws IllegalArgumentException if {@link FunctionContext} is {@literal null}.
+	 * @see #create(ResultSender)
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchingResultSender create(FunctionContext<?> functionContext) {
+
+		Assert.notNull(functionContext, "FunctionContext must not be null");
+
+		return create((ResultSender<Object>) functionContext.getResultSender());
+	}
+
+	/**
+	 * Creates a new {@link BatchingResultSender} sending results with the given {@link ResultSender}.
+	 *
+	 * @param resultSender {@link ResultSender} used to send the chunks of results; must not be {@literal null}.
+	 * @return a new {@link BatchingResultSender}.
+	 * @throws IllegalArgumentException if {@link ResultSender} is {@literal null}.
+	 */
+	public BatchingResultSender create(ResultSender<Object> resultSender) {
+
+		return new BatchingResultSender(getBatchSize(), resultSender)
+			.withMaxBatchBytes(getMaxBatchBytes())
+			.withMaxBatchLatency(getMaxBatchLatency())
+			.withObjectSizer(getObjectSizer());
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	public void setMaxBatchBytes(long maxBatchBytes) {
+		this.maxBatchBytes = maxBatchBytes;
+	}
+
+	public long getMaxBatchBytes() {
+		return this.maxBatchBytes;
+	}
+
+	public void setMaxBatchLatency(long maxBatchLatency) {
+		this.maxBatchLatency = maxBatchLatency;
+	}
+
+	public long getMaxBatchLatency() {
+		return this.maxBatchLatency;
+	}
+
+	public void setObjectSizer(ObjectSizer objectSizer) {
+		this.objectSizer = objectSizer;
+	}
+
+	public ObjectSizer getObjectSizer() {
+		return this.objectSizer;
+	}
+}
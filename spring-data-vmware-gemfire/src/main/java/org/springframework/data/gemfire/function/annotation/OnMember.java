@@ -40,4 +40,12 @@ public @interface OnMember {
 	 */
 	String resultCollector() default "";
 
+	/**
+	 * Optional Executor bean reference.
+	 *
+	 * @return an optional bean name of the {@link java.util.concurrent.Executor} used by asynchronous
+	 * and streaming Function executions.
+	 */
+	String executor() default "";
+
 }
@@ -39,4 +39,12 @@ public @interface OnRegion {
 	 */
 	String resultCollector() default "";
 
+	/**
+	 * Optional Executor bean reference.
+	 *
+	 * @return an optional bean name of the {@link java.util.concurrent.Executor} used by asynchronous
+	 * and streaming Function executions.
+	 */
+	String executor() default "";
+
 }
@@ -46,4 +46,12 @@ public @interface OnServer {
 	 */
 	String resultCollector() default "";
 
+	/**
+	 * Optional Executor bean reference.
+	 *
+	 * @return an optional bean name of the {@link java.util.concurrent.Executor} used by asynchronous
+	 * and streaming Function executions.
+	 */
+	String executor() default "";
+
 }
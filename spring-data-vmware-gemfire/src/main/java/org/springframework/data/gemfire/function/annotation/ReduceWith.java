@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.function.BinaryOperator;
+
+/**
+ * Annotation to declare the associative combiner used to fold the results of a GemFire Function Execution
+ * interface method into a single value as the results are received, rather than returning every partial result.
+ *
+ * The combiner {@link Class} must declare a no-arg constructor. Methods returning a {@link java.util.stream.Stream}
+ * or {@link java.util.Iterator} cannot declare a combiner.
+ *
+ * When the Function sends no results, the method returns the {@link #identity()}, or {@literal null} if no identity
+ * is declared. Methods returning a primitive type should therefore declare an identity; otherwise, the method throws
+ * an {@link org.springframework.dao.EmptyResultDataAccessException} when there are no results to reduce.
+ *
+ * @see java.util.function.BinaryOperator
+ * @see org.springframework.data.gemfire.function.execution.ReducingResultCollector
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("rawtypes")
+public @interface ReduceWith {
+
+	/**
+	 * The associative combiner used to fold the Function results.
+	 *
+	 * @return the {@link Class type} of the associative {@link BinaryOperator} used to fold the Function results.
+	 */
+	Class<? extends BinaryOperator> value();
+
+	/**
+	 * The identity value of the combiner, converted to the method return type, returned when the Function
+	 * sends no results.
+	 *
+	 * @return the {@link String} representation of the identity value of the combiner;
+	 * empty if no identity is declared.
+	 */
+	String identity() default "";
+
+}
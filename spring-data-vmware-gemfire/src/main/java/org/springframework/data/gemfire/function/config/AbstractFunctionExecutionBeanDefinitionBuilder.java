@@ -45,6 +45,11 @@ abstract class AbstractFunctionExecutionBeanDefinitionBuilder {
 		functionProxyFactoryBeanBuilder.addConstructorArgReference(BeanDefinitionReaderUtils
 			.registerWithGeneratedName(buildGemfireFunctionOperations(registry), registry));
 
+		Optional.ofNullable(this.configuration.getAttribute("executor"))
+			.map(String::valueOf)
+			.filter(StringUtils::hasText)
+			.ifPresent(reference -> functionProxyFactoryBeanBuilder.addPropertyReference("executor", reference));
+
 		return functionProxyFactoryBeanBuilder.getBeanDefinition();
 	}
 
@@ -4,11 +4,18 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
@@ -49,6 +56,10 @@ abstract class AbstractFunctionExecution {
 	private static final String NO_RESULT_ERROR_MESSAGE =
 		"Cannot return any result as the Function#hasResult() is false";
 
+	private static final String[] TIMEOUT_ERROR_MESSAGES = {
+		"All results not received in time provided", "in the configured timeout"
+	};
+
 	private long timeout;
 
 	@SuppressWarnings("rawtypes")
@@ -58,6 +69,8 @@ abstract class AbstractFunctionExecution {
 
 	private Object[] arguments;
 
+	private volatile FunctionExecutionListener functionExecutionListener;
+
 	private volatile ResultCollector<?, ?> resultCollector;
 
 	private String functionId;
@@ -95,6 +108,10 @@ abstract class AbstractFunctionExecution {
 		return this.function;
 	}
 
+	protected FunctionExecutionListener getFunctionExecutionListener() {
+		return this.functionExecutionListener;
+	}
+
 	protected String getFunctionId() {
 		return this.functionId;
 	}
@@ -148,9 +165,170 @@ abstract class AbstractFunctionExecution {
 	 * @see #getTimeout()
 	 * @see #prepare(Execution)
 	 */
-	@SuppressWarnings({ "rawtypes" })
 	<T> Iterable<T> execute(Boolean returnResult) {
 
+		long startTime = System.nanoTime();
+
+		try {
+
+			Iterable<T> results = doExecute(returnResult);
+
+			publishFunctionExecutionEvent(startTime, Boolean.TRUE.equals(returnResult) ? results : null, null);
+
+			return results;
+		}
+		catch (RuntimeException cause) {
+			publishFunctionExecutionEvent(startTime, null, cause);
+			throw cause;
+		}
+	}
+
+	/**
+	 * Starts the {@link Execution} of the configured {@link Function} and collects the results.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param returnResult boolean value indicating whether the {@link Function} should return a result
+	 * from the {@link Execution}.
+	 * @return an {@link Iterable} containing the results from the {@link Function} {@link Execution}.
+	 * @see #execute(Boolean)
+	 */
+	<T> Iterable<T> doExecute(Boolean returnResult) {
+
+		ResultCollector<?, ?> resultCollector = start(returnResult);
+
+		return resultCollector != null ? collect(resultCollector) : null;
+	}
+
+	/**
+	 * Asynchronously executes the configured {@link Function}.
+	 *
+	 * The {@link Execution} is both started and its results collected from the {@link ResultCollector}
+	 * on the given {@link Executor}, so the calling {@link Thread} never blocks, even when starting
+	 * the {@link Execution} blocks, for example on a connection to the servers. A Function execution timeout,
+	 * or any other error, completes the returned {@link CompletableFuture} exceptionally.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to execute the {@link Function}; must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with an {@link Iterable} containing the results
+	 * from the {@link Function} {@link Execution}.
+	 * @see #execute()
+	 */
+	<T> CompletableFuture<Iterable<T>> executeAsync(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		try {
+			return CompletableFuture.supplyAsync(this::execute, executor);
+		}
+		catch (RuntimeException cause) {
+			return CompletableFuture.failedFuture(cause);
+		}
+	}
+
+	/**
+	 * Executes the configured {@link Function}, folding the results with the given associative combiner
+	 * as they are sent by the members.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param combiner associative {@link BinaryOperator} used to fold the results; must not be {@literal null}.
+	 * @return the reduced value of the results from the {@link Function} {@link Execution}.
+	 * @see ReducingResultCollector
+	 */
+	<T> T executeAndReduce(BinaryOperator<T> combiner) {
+
+		ReducingResultCollector<T> resultCollector = new ReducingResultCollector<>(combiner);
+
+		setResultCollector(resultCollector);
+
+		long startTime = System.nanoTime();
+
+		try {
+
+			T result = null;
+
+			if (start(DEFAULT_RETURN_RESULT) != null) {
+
+				long timeout = getTimeout();
+
+				result = timeout > 0
+					? resultCollector.getResult(timeout, TimeUnit.MILLISECONDS)
+					: resultCollector.getResult();
+			}
+
+			publishFunctionExecutionEvent(startTime, resultCollector.getResultCount(), null);
+
+			return result;
+		}
+		catch (RuntimeException cause) {
+			publishFunctionExecutionEvent(startTime, FunctionExecutionEvent.UNKNOWN_RESULT_COUNT, cause);
+			throw cause;
+		}
+	}
+
+	/**
+	 * Executes the configured {@link Function}, streaming the results as they are sent by the members.
+	 *
+	 * The {@link Execution} is started on the given {@link Executor} using a {@link StreamingResultCollector}
+	 * holding at most {@code bufferCapacity} unconsumed results. The configured {@link #getTimeout() timeout}
+	 * bounds the time taken to consume all results, as well as the time the {@link Execution} waits for the consumer
+	 * to take a result from the full buffer.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to start the {@link Execution}; must not be {@literal null}.
+	 * @param bufferCapacity maximum number of unconsumed results.
+	 * @return a {@link Stream} of the results from the {@link Function} {@link Execution}.
+	 * @throws IllegalStateException if a {@link ResultCollector} is configured, since the results could not
+	 * be streamed if collected by another {@link ResultCollector}.
+	 * @see StreamingResultCollector
+	 */
+	<T> Stream<T> executeAsStream(Executor executor, int bufferCapacity) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		Assert.state(getResultCollector() == null,
+			() -> String.format("Function results cannot be streamed when a ResultCollector [%s] is configured",
+				ObjectUtils.nullSafeClassName(getResultCollector())));
+
+		long timeout = getTimeout();
+
+		StreamingResultCollector<T> resultCollector = new StreamingResultCollector<>(bufferCapacity,
+			timeout > 0 ? Duration.ofMillis(timeout) : StreamingResultCollector.DEFAULT_CONSUMER_TIMEOUT);
+
+		setResultCollector(resultCollector);
+
+		executor.execute(() -> {
+
+			long startTime = System.nanoTime();
+
+			try {
+				if (start(DEFAULT_RETURN_RESULT) == null) {
+					resultCollector.endResults();
+				}
+
+				publishFunctionExecutionEvent(startTime, FunctionExecutionEvent.UNKNOWN_RESULT_COUNT, null);
+			}
+			catch (RuntimeException cause) {
+				publishFunctionExecutionEvent(startTime, FunctionExecutionEvent.UNKNOWN_RESULT_COUNT, cause);
+				resultCollector.fail(cause);
+			}
+		});
+
+		return timeout > 0
+			? resultCollector.getResult(timeout, TimeUnit.MILLISECONDS)
+			: resultCollector.getResult();
+	}
+
+	/**
+	 * Starts the {@link Execution} of the configured {@link Function}.
+	 *
+	 * @param returnResult boolean value indicating whether the {@link Function} should return a result
+	 * from the {@link Execution}.
+	 * @return the {@link ResultCollector} of the {@link Execution}, or {@literal null} if the {@link Function}
+	 * does not return a result.
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	private ResultCollector<?, ?> start(Boolean returnResult) {
+
 		Execution execution = prepare(getExecution());
 
 		Function function = getFunction();
@@ -159,9 +337,18 @@ abstract class AbstractFunctionExecution {
 			? execution.execute(function)
 			: execution.execute(getFunctionId());
 
-		if (hasNoResult(returnResult, function, resultCollector)) {
-			return null;
-		}
+		return hasNoResult(returnResult, function, resultCollector) ? null : resultCollector;
+	}
+
+	/**
+	 * Collects the results of the {@link Function} {@link Execution} from the {@link ResultCollector},
+	 * waiting at most the configured {@link #getTimeout() timeout}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param resultCollector {@link ResultCollector} of the {@link Execution}.
+	 * @return an {@link Iterable} containing the results from the {@link Function} {@link Execution}.
+	 */
+	private <T> Iterable<T> collect(ResultCollector<?, ?> resultCollector) {
 
 		long timeout = getTimeout();
 
@@ -193,6 +380,101 @@ abstract class AbstractFunctionExecution {
 		}
 	}
 
+	private void publishFunctionExecutionEvent(long startTime, Iterable<?> results, Throwable failure) {
+
+		if (getFunctionExecutionListener() != null) {
+			publishFunctionExecutionEvent(startTime, count(results), failure);
+		}
+	}
+
+	private void publishFunctionExecutionEvent(long startTime, long resultCount, Throwable failure) {
+
+		FunctionExecutionListener listener = getFunctionExecutionListener();
+
+		if (listener != null) {
+			try {
+				listener.onFunctionExecution(new FunctionExecutionEvent(resolveFunctionIdentifier(), resolveTarget(),
+					Duration.ofNanos(System.nanoTime() - startTime), failure != null
+						? FunctionExecutionEvent.UNKNOWN_RESULT_COUNT
+						: resultCount, failure, isTimeout(failure)));
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn(String.format("FunctionExecutionListener [%s] failed",
+					ObjectUtils.nullSafeClassName(listener)), cause);
+			}
+		}
+	}
+
+	private long count(Iterable<?> results) {
+
+		if (results == null) {
+			return FunctionExecutionEvent.UNKNOWN_RESULT_COUNT;
+		}
+		else if (results instanceof Collection) {
+			return ((Collection<?>) results).size();
+		}
+
+		long count = 0L;
+
+		for (Object ignore : results) {
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Resolves the type of target on which the {@link Function} is executed from the name of
+	 * this {@link AbstractFunctionExecution} {@link Class type}, for example {@literal OnRegion}.
+	 *
+	 * @return the type of target on which the {@link Function} is executed.
+	 */
+	String resolveTarget() {
+
+		Class<?> type = getClass();
+
+		while (type.isAnonymousClass()) {
+			type = type.getSuperclass();
+		}
+
+		String typeName = type.getSimpleName();
+
+		return typeName.endsWith("FunctionExecution")
+			? typeName.substring(0, typeName.length() - "FunctionExecution".length())
+			: typeName;
+	}
+
+	/**
+	 * Determines whether the given {@link Throwable} indicates that not all {@link Function} results were received
+	 * in the configured timeout.
+	 *
+	 * @param cause {@link Throwable} to evaluate.
+	 * @return a boolean indicating whether the given {@link Throwable} indicates a timeout.
+	 */
+	static boolean isTimeout(Throwable cause) {
+
+		for (Throwable throwable = cause; throwable != null; throwable = throwable.getCause()) {
+
+			if (throwable instanceof ExecutionTimeoutFunctionException || throwable instanceof TimeoutException) {
+				return true;
+			}
+
+			if (throwable instanceof FunctionException && throwable.getMessage() != null) {
+				for (String timeoutErrorMessage : TIMEOUT_ERROR_MESSAGES) {
+					if (throwable.getMessage().contains(timeoutErrorMessage)) {
+						return true;
+					}
+				}
+			}
+
+			if (throwable.getCause() == throwable) {
+				break;
+			}
+		}
+
+		return false;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected Execution prepare(Execution execution) {
 
@@ -290,8 +572,23 @@ abstract class AbstractFunctionExecution {
 	 * @see #execute()
 	 */
 	<T> T executeAndExtract() {
+		return extract(execute());
+	}
+
+	/**
+	 * Asynchronously executes the configured {@link Function} and extracts the result as a single value.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to collect the result; must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the result of the {@link Function} {@link Execution}
+	 * as a single value.
+	 * @see #executeAsync(Executor)
+	 */
+	<T> CompletableFuture<T> executeAndExtractAsync(Executor executor) {
+		return this.<T>executeAsync(executor).thenApply(this::extract);
+	}
 
-		Iterable<T> results = execute();
+	private <T> T extract(Iterable<T> results) {
 
 		if (isEmpty(results)) {
 			return null;
@@ -338,6 +635,13 @@ abstract class AbstractFunctionExecution {
 		return this;
 	}
 
+	protected AbstractFunctionExecution setFunctionExecutionListener(
+			FunctionExecutionListener functionExecutionListener) {
+
+		this.functionExecutionListener = functionExecutionListener;
+		return this;
+	}
+
 	protected AbstractFunctionExecution setFunctionId(String functionId) {
 		this.functionId = functionId;
 		return this;
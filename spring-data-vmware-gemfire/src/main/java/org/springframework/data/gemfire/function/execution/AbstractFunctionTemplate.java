@@ -4,6 +4,11 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultCollector;
 
@@ -24,8 +29,12 @@ import org.springframework.beans.factory.InitializingBean;
  */
 abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, InitializingBean {
 
+	private volatile int streamBufferCapacity = StreamingResultCollector.DEFAULT_BUFFER_CAPACITY;
+
 	private volatile long timeout;
 
+	private volatile FunctionExecutionListener functionExecutionListener;
+
 	private volatile ResultCollector<?, ?> resultCollector;
 
 	@Override
@@ -73,6 +82,46 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		return executeAndExtract(functionExecution);
 	}
 
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(Executor executor, String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAsync(functionExecution, executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> executeAndExtractAsync(Executor executor, String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAndExtractAsync(functionExecution, executor);
+	}
+
+	@Override
+	public <T> T executeAndReduce(BinaryOperator<T> combiner, String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAndReduce(functionExecution, combiner);
+	}
+
+	@Override
+	public <T> Stream<T> executeAsStream(Executor executor, String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAsStream(functionExecution, executor);
+	}
+
 	@Override
 	public void executeWithNoResult(String functionId, Object... args) {
 
@@ -100,8 +149,30 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		 return prepare(functionExecution).executeAndExtract();
 	}
 
+	protected <T> CompletableFuture<Iterable<T>> executeAsync(AbstractFunctionExecution functionExecution,
+			Executor executor) {
+
+		return prepare(functionExecution).executeAsync(executor);
+	}
+
+	protected <T> CompletableFuture<T> executeAndExtractAsync(AbstractFunctionExecution functionExecution,
+			Executor executor) {
+
+		return prepare(functionExecution).executeAndExtractAsync(executor);
+	}
+
+	protected <T> T executeAndReduce(AbstractFunctionExecution functionExecution, BinaryOperator<T> combiner) {
+		return prepare(functionExecution).executeAndReduce(combiner);
+	}
+
+	protected <T> Stream<T> executeAsStream(AbstractFunctionExecution functionExecution, Executor executor) {
+		return prepare(functionExecution).executeAsStream(executor, getStreamBufferCapacity());
+	}
+
 	AbstractFunctionExecution prepare(AbstractFunctionExecution functionExecution) {
 
+		functionExecution.setFunctionExecutionListener(getFunctionExecutionListener());
+
 		return functionExecution
 			.setResultCollector(getResultCollector())
 			.setTimeout(getTimeout());
@@ -109,6 +180,21 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 
 	protected abstract AbstractFunctionExecution getFunctionExecution();
 
+	/**
+	 * Sets the {@link FunctionExecutionListener} notified after each Function execution, for example
+	 * a {@link MicrometerFunctionExecutionListener} recording Function execution metrics.
+	 *
+	 * @param functionExecutionListener {@link FunctionExecutionListener} notified after each Function execution.
+	 * @see FunctionExecutionListener
+	 */
+	public void setFunctionExecutionListener(FunctionExecutionListener functionExecutionListener) {
+		this.functionExecutionListener = functionExecutionListener;
+	}
+
+	public FunctionExecutionListener getFunctionExecutionListener() {
+		return this.functionExecutionListener;
+	}
+
 	public void setResultCollector(ResultCollector<?,?> resultCollector) {
 		this.resultCollector = resultCollector;
 	}
@@ -117,6 +203,21 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		return this.resultCollector;
 	}
 
+	/**
+	 * Sets the maximum number of results buffered, and not yet consumed, by Function executions
+	 * returning a {@link Stream}.
+	 *
+	 * @param streamBufferCapacity maximum number of unconsumed results.
+	 * @see StreamingResultCollector
+	 */
+	public void setStreamBufferCapacity(int streamBufferCapacity) {
+		this.streamBufferCapacity = streamBufferCapacity;
+	}
+
+	public int getStreamBufferCapacity() {
+		return this.streamBufferCapacity;
+	}
+
 	public void setTimeout(long timeout) {
 		this.timeout = timeout;
 	}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Strategy used to split the filter of a {@link Region} {@link org.apache.geode.cache.execute.Function} execution
+ * into partitions that are executed concurrently.
+ *
+ * Keys mapped to {@link Object#equals(Object) equal} partitions are sent in the same
+ * {@link org.apache.geode.cache.execute.Execution}.
+ *
+ * @see GemfireOnRegionFunctionTemplate#executePartitioned(java.util.concurrent.Executor, String, java.util.Set,
+ * PartitionResultReducer, Object...)
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ */
+@FunctionalInterface
+public interface FilterPartitioner {
+
+	/**
+	 * Returns a {@link FilterPartitioner} mapping each key to one of the given number of partitions
+	 * by the {@link Object#hashCode() hash code} of the key.
+	 *
+	 * @param partitions number of partitions; must be greater than {@literal 0}.
+	 * @return a hash-based {@link FilterPartitioner}.
+	 * @throws IllegalArgumentException if {@code partitions} is less than {@literal 1}.
+	 */
+	static @NonNull FilterPartitioner byHash(int partitions) {
+
+		Assert.isTrue(partitions > 0,
+			() -> String.format("Number of partitions [%d] must be greater than 0", partitions));
+
+		return key -> key != null ? Math.floorMod(key.hashCode(), partitions) : 0;
+	}
+
+	/**
+	 * Returns a {@link FilterPartitioner} mapping each key to the {@link org.apache.geode.distributed.DistributedMember}
+	 * hosting the primary bucket of the key in the given {@link PartitionRegionHelper#isPartitionedRegion(Region)
+	 * PARTITION} {@link Region}.
+	 *
+	 * The bucket to member mapping is only visible to peer members; clients should use {@link #byHash(int)}.
+	 *
+	 * @param region PARTITION {@link Region} on which the {@link org.apache.geode.cache.execute.Function}
+	 * is executed; must not be {@literal null}.
+	 * @return a primary member-based {@link FilterPartitioner}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null} or not a PARTITION {@link Region}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static @NonNull FilterPartitioner byPrimaryMember(@NonNull Region<?, ?> region) {
+
+		Assert.isTrue(region != null && PartitionRegionHelper.isPartitionedRegion(region),
+			() -> String.format("Region [%s] must be a PARTITION Region",
+				region != null ? region.getFullPath() : null));
+
+		return key -> PartitionRegionHelper.getPrimaryMemberForKey((Region) region, key);
+	}
+
+	/**
+	 * Returns the partition to which the given key belongs.
+	 *
+	 * @param key {@link Object key} in the filter.
+	 * @return the partition to which the given key belongs.
+	 */
+	@Nullable Object partitionFor(Object key);
+
+}
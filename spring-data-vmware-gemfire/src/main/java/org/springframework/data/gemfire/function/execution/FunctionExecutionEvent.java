@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.time.Duration;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes a completed {@link org.apache.geode.cache.execute.Function} execution, successful or not,
+ * as published to a {@link FunctionExecutionListener}.
+ *
+ * @see FunctionExecutionListener
+ */
+public final class FunctionExecutionEvent {
+
+	static final long UNKNOWN_RESULT_COUNT = -1L;
+
+	private final boolean timeout;
+
+	private final Duration duration;
+
+	private final long resultCount;
+
+	private final String functionId;
+	private final String target;
+
+	private final Throwable failure;
+
+	FunctionExecutionEvent(@NonNull String functionId, @NonNull String target, @NonNull Duration duration,
+			long resultCount, @Nullable Throwable failure, boolean timeout) {
+
+		this.functionId = functionId;
+		this.target = target;
+		this.duration = duration;
+		this.resultCount = resultCount;
+		this.failure = failure;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns the ID of the {@link org.apache.geode.cache.execute.Function}, or the {@link Class} name
+	 * of unregistered {@link org.apache.geode.cache.execute.Function Functions}.
+	 *
+	 * @return the identifier of the {@link org.apache.geode.cache.execute.Function}.
+	 */
+	public @NonNull String getFunctionId() {
+		return this.functionId;
+	}
+
+	/**
+	 * Returns the type of target on which the {@link org.apache.geode.cache.execute.Function} was executed,
+	 * for example {@literal OnRegion} or {@literal OnServerUsingPool}.
+	 *
+	 * @return the type of target on which the {@link org.apache.geode.cache.execute.Function} was executed.
+	 */
+	public @NonNull String getTarget() {
+		return this.target;
+	}
+
+	/**
+	 * Returns the time taken to execute the {@link org.apache.geode.cache.execute.Function}
+	 * and collect the results.
+	 *
+	 * @return the duration of the execution.
+	 */
+	public @NonNull Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Returns the number of results returned by the execution.
+	 *
+	 * @return the number of results, or {@literal -1} if unknown, as for streaming or failed executions.
+	 * @see #hasResultCount()
+	 */
+	public long getResultCount() {
+		return this.resultCount;
+	}
+
+	public boolean hasResultCount() {
+		return getResultCount() > UNKNOWN_RESULT_COUNT;
+	}
+
+	/**
+	 * Returns the {@link Throwable} causing the execution to fail.
+	 *
+	 * @return the {@link Throwable} causing the execution to fail, or {@literal null} if the execution succeeded.
+	 */
+	public @Nullable Throwable getFailure() {
+		return this.failure;
+	}
+
+	public boolean isSuccessful() {
+		return getFailure() == null;
+	}
+
+	/**
+	 * Determines whether the execution failed because not all results were received in the configured timeout.
+	 *
+	 * @return a boolean indicating whether the execution timed out.
+	 */
+	public boolean isTimeout() {
+		return this.timeout;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FunctionExecutionEvent { functionId = %s, target = %s, duration = %d ms,"
+				+ " resultCount = %d, successful = %s, timeout = %s }", getFunctionId(), getTarget(),
+			getDuration().toMillis(), getResultCount(), isSuccessful(), isTimeout());
+	}
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Listener notified after each {@link org.apache.geode.cache.execute.Function} execution performed through
+ * a Function template, or a Function Execution interface proxy backed by the template.
+ *
+ * Listeners are notified on the {@link Thread} completing the execution and should return quickly.
+ *
+ * @see FunctionExecutionEvent
+ * @see MicrometerFunctionExecutionListener
+ * @see AbstractFunctionTemplate#setFunctionExecutionListener(FunctionExecutionListener)
+ */
+@FunctionalInterface
+public interface FunctionExecutionListener {
+
+	/**
+	 * Notifies this listener that a {@link org.apache.geode.cache.execute.Function} execution completed.
+	 *
+	 * @param event {@link FunctionExecutionEvent} describing the execution.
+	 */
+	void onFunctionExecution(@NonNull FunctionExecutionEvent event);
+
+}
@@ -5,6 +5,12 @@
 
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.apache.geode.cache.execute.Function;
 
 /**
@@ -56,6 +62,77 @@ public interface GemfireFunctionOperations {
 	 */
 	<T> T executeAndExtract(String functionId, Object... args);
 
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID.
+	 *
+	 * The Function is executed, and the returned {@link CompletableFuture} completed, on the given {@link Executor}.
+	 * The {@link CompletableFuture} is completed exceptionally if the Function execution fails or times out.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param executor the {@link Executor} used to execute the Function.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the results.
+	 */
+	default <T> CompletableFuture<Iterable<T>> executeAsync(Executor executor, String functionId, Object... args) {
+		return CompletableFuture.supplyAsync(() -> execute(functionId, args), executor);
+	}
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with an ID and with an expected singleton result.
+	 *
+	 * The Function is executed, and the returned {@link CompletableFuture} completed, on the given {@link Executor}.
+	 * The {@link CompletableFuture} is completed exceptionally if the Function execution fails or times out.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param executor the {@link Executor} used to execute the Function.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the first item in the results collector.
+	 */
+	default <T> CompletableFuture<T> executeAndExtractAsync(Executor executor, String functionId, Object... args) {
+		return CompletableFuture.supplyAsync(() -> executeAndExtract(functionId, args), executor);
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, folding the results with the given
+	 * associative combiner as they are sent by the members executing the Function.
+	 *
+	 * {@literal null} results are ignored.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param combiner the associative {@link BinaryOperator} used to fold the results.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return the reduced value of the results, or {@literal null} if there are no results.
+	 * @see ReducingResultCollector
+	 */
+	default <T> T executeAndReduce(BinaryOperator<T> combiner, String functionId, Object... args) {
+		return ReducingResultCollector.reduce(this.<T>execute(functionId, args), combiner);
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, streaming the results as they are sent
+	 * by the members executing the Function.
+	 *
+	 * The Function execution is started on the given {@link Executor}. Results are buffered until consumed,
+	 * up to a bound, while the returned {@link Stream} is consumed on the calling {@link Thread}.
+	 * Closing the {@link Stream} discards any remaining results.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param executor the {@link Executor} used to start the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link Stream} of the results.
+	 * @see StreamingResultCollector
+	 */
+	default <T> Stream<T> executeAsStream(Executor executor, String functionId, Object... args) {
+
+		Iterable<T> results = execute(functionId, args);
+
+		return results != null ? StreamSupport.stream(results.spliterator(), false) : Stream.empty();
+	}
+
 	/**
 	 * Execute a GemFire Function registered with the given ID having no return value.
 
@@ -5,19 +5,40 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.gemfire.function.annotation.OnMember;
 import org.springframework.data.gemfire.function.annotation.OnServer;
+import org.springframework.data.gemfire.function.annotation.ReduceWith;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -34,7 +55,12 @@ import org.aopalliance.intercept.MethodInvocation;
  * @see FactoryBean
  * @see AbstractFactoryBeanSupport
  */
-public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<Object> implements MethodInterceptor {
+public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<Object>
+		implements DisposableBean, MethodInterceptor {
+
+	protected static final int DEFAULT_EXECUTOR_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private static final long DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
 
 	private volatile boolean initialized;
 
@@ -44,8 +70,14 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 	private final GemfireFunctionOperations gemfireFunctionOperations;
 
+	private volatile Executor executor;
+
+	private ExecutorService defaultExecutor;
+
 	private volatile Object functionExecutionProxy;
 
+	private final Map<Method, MethodExecutionPlan> methodExecutionPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a new instance of {@link GemfireFunctionProxyFactoryBean} initialized with the given
 	 * {@link Class Function Excution Interface} and {@link GemfireFunctionOperations}.
@@ -94,6 +126,77 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 		return this.gemfireFunctionOperations;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to execute the Functions of Function Execution interface methods declaring
+	 * a {@link CompletableFuture} or {@link CompletionStage} return type, and to start the Function executions
+	 * of methods declaring a {@link Stream} or {@link Iterator} return type.
+	 *
+	 * @param executor {@link Executor} used by asynchronous and streaming Function executions.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used by asynchronous and streaming Function executions.
+	 *
+	 * Defaults to a pool of at most {@link #DEFAULT_EXECUTOR_POOL_SIZE} daemon {@link Thread Threads}, named after
+	 * the Function Execution interface, which is shut down when this bean is {@link #destroy() destroyed}.
+	 * Executions submitted while all {@link Thread Threads} are busy are queued.
+	 *
+	 * @return the {@link Executor} used by asynchronous and streaming Function executions.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected @NonNull Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				if (this.executor == null) {
+					this.defaultExecutor = newDefaultExecutor();
+					this.executor = this.defaultExecutor;
+				}
+
+				executor = this.executor;
+			}
+		}
+
+		return executor;
+	}
+
+	private ExecutorService newDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory =
+			new CustomizableThreadFactory(String.format("%s-", getFunctionExecutionInterface().getSimpleName()));
+
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_POOL_SIZE, DEFAULT_EXECUTOR_POOL_SIZE,
+			DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * Shuts down the default {@link Executor}, if created; an {@link #setExecutor(Executor) Executor configured}
+	 * by the user is not shut down.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		ExecutorService defaultExecutor = this.defaultExecutor;
+
+		if (defaultExecutor != null) {
+			defaultExecutor.shutdown();
+			this.defaultExecutor = null;
+			this.executor = null;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -106,24 +209,280 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 		logDebug("Invoking method [{}]", invocation.getMethod().getName());
 
-		Object result = invokeFunction(invocation.getMethod(), invocation.getArguments());
+		Method method = invocation.getMethod();
+
+		Object[] args = invocation.getArguments();
+
+		MethodExecutionPlan plan = getMethodExecutionPlan(method);
 
-		return resolveResult(invocation, result);
+		switch (plan.getReturnAdapter()) {
+			case ASYNC:
+				CompletableFuture<?> result = plan.isReducing()
+					? invokeFunctionAndReduceAsync(method, args)
+					: invokeFunctionAsync(method, args);
+
+				return result.thenApply(value -> resolveResult(invocation, value));
+			case STREAM:
+				return invokeFunctionAsStream(method, args);
+			case ITERATOR:
+				return toCloseableIterator(invokeFunctionAsStream(method, args));
+			default:
+				return resolveResult(invocation, plan.isReducing()
+					? reduce(method, args)
+					: invokeFunction(method, args));
+		}
 	}
 
-	protected @Nullable Object invokeFunction(@NonNull Method method, @NonNull Object[] args) {
+	/**
+	 * Returns the {@link MethodExecutionPlan} for the given Function Execution interface {@link Method},
+	 * computing it on first use.
+	 *
+	 * @param method Function Execution interface {@link Method}.
+	 * @return the {@link MethodExecutionPlan} for the given {@link Method}.
+	 * @see #newMethodExecutionPlan(Method)
+	 */
+	MethodExecutionPlan getMethodExecutionPlan(@NonNull Method method) {
+		return this.methodExecutionPlans.computeIfAbsent(method, this::newMethodExecutionPlan);
+	}
 
-		GemfireFunctionOperations template = getGemfireFunctionOperations();
+	/**
+	 * Computes the {@link MethodExecutionPlan} for the given Function Execution interface {@link Method}.
+	 *
+	 * @param method Function Execution interface {@link Method}.
+	 * @return a new {@link MethodExecutionPlan} for the given {@link Method}.
+	 */
+	MethodExecutionPlan newMethodExecutionPlan(@NonNull Method method) {
 
 		String functionId = getFunctionExecutionMethodMetadata()
 			.getMethodMetadata(method)
 			.getFunctionId();
 
-		return isFunctionExecutedOnSingleServerOrSingleMember(method)
+		return new MethodExecutionPlan(functionId, isFunctionExecutedOnSingleServerOrSingleMember(method),
+			MethodExecutionPlan.NO_FILTER, resolveReturnAdapter(method), resolveResultType(method),
+			resolveCombiner(method), resolveIdentity(method));
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable BinaryOperator<Object> resolveCombiner(Method method) {
+
+		ReduceWith reduceWith = method.getAnnotation(ReduceWith.class);
+
+		if (reduceWith != null) {
+
+			Assert.state(!isStreaming(method),
+				() -> String.format("Function Execution method [%s] returning a Stream or Iterator"
+					+ " cannot declare a combiner", method.getName()));
+
+			return (BinaryOperator<Object>) BeanUtils.instantiateClass(reduceWith.value());
+		}
+
+		return null;
+	}
+
+	private @Nullable Object resolveIdentity(Method method) {
+
+		ReduceWith reduceWith = method.getAnnotation(ReduceWith.class);
+
+		return reduceWith != null && StringUtils.hasText(reduceWith.identity())
+			? DefaultConversionService.getSharedInstance().convert(reduceWith.identity(), resolveResultType(method))
+			: null;
+	}
+
+	private MethodExecutionPlan.ReturnAdapter resolveReturnAdapter(Method method) {
+
+		return isAsync(method) ? MethodExecutionPlan.ReturnAdapter.ASYNC
+			: isStreaming(method) ? Iterator.class.equals(method.getReturnType())
+				? MethodExecutionPlan.ReturnAdapter.ITERATOR
+				: MethodExecutionPlan.ReturnAdapter.STREAM
+			: MethodExecutionPlan.ReturnAdapter.RESULT;
+	}
+
+	private Class<?> resolveResultType(Method method) {
+
+		return isAsync(method)
+			? ResolvableType.forMethodReturnType(method).getGeneric(0).resolve(Object.class)
+			: method.getReturnType();
+	}
+
+	protected @Nullable Object invokeFunction(@NonNull Method method, @NonNull Object[] args) {
+
+		GemfireFunctionOperations template = getGemfireFunctionOperations();
+
+		MethodExecutionPlan plan = getMethodExecutionPlan(method);
+
+		String functionId = plan.getFunctionId();
+
+		return plan.isSingleResult()
 			? template.executeAndExtract(functionId, args)
 			: template.execute(functionId, args);
 	}
 
+	/**
+	 * Invokes the {@link org.apache.geode.cache.execute.Function} mapped to the given {@link Method}, folding
+	 * the results with the combiner declared by {@link ReduceWith}.
+	 *
+	 * @param method Function Execution interface {@link Method} annotated with {@link ReduceWith}.
+	 * @param args arguments passed to the {@link org.apache.geode.cache.execute.Function}.
+	 * @return the reduced value of the results of the Function execution.
+	 * @see ReducingResultCollector
+	 */
+	protected @Nullable Object invokeFunctionAndReduce(@NonNull Method method, @NonNull Object[] args) {
+
+		MethodExecutionPlan plan = getMethodExecutionPlan(method);
+
+		return getGemfireFunctionOperations().executeAndReduce(plan.getCombiner(), plan.getFunctionId(), args);
+	}
+
+	private @Nullable Object reduce(Method method, Object[] args) {
+
+		Object result = invokeFunctionAndReduce(method, args);
+
+		if (result == null) {
+
+			result = getMethodExecutionPlan(method).getIdentity();
+
+			if (result == null && method.getReturnType().isPrimitive()) {
+				throw new EmptyResultDataAccessException(String.format("Function Execution method [%1$s] returning"
+					+ " primitive type [%2$s] received no results to reduce and declares no identity",
+						method.getName(), method.getReturnType().getName()), 1);
+			}
+		}
+
+		return result;
+	}
+
+	private CompletableFuture<?> invokeFunctionAndReduceAsync(Method method, Object[] args) {
+		return CompletableFuture.supplyAsync(() -> reduce(method, args), getExecutor());
+	}
+
+	/**
+	 * Asynchronously invokes the {@link org.apache.geode.cache.execute.Function} mapped to the given {@link Method}.
+	 *
+	 * The {@link org.apache.geode.cache.execute.Execution} is started, and the returned {@link CompletableFuture}
+	 * completed, on the configured {@link #getExecutor() Executor}.
+	 *
+	 * @param method Function Execution interface {@link Method} declaring a {@link CompletableFuture}
+	 * or {@link CompletionStage} return type.
+	 * @param args arguments passed to the {@link org.apache.geode.cache.execute.Function}.
+	 * @return a {@link CompletableFuture} completed with the result of the Function execution.
+	 * @see #getExecutor()
+	 */
+	protected @NonNull CompletableFuture<?> invokeFunctionAsync(@NonNull Method method, @NonNull Object[] args) {
+
+		GemfireFunctionOperations template = getGemfireFunctionOperations();
+
+		MethodExecutionPlan plan = getMethodExecutionPlan(method);
+
+		String functionId = plan.getFunctionId();
+
+		return plan.isSingleResult()
+			? template.executeAndExtractAsync(getExecutor(), functionId, args)
+			: template.executeAsync(getExecutor(), functionId, args);
+	}
+
+	/**
+	 * Invokes the {@link org.apache.geode.cache.execute.Function} mapped to the given {@link Method}, streaming
+	 * the results as they are sent by the members executing the {@link org.apache.geode.cache.execute.Function}.
+	 *
+	 * Methods declaring an {@link Iterator} return type return a {@link CloseableIterator}, which must be closed,
+	 * like the {@link Stream}, when the results are not consumed to the end.
+	 *
+	 * @param method Function Execution interface {@link Method} declaring a {@link Stream}
+	 * or {@link Iterator} return type.
+	 * @param args arguments passed to the {@link org.apache.geode.cache.execute.Function}.
+	 * @return a {@link Stream} of the results of the Function execution.
+	 * @see StreamingResultCollector
+	 * @see #getExecutor()
+	 */
+	protected @NonNull Stream<?> invokeFunctionAsStream(@NonNull Method method, @NonNull Object[] args) {
+
+		MethodExecutionPlan plan = getMethodExecutionPlan(method);
+
+		return getGemfireFunctionOperations().executeAsStream(getExecutor(), plan.getFunctionId(), args);
+	}
+
+	/**
+	 * Adapts the given {@link Stream} of results to a {@link CloseableIterator} closing the {@link Stream}
+	 * once the results are exhausted, the iteration fails or the {@link CloseableIterator} is closed.
+	 *
+	 * @param results {@link Stream} of results to adapt.
+	 * @return a {@link CloseableIterator} over the results.
+	 */
+	private static CloseableIterator<Object> toCloseableIterator(Stream<?> results) {
+
+		Iterator<?> iterator = results.iterator();
+
+		return new CloseableIterator<Object>() {
+
+			private volatile boolean closed;
+
+			@Override
+			public boolean hasNext() {
+
+				try {
+					if (!this.closed && iterator.hasNext()) {
+						return true;
+					}
+				}
+				catch (RuntimeException cause) {
+					close();
+					throw cause;
+				}
+
+				close();
+
+				return false;
+			}
+
+			@Override
+			public Object next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+
+				if (!this.closed) {
+					this.closed = true;
+					results.close();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Determines whether the given Function Execution interface {@link Method} is asynchronous, i.e. whether
+	 * it declares a {@link CompletableFuture} or {@link CompletionStage} return type.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return a boolean indicating whether the {@link Method} is asynchronous.
+	 */
+	protected boolean isAsync(@NonNull Method method) {
+
+		Class<?> returnType = method.getReturnType();
+
+		return CompletableFuture.class.equals(returnType) || CompletionStage.class.equals(returnType);
+	}
+
+	/**
+	 * Determines whether the given Function Execution interface {@link Method} streams its results, i.e. whether
+	 * it declares a {@link Stream} or {@link Iterator} return type.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return a boolean indicating whether the {@link Method} streams its results.
+	 */
+	protected boolean isStreaming(@NonNull Method method) {
+
+		Class<?> returnType = method.getReturnType();
+
+		return Stream.class.equals(returnType) || Iterator.class.equals(returnType);
+	}
+
 	protected boolean isFunctionExecutedOnSingleServerOrSingleMember(@NonNull Method method) {
 		return method.getDeclaringClass().isAnnotationPresent(OnServer.class)
 			|| method.getDeclaringClass().isAnnotationPresent(OnMember.class);
@@ -143,13 +502,32 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 	protected Object resolveSingleResultIfPossible(Iterable<?> results) {
 
 		// TODO: Determine whether to throw an IncorrectResultSizeDataAccessException if the cardinality does not match.
-		return StreamSupport.stream(results.spliterator(), false).count() == 1
-			? results.iterator().next()
-			: results;
+		Iterator<?> iterator = results.iterator();
+
+		if (iterator.hasNext()) {
+
+			Object result = iterator.next();
+
+			if (!iterator.hasNext()) {
+				return result;
+			}
+		}
+
+		return results;
 	}
 
+	/**
+	 * Determines whether the given value is an instance of the result type of the invoked Function Execution
+	 * interface {@link Method}, which, for asynchronous methods, is the type of the value of
+	 * the {@link CompletableFuture}.
+	 *
+	 * @param invocation {@link MethodInvocation} of the Function Execution interface {@link Method}.
+	 * @param value value to evaluate.
+	 * @return a boolean indicating whether the value is an instance of the result type.
+	 * @see MethodExecutionPlan#getResultType()
+	 */
 	protected boolean isInstanceOfFunctionReturnType(MethodInvocation invocation, Object value) {
-		return invocation.getMethod().getReturnType().isInstance(value);
+		return getMethodExecutionPlan(invocation.getMethod()).getResultType().isInstance(value);
 	}
 
 	protected boolean isNotInstanceOfFunctionReturnType(MethodInvocation invocation, Object value) {
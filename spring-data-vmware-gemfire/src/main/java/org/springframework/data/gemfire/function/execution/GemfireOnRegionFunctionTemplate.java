@@ -4,12 +4,25 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 
+import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -23,9 +36,13 @@ import org.springframework.util.Assert;
  * @see Function
  * @see AbstractFunctionTemplate
  * @see GemfireOnRegionOperations
+ * @see FilterPartitioner
+ * @see PartitionResultReducer
  */
 public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate implements GemfireOnRegionOperations {
 
+	private FilterPartitioner filterPartitioner;
+
 	private final Region<?, ?> region;
 
 	/**
@@ -52,6 +69,42 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 		return this.region;
 	}
 
+	/**
+	 * Sets the {@link FilterPartitioner} used to split the filter in
+	 * {@link #executePartitioned(Executor, String, Set, PartitionResultReducer, Object...) partitioned executions}.
+	 *
+	 * @param filterPartitioner {@link FilterPartitioner} used to split the filter.
+	 * @see FilterPartitioner
+	 */
+	public void setFilterPartitioner(FilterPartitioner filterPartitioner) {
+		this.filterPartitioner = filterPartitioner;
+	}
+
+	/**
+	 * Returns the {@link FilterPartitioner} used to split the filter in
+	 * {@link #executePartitioned(Executor, String, Set, PartitionResultReducer, Object...) partitioned executions}.
+	 *
+	 * Defaults to partitioning by {@link FilterPartitioner#byPrimaryMember(Region) primary member} when
+	 * the {@link Region} is a peer PARTITION {@link Region}, and {@link FilterPartitioner#byHash(int) by hash}
+	 * into as many partitions as there are available processors otherwise.
+	 *
+	 * @return the {@link FilterPartitioner} used to split the filter.
+	 * @see FilterPartitioner
+	 */
+	public FilterPartitioner getFilterPartitioner() {
+
+		FilterPartitioner filterPartitioner = this.filterPartitioner;
+
+		if (filterPartitioner == null) {
+			filterPartitioner = PartitionRegionHelper.isPartitionedRegion(getRegion())
+				? FilterPartitioner.byPrimaryMember(getRegion())
+				: FilterPartitioner.byHash(Runtime.getRuntime().availableProcessors());
+			this.filterPartitioner = filterPartitioner;
+		}
+
+		return filterPartitioner;
+	}
+
 	@Override
 	public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
 
@@ -71,6 +124,153 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 			.setTimeout(getTimeout()).setArguments(args));
 	}
 
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(Executor executor, String functionId, Set<?> keys,
+			Object... args) {
+
+		return executeAsync(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId)
+			.setTimeout(getTimeout()), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> executeAndExtractAsync(Executor executor, String functionId, Set<?> keys,
+			Object... args) {
+
+		return executeAndExtractAsync(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId)
+			.setTimeout(getTimeout()), executor);
+	}
+
+	@Override
+	public <T> T executeAndReduce(BinaryOperator<T> combiner, String functionId, Set<?> keys, Object... args) {
+
+		return executeAndReduce(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId)
+			.setTimeout(getTimeout()), combiner);
+	}
+
+	@Override
+	public <T> Stream<T> executeAsStream(Executor executor, String functionId, Set<?> keys, Object... args) {
+
+		return executeAsStream(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId)
+			.setTimeout(getTimeout()), executor);
+	}
+
+	/**
+	 * Executes the {@link Function} with the given ID on the {@link Region} by splitting the filter into partitions
+	 * using the configured {@link FilterPartitioner} and executing the {@link Function} for each partition
+	 * concurrently on the given {@link Executor}.
+	 *
+	 * The {@link PartitionResult results} of each partition, including the latency of each partitioned execution,
+	 * are merged by the given {@link PartitionResultReducer}. When the filter maps to a single partition,
+	 * the {@link Function} is executed on the calling {@link Thread}.
+	 *
+	 * If any partitioned execution fails, the first failure is rethrown, after all partitioned executions
+	 * have completed, with the remaining failures {@link Throwable#addSuppressed(Throwable) suppressed}.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param <R> {@link Class type} of the merged result.
+	 * @param executor {@link Executor} used to execute the partitions; must not be {@literal null}.
+	 * @param functionId {@link String ID} of the {@link Function} to execute.
+	 * @param keys filter of keys split into partitions; must not be {@literal null}.
+	 * @param reducer {@link PartitionResultReducer} used to merge the results; must not be {@literal null}.
+	 * @param args arguments passed to the {@link Function}.
+	 * @return the merged result.
+	 * @throws IllegalArgumentException if {@link Executor}, keys or {@link PartitionResultReducer}
+	 * are {@literal null}.
+	 * @see #getFilterPartitioner()
+	 * @see PartitionResultReducer
+	 * @see PartitionResult
+	 */
+	public <T, R> R executePartitioned(Executor executor, String functionId, Set<?> keys,
+			PartitionResultReducer<T, R> reducer, Object... args) {
+
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.notNull(keys, "Keys must not be null");
+		Assert.notNull(reducer, "PartitionResultReducer must not be null");
+
+		Map<Object, Set<Object>> partitions = partition(keys);
+
+		List<PartitionResult<T>> partitionResults = new ArrayList<>(partitions.size());
+
+		if (partitions.size() < 2) {
+			partitions.forEach((partition, partitionKeys) ->
+				partitionResults.add(executePartition(functionId, partition, partitionKeys, args)));
+		}
+		else {
+
+			List<CompletableFuture<PartitionResult<T>>> futures = new ArrayList<>(partitions.size());
+
+			partitions.forEach((partition, partitionKeys) -> futures.add(CompletableFuture.supplyAsync(() ->
+				executePartition(functionId, partition, partitionKeys, args), executor)));
+
+			RuntimeException failure = null;
+
+			for (CompletableFuture<PartitionResult<T>> future : futures) {
+				try {
+					partitionResults.add(future.join());
+				}
+				catch (CompletionException cause) {
+
+					RuntimeException partitionFailure = cause.getCause() instanceof RuntimeException
+						? (RuntimeException) cause.getCause()
+						: cause;
+
+					if (failure == null) {
+						failure = partitionFailure;
+					}
+					else {
+						failure.addSuppressed(partitionFailure);
+					}
+				}
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+		return reducer.reduce(partitionResults);
+	}
+
+	private Map<Object, Set<Object>> partition(Set<?> keys) {
+
+		FilterPartitioner filterPartitioner = getFilterPartitioner();
+
+		Map<Object, Set<Object>> partitions = new LinkedHashMap<>();
+
+		for (Object key : keys) {
+			partitions.computeIfAbsent(filterPartitioner.partitionFor(key), partition -> new LinkedHashSet<>())
+				.add(key);
+		}
+
+		return partitions;
+	}
+
+	private <T> PartitionResult<T> executePartition(String functionId, Object partition, Set<Object> keys,
+			Object... args) {
+
+		long startTime = System.nanoTime();
+
+		Iterable<T> results = execute(functionId, keys, args);
+
+		List<T> resultList = new ArrayList<>();
+
+		CollectionUtils.nullSafeIterable(results).forEach(resultList::add);
+
+		return new PartitionResult<>(partition, keys, resultList, Duration.ofNanos(System.nanoTime() - startTime));
+	}
+
 	@Override
 	public void executeWithNoResult(String functionId, Set<?> keys, Object... args) {
 
@@ -6,6 +6,11 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -34,6 +39,29 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 
 	<T> T executeAndExtract(String functionId, Set<?> keys, Object... args);
 
+	default <T> CompletableFuture<Iterable<T>> executeAsync(Executor executor, String functionId, Set<?> keys,
+			Object... args) {
+
+		return CompletableFuture.supplyAsync(() -> execute(functionId, keys, args), executor);
+	}
+
+	default <T> CompletableFuture<T> executeAndExtractAsync(Executor executor, String functionId, Set<?> keys,
+			Object... args) {
+
+		return CompletableFuture.supplyAsync(() -> executeAndExtract(functionId, keys, args), executor);
+	}
+
+	default <T> T executeAndReduce(BinaryOperator<T> combiner, String functionId, Set<?> keys, Object... args) {
+		return ReducingResultCollector.reduce(this.<T>execute(functionId, keys, args), combiner);
+	}
+
+	default <T> Stream<T> executeAsStream(Executor executor, String functionId, Set<?> keys, Object... args) {
+
+		Iterable<T> results = execute(functionId, keys, args);
+
+		return results != null ? StreamSupport.stream(results.spliterator(), false) : Stream.empty();
+	}
+
 	default void executeWithNoResult(Function function, Set<?> keys, Object... args) {
 		executeWithNoResult(function.getId(), keys, args);
 	}
@@ -24,6 +24,8 @@ import org.apache.geode.cache.execute.Function;
 @SuppressWarnings("unused")
 public class GemfireOnServerFunctionTemplate extends AbstractClientFunctionTemplate {
 
+	private HedgingPolicy hedgingPolicy;
+
 	public GemfireOnServerFunctionTemplate(RegionService cache) {
 		super(cache);
 	}
@@ -36,9 +38,26 @@ public class GemfireOnServerFunctionTemplate extends AbstractClientFunctionTempl
 		super(poolName);
 	}
 
+	/**
+	 * Sets the {@link HedgingPolicy} used to hedge {@link Function} executions using a {@link Pool}.
+	 *
+	 * Only configure a {@link HedgingPolicy} when all {@link Function Functions} executed with this template
+	 * are idempotent.
+	 *
+	 * @param hedgingPolicy {@link HedgingPolicy} used to hedge {@link Function} executions.
+	 * @see HedgingPolicy
+	 */
+	public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
+	}
+
+	public HedgingPolicy getHedgingPolicy() {
+		return this.hedgingPolicy;
+	}
+
 	@Override
 	protected AbstractFunctionExecution newFunctionExecutionUsingPool(Pool pool) {
-		return new OnServerUsingPoolFunctionExecution(pool);
+		return new OnServerUsingPoolFunctionExecution(pool).setHedgingPolicy(getHedgingPolicy());
 	}
 
 	@Override
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Policy for hedging {@literal OnServer} {@link org.apache.geode.cache.execute.Function} executions.
+ *
+ * When the first execution has not completed within the hedge delay, a second, identical execution is issued
+ * and the first successful result of either execution is returned. The hedge delay is the configured
+ * {@link #getPercentile() percentile} of the latencies of recent executions, and the
+ * {@link #getInitialDelay() initial delay} until {@link #getMinimumSamples() enough latencies} have been recorded.
+ *
+ * Since a hedged {@link org.apache.geode.cache.execute.Function} may be executed twice, and the losing execution
+ * is not cancelled, hedging must only be enabled for idempotent Functions.
+ *
+ * When the {@link #getExecutor() Executor} rejects the first execution, the execution runs on the calling
+ * {@link Thread} without a hedge. When it rejects the hedge, the first execution is awaited.
+ *
+ * @see GemfireOnServerFunctionTemplate#setHedgingPolicy(HedgingPolicy)
+ */
+public class HedgingPolicy {
+
+	public static final double DEFAULT_PERCENTILE = 0.95d;
+
+	public static final int DEFAULT_MINIMUM_SAMPLES = 100;
+	public static final int DEFAULT_WINDOW_SIZE = 1000;
+
+	public static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+	public static final long DEFAULT_INITIAL_DELAY = 100L;
+	public static final long DEFAULT_MINIMUM_DELAY = 1L;
+
+	private double percentile = DEFAULT_PERCENTILE;
+
+	private volatile Executor executor;
+
+	private int minimumSamples = DEFAULT_MINIMUM_SAMPLES;
+
+	private long initialDelay = DEFAULT_INITIAL_DELAY;
+	private long minimumDelay = DEFAULT_MINIMUM_DELAY;
+
+	private final LatencyWindow latencies;
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder hedgeCount = new LongAdder();
+	private final LongAdder hedgeWinCount = new LongAdder();
+
+	/**
+	 * Constructs a new {@link HedgingPolicy} recording the latencies of the
+	 * {@link #DEFAULT_WINDOW_SIZE last 1000} executions.
+	 */
+	public HedgingPolicy() {
+		this(DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link HedgingPolicy} recording the latencies of the last {@code windowSize} executions.
+	 *
+	 * @param windowSize number of recent execution latencies used to compute the hedge delay;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code windowSize} is less than {@literal 1}.
+	 */
+	public HedgingPolicy(int windowSize) {
+
+		Assert.isTrue(windowSize > 0, () -> String.format("Window size [%d] must be greater than 0", windowSize));
+
+		this.latencies = new LatencyWindow(windowSize);
+	}
+
+	/**
+	 * Sets the {@link Executor} used to run the executions.
+	 *
+	 * @param executor {@link Executor} used to run the executions.
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run the executions.
+	 *
+	 * Defaults to a pool of at most {@link #DEFAULT_POOL_SIZE} daemon {@link Thread Threads}, which rejects
+	 * executions while all {@link Thread Threads} are busy.
+	 *
+	 * @return the {@link Executor} used to run the executions.
+	 */
+	public @NonNull Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				if (this.executor == null) {
+					this.executor = newDefaultExecutor();
+				}
+
+				executor = this.executor;
+			}
+		}
+
+		return executor;
+	}
+
+	private Executor newDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("HedgedFunctionExecution-");
+
+		threadFactory.setDaemon(true);
+
+		return new ThreadPoolExecutor(0, DEFAULT_POOL_SIZE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+			threadFactory);
+	}
+
+	public void setInitialDelay(long initialDelay) {
+		this.initialDelay = initialDelay;
+	}
+
+	/**
+	 * Returns the hedge delay, in milliseconds, used until {@link #getMinimumSamples() enough latencies}
+	 * have been recorded.
+	 *
+	 * @return the initial hedge delay in milliseconds.
+	 */
+	public long getInitialDelay() {
+		return this.initialDelay;
+	}
+
+	public void setMinimumDelay(long minimumDelay) {
+		this.minimumDelay = minimumDelay;
+	}
+
+	/**
+	 * Returns the lower bound, in milliseconds, of the hedge delay.
+	 *
+	 * @return the minimum hedge delay in milliseconds.
+	 */
+	public long getMinimumDelay() {
+		return this.minimumDelay;
+	}
+
+	public void setMinimumSamples(int minimumSamples) {
+		this.minimumSamples = minimumSamples;
+	}
+
+	/**
+	 * Returns the number of latencies that must be recorded before the hedge delay is computed
+	 * from the recorded latencies.
+	 *
+	 * @return the minimum number of recorded latencies.
+	 */
+	public int getMinimumSamples() {
+		return this.minimumSamples;
+	}
+
+	public void setPercentile(double percentile) {
+
+		Assert.isTrue(percentile > 0.0d && percentile <= 1.0d,
+			() -> String.format("Percentile [%s] must be greater than 0.0 and less than or equal to 1.0", percentile));
+
+		this.percentile = percentile;
+	}
+
+	/**
+	 * Returns the percentile of recent execution latencies after which an execution is hedged.
+	 *
+	 * @return the percentile of recent execution latencies after which an execution is hedged.
+	 */
+	public double getPercentile() {
+		return this.percentile;
+	}
+
+	/**
+	 * Returns the current hedge delay.
+	 *
+	 * @return the current hedge delay in milliseconds.
+	 */
+	public long getHedgeDelay() {
+
+		int samples = this.latencies.size();
+
+		long delayInNanoseconds = samples == 0 || samples < getMinimumSamples()
+			? TimeUnit.MILLISECONDS.toNanos(getInitialDelay())
+			: this.latencies.percentile(getPercentile());
+
+		return Math.max(TimeUnit.NANOSECONDS.toMillis(delayInNanoseconds), getMinimumDelay());
+	}
+
+	/**
+	 * Returns the number of executions.
+	 *
+	 * @return the number of executions.
+	 */
+	public long getExecutionCount() {
+		return this.executionCount.sum();
+	}
+
+	/**
+	 * Returns the number of executions that were hedged.
+	 *
+	 * @return the number of executions that were hedged.
+	 */
+	public long getHedgeCount() {
+		return this.hedgeCount.sum();
+	}
+
+	/**
+	 * Returns the number of hedged executions in which the hedge returned the result.
+	 *
+	 * @return the number of hedged executions won by the hedge.
+	 */
+	public long getHedgeWinCount() {
+		return this.hedgeWinCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of hedged executions to all executions.
+	 *
+	 * @return the ratio of hedged executions to all executions.
+	 */
+	public double getHedgeRate() {
+
+		long executionCount = getExecutionCount();
+
+		return executionCount > 0 ? (double) getHedgeCount() / executionCount : 0.0d;
+	}
+
+	/**
+	 * Runs the given execution, hedging it with a second execution if it does not complete within
+	 * the {@link #getHedgeDelay() hedge delay}.
+	 *
+	 * The latency of every execution is recorded, including executions that failed or timed out, so that slow
+	 * failures raise the hedge delay as much as slow results.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param execution {@link Supplier} running the execution; must be safe to run concurrently.
+	 * @return the first successful result.
+	 * @throws RuntimeException thrown by the execution, or by the hedge if both executions failed.
+	 */
+	<T> T execute(@NonNull Supplier<T> execution) {
+
+		this.executionCount.increment();
+
+		long startTime = System.nanoTime();
+
+		CompletableFuture<T> primary;
+
+		try {
+			primary = CompletableFuture.supplyAsync(execution, getExecutor());
+		}
+		catch (RejectedExecutionException ignore) {
+			try {
+				return execution.get();
+			}
+			finally {
+				this.latencies.record(System.nanoTime() - startTime);
+			}
+		}
+
+		boolean hedged = false;
+
+		try {
+			return primary.get(getHedgeDelay(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ignore) {
+			hedged = true;
+			return hedge(execution, primary, startTime);
+		}
+		catch (ExecutionException cause) {
+			throw toRuntimeException(cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for Function results", cause);
+		}
+		finally {
+			if (!hedged) {
+				this.latencies.record(System.nanoTime() - startTime);
+			}
+		}
+	}
+
+	private <T> T hedge(Supplier<T> execution, CompletableFuture<T> primary, long startTime) {
+
+		CompletableFuture<T> hedge;
+
+		try {
+			hedge = CompletableFuture.supplyAsync(execution, getExecutor());
+		}
+		catch (RejectedExecutionException ignore) {
+			return await(primary, startTime);
+		}
+
+		this.hedgeCount.increment();
+
+		CompletableFuture<T> firstSuccessful = new CompletableFuture<>();
+
+		AtomicInteger remaining = new AtomicInteger(2);
+
+		primary.whenComplete((result, cause) -> complete(firstSuccessful, remaining, result, cause, false));
+		hedge.whenComplete((result, cause) -> complete(firstSuccessful, remaining, result, cause, true));
+
+		return await(firstSuccessful, startTime);
+	}
+
+	/**
+	 * Waits for the given result and records the latency of the execution, whether it succeeded or failed.
+	 */
+	private <T> T await(CompletableFuture<T> result, long startTime) {
+
+		try {
+			return result.get();
+		}
+		catch (ExecutionException cause) {
+			throw toRuntimeException(cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for Function results", cause);
+		}
+		finally {
+			this.latencies.record(System.nanoTime() - startTime);
+		}
+	}
+
+	private <T> void complete(CompletableFuture<T> firstSuccessful, AtomicInteger remaining, T result,
+			Throwable cause, boolean hedge) {
+
+		if (cause == null) {
+			if (remaining.getAndSet(0) > 0) {
+				if (hedge) {
+					this.hedgeWinCount.increment();
+				}
+
+				firstSuccessful.complete(result);
+			}
+		}
+		else if (remaining.decrementAndGet() == 0) {
+			firstSuccessful.completeExceptionally(cause);
+		}
+	}
+
+	private RuntimeException toRuntimeException(Throwable cause) {
+
+		Throwable resolvedCause = cause instanceof CompletionException && cause.getCause() != null
+			? cause.getCause()
+			: cause;
+
+		return resolvedCause instanceof RuntimeException
+			? (RuntimeException) resolvedCause
+			: new FunctionException("Execution of Function failed", resolvedCause);
+	}
+
+	/**
+	 * Fixed size window of the most recent execution latencies.
+	 */
+	private static final class LatencyWindow {
+
+		private final long[] latencies;
+
+		private int count;
+		private int next;
+
+		private LatencyWindow(int size) {
+			this.latencies = new long[size];
+		}
+
+		private synchronized void record(long latency) {
+
+			this.latencies[this.next] = latency;
+			this.next = (this.next + 1) % this.latencies.length;
+			this.count = Math.min(this.count + 1, this.latencies.length);
+		}
+
+		private synchronized int size() {
+			return this.count;
+		}
+
+		private long percentile(double percentile) {
+
+			long[] sortedLatencies;
+
+			synchronized (this) {
+				sortedLatencies = Arrays.copyOf(this.latencies, this.count);
+			}
+
+			Arrays.sort(sortedLatencies);
+
+			int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+
+			return sortedLatencies[Math.max(index, 0)];
+		}
+	}
+}
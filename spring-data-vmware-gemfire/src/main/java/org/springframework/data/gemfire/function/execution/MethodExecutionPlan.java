@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Set;
+import java.util.function.BinaryOperator;
+
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable plan for executing the {@link org.apache.geode.cache.execute.Function} mapped to
+ * a Function Execution interface {@link java.lang.reflect.Method}, computed once per {@link java.lang.reflect.Method}
+ * by the {@link GemfireFunctionProxyFactoryBean}.
+ *
+ * @see GemfireFunctionProxyFactoryBean
+ */
+final class MethodExecutionPlan {
+
+	static final int NO_FILTER = -1;
+
+	/**
+	 * Strategy used to adapt the Function execution to the {@link java.lang.reflect.Method} return type.
+	 */
+	enum ReturnAdapter {
+
+		/**
+		 * Blocks for the results and returns them, or the single result, directly.
+		 */
+		RESULT,
+
+		/**
+		 * Returns a {@link java.util.concurrent.CompletableFuture} completed with the results.
+		 */
+		ASYNC,
+
+		/**
+		 * Returns a {@link java.util.stream.Stream} of the results.
+		 */
+		STREAM,
+
+		/**
+		 * Returns an {@link java.util.Iterator} over the results.
+		 */
+		ITERATOR
+
+	}
+
+	private final boolean singleResult;
+
+	private final int filterArgPosition;
+
+	private final BinaryOperator<Object> combiner;
+
+	private final Object identity;
+
+	private final Class<?> resultType;
+
+	private final ReturnAdapter returnAdapter;
+
+	private final String functionId;
+
+	MethodExecutionPlan(@NonNull String functionId, boolean singleResult, int filterArgPosition,
+			@NonNull ReturnAdapter returnAdapter, @NonNull Class<?> resultType) {
+
+		this(functionId, singleResult, filterArgPosition, returnAdapter, resultType, null);
+	}
+
+	MethodExecutionPlan(@NonNull String functionId, boolean singleResult, int filterArgPosition,
+			@NonNull ReturnAdapter returnAdapter, @NonNull Class<?> resultType,
+			@Nullable BinaryOperator<Object> combiner) {
+
+		this(functionId, singleResult, filterArgPosition, returnAdapter, resultType, combiner, null);
+	}
+
+	MethodExecutionPlan(@NonNull String functionId, boolean singleResult, int filterArgPosition,
+			@NonNull ReturnAdapter returnAdapter, @NonNull Class<?> resultType,
+			@Nullable BinaryOperator<Object> combiner, @Nullable Object identity) {
+
+		Assert.hasText(functionId, "Function ID must not be null or empty");
+		Assert.notNull(returnAdapter, "ReturnAdapter must not be null");
+		Assert.notNull(resultType, "Result type must not be null");
+
+		this.functionId = functionId;
+		this.singleResult = singleResult;
+		this.filterArgPosition = filterArgPosition;
+		this.returnAdapter = returnAdapter;
+		this.resultType = resultType;
+		this.combiner = combiner;
+		this.identity = identity;
+	}
+
+	String getFunctionId() {
+		return this.functionId;
+	}
+
+	/**
+	 * Determines whether the {@link org.apache.geode.cache.execute.Function} is executed on a single server
+	 * or member, in which case the single result is extracted.
+	 *
+	 * @return a boolean indicating whether the single result is extracted.
+	 */
+	boolean isSingleResult() {
+		return this.singleResult;
+	}
+
+	int getFilterArgPosition() {
+		return this.filterArgPosition;
+	}
+
+	boolean hasFilter() {
+		return getFilterArgPosition() > NO_FILTER;
+	}
+
+	/**
+	 * Returns the {@link org.springframework.data.gemfire.function.annotation.Filter} argument.
+	 *
+	 * @param args arguments passed to the Function Execution interface {@link java.lang.reflect.Method}.
+	 * @return the filter, or {@literal null} if the {@link java.lang.reflect.Method} does not declare a filter
+	 * or the filter argument is {@literal null}.
+	 */
+	@Nullable Set<?> getFilter(Object[] args) {
+		return hasFilter() ? (Set<?>) args[getFilterArgPosition()] : null;
+	}
+
+	/**
+	 * Returns the arguments passed to the {@link org.apache.geode.cache.execute.Function}, excluding the filter.
+	 *
+	 * @param args arguments passed to the Function Execution interface {@link java.lang.reflect.Method}.
+	 * @return the arguments passed to the {@link org.apache.geode.cache.execute.Function}.
+	 */
+	Object[] getFunctionArguments(Object[] args) {
+		return hasFilter() ? ArrayUtils.remove(args, getFilterArgPosition()) : args;
+	}
+
+	/**
+	 * Returns the associative combiner used to fold the results, if declared with
+	 * {@link org.springframework.data.gemfire.function.annotation.ReduceWith}.
+	 *
+	 * @return the associative combiner, or {@literal null} if the results are not reduced.
+	 */
+	@Nullable BinaryOperator<Object> getCombiner() {
+		return this.combiner;
+	}
+
+	/**
+	 * Returns the identity value of the combiner, returned when the {@link org.apache.geode.cache.execute.Function}
+	 * sends no results to reduce.
+	 *
+	 * @return the identity value of the combiner, or {@literal null} if no identity is declared.
+	 */
+	@Nullable Object getIdentity() {
+		return this.identity;
+	}
+
+	boolean isReducing() {
+		return getCombiner() != null;
+	}
+
+	ReturnAdapter getReturnAdapter() {
+		return this.returnAdapter;
+	}
+
+	/**
+	 * Returns the {@link Class type} of the result, which, for asynchronous methods, is the type of the value
+	 * of the {@link java.util.concurrent.CompletableFuture}.
+	 *
+	 * @return the {@link Class type} of the result.
+	 */
+	Class<?> getResultType() {
+		return this.resultType;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link FunctionExecutionListener} recording {@link org.apache.geode.cache.execute.Function} executions
+ * in a Micrometer {@link MeterRegistry}.
+ *
+ * Records the following meters, tagged with the {@literal function.id} and {@literal target}:
+ *
+ * <ul>
+ *     <li>{@literal gemfire.function.execution} {@link Timer}, with a percentile histogram,
+ *     additionally tagged with the {@literal outcome}</li>
+ *     <li>{@literal gemfire.function.execution.results} {@link DistributionSummary} of the number of results</li>
+ *     <li>{@literal gemfire.function.execution.errors} {@link Counter}, additionally tagged with
+ *     the {@literal exception}</li>
+ *     <li>{@literal gemfire.function.execution.timeouts} {@link Counter}</li>
+ * </ul>
+ *
+ * Micrometer is an optional dependency and must be on the application classpath to use this listener.
+ *
+ * @see FunctionExecutionListener
+ * @see io.micrometer.core.instrument.MeterRegistry
+ */
+public class MicrometerFunctionExecutionListener implements FunctionExecutionListener {
+
+	public static final String EXECUTION_METER_NAME = "gemfire.function.execution";
+	public static final String ERRORS_METER_NAME = EXECUTION_METER_NAME + ".errors";
+	public static final String RESULTS_METER_NAME = EXECUTION_METER_NAME + ".results";
+	public static final String TIMEOUTS_METER_NAME = EXECUTION_METER_NAME + ".timeouts";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Constructs a new {@link MicrometerFunctionExecutionListener} recording meters in the given {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which the meters are recorded; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MeterRegistry} is {@literal null}.
+	 */
+	public MicrometerFunctionExecutionListener(@NonNull MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+
+		this.meterRegistry = meterRegistry;
+	}
+
+	protected @NonNull MeterRegistry getMeterRegistry() {
+		return this.meterRegistry;
+	}
+
+	@Override
+	public void onFunctionExecution(@NonNull FunctionExecutionEvent event) {
+
+		Tags tags = Tags.of("function.id", event.getFunctionId(), "target", event.getTarget());
+
+		Timer.builder(EXECUTION_METER_NAME)
+			.description("Time taken to execute a Function and collect the results")
+			.tags(tags)
+			.tag("outcome", resolveOutcome(event))
+			.publishPercentileHistogram()
+			.register(getMeterRegistry())
+			.record(event.getDuration());
+
+		if (event.hasResultCount()) {
+			DistributionSummary.builder(RESULTS_METER_NAME)
+				.description("Number of results returned by a Function execution")
+				.tags(tags)
+				.register(getMeterRegistry())
+				.record(event.getResultCount());
+		}
+
+		if (event.isTimeout()) {
+			Counter.builder(TIMEOUTS_METER_NAME)
+				.description("Number of Function executions not completed in the configured timeout")
+				.tags(tags)
+				.register(getMeterRegistry())
+				.increment();
+		}
+		else if (!event.isSuccessful()) {
+			Counter.builder(ERRORS_METER_NAME)
+				.description("Number of failed Function executions")
+				.tags(tags)
+				.tag("exception", event.getFailure().getClass().getSimpleName())
+				.register(getMeterRegistry())
+				.increment();
+		}
+	}
+
+	private String resolveOutcome(FunctionExecutionEvent event) {
+		return event.isTimeout() ? "timeout" : event.isSuccessful() ? "success" : "error";
+	}
+}
@@ -6,8 +6,10 @@ package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
 import java.util.Set;
-
-import org.springframework.data.gemfire.util.ArrayUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 /**
  * @author David Turanski
@@ -29,27 +31,86 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 		this.methodMetadata = new RegionFunctionExecutionMethodMetadata(serviceInterface);
 	}
 
+	protected GemfireOnRegionOperations getGemfireOnRegionOperations() {
+		return (GemfireOnRegionOperations) getGemfireFunctionOperations();
+	}
+
 	@Override
-	protected Iterable<?> invokeFunction(Method method, Object[] args) {
+	MethodExecutionPlan newMethodExecutionPlan(Method method) {
 
-		GemfireOnRegionOperations gemfireOnRegionOperations =
-			(GemfireOnRegionOperations) getGemfireFunctionOperations();
+		MethodExecutionPlan plan = super.newMethodExecutionPlan(method);
 
 		RegionMethodMetadata regionMethodMetadata = this.methodMetadata.getMethodMetadata(method);
 
-		int filterArgPosition = regionMethodMetadata.getFilterArgPosition();
+		return new MethodExecutionPlan(regionMethodMetadata.getFunctionId(), false,
+			regionMethodMetadata.getFilterArgPosition(), plan.getReturnAdapter(), plan.getResultType(),
+			plan.getCombiner(), plan.getIdentity());
+	}
+
+	@Override
+	protected Iterable<?> invokeFunction(Method method, Object[] args) {
+
+		GemfireOnRegionOperations gemfireOnRegionOperations = getGemfireOnRegionOperations();
+
+		return invokeOnRegion(method, args, gemfireOnRegionOperations::execute, gemfireOnRegionOperations::execute);
+	}
+
+	@Override
+	protected Object invokeFunctionAndReduce(Method method, Object[] args) {
+
+		GemfireOnRegionOperations gemfireOnRegionOperations = getGemfireOnRegionOperations();
+
+		BinaryOperator<Object> combiner = getMethodExecutionPlan(method).getCombiner();
+
+		return invokeOnRegion(method, args,
+			(functionId, filter, arguments) ->
+				gemfireOnRegionOperations.executeAndReduce(combiner, functionId, filter, arguments),
+			(functionId, arguments) -> gemfireOnRegionOperations.executeAndReduce(combiner, functionId, arguments));
+	}
+
+	@Override
+	protected CompletableFuture<?> invokeFunctionAsync(Method method, Object[] args) {
+
+		GemfireOnRegionOperations gemfireOnRegionOperations = getGemfireOnRegionOperations();
+
+		return invokeOnRegion(method, args,
+			(functionId, filter, arguments) ->
+				gemfireOnRegionOperations.executeAsync(getExecutor(), functionId, filter, arguments),
+			(functionId, arguments) -> gemfireOnRegionOperations.executeAsync(getExecutor(), functionId, arguments));
+	}
+
+	@Override
+	protected Stream<?> invokeFunctionAsStream(Method method, Object[] args) {
 
-		String functionId = regionMethodMetadata.getFunctionId();
+		GemfireOnRegionOperations gemfireOnRegionOperations = getGemfireOnRegionOperations();
 
-		Set<?> filter = null;
+		return invokeOnRegion(method, args,
+			(functionId, filter, arguments) ->
+				gemfireOnRegionOperations.executeAsStream(getExecutor(), functionId, filter, arguments),
+			(functionId, arguments) -> gemfireOnRegionOperations.executeAsStream(getExecutor(), functionId, arguments));
+	}
+
+	/**
+	 * Extracts the {@link org.springframework.data.gemfire.function.annotation.Filter} from the arguments
+	 * of the given {@link Method} and invokes the {@link org.apache.geode.cache.execute.Function} with the filter,
+	 * if present, or otherwise on the whole {@link org.apache.geode.cache.Region}.
+	 */
+	private <T> T invokeOnRegion(Method method, Object[] args, FilteredInvocation<T> filteredInvocation,
+			BiFunction<String, Object[], T> invocation) {
 
-		// extract filter from args if necessary
-		if (filterArgPosition >= 0) {
-			filter = (Set<?>) args[filterArgPosition];
-			args = ArrayUtils.remove(args, filterArgPosition);
-		}
+		MethodExecutionPlan plan = getMethodExecutionPlan(method);
+
+		Set<?> filter = plan.getFilter(args);
+
+		Object[] functionArguments = plan.getFunctionArguments(args);
+
+		return filter != null
+			? filteredInvocation.invoke(plan.getFunctionId(), filter, functionArguments)
+			: invocation.apply(plan.getFunctionId(), functionArguments);
+	}
 
-		return filter != null ? gemfireOnRegionOperations.execute(functionId, filter, args)
-			: gemfireOnRegionOperations.execute(functionId, args);
+	@FunctionalInterface
+	private interface FilteredInvocation<T> {
+		T invoke(String functionId, Set<?> filter, Object[] args);
 	}
 }
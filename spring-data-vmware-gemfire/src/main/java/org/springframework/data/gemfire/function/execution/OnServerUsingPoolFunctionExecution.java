@@ -8,6 +8,7 @@ import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.FunctionService;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -22,6 +23,8 @@ import org.springframework.util.Assert;
  */
 class OnServerUsingPoolFunctionExecution extends AbstractFunctionExecution {
 
+	private HedgingPolicy hedgingPolicy;
+
 	private final Pool pool;
 
 	OnServerUsingPoolFunctionExecution(Pool pool) {
@@ -35,6 +38,40 @@ class OnServerUsingPoolFunctionExecution extends AbstractFunctionExecution {
 		return this.pool;
 	}
 
+	/**
+	 * Sets the {@link HedgingPolicy} used to hedge the {@link Execution} of idempotent
+	 * {@link org.apache.geode.cache.execute.Function Functions}.
+	 *
+	 * @param hedgingPolicy {@link HedgingPolicy} used to hedge the {@link Execution}.
+	 * @return this {@link OnServerUsingPoolFunctionExecution}.
+	 * @see HedgingPolicy
+	 */
+	OnServerUsingPoolFunctionExecution setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
+		return this;
+	}
+
+	protected @Nullable HedgingPolicy getHedgingPolicy() {
+		return this.hedgingPolicy;
+	}
+
+	/**
+	 * Executes the configured {@link org.apache.geode.cache.execute.Function}, hedging the {@link Execution}
+	 * when a {@link HedgingPolicy} is configured.
+	 *
+	 * Executions using a custom {@link org.apache.geode.cache.execute.ResultCollector}, which cannot be shared
+	 * by concurrent {@link Execution Executions}, are not hedged.
+	 */
+	@Override
+	<T> Iterable<T> doExecute(Boolean returnResult) {
+
+		HedgingPolicy hedgingPolicy = getHedgingPolicy();
+
+		return hedgingPolicy != null && Boolean.TRUE.equals(returnResult) && getResultCollector() == null
+			? hedgingPolicy.execute(() -> super.doExecute(returnResult))
+			: super.doExecute(returnResult);
+	}
+
 	@Override
 	@SuppressWarnings("rawtypes")
 	protected Execution getExecution() {
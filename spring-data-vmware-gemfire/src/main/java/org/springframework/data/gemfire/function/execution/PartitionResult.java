@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Results of the {@link org.apache.geode.cache.execute.Function} execution for a single partition of the filter
+ * in a partitioned {@link org.apache.geode.cache.Region} {@link org.apache.geode.cache.execute.Function} execution,
+ * along with the latency of the execution.
+ *
+ * @param <T> {@link Class type} of the results.
+ * @see FilterPartitioner
+ * @see PartitionResultReducer
+ */
+public final class PartitionResult<T> {
+
+	private final Duration latency;
+
+	private final List<T> results;
+
+	private final Object partition;
+
+	private final Set<?> keys;
+
+	PartitionResult(@Nullable Object partition, @NonNull Set<?> keys, @Nullable List<T> results,
+			@NonNull Duration latency) {
+
+		this.partition = partition;
+		this.keys = Collections.unmodifiableSet(keys);
+		this.results = results != null ? Collections.unmodifiableList(results) : Collections.emptyList();
+		this.latency = latency;
+	}
+
+	/**
+	 * Returns the partition, as determined by the {@link FilterPartitioner}.
+	 *
+	 * @return the partition.
+	 */
+	public @Nullable Object getPartition() {
+		return this.partition;
+	}
+
+	/**
+	 * Returns the keys of the filter in this partition.
+	 *
+	 * @return the keys of the filter in this partition.
+	 */
+	public @NonNull Set<?> getKeys() {
+		return this.keys;
+	}
+
+	/**
+	 * Returns the results of the {@link org.apache.geode.cache.execute.Function} execution for this partition.
+	 *
+	 * @return the results for this partition; never {@literal null}.
+	 */
+	public @NonNull List<T> getResults() {
+		return this.results;
+	}
+
+	/**
+	 * Returns the time taken to execute the {@link org.apache.geode.cache.execute.Function} and collect the results
+	 * for this partition.
+	 *
+	 * @return the latency of the execution for this partition.
+	 */
+	public @NonNull Duration getLatency() {
+		return this.latency;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PartitionResult { partition = %s, keys = %d, results = %d, latency = %d ms }",
+			getPartition(), getKeys().size(), getResults().size(), getLatency().toMillis());
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Strategy used to merge the {@link PartitionResult results} of each partition of a partitioned
+ * {@link org.apache.geode.cache.Region} {@link org.apache.geode.cache.execute.Function} execution.
+ *
+ * @param <T> {@link Class type} of the results.
+ * @param <R> {@link Class type} of the merged result.
+ * @see PartitionResult
+ */
+@FunctionalInterface
+public interface PartitionResultReducer<T, R> {
+
+	/**
+	 * Returns a {@link PartitionResultReducer} concatenating the results of all partitions, in partition order.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @return a concatenating {@link PartitionResultReducer}.
+	 */
+	static @NonNull <T> PartitionResultReducer<T, Iterable<T>> concatenating() {
+
+		return partitionResults -> {
+
+			List<T> results = new ArrayList<>();
+
+			for (PartitionResult<T> partitionResult : partitionResults) {
+				results.addAll(partitionResult.getResults());
+			}
+
+			return results;
+		};
+	}
+
+	/**
+	 * Merges the {@link PartitionResult results} of all partitions.
+	 *
+	 * @param partitionResults {@link List} of {@link PartitionResult results} for each partition,
+	 * in partition order.
+	 * @return the merged result.
+	 */
+	R reduce(@NonNull List<PartitionResult<T>> partitionResults);
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} folding {@link org.apache.geode.cache.execute.Function} results into a single value
+ * with an associative combiner as each result is {@link #addResult(DistributedMember, Object) added}, rather than
+ * holding every partial result sent by each member until all members have sent their last result.
+ *
+ * Since results arrive from members in no particular order, the combiner must be associative, and should be
+ * commutative. {@literal null} results are ignored. A {@link Throwable} result fails the execution and is rethrown
+ * as a {@link FunctionException} by {@link #getResult()}.
+ *
+ * @param <T> {@link Class type} of the results and the reduced value.
+ * @see java.util.function.BinaryOperator
+ * @see org.apache.geode.cache.execute.ResultCollector
+ */
+public class ReducingResultCollector<T> implements ResultCollector<Object, T> {
+
+	private static final String FUNCTION_EXECUTION_TIMEOUT_ERROR_MESSAGE =
+		"Failed to collect Function results in the configured timeout [%d ms]";
+
+	private final BinaryOperator<T> combiner;
+
+	private final CountDownLatch resultsReceived = new CountDownLatch(1);
+
+	private long resultCount;
+
+	private T identity;
+	private T result;
+
+	private Throwable failure;
+
+	/**
+	 * Constructs a new {@link ReducingResultCollector} folding results with the given combiner.
+	 *
+	 * @param combiner associative {@link BinaryOperator} used to fold the results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the combiner is {@literal null}.
+	 */
+	public ReducingResultCollector(@NonNull BinaryOperator<T> combiner) {
+
+		Assert.notNull(combiner, "Combiner must not be null");
+
+		this.combiner = combiner;
+	}
+
+	/**
+	 * Folds the given results with the given associative combiner.
+	 *
+	 * @param <T> {@link Class type} of the results and the reduced value.
+	 * @param results {@link Iterable} of results to fold.
+	 * @param combiner associative {@link BinaryOperator} used to fold the results; must not be {@literal null}.
+	 * @return the reduced value, or {@literal null} if there are no results.
+	 * @throws FunctionException if any result is a {@link Throwable}.
+	 */
+	static <T> T reduce(@Nullable Iterable<T> results, @NonNull BinaryOperator<T> combiner) {
+
+		ReducingResultCollector<T> resultCollector = new ReducingResultCollector<>(combiner);
+
+		if (results != null) {
+			for (T result : results) {
+				resultCollector.addResult(null, result);
+			}
+		}
+
+		resultCollector.endResults();
+
+		return resultCollector.getResult();
+	}
+
+	/**
+	 * Sets the identity value of the combiner, which is returned when no results are received.
+	 *
+	 * @param identity identity value of the combiner.
+	 * @return this {@link ReducingResultCollector}.
+	 */
+	public @NonNull ReducingResultCollector<T> withIdentity(@Nullable T identity) {
+
+		synchronized (this) {
+			this.identity = identity;
+			this.result = this.resultCount == 0 ? identity : this.result;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the number of results folded so far.
+	 *
+	 * @return the number of results folded so far.
+	 */
+	public synchronized long getResultCount() {
+		return this.resultCount;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void addResult(@Nullable DistributedMember member, @Nullable Object result) {
+
+		if (result instanceof Throwable) {
+			this.failure = this.failure != null ? this.failure : (Throwable) result;
+		}
+		else if (result != null && this.failure == null) {
+			this.result = this.resultCount > 0 || this.identity != null
+				? this.combiner.apply(this.result, (T) result)
+				: (T) result;
+
+			this.resultCount++;
+		}
+	}
+
+	@Override
+	public void endResults() {
+		this.resultsReceived.countDown();
+	}
+
+	@Override
+	public synchronized void clearResults() {
+		this.result = this.identity;
+		this.resultCount = 0;
+		this.failure = null;
+	}
+
+	/**
+	 * Returns the reduced value, waiting for all results to be received.
+	 *
+	 * @return the reduced value, or the identity value if no results were received.
+	 * @throws FunctionException if the {@link org.apache.geode.cache.execute.Function} execution failed.
+	 */
+	@Override
+	public T getResult() throws FunctionException {
+
+		try {
+			this.resultsReceived.await();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for Function results", cause);
+		}
+
+		return resolveResult();
+	}
+
+	/**
+	 * Returns the reduced value, waiting at most the given {@code timeout} for all results to be received.
+	 *
+	 * @param timeout maximum amount of time to wait for all results.
+	 * @param unit {@link TimeUnit} of the {@code timeout}.
+	 * @return the reduced value, or the identity value if no results were received.
+	 * @throws FunctionException if the {@link org.apache.geode.cache.execute.Function} execution failed,
+	 * or not all results were received within the {@code timeout}.
+	 */
+	@Override
+	public T getResult(long timeout, TimeUnit unit) throws FunctionException {
+
+		try {
+			if (!this.resultsReceived.await(timeout, unit)) {
+				throw new FunctionException(String.format(FUNCTION_EXECUTION_TIMEOUT_ERROR_MESSAGE,
+					unit.toMillis(timeout)));
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for Function results", cause);
+		}
+
+		return resolveResult();
+	}
+
+	private synchronized T resolveResult() {
+
+		if (this.failure != null) {
+			throw this.failure instanceof FunctionException
+				? (FunctionException) this.failure
+				: new FunctionException("Execution of Function failed", this.failure);
+		}
+
+		return this.result;
+	}
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} handing {@link org.apache.geode.cache.execute.Function} results to the caller as soon as
+ * they are {@link #addResult(DistributedMember, Object) added}, rather than after all members have sent
+ * their last result.
+ *
+ * In buffered mode, results are held in a bounded buffer and consumed through the {@link Stream}
+ * returned by {@link #getResult()} or through {@link #iterator()}; the {@link org.apache.geode.cache.execute.Function}
+ * result sender blocks while the buffer is full. Closing the {@link Stream} or {@link CloseableIterator},
+ * consuming a failure or consuming the last result cancels the collection, and any remaining results
+ * are discarded. If a result is not taken from the full buffer within the {@code consumerTimeout}, for example
+ * because a partially consumed {@link Stream} was not closed, the collection is cancelled as well and the consumer,
+ * if it resumes, fails with a {@link FunctionException}.
+ *
+ * In callback mode, each result is passed to a {@link Consumer} on the {@link Thread} adding the result,
+ * and {@link #getResult()} waits for all results to be received before returning an empty {@link Stream}.
+ *
+ * Each result sent by a member, including {@link java.util.List chunks} sent by
+ * a {@link org.springframework.data.gemfire.function.BatchingResultSender}, is a single element.
+ * A {@link Throwable} result is rethrown as a {@link FunctionException} by the consumer.
+ *
+ * @param <T> {@link Class type} of the results.
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Stream<T>> {
+
+	public static final int DEFAULT_BUFFER_CAPACITY = 1000;
+
+	public static final Duration DEFAULT_CONSUMER_TIMEOUT = Duration.ofSeconds(60L);
+
+	private static final long POLL_INTERVAL_MILLISECONDS = 100L;
+
+	private static final Object END = new Object();
+	private static final Object NULL = new Object();
+
+	private static final String CONSUMER_TIMEOUT_ERROR_MESSAGE =
+		"Function results were not consumed in the configured timeout [%d ms]";
+
+	private static final String FUNCTION_EXECUTION_TIMEOUT_ERROR_MESSAGE =
+		"Failed to collect Function results in the configured timeout [%d ms]";
+
+	private volatile boolean cancelled = false;
+
+	private final long consumerTimeout;
+
+	private final BlockingQueue<Object> buffer;
+
+	private final Consumer<? super T> callback;
+
+	private final CountDownLatch resultsReceived = new CountDownLatch(1);
+
+	private volatile Throwable failure;
+
+	/**
+	 * Constructs a new buffered {@link StreamingResultCollector} with
+	 * the {@link #DEFAULT_BUFFER_CAPACITY default buffer capacity}.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_BUFFER_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new buffered {@link StreamingResultCollector} holding at most {@code bufferCapacity}
+	 * unconsumed results.
+	 *
+	 * @param bufferCapacity maximum number of unconsumed results; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code bufferCapacity} is less than {@literal 1}.
+	 */
+	public StreamingResultCollector(int bufferCapacity) {
+		this(bufferCapacity, DEFAULT_CONSUMER_TIMEOUT);
+	}
+
+	/**
+	 * Constructs a new buffered {@link StreamingResultCollector} holding at most {@code bufferCapacity}
+	 * unconsumed results and waiting at most {@code consumerTimeout} for the consumer to take a result
+	 * from the full buffer before cancelling the collection.
+	 *
+	 * @param bufferCapacity maximum number of unconsumed results; must be greater than {@literal 0}.
+	 * @param consumerTimeout maximum amount of time to wait for the consumer; must be positive.
+	 * @throws IllegalArgumentException if {@code bufferCapacity} is less than {@literal 1}
+	 * or {@code consumerTimeout} is {@literal null} or not positive.
+	 */
+	public StreamingResultCollector(int bufferCapacity, @NonNull Duration consumerTimeout) {
+
+		Assert.isTrue(bufferCapacity > 0,
+			() -> String.format("Buffer capacity [%d] must be greater than 0", bufferCapacity));
+
+		Assert.isTrue(consumerTimeout != null && !consumerTimeout.isNegative() && !consumerTimeout.isZero(),
+			() -> String.format("Consumer timeout [%s] must be greater than 0", consumerTimeout));
+
+		this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+		this.callback = null;
+		this.consumerTimeout = consumerTimeout.toNanos();
+	}
+
+	/**
+	 * Constructs a new {@link StreamingResultCollector} passing each result to the given {@link Consumer}.
+	 *
+	 * @param callback {@link Consumer} of the results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Consumer} is {@literal null}.
+	 */
+	public StreamingResultCollector(@NonNull Consumer<? super T> callback) {
+
+		Assert.notNull(callback, "Callback must not be null");
+
+		this.buffer = null;
+		this.callback = callback;
+		this.consumerTimeout = 0L;
+	}
+
+	/**
+	 * Determines whether this collector passes results to a callback rather than buffering them.
+	 *
+	 * @return a boolean indicating whether this collector passes results to a callback.
+	 */
+	public boolean isCallback() {
+		return this.callback != null;
+	}
+
+	/**
+	 * Determines whether the collection of results was cancelled, in which case any further results are discarded.
+	 *
+	 * @return a boolean indicating whether the collection of results was cancelled.
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * Returns the number of results currently buffered and not yet consumed.
+	 *
+	 * @return the number of buffered results; always {@literal 0} in callback mode.
+	 */
+	public int getBufferedResultCount() {
+		return this.buffer != null ? this.buffer.size() : 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addResult(@Nullable DistributedMember member, @Nullable Object result) {
+
+		if (result instanceof Throwable) {
+			fail((Throwable) result);
+		}
+		else if (isCallback()) {
+			if (this.failure == null) {
+				this.callback.accept((T) result);
+			}
+		}
+		else if (this.failure == null) {
+			put(result != null ? result : NULL);
+		}
+	}
+
+	@Override
+	public void endResults() {
+
+		if (!isCallback()) {
+			put(END);
+		}
+
+		this.resultsReceived.countDown();
+	}
+
+	@Override
+	public void clearResults() {
+
+		if (this.buffer != null) {
+			this.buffer.clear();
+		}
+	}
+
+	/**
+	 * Records the failure of the {@link org.apache.geode.cache.execute.Function} execution and ends the results.
+	 *
+	 * @param cause {@link Throwable} causing the {@link org.apache.geode.cache.execute.Function} execution to fail.
+	 */
+	void fail(Throwable cause) {
+
+		if (this.failure == null) {
+			this.failure = cause;
+		}
+
+		if (!isCallback()) {
+			put(new Failure(cause));
+		}
+
+		this.resultsReceived.countDown();
+	}
+
+	private void put(Object element) {
+
+		long deadline = System.nanoTime() + this.consumerTimeout;
+
+		try {
+			while (!this.cancelled) {
+
+				if (this.buffer.offer(element, POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+
+					if (this.cancelled) {
+						this.buffer.clear();
+					}
+
+					return;
+				}
+
+				if (System.nanoTime() - deadline >= 0L) {
+					cancel(new FunctionException(String.format(CONSUMER_TIMEOUT_ERROR_MESSAGE,
+						TimeUnit.NANOSECONDS.toMillis(this.consumerTimeout))));
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while buffering Function result", cause);
+		}
+	}
+
+	/**
+	 * Cancels the collection of results, discarding the buffered results and any results added afterwards.
+	 *
+	 * @param cause {@link Throwable} rethrown to the consumer if it takes another result;
+	 * may be {@literal null}.
+	 */
+	private void cancel(@Nullable Throwable cause) {
+
+		if (cause != null && this.failure == null) {
+			this.failure = cause;
+		}
+
+		this.cancelled = true;
+		this.buffer.clear();
+	}
+
+	private void close() {
+		cancel(null);
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results, blocking for each result until it has been added.
+	 *
+	 * @return a {@link Stream} of the results.
+	 * @throws FunctionException if the {@link org.apache.geode.cache.execute.Function} execution failed.
+	 */
+	@Override
+	public Stream<T> getResult() throws FunctionException {
+		return getResult(0L, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results, waiting at most the given {@code timeout}, measured from this call,
+	 * for all results to be consumed.
+	 *
+	 * @param timeout maximum amount of time to wait for all results; {@literal 0} waits indefinitely.
+	 * @param unit {@link TimeUnit} of the {@code timeout}.
+	 * @return a {@link Stream} of the results.
+	 * @throws FunctionException if the {@link org.apache.geode.cache.execute.Function} execution failed,
+	 * or the results are not consumed within the {@code timeout}.
+	 */
+	@Override
+	public Stream<T> getResult(long timeout, TimeUnit unit) throws FunctionException {
+
+		if (isCallback()) {
+			awaitResults(timeout, unit);
+			return Stream.empty();
+		}
+
+		Iterator<T> iterator = iterator(timeout, unit);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+			.onClose(this::close);
+	}
+
+	/**
+	 * Returns a {@link CloseableIterator} over the results, blocking for each result until it has been added.
+	 *
+	 * The {@link CloseableIterator} must be {@link CloseableIterator#close() closed} when it is not
+	 * consumed to the end.
+	 *
+	 * @return a {@link CloseableIterator} over the results.
+	 * @throws IllegalStateException if this collector is in callback mode.
+	 */
+	public CloseableIterator<T> iterator() {
+		return iterator(0L, TimeUnit.MILLISECONDS);
+	}
+
+	private CloseableIterator<T> iterator(long timeout, TimeUnit unit) {
+
+		Assert.state(!isCallback(), "Results are passed to a callback");
+
+		long timeoutInMilliseconds = unit.toMillis(timeout);
+
+		long deadline = timeoutInMilliseconds > 0 ? System.currentTimeMillis() + timeoutInMilliseconds : 0L;
+
+		return new CloseableIterator<T>() {
+
+			private Object next;
+
+			@Override
+			public boolean hasNext() {
+
+				if (this.next == null) {
+					this.next = take(deadline, timeoutInMilliseconds);
+				}
+
+				if (this.next == END) {
+					close();
+					return false;
+				}
+
+				if (this.next instanceof Failure) {
+					close();
+					throw ((Failure) this.next).toFunctionException();
+				}
+
+				return true;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				Object result = this.next;
+
+				this.next = null;
+
+				return result != NULL ? (T) result : null;
+			}
+
+			@Override
+			public void close() {
+				StreamingResultCollector.this.close();
+			}
+		};
+	}
+
+	private Object take(long deadline, long timeout) {
+
+		try {
+			while (true) {
+
+				long pollTimeout = POLL_INTERVAL_MILLISECONDS;
+
+				if (deadline > 0) {
+
+					long remaining = deadline - System.currentTimeMillis();
+
+					if (remaining <= 0L) {
+						close();
+						throw new FunctionException(String.format(FUNCTION_EXECUTION_TIMEOUT_ERROR_MESSAGE, timeout));
+					}
+
+					pollTimeout = Math.min(remaining, pollTimeout);
+				}
+
+				Object element = this.buffer.poll(pollTimeout, TimeUnit.MILLISECONDS);
+
+				if (element != null) {
+					return element;
+				}
+
+				if (this.cancelled) {
+					return new Failure(this.failure != null ? this.failure
+						: new FunctionException("Collection of Function results was cancelled"));
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for Function result", cause);
+		}
+	}
+
+	private void awaitResults(long timeout, TimeUnit unit) {
+
+		try {
+
+			if (timeout > 0) {
+				if (!this.resultsReceived.await(timeout, unit)) {
+					throw new FunctionException(String.format(FUNCTION_EXECUTION_TIMEOUT_ERROR_MESSAGE,
+						unit.toMillis(timeout)));
+				}
+			}
+			else {
+				this.resultsReceived.await();
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for Function results", cause);
+		}
+
+		if (this.failure != null) {
+			throw new Failure(this.failure).toFunctionException();
+		}
+	}
+
+	private static final class Failure {
+
+		private final Throwable cause;
+
+		private Failure(Throwable cause) {
+			this.cause = cause;
+		}
+
+		private FunctionException toFunctionException() {
+
+			return this.cause instanceof FunctionException
+				? (FunctionException) this.cause
+				: new FunctionException("Execution of Function failed", this.cause);
+		}
+	}
+}
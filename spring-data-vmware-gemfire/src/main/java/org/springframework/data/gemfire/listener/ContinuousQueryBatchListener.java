@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * Continuous Query (CQ) listener receiving CQ events in batches.
+ *
+ * When registered with a {@link ContinuousQueryDefinition} configured with a {@link ContinuousQueryDefinition#getBatchSize()
+ * batch size} or {@link ContinuousQueryDefinition#getBatchTimeout() batch timeout}, the
+ * {@link ContinuousQueryListenerContainer} accumulates the CQ events of the query and delivers them in a single call
+ * once either bound is reached.  Batches of the same query are delivered one at a time, in order.  Error events are
+ * never batched and are delivered on their own through {@link #onEvent(CqEvent)}.
+ *
+ * @see CqEvent
+ * @see ContinuousQueryListener
+ * @see ContinuousQueryDefinition
+ */
+@FunctionalInterface
+public interface ContinuousQueryBatchListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener when notified of a batch of CQ events.
+	 *
+	 * @param events {@link List} of events from the CQ, in the order received.
+	 * @see CqEvent
+	 */
+	void onEvents(List<CqEvent> events);
+
+	/**
+	 * Delivers the single CQ event as a batch of one.
+	 *
+	 * @param event the event from the CQ.
+	 * @see #onEvents(List)
+	 */
+	@Override
+	default void onEvent(CqEvent event) {
+		onEvents(Collections.singletonList(event));
+	}
+
+}
@@ -33,6 +33,12 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class ContinuousQueryDefinition implements InitializingBean {
 
+	public static final int DEFAULT_BATCH_SIZE = 1;
+
+	public static final long DEFAULT_BATCH_TIMEOUT = 0L;
+
+	public static final int DEFAULT_INITIAL_RESULTS_CHUNK_SIZE = 1000;
+
 	private final boolean durable;
 
 	private final ContinuousQueryListener listener;
@@ -42,6 +48,20 @@ public class ContinuousQueryDefinition implements InitializingBean {
 
 	private final Set<CQEvent> excludedEvents;
 
+	private boolean conflate = false;
+
+	private boolean executeWithInitialResults = false;
+
+	private int initialResultsChunkSize = DEFAULT_INITIAL_RESULTS_CHUNK_SIZE;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private int eventBufferCapacity = 0;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private long batchTimeout = DEFAULT_BATCH_TIMEOUT;
+
 	public static ContinuousQueryDefinition from(Object delegate, Method method) {
 
 		Assert.notNull(method, "Method must not be null");
@@ -65,7 +85,11 @@ public class ContinuousQueryDefinition implements InitializingBean {
 
 		Set<CQEvent> excludedEvents = Set.of(continuousQuery.excludedEvents());
 
-		return new ContinuousQueryDefinition(name, query, listener, durable, excludedEvents);
+		return new ContinuousQueryDefinition(name, query, listener, durable, excludedEvents)
+			.withBatchSize(continuousQuery.batchSize())
+			.withBatchTimeout(continuousQuery.batchTimeout())
+			.withConflation(continuousQuery.conflate())
+			.withEventBuffer(continuousQuery.eventBufferCapacity(), continuousQuery.overflowPolicy());
 	}
 
 	public ContinuousQueryDefinition(String query, ContinuousQueryListener listener) {
@@ -107,6 +131,37 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		afterPropertiesSet();
 	}
 
+	/**
+	 * Determines whether pending CQ events are conflated by key, keeping only the latest event for each key
+	 * while the {@link #getListener() listener} is busy.
+	 *
+	 * @return a boolean indicating whether CQ events are conflated.
+	 */
+	public boolean isConflating() {
+		return this.conflate;
+	}
+
+	/**
+	 * Determines whether the CQ is executed with {@link CqQuery#executeWithInitialResults() initial results},
+	 * which are delivered to the {@link ContinuousQueryInitialResultsListener} before any CQ events.
+	 *
+	 * @return a boolean indicating whether the CQ is executed with initial results.
+	 * @see #getInitialResultsChunkSize()
+	 */
+	public boolean isExecuteWithInitialResults() {
+		return this.executeWithInitialResults;
+	}
+
+	/**
+	 * Determines whether the CQ has its own bounded buffer of CQ events.
+	 *
+	 * @return a boolean indicating whether the CQ has its own event buffer.
+	 * @see #getEventBufferCapacity()
+	 */
+	public boolean hasEventBuffer() {
+		return getEventBufferCapacity() > 0;
+	}
+
 	/**
 	 * Determines whether the CQ is durable.
 	 *
@@ -116,6 +171,21 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		return this.durable;
 	}
 
+	/**
+	 * Determines whether CQ events are accumulated and delivered to the {@link #getListener() listener} in batches.
+	 *
+	 * CQ events are batched when either a {@link #getBatchSize() batch size} greater than {@literal 1}
+	 * or a {@link #getBatchTimeout() batch timeout} is configured.  With only a batch timeout, batches are
+	 * bounded by time alone.
+	 *
+	 * @return a boolean indicating whether CQ events are batched.
+	 * @see #getBatchSize()
+	 * @see #getBatchTimeout()
+	 */
+	public boolean isBatching() {
+		return getBatchSize() > DEFAULT_BATCH_SIZE || getBatchTimeout() > DEFAULT_BATCH_TIMEOUT;
+	}
+
 	/**
 	 * Determines whether the CQ was named.
 	 *
@@ -162,6 +232,160 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		return this.excludedEvents;
 	}
 
+	/**
+	 * Gets the maximum number of CQ events accumulated in a batch before the batch is delivered.
+	 *
+	 * The default of {@literal 1} does not bound the size of batches bounded by a {@link #getBatchTimeout() timeout}.
+	 *
+	 * @return the maximum number of CQ events in a batch.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Gets the maximum amount of time, in milliseconds, a batch of CQ events is held before it is delivered.
+	 *
+	 * @return the maximum amount of time, in milliseconds, a batch is held.
+	 */
+	public long getBatchTimeout() {
+		return this.batchTimeout;
+	}
+
+	/**
+	 * Gets the maximum number of CQ events buffered for this CQ.
+	 *
+	 * @return the capacity of the event buffer of this CQ, or {@literal 0} if the CQ has no buffer of its own.
+	 */
+	public int getEventBufferCapacity() {
+		return this.eventBufferCapacity;
+	}
+
+	/**
+	 * Gets the {@link OverflowPolicy} applied when the event buffer of this CQ is full.
+	 *
+	 * @return the {@link OverflowPolicy} of the event buffer of this CQ.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Gets the maximum number of initial results delivered to the listener in a single call.
+	 *
+	 * @return the maximum number of initial results in a chunk.
+	 */
+	public int getInitialResultsChunkSize() {
+		return this.initialResultsChunkSize;
+	}
+
+	/**
+	 * Builder method used to set the maximum number of CQ events accumulated in a batch.
+	 *
+	 * @param batchSize maximum number of CQ events in a batch; must be greater than {@literal 0}.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @throws IllegalArgumentException if the {@code batchSize} is less than {@literal 1}.
+	 */
+	public ContinuousQueryDefinition withBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to set the maximum amount of time, in milliseconds, a batch of CQ events is held
+	 * before it is delivered.
+	 *
+	 * @param batchTimeout maximum amount of time, in milliseconds, a batch is held; must not be negative.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @throws IllegalArgumentException if the {@code batchTimeout} is negative.
+	 */
+	public ContinuousQueryDefinition withBatchTimeout(long batchTimeout) {
+
+		Assert.isTrue(batchTimeout >= 0, () -> String.format("Batch timeout [%d] must not be negative", batchTimeout));
+
+		this.batchTimeout = batchTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to enable or disable per-key conflation of pending CQ events.
+	 *
+	 * When enabled, CQ events are delivered to the {@link #getListener() listener} one batch at a time and
+	 * any event received while the listener is busy replaces the pending event with the same key.
+	 *
+	 * @param conflate boolean indicating whether to conflate pending CQ events by key.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 */
+	public ContinuousQueryDefinition withConflation(boolean conflate) {
+
+		this.conflate = conflate;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to give this CQ its own bounded buffer of CQ events.
+	 *
+	 * @param capacity maximum number of CQ events buffered; {@literal 0} to use the container-wide buffer, if any.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the buffer is full.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @throws IllegalArgumentException if the {@code capacity} is negative
+	 * or the {@link OverflowPolicy} is {@literal null}.
+	 */
+	public ContinuousQueryDefinition withEventBuffer(int capacity, OverflowPolicy overflowPolicy) {
+
+		Assert.isTrue(capacity >= 0, () -> String.format("Event buffer capacity [%d] must not be negative", capacity));
+		Assert.notNull(overflowPolicy, "OverflowPolicy is required");
+
+		this.eventBufferCapacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to execute the CQ with {@link CqQuery#executeWithInitialResults() initial results}.
+	 *
+	 * The {@link #getListener() listener} must be a {@link ContinuousQueryInitialResultsListener}.
+	 *
+	 * @param executeWithInitialResults boolean indicating whether to execute the CQ with initial results.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @throws IllegalArgumentException if {@code executeWithInitialResults} is {@literal true} and the listener
+	 * is not a {@link ContinuousQueryInitialResultsListener}.
+	 */
+	public ContinuousQueryDefinition withInitialResults(boolean executeWithInitialResults) {
+
+		Assert.isTrue(!executeWithInitialResults || getListener() instanceof ContinuousQueryInitialResultsListener,
+			() -> String.format("Listener must be a [%s] to receive initial results",
+				ContinuousQueryInitialResultsListener.class.getName()));
+
+		this.executeWithInitialResults = executeWithInitialResults;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to set the maximum number of initial results delivered to the listener in a single call.
+	 *
+	 * @param initialResultsChunkSize maximum number of initial results in a chunk; must be greater than {@literal 0}.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @throws IllegalArgumentException if the {@code initialResultsChunkSize} is less than {@literal 1}.
+	 */
+	public ContinuousQueryDefinition withInitialResultsChunkSize(int initialResultsChunkSize) {
+
+		Assert.isTrue(initialResultsChunkSize > 0, () ->
+			String.format("Initial results chunk size [%d] must be greater than 0", initialResultsChunkSize));
+
+		this.initialResultsChunkSize = initialResultsChunkSize;
+
+		return this;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		Assert.hasText(query, "Query is required");
@@ -0,0 +1,665 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.listener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, first-in-first-out buffer of {@link CqEvent CQ events} sitting between the GemFire CQ thread
+ * and the {@link ContinuousQueryListener listeners} processing the events.
+ *
+ * When the buffer is full, the configured {@link OverflowPolicy} determines whether the CQ thread blocks,
+ * an event is dropped, or the event is spilled to a local, disk-backed queue.  Spilled events are serialized with
+ * GemFire's {@link DataSerializer} and are delivered, in order, once the in-memory buffer has been drained.
+ * An event that cannot be serialized, for example because its key or value is neither {@link java.io.Serializable}
+ * nor {@link org.apache.geode.DataSerializable}, is not dropped; instead, the buffer falls back to
+ * {@link OverflowPolicy#BLOCK} for that event and the CQ thread waits until the spilled events have been delivered
+ * and space is available in memory.
+ *
+ * The buffer keeps track of its {@link #getDepth() depth} as well as the number of
+ * {@link #getDroppedEventCount() dropped} and {@link #getSpilledEventCount() spilled} events.
+ *
+ * @see CqEvent
+ * @see OverflowPolicy
+ * @see ContinuousQueryListener
+ * @see ContinuousQueryListenerContainer
+ */
+public class ContinuousQueryEventBuffer {
+
+	protected static final String SPILL_FILE_PREFIX = "cq-events-";
+	protected static final String SPILL_FILE_SUFFIX = ".spill";
+
+	private boolean draining = false;
+
+	private final int capacity;
+
+	private final AtomicLong droppedEventCount = new AtomicLong();
+	private final AtomicLong spilledEventCount = new AtomicLong();
+
+	private final Condition drained;
+	private final Condition notFull;
+
+	private final Deque<BufferedEvent> events = new ArrayDeque<>();
+
+	private final File spillDirectory;
+
+	private final Lock lock = new ReentrantLock();
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final OverflowPolicy overflowPolicy;
+
+	private SpillQueue spillQueue;
+
+	/**
+	 * Constructs a new {@link ContinuousQueryEventBuffer} with the given {@code capacity} and {@link OverflowPolicy},
+	 * spilling to the {@literal java.io.tmpdir} directory.
+	 *
+	 * @param capacity maximum number of CQ events held in memory; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the buffer is full; must not be {@literal null}.
+	 * @see #ContinuousQueryEventBuffer(int, OverflowPolicy, File)
+	 */
+	public ContinuousQueryEventBuffer(int capacity, @NonNull OverflowPolicy overflowPolicy) {
+		this(capacity, overflowPolicy, null);
+	}
+
+	/**
+	 * Constructs a new {@link ContinuousQueryEventBuffer} with the given {@code capacity}, {@link OverflowPolicy}
+	 * and {@link File spill directory}.
+	 *
+	 * @param capacity maximum number of CQ events held in memory; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the buffer is full; must not be {@literal null}.
+	 * @param spillDirectory {@link File directory} in which spilled events are stored when the
+	 * {@link OverflowPolicy} is {@link OverflowPolicy#SPILL}; defaults to {@literal java.io.tmpdir}.
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@literal 1}
+	 * or the {@link OverflowPolicy} is {@literal null}.
+	 */
+	public ContinuousQueryEventBuffer(int capacity, @NonNull OverflowPolicy overflowPolicy,
+			@Nullable File spillDirectory) {
+
+		Assert.isTrue(capacity > 0, () -> String.format("Capacity [%d] must be greater than 0", capacity));
+		Assert.notNull(overflowPolicy, "OverflowPolicy is required");
+
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.spillDirectory = spillDirectory;
+		this.drained = this.lock.newCondition();
+		this.notFull = this.lock.newCondition();
+	}
+
+	/**
+	 * Returns the maximum number of CQ events held in memory by this buffer.
+	 *
+	 * @return the maximum number of CQ events held in memory.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the current number of CQ events held by this buffer, in memory and on disk.
+	 *
+	 * @return the current number of buffered CQ events.
+	 */
+	public int getDepth() {
+
+		this.lock.lock();
+
+		try {
+			return this.events.size() + (this.spillQueue != null ? this.spillQueue.size() : 0);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of CQ events dropped by this buffer, either by the {@link OverflowPolicy} or because
+	 * the events could not be spilled to, or read back from, disk.
+	 *
+	 * @return the number of dropped CQ events.
+	 */
+	public long getDroppedEventCount() {
+		return this.droppedEventCount.get();
+	}
+
+	/**
+	 * Returns the configured {@link OverflowPolicy} applied when this buffer is full.
+	 *
+	 * @return the configured {@link OverflowPolicy}.
+	 * @see OverflowPolicy
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Returns the {@link File directory} in which spilled events are stored.
+	 *
+	 * @return the {@link File spill directory}, or {@literal null} to use {@literal java.io.tmpdir}.
+	 */
+	public @Nullable File getSpillDirectory() {
+		return this.spillDirectory;
+	}
+
+	/**
+	 * Returns the total number of CQ events spilled to disk by this buffer.
+	 *
+	 * @return the number of spilled CQ events.
+	 */
+	public long getSpilledEventCount() {
+		return this.spilledEventCount.get();
+	}
+
+	private boolean isSpilling() {
+		return this.spillQueue != null && this.spillQueue.size() > 0;
+	}
+
+	/**
+	 * Adds the {@link CqEvent} destined for the given {@link ContinuousQueryListener} to this buffer,
+	 * applying the {@link OverflowPolicy} if the buffer is full.
+	 *
+	 * @param listener {@link ContinuousQueryListener} to notify of the {@link CqEvent}.
+	 * @param event {@link CqEvent} to buffer.
+	 */
+	public void offer(ContinuousQueryListener listener, CqEvent event) {
+
+		BufferedEvent bufferedEvent = new BufferedEvent(listener, event);
+
+		this.lock.lock();
+
+		try {
+			// Once events have been spilled, new events must follow them to preserve ordering
+			if (isSpilling()) {
+				spill(bufferedEvent);
+			}
+			else if (this.events.size() < getCapacity()) {
+				this.events.add(bufferedEvent);
+			}
+			else {
+				switch (getOverflowPolicy()) {
+					case BLOCK:
+						awaitCapacityAndAdd(bufferedEvent);
+						break;
+					case DROP_OLDEST:
+						this.events.poll();
+						this.events.add(bufferedEvent);
+						this.droppedEventCount.incrementAndGet();
+						break;
+					case DROP_NEWEST:
+						this.droppedEventCount.incrementAndGet();
+						break;
+					case SPILL:
+						spill(bufferedEvent);
+						break;
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Events that could not be spilled wait for the spilled events to be delivered first to preserve ordering.
+	 */
+	private void awaitCapacityAndAdd(BufferedEvent bufferedEvent) {
+
+		try {
+
+			while (this.events.size() >= getCapacity() || isSpilling()) {
+				this.notFull.await();
+			}
+
+			this.events.add(bufferedEvent);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+			this.droppedEventCount.incrementAndGet();
+		}
+	}
+
+	private void spill(BufferedEvent bufferedEvent) {
+
+		byte[] record;
+
+		try {
+
+			if (this.spillQueue == null) {
+				this.spillQueue = new SpillQueue(getSpillDirectory());
+			}
+
+			record = this.spillQueue.serialize(bufferedEvent);
+		}
+		catch (IOException | RuntimeException cause) {
+
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("Cannot spill CQ event with key [%s]; blocking until space is available",
+					bufferedEvent.getEvent().getKey()), cause);
+			}
+
+			if (!isSpilling()) {
+				closeSpillQueue();
+			}
+
+			awaitCapacityAndAdd(bufferedEvent);
+
+			return;
+		}
+
+		try {
+			this.spillQueue.add(record);
+			this.spilledEventCount.incrementAndGet();
+		}
+		catch (IOException cause) {
+
+			this.droppedEventCount.incrementAndGet();
+
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("Failed to spill CQ event with key [%s]; event was dropped",
+					bufferedEvent.getEvent().getKey()), cause);
+			}
+		}
+	}
+
+	/**
+	 * Removes and returns the next {@link BufferedEvent}, reading from disk once the in-memory buffer is empty.
+	 *
+	 * Returns {@literal null} when this buffer is empty, at which point this buffer is no longer draining.
+	 *
+	 * @return the next {@link BufferedEvent}, or {@literal null} if this buffer is empty.
+	 * @see #startDraining()
+	 */
+	public @Nullable BufferedEvent poll() {
+
+		this.lock.lock();
+
+		try {
+
+			BufferedEvent bufferedEvent = this.events.poll();
+
+			if (bufferedEvent == null && isSpilling()) {
+				bufferedEvent = unspill();
+			}
+
+			if (bufferedEvent != null) {
+				this.notFull.signal();
+			}
+			else {
+				this.draining = false;
+				this.drained.signalAll();
+			}
+
+			return bufferedEvent;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private @Nullable BufferedEvent unspill() {
+
+		try {
+
+			BufferedEvent bufferedEvent = this.spillQueue.poll();
+
+			if (this.spillQueue.size() == 0) {
+				closeSpillQueue();
+			}
+
+			return bufferedEvent;
+		}
+		catch (IOException | ClassNotFoundException cause) {
+
+			this.droppedEventCount.addAndGet(this.spillQueue.size());
+
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("Failed to read spilled CQ events; [%d] events were dropped",
+					this.spillQueue.size()), cause);
+			}
+
+			closeSpillQueue();
+
+			return this.events.poll();
+		}
+	}
+
+	/**
+	 * Marks this buffer as draining, unless it is already draining or empty.
+	 *
+	 * @return a boolean indicating whether the caller is responsible for draining this buffer
+	 * by {@link #poll() polling} until it returns {@literal null}.
+	 * @see #stopDraining()
+	 */
+	public boolean startDraining() {
+
+		this.lock.lock();
+
+		try {
+
+			boolean startDraining = !this.draining && (!this.events.isEmpty() || isSpilling());
+
+			this.draining |= startDraining;
+
+			return startDraining;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Marks this buffer as no longer draining, for example when the drain task could not be scheduled.
+	 *
+	 * @see #startDraining()
+	 */
+	public void stopDraining() {
+
+		this.lock.lock();
+
+		try {
+			this.draining = false;
+			this.drained.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits for the {@link Thread} draining this buffer, if any, to deliver all buffered events.
+	 *
+	 * @param timeout maximum amount of time to wait.
+	 * @param unit {@link TimeUnit} of the {@code timeout}.
+	 * @return a boolean indicating whether this buffer is no longer draining.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 * @see #startDraining()
+	 */
+	public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+
+		long nanos = unit.toNanos(timeout);
+
+		this.lock.lock();
+
+		try {
+
+			while (this.draining) {
+
+				if (nanos <= 0L) {
+					return false;
+				}
+
+				nanos = this.drained.awaitNanos(nanos);
+			}
+
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Discards all buffered events and deletes the spill file, if any.
+	 */
+	public void clear() {
+
+		this.lock.lock();
+
+		try {
+			this.events.clear();
+			closeSpillQueue();
+			this.notFull.signalAll();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void closeSpillQueue() {
+
+		if (this.spillQueue != null) {
+			this.spillQueue.close();
+			this.spillQueue = null;
+		}
+	}
+
+	/**
+	 * A {@link CqEvent} paired with the {@link ContinuousQueryListener} it is destined for.
+	 */
+	public static class BufferedEvent {
+
+		private final ContinuousQueryListener listener;
+
+		private final CqEvent event;
+
+		protected BufferedEvent(ContinuousQueryListener listener, CqEvent event) {
+			this.listener = listener;
+			this.event = event;
+		}
+
+		public ContinuousQueryListener getListener() {
+			return this.listener;
+		}
+
+		public CqEvent getEvent() {
+			return this.event;
+		}
+	}
+
+	/**
+	 * Append-only file of length-prefixed, {@link DataSerializer serialized} {@link CqEvent} records read back
+	 * in order.  {@link ContinuousQueryListener listeners} and {@link CqQuery queries} are not serializable
+	 * and are kept in memory, referenced by index from the records.
+	 */
+	private static class SpillQueue {
+
+		private final DataInputStream in;
+
+		private final DataOutputStream out;
+
+		private final File file;
+
+		private int size = 0;
+
+		private final List<Object> references = new ArrayList<>();
+
+		private final Map<Object, Integer> referenceIndexes = new IdentityHashMap<>();
+
+		SpillQueue(@Nullable File directory) throws IOException {
+
+			this.file = File.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX, directory);
+			this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+			this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+		}
+
+		int size() {
+			return this.size;
+		}
+
+		/**
+		 * Serializes the whole record before it is {@link #add(byte[]) added} so that a failure to serialize
+		 * the event never leaves a partial record in the file.
+		 */
+		byte[] serialize(BufferedEvent bufferedEvent) throws IOException {
+
+			CqEvent event = bufferedEvent.getEvent();
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream record = new DataOutputStream(bytes);
+
+			record.writeInt(referenceIndex(bufferedEvent.getListener()));
+			record.writeInt(referenceIndex(event.getCq()));
+			writeOperation(event.getBaseOperation(), record);
+			writeOperation(event.getQueryOperation(), record);
+			DataSerializer.writeObject(event.getKey(), record);
+			DataSerializer.writeObject(event.getNewValue(), record);
+			DataSerializer.writeByteArray(event.getDeltaValue(), record);
+			DataSerializer.writeObject(event.getThrowable(), record);
+			record.flush();
+
+			return bytes.toByteArray();
+		}
+
+		void add(byte[] record) throws IOException {
+
+			this.out.writeInt(record.length);
+			this.out.write(record);
+			this.out.flush();
+			this.size++;
+		}
+
+		BufferedEvent poll() throws IOException, ClassNotFoundException {
+
+			byte[] bytes = new byte[this.in.readInt()];
+
+			this.in.readFully(bytes);
+			this.size--;
+
+			DataInputStream record = new DataInputStream(new ByteArrayInputStream(bytes));
+
+			ContinuousQueryListener listener = (ContinuousQueryListener) this.references.get(record.readInt());
+
+			CqQuery query = (CqQuery) this.references.get(record.readInt());
+
+			Operation baseOperation = readOperation(record);
+			Operation queryOperation = readOperation(record);
+			Object key = DataSerializer.readObject(record);
+			Object newValue = DataSerializer.readObject(record);
+			byte[] deltaValue = DataSerializer.readByteArray(record);
+			Throwable throwable = DataSerializer.readObject(record);
+
+			return new BufferedEvent(listener,
+				new SpilledCqEvent(query, baseOperation, queryOperation, key, newValue, deltaValue, throwable));
+		}
+
+		void close() {
+
+			try {
+				this.out.close();
+				this.in.close();
+			}
+			catch (IOException ignore) { }
+			finally {
+				this.file.delete();
+			}
+		}
+
+		private int referenceIndex(Object reference) {
+
+			return this.referenceIndexes.computeIfAbsent(reference, it -> {
+				this.references.add(it);
+				return this.references.size() - 1;
+			});
+		}
+
+		private static void writeOperation(Operation operation, DataOutputStream out) throws IOException {
+
+			out.writeBoolean(operation != null);
+
+			if (operation != null) {
+				out.writeByte(operation.ordinal);
+			}
+		}
+
+		private static Operation readOperation(DataInputStream in) throws IOException {
+			return in.readBoolean() ? Operation.fromOrdinal(in.readByte()) : null;
+		}
+	}
+
+	private static class SpilledCqEvent implements CqEvent {
+
+		private final byte[] deltaValue;
+
+		private final CqQuery query;
+
+		private final Object key;
+		private final Object newValue;
+
+		private final Operation baseOperation;
+		private final Operation queryOperation;
+
+		private final Throwable throwable;
+
+		SpilledCqEvent(CqQuery query, Operation baseOperation, Operation queryOperation, Object key,
+				Object newValue, byte[] deltaValue, Throwable throwable) {
+
+			this.query = query;
+			this.baseOperation = baseOperation;
+			this.queryOperation = queryOperation;
+			this.key = key;
+			this.newValue = newValue;
+			this.deltaValue = deltaValue;
+			this.throwable = throwable;
+		}
+
+		@Override
+		public Operation getBaseOperation() {
+			return this.baseOperation;
+		}
+
+		@Override
+		public CqQuery getCq() {
+			return this.query;
+		}
+
+		@Override
+		public byte[] getDeltaValue() {
+			return this.deltaValue;
+		}
+
+		@Override
+		public Object getKey() {
+			return this.key;
+		}
+
+		@Override
+		public Object getNewValue() {
+			return this.newValue;
+		}
+
+		@Override
+		public Operation getQueryOperation() {
+			return this.queryOperation;
+		}
+
+		@Override
+		public Throwable getThrowable() {
+			return this.throwable;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.List;
+
+/**
+ * Continuous Query (CQ) listener that, in addition to CQ events, receives the initial result set of the CQ.
+ *
+ * When registered with a {@link ContinuousQueryDefinition} configured to
+ * {@link ContinuousQueryDefinition#isExecuteWithInitialResults() execute with initial results}, the
+ * {@link ContinuousQueryListenerContainer} delivers the initial results in chunks, in order, and holds back
+ * CQ events received in the meantime until all chunks have been delivered.
+ *
+ * @see ContinuousQueryListener
+ * @see ContinuousQueryDefinition
+ * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+ */
+public interface ContinuousQueryInitialResultsListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener when notified of a chunk of the initial results of the CQ.
+	 *
+	 * Each element is a {@link org.apache.geode.cache.query.Struct} containing the {@literal key}
+	 * and {@literal value} of a matching entry.
+	 *
+	 * @param results chunk of the initial results of the CQ.
+	 */
+	void onInitialResults(List<?> results);
+
+}
@@ -7,16 +7,33 @@ package org.springframework.data.gemfire.listener;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
 
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.RegionService;
@@ -26,6 +43,7 @@ import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
 import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
 
@@ -53,6 +71,7 @@ import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
 import org.springframework.util.StringUtils;
@@ -96,20 +115,47 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	// Default PoolResolver uses Apache Geode's PoolManager
 	protected static final PoolResolver DEFAULT_POOL_RESOLVER = new PoolManagerPoolResolver();
 
+	// Maximum time closing the CQs waits for the TaskExecutor to finish draining an event buffer
+	private static final long EVENT_BUFFER_DRAIN_TIMEOUT_SECONDS = 30L;
+
+	// Maximum number of CQ events held back while the initial results of a CQ are delivered
+	protected static final int DEFAULT_HELD_EVENT_CAPACITY = 10000;
+
 	private boolean autoStartup = true;
 
 	private volatile boolean initialized = false;
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private int eventBufferCapacity = 0;
+
 	private int phase = Integer.MAX_VALUE;
 
+	private int startupParallelism = 1;
+
 	private BeanFactory beanFactory;
 
+	private ContinuousQueryEventBuffer eventBuffer;
+
 	private ErrorHandler errorHandler;
 
+	private File spillDirectory;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
 	private Executor taskExecutor;
 
+	private ScheduledExecutorService batchScheduler;
+
+	private final Set<BatchingEventDispatcherAdapter> batchingEventDispatchers = ConcurrentHashMap.newKeySet();
+
+	private final Set<ConflatingEventDispatcherAdapter> conflatingEventDispatchers = ConcurrentHashMap.newKeySet();
+
+	private final Set<ContinuousQueryEventBuffer> eventBuffers = ConcurrentHashMap.newKeySet();
+
+	private final ConcurrentMap<CqQuery, InitialResultsEventDispatcherAdapter> initialResultsEventDispatchers =
+		new ConcurrentHashMap<>();
+
 	private List<ContinuousQueryListenerContainerConfigurer> cqListenerContainerConfigurers = Collections.emptyList();
 
 	private ContinuousQueryListenerContainerConfigurer compositeCqListenerContainerConfigurer =
@@ -316,13 +362,45 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 * @see SimpleAsyncTaskExecutor
 	 */
 	protected Executor createDefaultTaskExecutor() {
+		return new SimpleAsyncTaskExecutor(resolveThreadNamePrefix());
+	}
+
+	/**
+	 * Resolves the {@link Thread} name prefix used by {@link Thread Threads} created by this container.
+	 *
+	 * @return the {@link String Thread name prefix} based on the {@link #getBeanName() bean name}, or
+	 * {@link #DEFAULT_THREAD_NAME_PREFIX} if no bean name was set.
+	 */
+	private String resolveThreadNamePrefix() {
 
-		String threadNamePrefix = Optional.ofNullable(getBeanName())
+		return Optional.ofNullable(getBeanName())
 			.filter(StringUtils::hasText)
 			.map(it -> String.format("%s-", it))
 			.orElse(DEFAULT_THREAD_NAME_PREFIX);
+	}
+
+	/**
+	 * Returns the {@link ScheduledExecutorService} used to deliver batches of CQ events when the
+	 * {@link ContinuousQueryDefinition#getBatchTimeout() batch timeout} expires.
+	 *
+	 * The scheduler is lazily created the first time a batching CQ requires it.
+	 *
+	 * @return the {@link ScheduledExecutorService} used to time batches of CQ events.
+	 * @see ScheduledExecutorService
+	 */
+	protected synchronized ScheduledExecutorService getBatchScheduler() {
+
+		if (this.batchScheduler == null) {
 
-		return new SimpleAsyncTaskExecutor(threadNamePrefix);
+			CustomizableThreadFactory threadFactory =
+				new CustomizableThreadFactory(String.format("%sbatch-", resolveThreadNamePrefix()));
+
+			threadFactory.setDaemon(true);
+
+			this.batchScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+
+		return this.batchScheduler;
 	}
 
 	/**
@@ -505,6 +583,72 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return this.compositeCqListenerContainerConfigurer;
 	}
 
+	/**
+	 * Sets the capacity of the bounded buffer of CQ events shared by all CQs of this container not configured with
+	 * an {@link ContinuousQueryDefinition#hasEventBuffer() event buffer} of their own.
+	 *
+	 * By default, the capacity is {@literal 0} and CQ events are handed directly to the {@link #getTaskExecutor()}.
+	 * When set, CQ events are buffered and delivered, in order, by a single task submitted to the
+	 * {@link #getTaskExecutor()} while the buffer is not empty.
+	 *
+	 * @param eventBufferCapacity maximum number of CQ events buffered.
+	 * @see #setOverflowPolicy(OverflowPolicy)
+	 * @see ContinuousQueryEventBuffer
+	 */
+	public void setEventBufferCapacity(int eventBufferCapacity) {
+		this.eventBufferCapacity = eventBufferCapacity;
+	}
+
+	/**
+	 * Returns the capacity of the bounded buffer of CQ events shared by the CQs of this container.
+	 *
+	 * @return the capacity of the shared buffer of CQ events; {@literal 0} if CQ events are not buffered.
+	 */
+	public int getEventBufferCapacity() {
+		return this.eventBufferCapacity;
+	}
+
+	/**
+	 * Returns all {@link ContinuousQueryEventBuffer ContinuousQueryEventBuffers} in use by this container,
+	 * including the shared buffer and the buffers of individual CQs.
+	 *
+	 * @return an unmodifiable {@link Set} of {@link ContinuousQueryEventBuffer ContinuousQueryEventBuffers}.
+	 * @see ContinuousQueryEventBuffer
+	 */
+	public Set<ContinuousQueryEventBuffer> getEventBuffers() {
+		return Collections.unmodifiableSet(this.eventBuffers);
+	}
+
+	/**
+	 * Returns the number of CQ events currently buffered across all {@link #getEventBuffers() event buffers}.
+	 *
+	 * @return the number of buffered CQ events.
+	 * @see ContinuousQueryEventBuffer#getDepth()
+	 */
+	public long getBufferedEventCount() {
+		return this.eventBuffers.stream().mapToLong(ContinuousQueryEventBuffer::getDepth).sum();
+	}
+
+	/**
+	 * Returns the number of CQ events dropped across all {@link #getEventBuffers() event buffers}.
+	 *
+	 * @return the number of dropped CQ events.
+	 * @see ContinuousQueryEventBuffer#getDroppedEventCount()
+	 */
+	public long getDroppedEventCount() {
+		return this.eventBuffers.stream().mapToLong(ContinuousQueryEventBuffer::getDroppedEventCount).sum();
+	}
+
+	/**
+	 * Returns the number of CQ events spilled to disk across all {@link #getEventBuffers() event buffers}.
+	 *
+	 * @return the number of spilled CQ events.
+	 * @see ContinuousQueryEventBuffer#getSpilledEventCount()
+	 */
+	public long getSpilledEventCount() {
+		return this.eventBuffers.stream().mapToLong(ContinuousQueryEventBuffer::getSpilledEventCount).sum();
+	}
+
 	/**
 	 * Set an {@link ErrorHandler} to be invoked in case of any uncaught {@link Exception Exceptions} thrown
 	 * while processing a CQ event.
@@ -530,6 +674,29 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return Optional.ofNullable(this.errorHandler);
 	}
 
+	/**
+	 * Sets the {@link OverflowPolicy} applied when the buffer of CQ events shared by the CQs of this container is full.
+	 *
+	 * Defaults to {@link OverflowPolicy#BLOCK}.
+	 *
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the shared buffer is full.
+	 * @see #setEventBufferCapacity(int)
+	 * @see OverflowPolicy
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Returns the {@link OverflowPolicy} applied when the buffer of CQ events shared by the CQs of this container
+	 * is full.
+	 *
+	 * @return the {@link OverflowPolicy} of the shared buffer; never {@literal null}.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy != null ? this.overflowPolicy : OverflowPolicy.BLOCK;
+	}
+
 	/**
 	 * Sets the phase in which this CQ listener container will start in the Spring container.
 	 *
@@ -621,6 +788,54 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return this.queryService;
 	}
 
+	/**
+	 * Sets the {@link File directory} in which CQ events are spilled by event buffers configured with
+	 * the {@link OverflowPolicy#SPILL} policy.
+	 *
+	 * Defaults to the {@literal java.io.tmpdir} directory.
+	 *
+	 * @param spillDirectory {@link File directory} in which CQ events are spilled.
+	 */
+	public void setSpillDirectory(File spillDirectory) {
+		this.spillDirectory = spillDirectory;
+	}
+
+	/**
+	 * Returns the {@link File directory} in which CQ events are spilled.
+	 *
+	 * @return the {@link File directory} in which CQ events are spilled; {@literal null} for {@literal java.io.tmpdir}.
+	 */
+	public File getSpillDirectory() {
+		return this.spillDirectory;
+	}
+
+	/**
+	 * Sets the maximum number of {@link CqQuery CQs} executed (registered with the servers) concurrently
+	 * when this container is started.
+	 *
+	 * Defaults to {@literal 1}, in which case CQs are executed sequentially, in the order they were added.
+	 *
+	 * @param startupParallelism maximum number of CQs executed concurrently on start;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code startupParallelism} is less than {@literal 1}.
+	 */
+	public void setStartupParallelism(int startupParallelism) {
+
+		Assert.isTrue(startupParallelism > 0,
+			() -> String.format("Startup parallelism [%d] must be greater than 0", startupParallelism));
+
+		this.startupParallelism = startupParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of {@link CqQuery CQs} executed concurrently when this container is started.
+	 *
+	 * @return the maximum number of CQs executed concurrently on start.
+	 */
+	public int getStartupParallelism() {
+		return this.startupParallelism;
+	}
+
 	/**
 	 * Sets the Task Executor used for running the event listeners when messages are received.
 	 * If no task executor is set, an instance of {@link SimpleAsyncTaskExecutor} will be used by default.
@@ -672,12 +887,31 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		try {
 
-			CqAttributes attributes = definition.toCqAttributes(this::newCqListener, definition.getExcludedEvents());
+			InitialResultsEventDispatcherAdapter[] initialResultsEventDispatcher = { null };
+
+			CqAttributes attributes = definition.toCqAttributes(listener -> {
+
+				CqListener eventDispatcher = newCqListener(definition, listener);
+
+				if (definition.isExecuteWithInitialResults()) {
+					initialResultsEventDispatcher[0] = new InitialResultsEventDispatcherAdapter(
+						(ContinuousQueryInitialResultsListener) listener, eventDispatcher,
+							definition.getInitialResultsChunkSize());
+					eventDispatcher = initialResultsEventDispatcher[0];
+				}
+
+				return eventDispatcher;
+
+			}, definition.getExcludedEvents());
 
 			CqQuery query = definition.isNamed()
 				? newNamedContinuousQuery(definition, attributes)
 				: newUnnamedContinuousQuery(definition, attributes);
 
+			if (initialResultsEventDispatcher[0] != null) {
+				this.initialResultsEventDispatchers.put(query, initialResultsEventDispatcher[0]);
+			}
+
 			return manage(query);
 		}
 		catch (QueryException cause) {
@@ -689,6 +923,109 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return new EventDispatcherAdapter(listener);
 	}
 
+	/**
+	 * Constructs a new {@link CqListener} for the given {@link ContinuousQueryDefinition}, accumulating CQ events
+	 * into batches when the {@link ContinuousQueryDefinition#isBatching() definition is batching} and the
+	 * {@link ContinuousQueryListener} is a {@link ContinuousQueryBatchListener}.  A definition configured with
+	 * only a {@link ContinuousQueryDefinition#getBatchTimeout() batch timeout} accumulates batches bounded by time
+	 * alone.  Batches of the same CQ are delivered one at a time, in order.
+	 *
+	 * When the {@link ContinuousQueryDefinition#isConflating() definition is conflating}, pending CQ events are
+	 * conflated by key and delivered as soon as the listener is free, in batches of up to
+	 * {@link ContinuousQueryDefinition#getBatchSize()} events for a {@link ContinuousQueryBatchListener};
+	 * the batch timeout does not apply.
+	 *
+	 * When the CQ events are {@link #resolveEventBuffer(ContinuousQueryDefinition) buffered}, the
+	 * {@link ContinuousQueryEventBuffer} and its {@link OverflowPolicy} sit in front of batching and conflation;
+	 * CQ events are accumulated into batches, or conflated, as they are drained from the buffer.
+	 *
+	 * @param definition {@link ContinuousQueryDefinition} of the CQ.
+	 * @param listener {@link ContinuousQueryListener} processing the CQ events.
+	 * @return a new {@link CqListener} dispatching CQ events to the {@link ContinuousQueryListener}.
+	 * @see #newCqListener(ContinuousQueryListener)
+	 */
+	protected CqListener newCqListener(ContinuousQueryDefinition definition, ContinuousQueryListener listener) {
+
+		CqListener eventDispatcher = newConflatingOrBatchingCqListener(definition, listener);
+
+		if (eventDispatcher != null) {
+			return resolveEventBuffer(definition)
+				.<CqListener>map(eventBuffer ->
+					new BufferingEventDispatcherAdapter(listener, eventBuffer, eventDispatcher))
+				.orElse(eventDispatcher);
+		}
+
+		return resolveEventBuffer(definition)
+			.<CqListener>map(eventBuffer -> new BufferingEventDispatcherAdapter(listener, eventBuffer))
+			.orElseGet(() -> newCqListener(listener));
+	}
+
+	private @Nullable CqListener newConflatingOrBatchingCqListener(ContinuousQueryDefinition definition,
+			ContinuousQueryListener listener) {
+
+		if (definition.isConflating()) {
+
+			int batchSize = listener instanceof ContinuousQueryBatchListener ? definition.getBatchSize() : 1;
+
+			ConflatingEventDispatcherAdapter eventDispatcher = new ConflatingEventDispatcherAdapter(listener, batchSize);
+
+			this.conflatingEventDispatchers.add(eventDispatcher);
+
+			return eventDispatcher;
+		}
+
+		if (definition.isBatching() && listener instanceof ContinuousQueryBatchListener) {
+
+			int batchSize = definition.getBatchSize() > ContinuousQueryDefinition.DEFAULT_BATCH_SIZE
+				? definition.getBatchSize()
+				: Integer.MAX_VALUE;
+
+			BatchingEventDispatcherAdapter eventDispatcher =
+				new BatchingEventDispatcherAdapter((ContinuousQueryBatchListener) listener,
+					batchSize, definition.getBatchTimeout());
+
+			this.batchingEventDispatchers.add(eventDispatcher);
+
+			return eventDispatcher;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Resolves the {@link ContinuousQueryEventBuffer} for the given {@link ContinuousQueryDefinition}, which is
+	 * either the CQ's own buffer or the buffer shared by all CQs of this container.
+	 *
+	 * @param definition {@link ContinuousQueryDefinition} of the CQ.
+	 * @return an {@link Optional} {@link ContinuousQueryEventBuffer}; empty if CQ events are not buffered.
+	 * @see ContinuousQueryEventBuffer
+	 */
+	protected Optional<ContinuousQueryEventBuffer> resolveEventBuffer(ContinuousQueryDefinition definition) {
+
+		if (definition.hasEventBuffer()) {
+
+			ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(definition.getEventBufferCapacity(),
+				definition.getOverflowPolicy(), getSpillDirectory());
+
+			this.eventBuffers.add(eventBuffer);
+
+			return Optional.of(eventBuffer);
+		}
+
+		return Optional.ofNullable(getSharedEventBuffer());
+	}
+
+	private synchronized @Nullable ContinuousQueryEventBuffer getSharedEventBuffer() {
+
+		if (this.eventBuffer == null && getEventBufferCapacity() > 0) {
+			this.eventBuffer = new ContinuousQueryEventBuffer(getEventBufferCapacity(), getOverflowPolicy(),
+				getSpillDirectory());
+			this.eventBuffers.add(this.eventBuffer);
+		}
+
+		return this.eventBuffer;
+	}
+
 	private CqQuery newNamedContinuousQuery(ContinuousQueryDefinition definition, CqAttributes attributes)
 			throws QueryException {
 
@@ -723,13 +1060,88 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	}
 
 	void doStart() {
-		getContinuousQueries().forEach(this::execute);
+
+		int parallelism = Math.min(getStartupParallelism(), getContinuousQueries().size());
+
+		if (parallelism > 1) {
+			executeInParallel(parallelism);
+		}
+		else {
+			getContinuousQueries().forEach(this::execute);
+		}
+	}
+
+	/**
+	 * Executes all {@link CqQuery CQs} using a temporary pool of {@code parallelism} {@link Thread Threads},
+	 * waiting for every CQ to be executed before returning.
+	 *
+	 * The first failure is rethrown with any subsequent failures added as suppressed exceptions.
+	 *
+	 * @param parallelism maximum number of CQs executed concurrently.
+	 * @see #setStartupParallelism(int)
+	 */
+	private void executeInParallel(int parallelism) {
+
+		CustomizableThreadFactory threadFactory =
+			new CustomizableThreadFactory(String.format("%sstartup-", resolveThreadNamePrefix()));
+
+		threadFactory.setDaemon(true);
+
+		ExecutorService startupExecutor = Executors.newFixedThreadPool(parallelism, threadFactory);
+
+		try {
+
+			List<Future<?>> executions = getContinuousQueries().stream()
+				.map(query -> startupExecutor.submit(() -> execute(query)))
+				.collect(Collectors.toList());
+
+			RuntimeException failure = null;
+
+			for (Future<?> execution : executions) {
+				try {
+					execution.get();
+				}
+				catch (ExecutionException cause) {
+
+					RuntimeException executionFailure = cause.getCause() instanceof RuntimeException
+						? (RuntimeException) cause.getCause()
+						: new IllegalStateException("Failed to execute query", cause.getCause());
+
+					if (failure == null) {
+						failure = executionFailure;
+					}
+					else {
+						failure.addSuppressed(executionFailure);
+					}
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while executing queries", cause);
+				}
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+		finally {
+			startupExecutor.shutdownNow();
+		}
 	}
 
 	private void execute(CqQuery query) {
 
 		try {
-			query.execute();
+
+			InitialResultsEventDispatcherAdapter initialResultsEventDispatcher =
+				this.initialResultsEventDispatchers.get(query);
+
+			if (initialResultsEventDispatcher != null && !initialResultsEventDispatcher.isExecuted()) {
+				executeWithInitialResults(query, initialResultsEventDispatcher);
+			}
+			else {
+				query.execute();
+			}
 		}
 		catch (QueryException cause) {
 			throw new GemfireQueryException(String.format("Could not execute query [%1$s]; state is [%2$s]",
@@ -737,6 +1149,66 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Executes the {@link CqQuery} with initial results, holding back CQ events until the initial results have been
+	 * delivered, in chunks, to the {@link ContinuousQueryInitialResultsListener} by the {@link #getTaskExecutor()}.
+	 *
+	 * Initial results are only delivered on the first successful execution of the CQ; a CQ restarted after
+	 * the container was {@link #stop() stopped} is {@link CqQuery#execute() executed} without initial results.
+	 *
+	 * @param query {@link CqQuery} to execute.
+	 * @param eventDispatcher {@link InitialResultsEventDispatcherAdapter} of the CQ.
+	 * @throws QueryException if the CQ could not be executed.
+	 * @see CqQuery#executeWithInitialResults()
+	 */
+	private void executeWithInitialResults(CqQuery query, InitialResultsEventDispatcherAdapter eventDispatcher)
+			throws QueryException {
+
+		eventDispatcher.hold();
+
+		try {
+
+			CqResults<?> initialResults = query.executeWithInitialResults();
+
+			eventDispatcher.setExecuted();
+
+			getTaskExecutor().execute(() -> {
+				try {
+					deliverInitialResults(eventDispatcher, initialResults);
+				}
+				finally {
+					eventDispatcher.release();
+				}
+			});
+		}
+		catch (QueryException | RuntimeException cause) {
+			eventDispatcher.release();
+			throw cause;
+		}
+	}
+
+	private void deliverInitialResults(InitialResultsEventDispatcherAdapter eventDispatcher,
+			Iterable<?> initialResults) {
+
+		int chunkSize = eventDispatcher.getChunkSize();
+
+		List<Object> chunk = new ArrayList<>(chunkSize);
+
+		for (Object result : CollectionUtils.nullSafeIterable(initialResults)) {
+
+			chunk.add(result);
+
+			if (chunk.size() == chunkSize) {
+				notify(eventDispatcher.getListener(), chunk);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			notify(eventDispatcher.getListener(), chunk);
+		}
+	}
+
 	/**
 	 * Asynchronously dispatches the {@link CqEvent CQ event} to the targeted {@link ContinuousQueryListener}.
 	 *
@@ -749,6 +1221,35 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		getTaskExecutor().execute(() -> notify(listener, event));
 	}
 
+	/**
+	 * Asynchronously delivers the {@link CqEvent CQ events} held by the given {@link ContinuousQueryEventBuffer},
+	 * unless the buffer is already being drained.
+	 *
+	 * @param eventBuffer {@link ContinuousQueryEventBuffer} to drain.
+	 * @see ContinuousQueryEventBuffer
+	 */
+	protected void dispatchBufferedEvents(ContinuousQueryEventBuffer eventBuffer) {
+
+		if (eventBuffer.startDraining()) {
+			try {
+				getTaskExecutor().execute(() -> drain(eventBuffer));
+			}
+			catch (RuntimeException cause) {
+				eventBuffer.stopDraining();
+				throw cause;
+			}
+		}
+	}
+
+	private void drain(ContinuousQueryEventBuffer eventBuffer) {
+
+		for (ContinuousQueryEventBuffer.BufferedEvent bufferedEvent = eventBuffer.poll(); bufferedEvent != null;
+				bufferedEvent = eventBuffer.poll()) {
+
+			notify(bufferedEvent.getListener(), bufferedEvent.getEvent());
+		}
+	}
+
 	/**
 	 * Invoke the specified {@link ContinuousQueryListener listener} to process/handle the {@link CqEvent CQ event}.
 	 *
@@ -766,6 +1267,42 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Invoke the specified {@link ContinuousQueryBatchListener listener} to process/handle the batch of
+	 * {@link CqEvent CQ events}.
+	 *
+	 * @param listener {@link ContinuousQueryBatchListener} to notify of the {@link CqEvent CQ events}.
+	 * @param events {@link List} of {@link CqEvent CQ events} to process/handle.
+	 * @see #handleListenerError(Throwable)
+	 */
+	private void notify(ContinuousQueryBatchListener listener, List<CqEvent> events) {
+
+		try {
+			listener.onEvents(events);
+		}
+		catch (Throwable cause) {
+			handleListenerError(cause);
+		}
+	}
+
+	/**
+	 * Invoke the specified {@link ContinuousQueryInitialResultsListener listener} to process/handle a chunk of
+	 * the initial results of the CQ.
+	 *
+	 * @param listener {@link ContinuousQueryInitialResultsListener} to notify of the initial results.
+	 * @param initialResults {@link List} containing a chunk of the initial results of the CQ.
+	 * @see #handleListenerError(Throwable)
+	 */
+	private void notify(ContinuousQueryInitialResultsListener listener, List<?> initialResults) {
+
+		try {
+			listener.onInitialResults(initialResults);
+		}
+		catch (Throwable cause) {
+			handleListenerError(cause);
+		}
+	}
+
 	/**
 	 * Invokes the configured {@link ErrorHandler} (if any) to handle the {@link Exception} thrown by the CQ listener.
 	 *
@@ -830,14 +1367,38 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 				}
 			}
 		});
+
+		flushBatches();
 	}
 
-	@Override
-	public void destroy() {
+	/**
+	 * Returns the total number of CQ events discarded by conflation across all conflating CQs of this container.
+	 *
+	 * @return the number of CQ events replaced by a newer event with the same key before being delivered.
+	 * @see ContinuousQueryDefinition#isConflating()
+	 */
+	public long getConflatedEventCount() {
 
-		stop();
-		closeQueries();
+		return this.conflatingEventDispatchers.stream()
+			.mapToLong(ConflatingEventDispatcherAdapter::getConflatedEventCount)
+			.sum();
+	}
+
+	/**
+	 * Delivers all pending, partially filled batches of CQ events.
+	 */
+	private void flushBatches() {
+		this.batchingEventDispatchers.forEach(BatchingEventDispatcherAdapter::flush);
+	}
+
+	@Override
+	public void destroy() {
+
+		stop();
+		closeQueries();
+		destroyBatchScheduler();
 		destroyExecutor();
+		destroyEventBuffers();
 
 		this.initialized = false;
 	}
@@ -859,6 +1420,61 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			});
 
 		getContinuousQueries().clear();
+
+		this.initialResultsEventDispatchers.values().forEach(InitialResultsEventDispatcherAdapter::release);
+		this.initialResultsEventDispatchers.clear();
+
+		drainEventBuffers();
+		flushBatches();
+		this.batchingEventDispatchers.clear();
+		this.conflatingEventDispatchers.clear();
+	}
+
+	/**
+	 * Delivers the CQ events remaining in the {@link #getEventBuffers() event buffers} once the CQs have been closed,
+	 * either on the calling {@link Thread} or, when a buffer is already being drained, by waiting up to
+	 * {@value #EVENT_BUFFER_DRAIN_TIMEOUT_SECONDS} seconds for the {@link #getTaskExecutor()} to finish draining it.
+	 */
+	private void drainEventBuffers() {
+
+		for (ContinuousQueryEventBuffer eventBuffer : this.eventBuffers) {
+			if (eventBuffer.startDraining()) {
+				drain(eventBuffer);
+			}
+			else {
+				try {
+					if (!eventBuffer.awaitDrained(EVENT_BUFFER_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+							&& this.logger.isWarnEnabled()) {
+
+						this.logger.warn("Timed out after [{}] seconds waiting for [{}] buffered CQ events"
+							+ " to be delivered", EVENT_BUFFER_DRAIN_TIMEOUT_SECONDS, eventBuffer.getDepth());
+					}
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	private synchronized void destroyEventBuffers() {
+
+		long discardedEventCount = getBufferedEventCount();
+
+		if (discardedEventCount > 0L && this.logger.isWarnEnabled()) {
+			this.logger.warn("Discarding [{}] buffered CQ events that were not delivered", discardedEventCount);
+		}
+
+		this.eventBuffers.forEach(ContinuousQueryEventBuffer::clear);
+		this.eventBuffers.clear();
+		this.eventBuffer = null;
+	}
+
+	private synchronized void destroyBatchScheduler() {
+
+		Optional.ofNullable(this.batchScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		this.batchScheduler = null;
 	}
 
 	private void destroyExecutor() {
@@ -908,4 +1524,515 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		public void close() { }
 
 	}
+
+	/**
+	 * Buffers CQ events in a {@link ContinuousQueryEventBuffer} and delivers them, as they are drained from the buffer,
+	 * either to the {@link ContinuousQueryListener} or to the conflating or batching {@link CqListener} it wraps.
+	 */
+	protected class BufferingEventDispatcherAdapter extends EventDispatcherAdapter {
+
+		private final ContinuousQueryEventBuffer eventBuffer;
+
+		private final ContinuousQueryListener bufferedEventListener;
+
+		private final CqListener eventDispatcher;
+
+		protected BufferingEventDispatcherAdapter(ContinuousQueryListener listener,
+				ContinuousQueryEventBuffer eventBuffer) {
+
+			this(listener, eventBuffer, null);
+		}
+
+		protected BufferingEventDispatcherAdapter(ContinuousQueryListener listener,
+				ContinuousQueryEventBuffer eventBuffer, @Nullable CqListener eventDispatcher) {
+
+			super(listener);
+
+			Assert.notNull(eventBuffer, "ContinuousQueryEventBuffer is required");
+
+			this.eventBuffer = eventBuffer;
+			this.eventDispatcher = eventDispatcher;
+			this.bufferedEventListener = eventDispatcher != null ? this::redispatch : listener;
+		}
+
+		protected ContinuousQueryEventBuffer getEventBuffer() {
+			return this.eventBuffer;
+		}
+
+		protected @Nullable CqListener getEventDispatcher() {
+			return this.eventDispatcher;
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+			buffer(event);
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+			buffer(event);
+		}
+
+		private void buffer(CqEvent event) {
+			getEventBuffer().offer(this.bufferedEventListener, event);
+			dispatchBufferedEvents(getEventBuffer());
+		}
+
+		private void redispatch(CqEvent event) {
+
+			if (event.getThrowable() != null) {
+				getEventDispatcher().onError(event);
+			}
+			else {
+				getEventDispatcher().onEvent(event);
+			}
+		}
+
+		@Override
+		public void close() {
+
+			if (getEventDispatcher() != null) {
+				getEventDispatcher().close();
+			}
+		}
+	}
+
+	/**
+	 * Holds back the CQ events of a CQ executed with initial results until the initial results have been delivered.
+	 * When {@link #getHeldEventCapacity() capacity} CQ events are held, the GemFire CQ thread waits, as with
+	 * {@link OverflowPolicy#BLOCK}, until the CQ events are {@link #release() released}.
+	 */
+	protected class InitialResultsEventDispatcherAdapter extends EventDispatcherAdapter {
+
+		private boolean releasing = false;
+
+		private volatile boolean executed = false;
+		private volatile boolean holding = false;
+
+		private final CqListener eventDispatcher;
+
+		private final int chunkSize;
+		private final int heldEventCapacity;
+
+		private List<Runnable> heldEvents = new ArrayList<>();
+
+		protected InitialResultsEventDispatcherAdapter(ContinuousQueryInitialResultsListener listener,
+				CqListener eventDispatcher, int chunkSize) {
+
+			this(listener, eventDispatcher, chunkSize, DEFAULT_HELD_EVENT_CAPACITY);
+		}
+
+		protected InitialResultsEventDispatcherAdapter(ContinuousQueryInitialResultsListener listener,
+				CqListener eventDispatcher, int chunkSize, int heldEventCapacity) {
+
+			super(listener);
+
+			Assert.notNull(eventDispatcher, "CqListener is required");
+			Assert.isTrue(chunkSize > 0, () -> String.format("Chunk size [%d] must be greater than 0", chunkSize));
+			Assert.isTrue(heldEventCapacity > 0,
+				() -> String.format("Held event capacity [%d] must be greater than 0", heldEventCapacity));
+
+			this.eventDispatcher = eventDispatcher;
+			this.chunkSize = chunkSize;
+			this.heldEventCapacity = heldEventCapacity;
+		}
+
+		@Override
+		protected ContinuousQueryInitialResultsListener getListener() {
+			return (ContinuousQueryInitialResultsListener) super.getListener();
+		}
+
+		protected int getChunkSize() {
+			return this.chunkSize;
+		}
+
+		protected CqListener getEventDispatcher() {
+			return this.eventDispatcher;
+		}
+
+		protected int getHeldEventCapacity() {
+			return this.heldEventCapacity;
+		}
+
+		/**
+		 * Determines whether the CQ has been executed and its initial results are, or have been, delivered.
+		 *
+		 * @return a boolean indicating whether the CQ has been executed with initial results.
+		 */
+		protected boolean isExecuted() {
+			return this.executed;
+		}
+
+		void setExecuted() {
+			this.executed = true;
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+			dispatch(() -> getEventDispatcher().onError(event));
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+			dispatch(() -> getEventDispatcher().onEvent(event));
+		}
+
+		private void dispatch(Runnable eventDispatch) {
+
+			if (this.holding) {
+				synchronized (this) {
+					try {
+						while (this.holding && this.heldEvents.size() >= getHeldEventCapacity()) {
+							wait();
+						}
+					}
+					catch (InterruptedException ignore) {
+						Thread.currentThread().interrupt();
+					}
+
+					if (this.holding) {
+						this.heldEvents.add(eventDispatch);
+						return;
+					}
+				}
+			}
+
+			eventDispatch.run();
+		}
+
+		/**
+		 * Holds back CQ events until {@link #release() released}.
+		 */
+		protected synchronized void hold() {
+			this.holding = true;
+		}
+
+		/**
+		 * Dispatches all held CQ events, in order, and stops holding back CQ events.
+		 *
+		 * Held CQ events are dispatched outside the lock, one snapshot at a time; CQ events arriving meanwhile are
+		 * held behind the snapshot until no CQ events remain.
+		 */
+		protected void release() {
+
+			synchronized (this) {
+				if (this.releasing || !this.holding) {
+					return;
+				}
+
+				this.releasing = true;
+			}
+
+			try {
+				for (List<Runnable> snapshot = nextHeldEvents(); !snapshot.isEmpty(); snapshot = nextHeldEvents()) {
+					snapshot.forEach(Runnable::run);
+				}
+			}
+			finally {
+				synchronized (this) {
+					this.heldEvents.clear();
+					this.holding = false;
+					this.releasing = false;
+					notifyAll();
+				}
+			}
+		}
+
+		private synchronized List<Runnable> nextHeldEvents() {
+
+			List<Runnable> snapshot = this.heldEvents;
+
+			if (snapshot.isEmpty()) {
+				this.holding = false;
+			}
+			else {
+				this.heldEvents = new ArrayList<>();
+			}
+
+			notifyAll();
+
+			return snapshot;
+		}
+
+		@Override
+		public void close() {
+			getEventDispatcher().close();
+		}
+	}
+
+	/**
+	 * Accumulates the CQ events of a CQ into batches delivered to a {@link ContinuousQueryBatchListener} once
+	 * the batch size or timeout is reached.  Batches, along with error events, which are never batched, are delivered
+	 * by the {@link #getTaskExecutor()} one at a time, in the order the CQ events were received.
+	 */
+	protected class BatchingEventDispatcherAdapter extends EventDispatcherAdapter {
+
+		private boolean delivering = false;
+
+		private final int batchSize;
+
+		private final long batchTimeout;
+
+		private List<CqEvent> batch = new ArrayList<>();
+
+		private final Queue<Runnable> deliveries = new ArrayDeque<>();
+
+		private ScheduledFuture<?> scheduledFlush;
+
+		protected BatchingEventDispatcherAdapter(ContinuousQueryBatchListener listener, int batchSize,
+				long batchTimeout) {
+
+			super(listener);
+
+			Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+			this.batchSize = batchSize;
+			this.batchTimeout = batchTimeout;
+		}
+
+		@Override
+		protected ContinuousQueryBatchListener getListener() {
+			return (ContinuousQueryBatchListener) super.getListener();
+		}
+
+		protected int getBatchSize() {
+			return this.batchSize;
+		}
+
+		protected long getBatchTimeout() {
+			return this.batchTimeout;
+		}
+
+		/**
+		 * Delivers the error event on its own, after the pending batch.
+		 */
+		@Override
+		public void onError(CqEvent event) {
+
+			boolean startDelivering;
+
+			synchronized (this) {
+				startDelivering = enqueue(drain());
+				startDelivering |= enqueue(() -> ContinuousQueryListenerContainer.this.notify(getListener(), event));
+			}
+
+			deliver(startDelivering);
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+
+			boolean startDelivering = false;
+
+			synchronized (this) {
+
+				this.batch.add(event);
+
+				if (this.batch.size() >= getBatchSize()) {
+					startDelivering = enqueue(drain());
+				}
+				else if (this.batch.size() == 1 && getBatchTimeout() > 0) {
+					this.scheduledFlush =
+						getBatchScheduler().schedule(this::flush, getBatchTimeout(), TimeUnit.MILLISECONDS);
+				}
+			}
+
+			deliver(startDelivering);
+		}
+
+		/**
+		 * Delivers the pending batch of CQ events, if any, regardless of the batch size and timeout.
+		 */
+		public void flush() {
+
+			boolean startDelivering;
+
+			synchronized (this) {
+				startDelivering = enqueue(drain());
+			}
+
+			deliver(startDelivering);
+		}
+
+		private List<CqEvent> drain() {
+
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+				this.scheduledFlush = null;
+			}
+
+			List<CqEvent> drainedBatch = this.batch;
+
+			this.batch = new ArrayList<>();
+
+			return drainedBatch;
+		}
+
+		/**
+		 * Batches are enqueued while holding the lock on this adapter so that batches are delivered in order.
+		 *
+		 * @return a boolean indicating whether the caller must start delivering the enqueued batches.
+		 */
+		private boolean enqueue(List<CqEvent> batch) {
+			return !batch.isEmpty()
+				&& enqueue(() -> ContinuousQueryListenerContainer.this.notify(getListener(), batch));
+		}
+
+		private boolean enqueue(Runnable delivery) {
+
+			this.deliveries.add(delivery);
+
+			boolean startDelivering = !this.delivering;
+
+			this.delivering = true;
+
+			return startDelivering;
+		}
+
+		private void deliver(boolean startDelivering) {
+
+			if (startDelivering) {
+				try {
+					getTaskExecutor().execute(this::deliver);
+				}
+				catch (RuntimeException cause) {
+					synchronized (this) {
+						this.delivering = false;
+					}
+					throw cause;
+				}
+			}
+		}
+
+		private void deliver() {
+
+			for (Runnable delivery = nextDelivery(); delivery != null; delivery = nextDelivery()) {
+				delivery.run();
+			}
+		}
+
+		private synchronized @Nullable Runnable nextDelivery() {
+
+			Runnable delivery = this.deliveries.poll();
+
+			this.delivering = delivery != null;
+
+			return delivery;
+		}
+
+		@Override
+		public void close() {
+			flush();
+		}
+	}
+
+	protected class ConflatingEventDispatcherAdapter extends EventDispatcherAdapter {
+
+		private final int batchSize;
+
+		private final AtomicLong conflatedEventCount = new AtomicLong();
+
+		private boolean draining = false;
+
+		private final Map<Object, CqEvent> pendingEvents = new LinkedHashMap<>();
+
+		protected ConflatingEventDispatcherAdapter(ContinuousQueryListener listener, int batchSize) {
+
+			super(listener);
+
+			Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+			Assert.isTrue(batchSize == 1 || listener instanceof ContinuousQueryBatchListener,
+				"Batch size greater than 1 requires a ContinuousQueryBatchListener");
+
+			this.batchSize = batchSize;
+		}
+
+		protected int getBatchSize() {
+			return this.batchSize;
+		}
+
+		/**
+		 * Returns the number of CQ events replaced by a newer event with the same key before being delivered.
+		 *
+		 * @return the number of conflated CQ events.
+		 */
+		public long getConflatedEventCount() {
+			return this.conflatedEventCount.get();
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+			enqueue(event);
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+			enqueue(event);
+		}
+
+		private void enqueue(CqEvent event) {
+
+			boolean startDraining;
+
+			synchronized (this) {
+
+				if (this.pendingEvents.put(resolveConflationKey(event), event) != null) {
+					this.conflatedEventCount.incrementAndGet();
+				}
+
+				startDraining = !this.draining;
+				this.draining = true;
+			}
+
+			if (startDraining) {
+				try {
+					getTaskExecutor().execute(this::drain);
+				}
+				catch (RuntimeException cause) {
+					synchronized (this) {
+						this.draining = false;
+					}
+					throw cause;
+				}
+			}
+		}
+
+		/**
+		 * Error events and events without a key are never conflated.
+		 */
+		private Object resolveConflationKey(CqEvent event) {
+
+			Object key = event.getKey();
+
+			return key != null && event.getThrowable() == null ? key : new Object();
+		}
+
+		private void drain() {
+
+			for (List<CqEvent> events = nextEvents(); !events.isEmpty(); events = nextEvents()) {
+				if (getListener() instanceof ContinuousQueryBatchListener && getBatchSize() > 1) {
+					ContinuousQueryListenerContainer.this.notify((ContinuousQueryBatchListener) getListener(), events);
+				}
+				else {
+					events.forEach(event -> ContinuousQueryListenerContainer.this.notify(getListener(), event));
+				}
+			}
+		}
+
+		private synchronized List<CqEvent> nextEvents() {
+
+			List<CqEvent> events = new ArrayList<>(Math.min(getBatchSize(), this.pendingEvents.size()));
+
+			Iterator<CqEvent> iterator = this.pendingEvents.values().iterator();
+
+			while (iterator.hasNext() && events.size() < getBatchSize()) {
+				events.add(iterator.next());
+				iterator.remove();
+			}
+
+			this.draining = !events.isEmpty();
+
+			return events;
+		}
+	}
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.springframework.data.gemfire.listener;
+
+/**
+ * {@link OverflowPolicy} is an enumeration of strategies applied by a {@link ContinuousQueryEventBuffer}
+ * when a CQ event arrives and the buffer is full.
+ *
+ * @see ContinuousQueryEventBuffer
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Blocks the GemFire CQ thread delivering the event until space is available in the buffer.
+	 */
+	BLOCK,
+
+	/**
+	 * Discards the oldest buffered event to make room for the new event.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Discards the new event.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * Writes the new event to a local, disk-backed queue, which is drained once the in-memory buffer is empty.
+	 *
+	 * An event that cannot be serialized falls back to {@link #BLOCK}, waiting for the spilled events to be delivered
+	 * and for space in the in-memory buffer.  Events that cannot be written to, or read back from, disk are dropped.
+	 */
+	SPILL
+
+}
@@ -4,12 +4,19 @@
  */
 package org.springframework.data.gemfire.listener.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
@@ -17,6 +24,7 @@ import org.apache.geode.cache.query.CqQuery;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.listener.ContinuousQueryBatchListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
 import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 import org.springframework.util.Assert;
@@ -32,6 +40,9 @@ import org.slf4j.LoggerFactory;
  *
  * Allows listener methods to operate on event content types, completely independent from the GemFire/Geode API.
  *
+ * <p>Target listener methods are resolved reflectively once and bound to {@link MethodHandle MethodHandles}
+ * with precomputed argument extractors, keeping reflection off the per-event path.</p>
+ *
  * <p>Modeled as much as possible after the JMS MessageListenerAdapter in the core Spring Framework.
  *
  * <p>By default, the content of incoming GemFire/Geode CQ events gets extracted before being passed into
@@ -51,8 +62,12 @@ import org.slf4j.LoggerFactory;
  *    void handleEvent(Throwable cause);
  *    void handleEvent(CqEvent event, Operation baseOp, byte[] deltaValue);
  *    void handleEvent(CqEvent event, Operation baseOp, Operation queryOp, Object key, Object newValue);
+ *    void handleEvent(List&lt;CqEvent&gt; events);
  * }</pre>
  *
+ * <p>A listener method declaring a single {@link List} parameter receives the CQ events as a batch, in a single call,
+ * when delivered through {@link #onEvents(List)}.</p>
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @author Oliver Gierke
@@ -62,16 +77,17 @@ import org.slf4j.LoggerFactory;
  * @see CqEvent
  * @see CqQuery
  * @see ContinuousQueryListener
+ * @see ContinuousQueryBatchListener
  * @since 1.1.0
  */
-public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
+public class ContinuousQueryListenerAdapter implements ContinuousQueryBatchListener {
 
 	// Out-of-the-box value for the default listener handler method "handleEvent".
 	public static final String DEFAULT_LISTENER_METHOD_NAME = "handleEvent";
 
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
-	private MethodInvoker invoker;
+	private final ConcurrentMap<String, MethodInvoker> invokers = new ConcurrentHashMap<>();
 
 	private Object delegate;
 
@@ -110,7 +126,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		Assert.notNull(delegate, "Delegate is required");
 
 		this.delegate = delegate;
-		this.invoker = null;
+		this.invokers.clear();
 	}
 
 	/**
@@ -131,7 +147,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 */
 	public void setDefaultListenerMethod(String defaultListenerMethod) {
 		this.defaultListenerMethod = defaultListenerMethod;
-		this.invoker = null;
+		this.invokers.clear();
 	}
 
 	/**
@@ -181,14 +197,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			// Else, find the listener method handler reflectively
 			else {
 
-				String methodName = Optional.ofNullable(getListenerMethodName(event))
-					.filter(StringUtils::hasText)
-					.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
-						+ " Either specify a non-null value for the 'defaultListenerMethod' property"
-						+ " or override the 'getListenerMethodName' method."));
-
-				this.invoker = Optional.ofNullable(this.invoker)
-					.orElseGet(() -> new MethodInvoker(this.delegate, methodName));
+				String methodName = resolveListenerMethodName(event);
 
 				invokeListenerMethod(event, methodName);
 			}
@@ -199,6 +208,114 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
+	/**
+	 * {@link ContinuousQueryBatchListener} callback method for handling a batch of CQ events.
+	 *
+	 * <p>The listener method is {@link #getListenerMethodName(CqEvent) determined} for each CQ event. Consecutive
+	 * CQ events handled by a target listener method declaring a {@link List} parameter are delegated in a single call.
+	 * All other CQ events are delegated one at a time through {@link #invokeListenerMethod(CqEvent, String)}.
+	 * In case of an exception, the {@link #handleListenerException(Throwable)} method will be invoked and
+	 * the remaining CQ events of the batch are still delivered.
+	 *
+	 * @param events {@link List} of incoming {@link CqEvent CQ events}.
+	 * @see #handleListenerException
+	 */
+	@Override
+	public void onEvents(List<CqEvent> events) {
+
+		if (events.isEmpty()) {
+			return;
+		}
+
+		Object delegate = getDelegate();
+
+		if (delegate != this && delegate instanceof ContinuousQueryBatchListener) {
+			try {
+				((ContinuousQueryBatchListener) delegate).onEvents(events);
+			}
+			catch (Throwable cause) {
+				handleListenerException(cause);
+			}
+		}
+		else if (delegate != this && delegate instanceof ContinuousQueryListener) {
+			for (CqEvent event : events) {
+				try {
+					((ContinuousQueryListener) delegate).onEvent(event);
+				}
+				catch (Throwable cause) {
+					handleListenerException(cause);
+				}
+			}
+		}
+		else {
+			invokeListenerMethods(events);
+		}
+	}
+
+	private void invokeListenerMethods(List<CqEvent> events) {
+
+		List<CqEvent> batch = new ArrayList<>(events.size());
+
+		String batchMethodName = null;
+
+		for (CqEvent event : events) {
+			try {
+
+				String methodName = resolveListenerMethodName(event);
+
+				if (!methodName.equals(batchMethodName)) {
+					invokeBatchListenerMethod(batch, batchMethodName);
+					batchMethodName = null;
+				}
+
+				if (resolveMethodInvoker(methodName).isBatch()) {
+					batch.add(event);
+					batchMethodName = methodName;
+				}
+				else {
+					invokeListenerMethod(event, methodName);
+				}
+			}
+			catch (Throwable cause) {
+				handleListenerException(cause);
+			}
+		}
+
+		invokeBatchListenerMethod(batch, batchMethodName);
+	}
+
+	private void invokeBatchListenerMethod(List<CqEvent> batch, String methodName) {
+
+		if (!batch.isEmpty()) {
+			try {
+				invokeListenerMethod(new ArrayList<>(batch), methodName);
+			}
+			catch (Throwable cause) {
+				handleListenerException(cause);
+			}
+			finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private String resolveListenerMethodName(CqEvent event) {
+
+		String methodName = Optional.ofNullable(getListenerMethodName(event))
+			.filter(StringUtils::hasText)
+			.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
+				+ " Either specify a non-null value for the 'defaultListenerMethod' property"
+				+ " or override the 'getListenerMethodName' method."));
+
+		resolveMethodInvoker(methodName);
+
+		return methodName;
+	}
+
+	private MethodInvoker resolveMethodInvoker(String methodName) {
+		return this.invokers.computeIfAbsent(methodName, key -> new MethodInvoker(getDelegate(), key));
+	}
+
 	/**
 	 * Handle the given exception that arose during listener execution.
 	 * The default implementation logs the exception at error level.
@@ -215,9 +332,19 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 * @see #getListenerMethodName
 	 */
 	protected void invokeListenerMethod(CqEvent event, String methodName) {
+		invokeListenerMethod(Collections.singletonList(event), methodName);
+	}
+
+	/**
+	 * Invoke the specified listener method with the batch of events.
+	 * @param events the batch of events to be passed in
+	 * @param methodName the method to invoke
+	 * @see #getListenerMethodName
+	 */
+	protected void invokeListenerMethod(List<CqEvent> events, String methodName) {
 
 		try {
-			this.invoker.invoke(event);
+			resolveMethodInvoker(methodName).invoke(events);
 		}
 		catch (InvocationTargetException cause) {
 			if (cause.getTargetException() instanceof DataAccessException) {
@@ -236,23 +363,20 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 	private static class MethodInvoker {
 
-		private final Object delegate;
-
-		private final List<Method> methods;
+		private final List<HandlerMethod> handlerMethods;
 
 		MethodInvoker(Object delegate, String methodName) {
 
 			Class<?> delegateType = delegate.getClass();
 
-			this.delegate = delegate;
-			this.methods = new ArrayList<>();
+			this.handlerMethods = new ArrayList<>();
 
 			ReflectionUtils.doWithMethods(delegateType, method -> {
 				ReflectionUtils.makeAccessible(method);
-				this.methods.add(method);
+				this.handlerMethods.add(bind(delegate, method));
 			}, method -> isValidEventHandlerMethodSignature(method, methodName));
 
-			Assert.isTrue(!this.methods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
+			Assert.isTrue(!this.handlerMethods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
 				+ " Is the method public and does it have the proper arguments",
 					delegateType.getName(), methodName));
 		}
@@ -278,6 +402,10 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			int objects = 0;
 			int operations = 0;
 
+			if (parameterTypes.length == 1 && List.class.equals(parameterTypes[0])) {
+				return true;
+			}
+
 			if (parameterTypes.length > 0) {
 				for (Class<?> parameterType : parameterTypes) {
 					if (Object.class.equals(parameterType)) {
@@ -305,18 +433,48 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			return false;
 		}
 
-		void invoke(CqEvent event) throws IllegalAccessException, InvocationTargetException {
+		boolean isBatch() {
+			return this.handlerMethods.stream().anyMatch(HandlerMethod::isBatch);
+		}
+
+		void invoke(List<CqEvent> events) throws InvocationTargetException {
 
-			for (Method method : this.methods) {
-				method.invoke(this.delegate, getMethodArguments(method, event));
+			for (HandlerMethod handlerMethod : this.handlerMethods) {
+				if (handlerMethod.isBatch()) {
+					handlerMethod.invoke(events);
+				}
+				else {
+					for (CqEvent event : events) {
+						handlerMethod.invoke(handlerMethod.getArguments(event));
+					}
+				}
 			}
 		}
 
-		private Object[] getMethodArguments(Method method, CqEvent event) {
+		private static HandlerMethod bind(Object delegate, Method method) {
 
-			Class<?>[] parameterTypes = method.getParameterTypes();
+			try {
 
-			Object[] args = new Object[parameterTypes.length];
+				Class<?>[] parameterTypes = method.getParameterTypes();
+
+				MethodHandle methodHandle = MethodHandles.lookup().unreflect(method)
+					.bindTo(delegate)
+					.asSpreader(Object[].class, parameterTypes.length)
+					.asType(MethodType.methodType(void.class, Object[].class));
+
+				boolean batch = parameterTypes.length == 1 && List.class.equals(parameterTypes[0]);
+
+				return new HandlerMethod(methodHandle, batch, batch ? null : argumentExtractors(parameterTypes));
+			}
+			catch (IllegalAccessException cause) {
+				throw new IllegalStateException(String.format("Cannot access listener method [%s]", method), cause);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Function<CqEvent, Object>[] argumentExtractors(Class<?>[] parameterTypes) {
+
+			Function<CqEvent, Object>[] argumentExtractors = new Function[parameterTypes.length];
 
 			boolean query = false;
 			boolean value = false;
@@ -326,28 +484,72 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 				Class<?> parameterType = parameterTypes[index];
 
 				if (Object.class.equals(parameterType)) {
-					args[index] = value ? event.getNewValue() : event.getKey();
+					argumentExtractors[index] = value ? CqEvent::getNewValue : CqEvent::getKey;
 					value = true;
 				}
 				else if (Operation.class.equals(parameterType)) {
-					args[index] = query ? event.getQueryOperation() : event.getBaseOperation();
+					argumentExtractors[index] = query ? CqEvent::getQueryOperation : CqEvent::getBaseOperation;
 					query = true;
 				}
 				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
+					argumentExtractors[index] = CqEvent::getDeltaValue;
 				}
 				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
+					argumentExtractors[index] = event -> event;
 				}
 				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
+					argumentExtractors[index] = CqEvent::getCq;
 				}
 				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
+					argumentExtractors[index] = CqEvent::getThrowable;
 				}
 			}
 
-			return args;
+			return argumentExtractors;
+		}
+	}
+
+	/**
+	 * Listener method bound to the delegate once, as a {@link MethodHandle}, along with the functions extracting
+	 * the listener method arguments from the {@link CqEvent}.
+	 */
+	private static class HandlerMethod {
+
+		private final boolean batch;
+
+		private final Function<CqEvent, Object>[] argumentExtractors;
+
+		private final MethodHandle methodHandle;
+
+		HandlerMethod(MethodHandle methodHandle, boolean batch, Function<CqEvent, Object>[] argumentExtractors) {
+			this.methodHandle = methodHandle;
+			this.batch = batch;
+			this.argumentExtractors = argumentExtractors;
+		}
+
+		boolean isBatch() {
+			return this.batch;
+		}
+
+		Object[] getArguments(CqEvent event) {
+
+			Object[] arguments = new Object[this.argumentExtractors.length];
+
+			for (int index = 0; index < arguments.length; index++) {
+				arguments[index] = this.argumentExtractors[index].apply(event);
+			}
+
+			return arguments;
+		}
+
+		void invoke(Object... arguments) throws InvocationTargetException {
+
+			try {
+				this.methodHandle.invokeExact(arguments);
+			}
+			catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
 		}
 	}
 }
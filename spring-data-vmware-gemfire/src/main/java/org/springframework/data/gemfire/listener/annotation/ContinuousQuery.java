@@ -6,6 +6,7 @@
 package org.springframework.data.gemfire.listener.annotation;
 
 import org.springframework.data.gemfire.listener.CQEvent;
+import org.springframework.data.gemfire.listener.OverflowPolicy;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
@@ -31,6 +32,38 @@ import java.lang.annotation.Target;
 @Documented
 public @interface ContinuousQuery {
 
+	/**
+	 * Maximum number of CQ events accumulated before the batch is delivered to a handler method
+	 * declaring a {@link java.util.List} of {@link org.apache.geode.cache.query.CqEvent CqEvents} parameter.
+	 *
+	 * Defaults to {@literal 1}, which disables batching unless a {@link #batchTimeout()} is set, in which case
+	 * batches are bounded by time alone.
+	 */
+	int batchSize() default 1;
+
+	/**
+	 * Maximum amount of time, in milliseconds, the first CQ event of a batch waits before the batch is delivered,
+	 * regardless of the {@link #batchSize()}.
+	 *
+	 * Defaults to {@literal 0}, which disables time-bounded batching.
+	 */
+	long batchTimeout() default 0L;
+
+	/**
+	 * Determines whether pending CQ events are conflated by key while the handler method is busy,
+	 * delivering only the latest event for each key.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean conflate() default false;
+
+	/**
+	 * Maximum number of CQ events buffered for this CQ between the GemFire CQ thread and the handler method.
+	 *
+	 * Defaults to {@literal 0}, in which case the container-wide buffer, if any, is used.
+	 */
+	int eventBufferCapacity() default 0;
+
 	/**
 	 * Specifies event types to be excluded from the CQ.
 	 *
@@ -45,6 +78,13 @@ public @interface ContinuousQuery {
 	 */
 	boolean durable() default false;
 
+	/**
+	 * {@link OverflowPolicy} applied when the {@link #eventBufferCapacity() event buffer} of this CQ is full.
+	 *
+	 * Defaults to {@link OverflowPolicy#BLOCK}.
+	 */
+	OverflowPolicy overflowPolicy() default OverflowPolicy.BLOCK;
+
 	/**
 	 * {@link String Name} assigned to the registered CQ.
 	 *
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.data.gemfire.mapping.model.GemfireSimpleTypeHolder;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link ObjectSizer} estimating the heap size of application domain objects from the mapping meta-data
+ * of the {@link GemfireMappingContext}.
+ *
+ * The shallow size of each {@link Class type} is computed once, from the types of the declared fields,
+ * and cached. The size of the objects referenced by a persistent entity is estimated from the persistent
+ * properties of the entity, read with the entity's {@link PersistentPropertyAccessor}, using the length of
+ * {@link String Strings} and arrays and the size of {@link Collection Collections} and {@link Map Maps},
+ * the elements of which are sampled rather than sized individually.
+ *
+ * Sizes assume a 64-bit JVM with compressed object pointers. Objects that are not persistent entities nor
+ * simple types, such as {@link PdxInstance PdxInstances}, are sized with
+ * the {@link #getFallbackObjectSizer() fallback ObjectSizer}. Entities, arrays, {@link Collection Collections}
+ * and {@link Map Maps} referenced more than once, including by a cycle, are only sized once.
+ *
+ * Configure the {@link MappingObjectSizer} as a bean and reference it by name in the {@literal objectSizerName}
+ * attribute of an {@link org.springframework.data.gemfire.config.annotation.EvictionPolicy}, or set it
+ * on the {@link org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean}, to use it with
+ * heap-based or memory-based LRU eviction.
+ *
+ * @see ObjectSizer
+ * @see GemfireMappingContext
+ * @see org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean#setObjectSizer(ObjectSizer)
+ */
+public class MappingObjectSizer implements ObjectSizer {
+
+	protected static final int ARRAY_HEADER_SIZE = 16;
+	protected static final int MAP_ENTRY_SIZE = 32;
+	protected static final int MAXIMUM_DEPTH = 8;
+	protected static final int OBJECT_ALIGNMENT = 8;
+	protected static final int OBJECT_HEADER_SIZE = 12;
+	protected static final int REFERENCE_SIZE = 4;
+	protected static final int SAMPLE_SIZE = 16;
+
+	private final ConcurrentMap<Class<?>, TypeSize> typeSizes = new ConcurrentHashMap<>();
+
+	private final GemfireMappingContext mappingContext;
+
+	private ObjectSizer fallbackObjectSizer = ObjectSizer.DEFAULT;
+
+	private final SimpleTypeHolder simpleTypeHolder = new GemfireSimpleTypeHolder();
+
+	/**
+	 * Factory method used to construct a new {@link MappingObjectSizer} initialized with
+	 * the given {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} containing the mapping meta-data of the application
+	 * domain objects; a new {@link GemfireMappingContext} is used if {@literal null}.
+	 * @return a new {@link MappingObjectSizer}.
+	 */
+	public static @NonNull MappingObjectSizer create(@Nullable GemfireMappingContext mappingContext) {
+		return new MappingObjectSizer(mappingContext != null ? mappingContext : new GemfireMappingContext());
+	}
+
+	/**
+	 * Constructs a new {@link MappingObjectSizer} initialized with a new {@link GemfireMappingContext}.
+	 */
+	public MappingObjectSizer() {
+		this(new GemfireMappingContext());
+	}
+
+	/**
+	 * Constructs a new {@link MappingObjectSizer} initialized with the given {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} containing the mapping meta-data of the application
+	 * domain objects; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireMappingContext} is {@literal null}.
+	 */
+	public MappingObjectSizer(@NonNull GemfireMappingContext mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Sets the {@link ObjectSizer} used to size objects that are not persistent entities nor simple types.
+	 *
+	 * @param fallbackObjectSizer {@link ObjectSizer} used to size objects that are not persistent entities
+	 * nor simple types; defaults to {@link ObjectSizer#DEFAULT} if {@literal null}.
+	 */
+	public void setFallbackObjectSizer(@Nullable ObjectSizer fallbackObjectSizer) {
+		this.fallbackObjectSizer = fallbackObjectSizer != null ? fallbackObjectSizer : ObjectSizer.DEFAULT;
+	}
+
+	protected @NonNull ObjectSizer getFallbackObjectSizer() {
+		return this.fallbackObjectSizer;
+	}
+
+	protected @NonNull GemfireMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int sizeof(Object value) {
+		return (int) Math.min(sizeof(value, 0, Collections.newSetFromMap(new IdentityHashMap<>())),
+			Integer.MAX_VALUE);
+	}
+
+	private long sizeof(@Nullable Object value, int depth, Set<Object> visited) {
+
+		if (value == null || value instanceof Enum || value instanceof Class) {
+			return 0L;
+		}
+		else if (value instanceof String) {
+			return getTypeSize(String.class).shallowSize + align(ARRAY_HEADER_SIZE + ((String) value).length());
+		}
+		else if (value instanceof PdxInstance) {
+			return getFallbackObjectSizer().sizeof(value);
+		}
+
+		boolean container = value.getClass().isArray() || value instanceof Collection || value instanceof Map;
+
+		if (container && !visited.add(value)) {
+			return 0L;
+		}
+		else if (value.getClass().isArray()) {
+			return sizeofArray(value, depth, visited);
+		}
+		else if (value instanceof Collection) {
+			return sizeofCollection((Collection<?>) value, depth, visited);
+		}
+		else if (value instanceof Map) {
+			return sizeofMap((Map<?, ?>) value, depth, visited);
+		}
+
+		TypeSize typeSize = getTypeSize(value.getClass());
+
+		if (typeSize.isEntity()) {
+
+			if (!visited.add(value)) {
+				return 0L;
+			}
+
+			return depth < MAXIMUM_DEPTH
+				? typeSize.shallowSize + sizeofProperties(typeSize, value, depth + 1, visited)
+				: typeSize.shallowSize;
+		}
+
+		return typeSize.isSimple() ? typeSize.shallowSize : getFallbackObjectSizer().sizeof(value);
+	}
+
+	private long sizeofArray(Object array, int depth, Set<Object> visited) {
+
+		Class<?> componentType = array.getClass().getComponentType();
+
+		if (componentType.isPrimitive()) {
+			return align(ARRAY_HEADER_SIZE
+				+ (long) Array.getLength(array) * sizeofPrimitive(componentType));
+		}
+
+		Object[] elements = (Object[]) array;
+
+		long size = align(ARRAY_HEADER_SIZE + (long) elements.length * REFERENCE_SIZE);
+
+		return depth < MAXIMUM_DEPTH
+			? size + sizeofElements(Arrays.asList(elements).iterator(), elements.length, depth + 1, visited)
+			: size;
+	}
+
+	private long sizeofCollection(Collection<?> collection, int depth, Set<Object> visited) {
+
+		int size = collection.size();
+
+		long collectionSize = getTypeSize(collection.getClass()).shallowSize
+			+ align(ARRAY_HEADER_SIZE + (long) size * REFERENCE_SIZE);
+
+		return depth < MAXIMUM_DEPTH
+			? collectionSize + sizeofElements(collection.iterator(), size, depth + 1, visited)
+			: collectionSize;
+	}
+
+	private long sizeofMap(Map<?, ?> map, int depth, Set<Object> visited) {
+
+		int size = map.size();
+
+		long mapSize = getTypeSize(map.getClass()).shallowSize
+			+ align(ARRAY_HEADER_SIZE + (long) size * REFERENCE_SIZE) + (long) size * MAP_ENTRY_SIZE;
+
+		return depth < MAXIMUM_DEPTH
+			? mapSize + sizeofElements(map.keySet().iterator(), size, depth + 1, visited)
+				+ sizeofElements(map.values().iterator(), size, depth + 1, visited)
+			: mapSize;
+	}
+
+	/**
+	 * Estimates the total size of the elements by sizing a sample of the elements and extrapolating
+	 * the average size of the sampled elements.
+	 */
+	private long sizeofElements(Iterator<?> elements, int count, int depth, Set<Object> visited) {
+
+		long sampledSize = 0L;
+		int sampleCount = 0;
+
+		while (sampleCount < SAMPLE_SIZE && elements.hasNext()) {
+			sampledSize += sizeof(elements.next(), depth, visited);
+			sampleCount++;
+		}
+
+		return sampleCount < count && sampleCount > 0 ? sampledSize * count / sampleCount : sampledSize;
+	}
+
+	private long sizeofProperties(TypeSize typeSize, Object entity, int depth, Set<Object> visited) {
+
+		PersistentPropertyAccessor<Object> propertyAccessor = typeSize.entity.getPropertyAccessor(entity);
+
+		long size = 0L;
+
+		for (GemfirePersistentProperty property : typeSize.referenceProperties) {
+			size += sizeof(propertyAccessor.getProperty(property), depth, visited);
+		}
+
+		return size;
+	}
+
+	private TypeSize getTypeSize(Class<?> type) {
+
+		TypeSize typeSize = this.typeSizes.get(type);
+
+		return typeSize != null ? typeSize : this.typeSizes.computeIfAbsent(type, this::newTypeSize);
+	}
+
+	private TypeSize newTypeSize(Class<?> type) {
+
+		long shallowSize = shallowSizeOf(type);
+
+		if (isSimpleType(type)) {
+			return new TypeSize(shallowSize, null, Collections.emptyList(), true);
+		}
+
+		GemfirePersistentEntity<?> entity = resolvePersistentEntity(type);
+
+		if (entity == null) {
+			return new TypeSize(shallowSize, null, Collections.emptyList(), false);
+		}
+
+		List<GemfirePersistentProperty> referenceProperties = new ArrayList<>();
+
+		entity.doWithProperties((GemfirePersistentProperty property) -> {
+			if (property.getField() != null && !property.getType().isPrimitive()) {
+				referenceProperties.add(property);
+			}
+		});
+
+		return new TypeSize(shallowSize, entity, referenceProperties, false);
+	}
+
+	private boolean isSimpleType(Class<?> type) {
+		return type.isPrimitive() || this.simpleTypeHolder.isSimpleType(type);
+	}
+
+	private @Nullable GemfirePersistentEntity<?> resolvePersistentEntity(Class<?> type) {
+
+		if (type.isInterface() || type.isSynthetic() || type.getName().startsWith("java.")) {
+			return null;
+		}
+
+		try {
+			return getMappingContext().getPersistentEntity(type);
+		}
+		catch (RuntimeException ignore) {
+			return null;
+		}
+	}
+
+	/**
+	 * Computes the shallow size of an instance of the given {@link Class type} from the types
+	 * of the instance fields declared by the {@link Class type} and its super types.
+	 */
+	static long shallowSizeOf(Class<?> type) {
+
+		long[] size = { OBJECT_HEADER_SIZE };
+
+		ReflectionUtils.doWithFields(type,
+			field -> size[0] += field.getType().isPrimitive() ? sizeofPrimitive(field.getType()) : REFERENCE_SIZE,
+			field -> !Modifier.isStatic(field.getModifiers()));
+
+		return align(size[0]);
+	}
+
+	static int sizeofPrimitive(Class<?> type) {
+
+		if (long.class.equals(type) || double.class.equals(type)) {
+			return 8;
+		}
+		else if (int.class.equals(type) || float.class.equals(type)) {
+			return 4;
+		}
+		else if (short.class.equals(type) || char.class.equals(type)) {
+			return 2;
+		}
+
+		return 1;
+	}
+
+	static long align(long size) {
+		return (size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+	}
+
+	private static final class TypeSize {
+
+		private final boolean simple;
+
+		private final long shallowSize;
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final List<GemfirePersistentProperty> referenceProperties;
+
+		private TypeSize(long shallowSize, GemfirePersistentEntity<?> entity,
+				List<GemfirePersistentProperty> referenceProperties, boolean simple) {
+
+			this.shallowSize = shallowSize;
+			this.entity = entity;
+			this.referenceProperties = referenceProperties;
+			this.simple = simple;
+		}
+
+		boolean isEntity() {
+			return this.entity != null;
+		}
+
+		boolean isSimple() {
+			return this.simple;
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.springframework.data.gemfire.repository.GemfireRepository;
 import org.springframework.data.gemfire.repository.Wrapper;
 import org.springframework.data.gemfire.repository.query.QueryString;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
+import org.springframework.data.gemfire.transaction.TransactionalWriteBuffer;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
@@ -138,11 +139,7 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		ID id = getEntityInformation().getRequiredId(entity);
 
 		// CREATE/UPDATE entity in Region
-		T existingValue = getTemplate().put(id, entity);
-
-		if (getLogger().isDebugEnabled()) {
-			getLogger().debug("Overwrote existing value [{}] for ID [{}]", existingValue, id);
-		}
+		doSave(id, entity);
 
 		return entity;
 	}
@@ -156,13 +153,25 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		T entity = wrapper.getEntity();
 
 		// CREATE/UPDATE entity in Region
-		T existingValue = getTemplate().put(wrapper.getKey(), entity);
+		doSave(wrapper.getKey(), entity);
+
+		return entity;
+	}
+
+	private void doSave(ID id, T entity) {
 
-		if (getLogger().isDebugEnabled()) {
-			getLogger().debug("Overwrote existing value [{}] for ID [{}]", existingValue, wrapper.getKey());
+		if (isWriteBuffered()) {
+			// buffer the write without reading the existing value from the Region
+			getTemplate().putAll(Collections.singletonMap(id, entity));
 		}
+		else {
 
-		return entity;
+			T existingValue = getTemplate().put(id, entity);
+
+			if (getLogger().isDebugEnabled()) {
+				getLogger().debug("Overwrote existing value [{}] for ID [{}]", existingValue, id);
+			}
+		}
 	}
 
 	/**
@@ -353,7 +362,17 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public void deleteById(@NonNull ID id) {
-		getTemplate().remove(id);
+
+		if (isWriteBuffered()) {
+			getTemplate().removeAll(Collections.singleton(id));
+		}
+		else {
+			getTemplate().remove(id);
+		}
+	}
+
+	boolean isWriteBuffered() {
+		return TransactionalWriteBuffer.getCurrent(getRegion()) != null;
 	}
 
 	boolean isTransactionPresent(@Nullable Region<?, ?> region) {
@@ -6,13 +6,24 @@ package org.springframework.data.gemfire.transaction;
 
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder.newCacheHolder;
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheTransactionObject.newCacheTransactionObject;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
+import org.apache.geode.cache.CacheEvent;
 import org.apache.geode.cache.CacheTransactionManager;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.TransactionEvent;
 import org.apache.geode.cache.TransactionId;
+import org.apache.geode.cache.TransactionListener;
 import org.apache.geode.cache.client.ClientCache;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.transaction.TransactionOperationEvent.Operation;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -23,6 +34,7 @@ import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.ResourceTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Local Transaction Management for Pivotal GemFire. Provides a Spring {@link PlatformTransactionManager} implementation
@@ -55,7 +67,11 @@ import org.springframework.util.Assert;
  * @see AbstractPlatformTransactionManager
  * @see ResourceTransactionManager
  * @see TransactionSynchronizationManager
+ * @see TransactionOperationListener
  * @see #setCopyOnRead(boolean)
+ * @see #setSlowTransactionThreshold(Duration)
+ * @see #setTransactionOperationListener(TransactionOperationListener)
+ * @see #setWriteBuffering(boolean)
  */
 @SuppressWarnings("unused")
 public class GemfireTransactionManager extends AbstractPlatformTransactionManager
@@ -67,10 +83,18 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 	private boolean copyOnRead = true;
 
+	private boolean writeBuffering = false;
+
+	private Duration slowTransactionThreshold;
+
 	private Long resumeWaitTime;
 
 	private TimeUnit resumeWaitTimeUnit = DEFAULT_RESUME_WAIT_TIME_UNIT;
 
+	private volatile TransactionOperationListener transactionOperationListener;
+
+	private volatile TransactionRegionRecorder transactionRegionRecorder;
+
 	/**
 	 * Constructs an instance of the {@link GemfireTransactionManager}.
 	 */
@@ -125,6 +149,12 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected void doBegin(Object transaction, TransactionDefinition definition) throws TransactionException {
 
+		long startTime = System.nanoTime();
+
+		Throwable failure = null;
+
+		TransactionId transactionId = null;
+
 		try {
 
 			CacheTransactionObject cacheTransaction = (CacheTransactionObject) transaction;
@@ -140,18 +170,34 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			// begin GemFire local cache transaction
 			cacheTransactionManager.begin();
 
-			TransactionId transactionId = cacheTransactionManager.getTransactionId();
+			transactionId = cacheTransactionManager.getTransactionId();
 
 			if (transactionId != null) {
-				TransactionSynchronizationManager.bindResource(cache,
-					cacheTransaction.setAndGetHolder(newCacheHolder(transactionId)));
+
+				if (isSlowTransactionLogEnabled()) {
+					getTransactionRegionRecorder().track(transactionId);
+				}
+
+				CacheHolder holder = newCacheHolder(transactionId, startTime);
+
+				if (isWriteBuffering()) {
+					holder.setWriteBuffer(new TransactionalWriteBuffer());
+				}
+
+				TransactionSynchronizationManager.bindResource(cache, cacheTransaction.setAndGetHolder(holder));
 			}
 		}
 		catch (Exception cause) {
+
+			failure = cause;
+
 			throw new CannotCreateTransactionException(String.format("%1$s; %2$s",
 				"An existing, ongoing transaction is already associated with the current thread;",
 				" Are multiple transaction managers present"), cause);
 		}
+		finally {
+			publishTransactionOperationEvent(Operation.BEGIN, transactionId, startTime, null, failure, false);
+		}
 	}
 
 	/**
@@ -160,6 +206,14 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected void doCommit(DefaultTransactionStatus status) throws TransactionException {
 
+		// buffered writes are applied before, rather than translated with, the commit so that a failure
+		// to apply the writes rolls back the cache transaction
+		flushWriteBuffer(status.getTransaction());
+
+		long startTime = System.nanoTime();
+
+		Throwable failure = null;
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Committing local cache transaction");
@@ -168,14 +222,23 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			getCacheTransactionManager().commit();
 		}
 		catch (org.apache.geode.cache.TransactionException cause) {
+
+			failure = cause;
+
 			throw new GemfireTransactionCommitException(
 				"Unexpected failure occurred on commit of local cache transaction", cause);
 		}
 		catch (Exception cause) {
+
+			failure = cause;
+
 			throw new NoTransactionException(
 				"No transaction is associated with the current thread; Are multiple transaction managers present",
 					cause);
 		}
+		finally {
+			completeTransaction(Operation.COMMIT, status.getTransaction(), startTime, failure);
+		}
 	}
 
 	/**
@@ -184,12 +247,30 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected Object doSuspend(Object transaction) throws TransactionException {
 
-		if (getCacheTransactionManager().suspend() != null) {
-			TransactionSynchronizationManager.unbindResource(getCache());
-			return ((CacheTransactionObject) transaction).setAndGetExistingHolder(null);
-		}
+		long startTime = System.nanoTime();
+
+		Throwable failure = null;
+
+		TransactionId transactionId = null;
+
+		try {
+
+			transactionId = getCacheTransactionManager().suspend();
+
+			if (transactionId != null) {
+				TransactionSynchronizationManager.unbindResource(getCache());
+				return ((CacheTransactionObject) transaction).setAndGetExistingHolder(null);
+			}
 
-		return null;
+			return null;
+		}
+		catch (RuntimeException cause) {
+			failure = cause;
+			throw cause;
+		}
+		finally {
+			publishTransactionOperationEvent(Operation.SUSPEND, transactionId, startTime, null, failure, false);
+		}
 	}
 
 	/**
@@ -202,9 +283,27 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 			CacheHolder holder = (CacheHolder) suspendedResources;
 
-			boolean resumeSuccessful = isResumeWaitTimeSet()
-				? getCacheTransactionManager().tryResume(holder.getTransactionId(), getResumeWaitTime(), getResumeWaitTimeUnit())
-				: getCacheTransactionManager().tryResume(holder.getTransactionId());
+			long startTime = System.nanoTime();
+
+			boolean resumeSuccessful = false;
+
+			Throwable failure = null;
+
+			try {
+
+				resumeSuccessful = isResumeWaitTimeSet()
+					? getCacheTransactionManager().tryResume(holder.getTransactionId(), getResumeWaitTime(),
+						getResumeWaitTimeUnit())
+					: getCacheTransactionManager().tryResume(holder.getTransactionId());
+			}
+			catch (RuntimeException cause) {
+				failure = cause;
+				throw cause;
+			}
+			finally {
+				publishTransactionOperationEvent(Operation.RESUME, holder.getTransactionId(), startTime, null,
+					failure, failure == null && !resumeSuccessful);
+			}
 
 			if (resumeSuccessful) {
 				TransactionSynchronizationManager.bindResource(getCache(),
@@ -219,6 +318,10 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected void doRollback(DefaultTransactionStatus status) throws TransactionException {
 
+		long startTime = System.nanoTime();
+
+		Throwable failure = null;
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Rolling back local cache transaction");
@@ -228,11 +331,112 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		}
 		catch (Exception cause) {
 
+			failure = cause;
+
 			String exceptionMessage =
 				"No transaction is associated with the current thread; Are multiple transaction managers present";
 
 			throw new NoTransactionException(exceptionMessage, cause);
 		}
+		finally {
+			completeTransaction(Operation.ROLLBACK, status.getTransaction(), startTime, failure);
+		}
+	}
+
+	private void flushWriteBuffer(Object transaction) {
+
+		TransactionalWriteBuffer writeBuffer = resolveWriteBuffer(transaction);
+
+		if (writeBuffer != null && !writeBuffer.isEmpty()) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Applying buffered writes of local cache transaction");
+			}
+
+			writeBuffer.flush();
+		}
+	}
+
+	private TransactionalWriteBuffer resolveWriteBuffer(Object transaction) {
+
+		CacheHolder holder = transaction instanceof CacheTransactionObject
+			? ((CacheTransactionObject) transaction).getHolder()
+			: null;
+
+		return holder != null ? holder.getWriteBuffer() : null;
+	}
+
+	private void completeTransaction(Operation operation, Object transaction, long startTime, Throwable failure) {
+
+		CacheHolder holder = transaction instanceof CacheTransactionObject
+			? ((CacheTransactionObject) transaction).getHolder()
+			: null;
+
+		TransactionId transactionId = holder != null ? holder.getTransactionId() : null;
+
+		Duration transactionDuration = holder != null
+			? Duration.ofNanos(System.nanoTime() - holder.getBeginTime())
+			: null;
+
+		TransactionRegionRecorder transactionRegionRecorder = this.transactionRegionRecorder;
+
+		Set<String> regionPaths = new TreeSet<>(transactionRegionRecorder != null && transactionId != null
+			? transactionRegionRecorder.remove(transactionId)
+			: Collections.emptySet());
+
+		if (transactionDuration != null && isSlowTransaction(transactionDuration)) {
+
+			TransactionalWriteBuffer writeBuffer = resolveWriteBuffer(transaction);
+
+			if (writeBuffer != null) {
+				regionPaths.addAll(writeBuffer.getRegionPaths());
+			}
+
+			logger.warn(String.format("Cache transaction [%1$s] took [%2$d] ms to %3$s%4$s; Regions %5$s",
+				transactionId, transactionDuration.toMillis(), operation, failure != null ? " unsuccessfully" : "",
+				regionPaths.isEmpty() && Operation.ROLLBACK.equals(operation) ? "[unknown]" : regionPaths));
+		}
+
+		publishTransactionOperationEvent(operation, transactionId, startTime, transactionDuration, failure, false);
+	}
+
+	private boolean isSlowTransaction(Duration transactionDuration) {
+		return isSlowTransactionLogEnabled() && transactionDuration.compareTo(getSlowTransactionThreshold()) >= 0;
+	}
+
+	private void publishTransactionOperationEvent(Operation operation, TransactionId transactionId, long startTime,
+			Duration transactionDuration, Throwable failure, boolean timeout) {
+
+		TransactionOperationListener listener = getTransactionOperationListener();
+
+		if (listener != null) {
+			try {
+				listener.onTransactionOperation(new TransactionOperationEvent(operation, transactionId,
+					Duration.ofNanos(System.nanoTime() - startTime), transactionDuration, failure, timeout));
+			}
+			catch (RuntimeException cause) {
+				logger.warn(String.format("TransactionOperationListener [%s] failed",
+					ObjectUtils.nullSafeClassName(listener)), cause);
+			}
+		}
+	}
+
+	private TransactionRegionRecorder getTransactionRegionRecorder() {
+
+		TransactionRegionRecorder transactionRegionRecorder = this.transactionRegionRecorder;
+
+		if (transactionRegionRecorder == null) {
+			synchronized (this) {
+				transactionRegionRecorder = this.transactionRegionRecorder;
+				if (transactionRegionRecorder == null) {
+					transactionRegionRecorder = new TransactionRegionRecorder();
+					getCacheTransactionManager().addListener(transactionRegionRecorder);
+					this.transactionRegionRecorder = transactionRegionRecorder;
+				}
+			}
+		}
+
+		return transactionRegionRecorder;
 	}
 
 	/**
@@ -240,6 +444,13 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 */
 	@Override
 	protected void doCleanupAfterCompletion(Object transaction) {
+
+		TransactionalWriteBuffer writeBuffer = resolveWriteBuffer(transaction);
+
+		if (writeBuffer != null) {
+			writeBuffer.clear();
+		}
+
 		TransactionSynchronizationManager.unbindResource(getCache());
 	}
 
@@ -403,6 +614,90 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		return Optional.ofNullable(this.resumeWaitTimeUnit).orElse(DEFAULT_RESUME_WAIT_TIME_UNIT);
 	}
 
+	/**
+	 * Sets the {@link Duration} after which a cache transaction is logged as slow, at {@literal WARN} level,
+	 * along with the {@link Region Regions} touched by the transaction, when it is committed or rolled back.
+	 *
+	 * The {@link Region Regions} are reported by the {@link TransactionEvent} of the completed transaction.
+	 * A client transaction that is rolled back reports no events, so its {@link Region Regions} are only known
+	 * when {@link #setWriteBuffering(boolean) write buffering} is enabled, from the writes discarded by
+	 * the rollback; otherwise they are logged as {@literal [unknown]}.
+	 *
+	 * @param slowTransactionThreshold {@link Duration} after which a cache transaction is logged as slow;
+	 * {@literal null} or a non-positive {@link Duration} disables the slow transaction log.
+	 */
+	public void setSlowTransactionThreshold(Duration slowTransactionThreshold) {
+		this.slowTransactionThreshold = slowTransactionThreshold;
+	}
+
+	/**
+	 * Returns the {@link Duration} after which a cache transaction is logged as slow.
+	 *
+	 * @return the {@link Duration} after which a cache transaction is logged as slow, or {@literal null}
+	 * if the slow transaction log is disabled.
+	 * @see #setSlowTransactionThreshold(Duration)
+	 */
+	protected Duration getSlowTransactionThreshold() {
+		return this.slowTransactionThreshold;
+	}
+
+	/**
+	 * Determines whether slow cache transactions are logged.
+	 *
+	 * @return a boolean value indicating whether slow cache transactions are logged.
+	 * @see #getSlowTransactionThreshold()
+	 */
+	protected boolean isSlowTransactionLogEnabled() {
+
+		Duration slowTransactionThreshold = getSlowTransactionThreshold();
+
+		return slowTransactionThreshold != null && !slowTransactionThreshold.isNegative()
+			&& !slowTransactionThreshold.isZero();
+	}
+
+	/**
+	 * Sets the {@link TransactionOperationListener} notified after each operation on a cache transaction,
+	 * for example a {@link MicrometerTransactionOperationListener} recording cache transaction metrics.
+	 *
+	 * @param transactionOperationListener {@link TransactionOperationListener} notified after each operation.
+	 * @see TransactionOperationListener
+	 */
+	public void setTransactionOperationListener(TransactionOperationListener transactionOperationListener) {
+		this.transactionOperationListener = transactionOperationListener;
+	}
+
+	public TransactionOperationListener getTransactionOperationListener() {
+		return this.transactionOperationListener;
+	}
+
+	/**
+	 * Sets whether puts and removes performed through a {@link org.springframework.data.gemfire.GemfireTemplate},
+	 * and so Spring Data Repositories, within a cache transaction are buffered and applied per {@link Region}
+	 * with {@link Region#putAll(java.util.Map)} and {@link Region#removeAll(java.util.Collection)} just before
+	 * the transaction is committed, rather than sent to the transaction host one by one.
+	 *
+	 * Reads of buffered keys through the {@link org.springframework.data.gemfire.GemfireTemplate} are served
+	 * from the buffer. Conditional writes, queries and callbacks apply the buffered writes first.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @param writeBuffering boolean value indicating whether writes are buffered until commit.
+	 * @see TransactionalWriteBuffer
+	 */
+	public void setWriteBuffering(boolean writeBuffering) {
+		this.writeBuffering = writeBuffering;
+	}
+
+	/**
+	 * Indicates whether writes within a cache transaction are buffered until commit.
+	 *
+	 * @return a boolean value indicating whether writes are buffered until commit.
+	 * @see #setWriteBuffering(boolean)
+	 */
+	public boolean isWriteBuffering() {
+		return this.writeBuffering;
+	}
+
 	/**
 	 * GemFire local cache transaction object.
 	 *
@@ -450,14 +745,35 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 		private boolean rollbackOnly = false;
 
+		private long beginTime;
+
 		private TransactionId transactionId;
 
+		private TransactionalWriteBuffer writeBuffer;
+
 		static CacheHolder newCacheHolder(TransactionId transactionId) {
+			return newCacheHolder(transactionId, System.nanoTime());
+		}
+
+		static CacheHolder newCacheHolder(TransactionId transactionId, long beginTime) {
 			CacheHolder cacheHolder = new CacheHolder();
 			cacheHolder.transactionId = transactionId;
+			cacheHolder.beginTime = beginTime;
 			return cacheHolder;
 		}
 
+		long getBeginTime() {
+			return this.beginTime;
+		}
+
+		void setWriteBuffer(TransactionalWriteBuffer writeBuffer) {
+			this.writeBuffer = writeBuffer;
+		}
+
+		TransactionalWriteBuffer getWriteBuffer() {
+			return this.writeBuffer;
+		}
+
 		void setRollbackOnly() {
 			this.rollbackOnly = true;
 		}
@@ -470,4 +786,54 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			return this.transactionId;
 		}
 	}
+
+	/**
+	 * {@link TransactionListener} recording the full paths of the {@link Region Regions} touched by the tracked
+	 * cache transactions, as reported in the {@link TransactionEvent} on completion of the transaction.
+	 */
+	static class TransactionRegionRecorder implements TransactionListener {
+
+		private final ConcurrentMap<TransactionId, Set<String>> regionPaths = new ConcurrentHashMap<>();
+
+		void track(TransactionId transactionId) {
+			this.regionPaths.put(transactionId, new ConcurrentSkipListSet<>());
+		}
+
+		Set<String> remove(TransactionId transactionId) {
+
+			Set<String> regionPaths = this.regionPaths.remove(transactionId);
+
+			return regionPaths != null ? regionPaths : Collections.emptySet();
+		}
+
+		@Override
+		public void afterCommit(TransactionEvent event) {
+			record(event);
+		}
+
+		@Override
+		public void afterFailedCommit(TransactionEvent event) {
+			record(event);
+		}
+
+		@Override
+		public void afterRollback(TransactionEvent event) {
+			record(event);
+		}
+
+		private void record(TransactionEvent event) {
+
+			Set<String> regionPaths = event != null && event.getTransactionId() != null
+				? this.regionPaths.get(event.getTransactionId())
+				: null;
+
+			if (regionPaths != null) {
+				for (CacheEvent<?, ?> cacheEvent : event.getEvents()) {
+					if (cacheEvent.getRegion() != null) {
+						regionPaths.add(cacheEvent.getRegion().getFullPath());
+					}
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link TransactionOperationListener} recording the operations of the {@link GemfireTransactionManager}
+ * in a Micrometer {@link MeterRegistry}.
+ *
+ * Records the following meters:
+ *
+ * <ul>
+ *     <li>{@literal gemfire.transaction.operation} {@link Timer}, with a percentile histogram, tagged with
+ *     the {@literal operation} and {@literal outcome}; the {@literal resume} operation includes the time waiting
+ *     for the suspended transaction to be resumed</li>
+ *     <li>{@literal gemfire.transaction.duration} {@link Timer}, with a percentile histogram, of the time from
+ *     the beginning of a transaction until it was committed or rolled back, tagged with the {@literal operation}
+ *     and {@literal outcome}</li>
+ *     <li>{@literal gemfire.transaction.commits} {@link Counter}, tagged with the {@literal outcome}</li>
+ *     <li>{@literal gemfire.transaction.rollbacks} {@link Counter}, tagged with the {@literal outcome}</li>
+ * </ul>
+ *
+ * The {@literal outcome} is one of {@literal success}, {@literal conflict}, {@literal timeout} or {@literal error}.
+ *
+ * Micrometer is an optional dependency and must be on the application classpath to use this listener.
+ *
+ * @see TransactionOperationListener
+ * @see io.micrometer.core.instrument.MeterRegistry
+ */
+public class MicrometerTransactionOperationListener implements TransactionOperationListener {
+
+	public static final String OPERATION_METER_NAME = "gemfire.transaction.operation";
+	public static final String COMMITS_METER_NAME = "gemfire.transaction.commits";
+	public static final String DURATION_METER_NAME = "gemfire.transaction.duration";
+	public static final String ROLLBACKS_METER_NAME = "gemfire.transaction.rollbacks";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Constructs a new {@link MicrometerTransactionOperationListener} recording meters
+	 * in the given {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which the meters are recorded; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MeterRegistry} is {@literal null}.
+	 */
+	public MicrometerTransactionOperationListener(@NonNull MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+
+		this.meterRegistry = meterRegistry;
+	}
+
+	protected @NonNull MeterRegistry getMeterRegistry() {
+		return this.meterRegistry;
+	}
+
+	@Override
+	public void onTransactionOperation(@NonNull TransactionOperationEvent event) {
+
+		String operation = event.getOperation().toString();
+		String outcome = resolveOutcome(event);
+
+		Timer.builder(OPERATION_METER_NAME)
+			.description("Time taken to perform an operation on a cache transaction")
+			.tag("operation", operation)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(getMeterRegistry())
+			.record(event.getDuration());
+
+		if (event.hasTransactionDuration()) {
+			Timer.builder(DURATION_METER_NAME)
+				.description("Time from the beginning of a cache transaction until it was committed or rolled back")
+				.tag("operation", operation)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(getMeterRegistry())
+				.record(event.getTransactionDuration());
+		}
+
+		if (TransactionOperationEvent.Operation.COMMIT.equals(event.getOperation())) {
+			Counter.builder(COMMITS_METER_NAME)
+				.description("Number of cache transaction commits")
+				.tag("outcome", outcome)
+				.register(getMeterRegistry())
+				.increment();
+		}
+		else if (TransactionOperationEvent.Operation.ROLLBACK.equals(event.getOperation())) {
+			Counter.builder(ROLLBACKS_METER_NAME)
+				.description("Number of cache transaction rollbacks")
+				.tag("outcome", outcome)
+				.register(getMeterRegistry())
+				.increment();
+		}
+	}
+
+	private String resolveOutcome(TransactionOperationEvent event) {
+		return event.isTimeout() ? "timeout"
+			: event.isSuccessful() ? "success"
+			: event.isConflict() ? "conflict"
+			: "error";
+	}
+}
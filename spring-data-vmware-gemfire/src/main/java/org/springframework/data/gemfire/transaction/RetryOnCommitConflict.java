@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.CommitConflictException;
+
+/**
+ * The {@link RetryOnCommitConflict} annotation declares that a {@link org.springframework.transaction.annotation.Transactional}
+ * method, or all {@link org.springframework.transaction.annotation.Transactional} methods of a class, are re-invoked
+ * in a new transaction when the transaction fails to commit because of a conflict with a concurrent transaction.
+ *
+ * Only the outermost transactional method is retried; a method joining an existing transaction fails immediately
+ * so that the enclosing transaction can be retried as a whole.
+ *
+ * @see CommitConflictException
+ * @see TransactionRetryInterceptor
+ * @see TransactionRetryPolicy
+ * @see org.springframework.data.gemfire.transaction.config.EnableGemfireCacheTransactions
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@SuppressWarnings("unused")
+public @interface RetryOnCommitConflict {
+
+	/**
+	 * Maximum number of times the method is invoked, including the first invocation.
+	 *
+	 * Defaults to {@literal 3}.
+	 */
+	int maxAttempts() default TransactionRetryPolicy.DEFAULT_MAX_ATTEMPTS;
+
+	/**
+	 * Time, in milliseconds, to wait before the first retry.
+	 *
+	 * Defaults to {@literal 50} milliseconds.
+	 */
+	long backoff() default TransactionRetryPolicy.DEFAULT_BACKOFF_IN_MILLISECONDS;
+
+	/**
+	 * Maximum time, in milliseconds, to wait before a retry.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 */
+	long maxBackoff() default TransactionRetryPolicy.DEFAULT_MAX_BACKOFF_IN_MILLISECONDS;
+
+	/**
+	 * Multiplier applied to the backoff after each retry.
+	 *
+	 * Defaults to {@literal 2.0}.
+	 */
+	double multiplier() default TransactionRetryPolicy.DEFAULT_MULTIPLIER;
+
+	/**
+	 * Fraction, between {@literal 0.0} and {@literal 1.0}, of the backoff that is randomized so that conflicting
+	 * transactions do not retry in lockstep.
+	 *
+	 * Defaults to {@literal 0.5}.
+	 */
+	double jitter() default TransactionRetryPolicy.DEFAULT_JITTER;
+
+	/**
+	 * {@link Throwable Exception} types, found anywhere in the cause chain of the failure, that cause a retry.
+	 *
+	 * Defaults to {@link CommitConflictException}.
+	 */
+	Class<? extends Throwable>[] retryFor() default { CommitConflictException.class };
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.time.Duration;
+
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.TransactionId;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes a completed operation, successful or not, performed by the {@link GemfireTransactionManager}
+ * on a cache transaction, as published to a {@link TransactionOperationListener}.
+ *
+ * @see GemfireTransactionManager
+ * @see TransactionOperationListener
+ */
+public final class TransactionOperationEvent {
+
+	/**
+	 * Operations performed by the {@link GemfireTransactionManager} on a cache transaction.
+	 */
+	public enum Operation {
+
+		BEGIN,
+		COMMIT,
+		ROLLBACK,
+		SUSPEND,
+		RESUME;
+
+		@Override
+		public String toString() {
+			return name().toLowerCase();
+		}
+	}
+
+	private final boolean timeout;
+
+	private final Duration duration;
+	private final Duration transactionDuration;
+
+	private final Operation operation;
+
+	private final Throwable failure;
+
+	private final TransactionId transactionId;
+
+	TransactionOperationEvent(@NonNull Operation operation, @Nullable TransactionId transactionId,
+			@NonNull Duration duration, @Nullable Duration transactionDuration, @Nullable Throwable failure,
+			boolean timeout) {
+
+		this.operation = operation;
+		this.transactionId = transactionId;
+		this.duration = duration;
+		this.transactionDuration = transactionDuration;
+		this.failure = failure;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns the {@link Operation} performed on the cache transaction.
+	 *
+	 * @return the {@link Operation} performed on the cache transaction.
+	 */
+	public @NonNull Operation getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Returns the {@link TransactionId} of the cache transaction.
+	 *
+	 * @return the {@link TransactionId} of the cache transaction, or {@literal null} if unknown,
+	 * as for a transaction that failed to begin.
+	 */
+	public @Nullable TransactionId getTransactionId() {
+		return this.transactionId;
+	}
+
+	/**
+	 * Returns the time taken to perform the {@link Operation}, including, for {@link Operation#RESUME},
+	 * the time waiting for the suspended transaction to be resumed.
+	 *
+	 * @return the duration of the {@link Operation}.
+	 */
+	public @NonNull Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Returns the time from the beginning of the cache transaction until it was committed or rolled back.
+	 *
+	 * @return the duration of the cache transaction, or {@literal null} unless the {@link Operation}
+	 * is {@link Operation#COMMIT} or {@link Operation#ROLLBACK}.
+	 * @see #hasTransactionDuration()
+	 */
+	public @Nullable Duration getTransactionDuration() {
+		return this.transactionDuration;
+	}
+
+	public boolean hasTransactionDuration() {
+		return getTransactionDuration() != null;
+	}
+
+	/**
+	 * Returns the {@link Throwable} causing the {@link Operation} to fail.
+	 *
+	 * @return the {@link Throwable} causing the {@link Operation} to fail, or {@literal null}
+	 * if the {@link Operation} succeeded.
+	 */
+	public @Nullable Throwable getFailure() {
+		return this.failure;
+	}
+
+	/**
+	 * Determines whether the {@link Operation} failed to commit because of a conflict
+	 * with a concurrent transaction.
+	 *
+	 * @return a boolean indicating whether the {@link Operation} failed on a commit conflict.
+	 */
+	public boolean isConflict() {
+
+		Throwable cause = getFailure();
+
+		while (cause != null) {
+
+			if (cause instanceof CommitConflictException) {
+				return true;
+			}
+
+			cause = cause.getCause() != cause ? cause.getCause() : null;
+		}
+
+		return false;
+	}
+
+	public boolean isSuccessful() {
+		return getFailure() == null && !isTimeout();
+	}
+
+	/**
+	 * Determines whether the suspended transaction could not be resumed in the configured resume wait time.
+	 *
+	 * @return a boolean indicating whether the {@link Operation#RESUME} timed out.
+	 */
+	public boolean isTimeout() {
+		return this.timeout;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TransactionOperationEvent { operation = %s, transactionId = %s, duration = %d ms,"
+				+ " successful = %s, timeout = %s }", getOperation(), getTransactionId(), getDuration().toMillis(),
+			isSuccessful(), isTimeout());
+	}
+}
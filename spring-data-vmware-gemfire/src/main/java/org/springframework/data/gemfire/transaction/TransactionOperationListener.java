@@ -0,0 +1,28 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Listener notified after each operation the {@link GemfireTransactionManager} performs on a cache transaction.
+ *
+ * Listeners are notified on the transaction {@link Thread} and should return quickly.
+ *
+ * @see TransactionOperationEvent
+ * @see MicrometerTransactionOperationListener
+ * @see GemfireTransactionManager#setTransactionOperationListener(TransactionOperationListener)
+ */
+@FunctionalInterface
+public interface TransactionOperationListener {
+
+	/**
+	 * Notifies this listener that an operation on a cache transaction completed.
+	 *
+	 * @param event {@link TransactionOperationEvent} describing the operation.
+	 */
+	void onTransactionOperation(@NonNull TransactionOperationEvent event);
+
+}
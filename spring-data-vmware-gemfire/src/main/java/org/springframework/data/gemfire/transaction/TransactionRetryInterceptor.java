@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} re-invoking {@link RetryOnCommitConflict} annotated methods, in a new
+ * transaction, when the transaction fails to commit with a retryable exception, such as a
+ * {@link org.apache.geode.cache.CommitConflictException}.
+ *
+ * This interceptor must be ordered before (outside of) the {@link org.springframework.transaction.interceptor.TransactionInterceptor}
+ * so that each attempt begins and completes its own transaction. A method invoked while a transaction is already
+ * in progress is not retried since only the outermost transaction can be retried as a whole.
+ *
+ * Conflicts, retries and exhausted retries are counted, in total as well as per method, to identify the operations
+ * contending on the same keys.
+ *
+ * @see MethodInterceptor
+ * @see RetryOnCommitConflict
+ * @see TransactionRetryPolicy
+ */
+public class TransactionRetryInterceptor implements MethodInterceptor {
+
+	private final ConcurrentMap<Method, Optional<TransactionRetryPolicy>> retryPolicies = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, LongAdder> conflictCountsByMethod = new ConcurrentHashMap<>();
+
+	private final LongAdder conflictCount = new LongAdder();
+	private final LongAdder exhaustedCount = new LongAdder();
+	private final LongAdder retryCount = new LongAdder();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		TransactionRetryPolicy retryPolicy = resolveRetryPolicy(invocation);
+
+		if (retryPolicy == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return invocation.proceed();
+		}
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return newInvocation(invocation).proceed();
+			}
+			catch (Throwable cause) {
+
+				if (!retryPolicy.isRetryable(cause)) {
+					throw cause;
+				}
+
+				String methodName = toMethodName(invocation);
+
+				this.conflictCount.increment();
+				this.conflictCountsByMethod.computeIfAbsent(methodName, key -> new LongAdder()).increment();
+
+				if (attempt >= retryPolicy.getMaxAttempts()) {
+
+					this.exhaustedCount.increment();
+
+					this.logger.warn("Transaction in [{}] failed to commit after [{}] attempt(s)", methodName, attempt);
+
+					throw cause;
+				}
+
+				long backoff = retryPolicy.getBackoff(attempt);
+
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug("Retrying transaction in [{}] after [{}] ms; attempt [{}] failed with [{}]",
+						methodName, backoff, attempt, cause.getMessage());
+				}
+
+				if (!sleep(backoff)) {
+					throw cause;
+				}
+
+				this.retryCount.increment();
+			}
+		}
+	}
+
+	private MethodInvocation newInvocation(MethodInvocation invocation) {
+
+		return invocation instanceof ProxyMethodInvocation
+			? ((ProxyMethodInvocation) invocation).invocableClone()
+			: invocation;
+	}
+
+	private boolean sleep(long milliseconds) {
+
+		try {
+			if (milliseconds > 0L) {
+				Thread.sleep(milliseconds);
+			}
+
+			return true;
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Resolves the {@link TransactionRetryPolicy} of the invoked {@link Method} from the {@link RetryOnCommitConflict}
+	 * annotation declared on the {@link Method} or, otherwise, on the target class.
+	 *
+	 * @param invocation {@link MethodInvocation} to evaluate.
+	 * @return the {@link TransactionRetryPolicy} of the invoked {@link Method} or {@literal null}
+	 * if the {@link Method} is not retried.
+	 */
+	protected @Nullable TransactionRetryPolicy resolveRetryPolicy(@NonNull MethodInvocation invocation) {
+
+		Method method = invocation.getMethod();
+
+		Optional<TransactionRetryPolicy> retryPolicy = this.retryPolicies.get(method);
+
+		if (retryPolicy == null) {
+			retryPolicy = this.retryPolicies.computeIfAbsent(method, key ->
+				Optional.ofNullable(findRetryOnCommitConflict(key, invocation.getThis()))
+					.map(TransactionRetryPolicy::from));
+		}
+
+		return retryPolicy.orElse(null);
+	}
+
+	private @Nullable RetryOnCommitConflict findRetryOnCommitConflict(Method method, @Nullable Object target) {
+
+		Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+
+		Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+		RetryOnCommitConflict retryOnCommitConflict =
+			AnnotatedElementUtils.findMergedAnnotation(specificMethod, RetryOnCommitConflict.class);
+
+		if (retryOnCommitConflict == null && specificMethod != method) {
+			retryOnCommitConflict = AnnotatedElementUtils.findMergedAnnotation(method, RetryOnCommitConflict.class);
+		}
+
+		return retryOnCommitConflict != null ? retryOnCommitConflict
+			: AnnotatedElementUtils.findMergedAnnotation(targetClass, RetryOnCommitConflict.class);
+	}
+
+	private String toMethodName(MethodInvocation invocation) {
+
+		Method method = invocation.getMethod();
+
+		return ClassUtils.getQualifiedMethodName(method, invocation.getThis() != null
+			? AopUtils.getTargetClass(invocation.getThis())
+			: method.getDeclaringClass());
+	}
+
+	/**
+	 * Returns the number of transactions that failed to commit with a retryable exception.
+	 *
+	 * @return the number of transactions that failed to commit with a retryable exception.
+	 */
+	public long getConflictCount() {
+		return this.conflictCount.sum();
+	}
+
+	/**
+	 * Returns the number of transactions that failed to commit with a retryable exception per method,
+	 * keyed by the qualified method name, to help identify the operations contending on the same keys.
+	 *
+	 * @return a {@link Map} of the number of conflicts per method.
+	 */
+	public @NonNull Map<String, Long> getConflictCountsByMethod() {
+
+		Map<String, Long> conflictCountsByMethod = new TreeMap<>();
+
+		this.conflictCountsByMethod.forEach((methodName, count) -> conflictCountsByMethod.put(methodName, count.sum()));
+
+		return conflictCountsByMethod;
+	}
+
+	/**
+	 * Returns the number of methods for which all attempts failed to commit.
+	 *
+	 * @return the number of methods for which all attempts failed to commit.
+	 */
+	public long getExhaustedCount() {
+		return this.exhaustedCount.sum();
+	}
+
+	/**
+	 * Returns the number of times a method was re-invoked after its transaction failed to commit.
+	 *
+	 * @return the number of retries.
+	 */
+	public long getRetryCount() {
+		return this.retryCount.sum();
+	}
+}
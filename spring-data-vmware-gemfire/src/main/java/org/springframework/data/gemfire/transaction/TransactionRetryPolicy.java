@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.geode.cache.CommitConflictException;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Policy determining whether, and after how long, a transaction that failed to commit is retried.
+ *
+ * The backoff grows exponentially from the initial backoff by the multiplier, up to the maximum backoff,
+ * and a fraction of each backoff, the jitter, is randomized to spread out the retries of conflicting transactions.
+ *
+ * @see RetryOnCommitConflict
+ * @see TransactionRetryInterceptor
+ */
+public class TransactionRetryPolicy {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	public static final long DEFAULT_BACKOFF_IN_MILLISECONDS = 50L;
+	public static final long DEFAULT_MAX_BACKOFF_IN_MILLISECONDS = 1000L;
+
+	public static final double DEFAULT_JITTER = 0.5d;
+	public static final double DEFAULT_MULTIPLIER = 2.0d;
+
+	private final double jitter;
+	private final double multiplier;
+
+	private final int maxAttempts;
+
+	private final long backoffInMilliseconds;
+	private final long maxBackoffInMilliseconds;
+
+	private final Set<Class<? extends Throwable>> retryableExceptionTypes;
+
+	/**
+	 * Factory method used to construct a new {@link TransactionRetryPolicy} with the default settings,
+	 * retrying transactions that failed with a {@link CommitConflictException}.
+	 *
+	 * @return a new {@link TransactionRetryPolicy} with the default settings.
+	 */
+	public static @NonNull TransactionRetryPolicy withDefaults() {
+		return new TransactionRetryPolicy(DEFAULT_MAX_ATTEMPTS, Duration.ofMillis(DEFAULT_BACKOFF_IN_MILLISECONDS),
+			Duration.ofMillis(DEFAULT_MAX_BACKOFF_IN_MILLISECONDS), DEFAULT_MULTIPLIER, DEFAULT_JITTER,
+			Collections.singleton(CommitConflictException.class));
+	}
+
+	/**
+	 * Factory method used to construct a new {@link TransactionRetryPolicy} from the given
+	 * {@link RetryOnCommitConflict} annotation.
+	 *
+	 * @param retryOnCommitConflict {@link RetryOnCommitConflict} annotation declaring the policy.
+	 * @return a new {@link TransactionRetryPolicy}.
+	 * @throws IllegalArgumentException if the annotation declares an invalid policy.
+	 */
+	public static @NonNull TransactionRetryPolicy from(@NonNull RetryOnCommitConflict retryOnCommitConflict) {
+
+		return new TransactionRetryPolicy(retryOnCommitConflict.maxAttempts(),
+			Duration.ofMillis(retryOnCommitConflict.backoff()), Duration.ofMillis(retryOnCommitConflict.maxBackoff()),
+			retryOnCommitConflict.multiplier(), retryOnCommitConflict.jitter(),
+			new LinkedHashSet<>(Arrays.asList(retryOnCommitConflict.retryFor())));
+	}
+
+	/**
+	 * Constructs a new {@link TransactionRetryPolicy}.
+	 *
+	 * @param maxAttempts maximum number of attempts, including the first; must be greater than {@literal 0}.
+	 * @param backoff {@link Duration} to wait before the first retry; must not be {@literal null} or negative.
+	 * @param maxBackoff maximum {@link Duration} to wait before a retry; must not be {@literal null} or negative.
+	 * @param multiplier multiplier applied to the backoff after each retry; must be at least {@literal 1.0}.
+	 * @param jitter fraction of the backoff that is randomized; must be between {@literal 0.0} and {@literal 1.0}.
+	 * @param retryableExceptionTypes {@link Throwable Exception} types causing a retry.
+	 * @throws IllegalArgumentException if any argument is invalid.
+	 */
+	public TransactionRetryPolicy(int maxAttempts, @NonNull Duration backoff, @NonNull Duration maxBackoff,
+			double multiplier, double jitter, @Nullable Set<Class<? extends Throwable>> retryableExceptionTypes) {
+
+		Assert.isTrue(maxAttempts > 0, () -> String.format("Max attempts [%d] must be greater than 0", maxAttempts));
+		Assert.isTrue(backoff != null && !backoff.isNegative(),
+			() -> String.format("Backoff [%s] must not be null or negative", backoff));
+		Assert.isTrue(maxBackoff != null && !maxBackoff.isNegative(),
+			() -> String.format("Max backoff [%s] must not be null or negative", maxBackoff));
+		Assert.isTrue(multiplier >= 1.0d,
+			() -> String.format("Multiplier [%s] must be greater than or equal to 1.0", multiplier));
+		Assert.isTrue(jitter >= 0.0d && jitter <= 1.0d,
+			() -> String.format("Jitter [%s] must be between 0.0 and 1.0", jitter));
+
+		this.maxAttempts = maxAttempts;
+		this.backoffInMilliseconds = backoff.toMillis();
+		this.maxBackoffInMilliseconds = maxBackoff.toMillis();
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.retryableExceptionTypes = retryableExceptionTypes != null
+			? Collections.unmodifiableSet(new LinkedHashSet<>(retryableExceptionTypes))
+			: Collections.emptySet();
+	}
+
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	public @NonNull Set<Class<? extends Throwable>> getRetryableExceptionTypes() {
+		return this.retryableExceptionTypes;
+	}
+
+	/**
+	 * Determines whether the given failure is retryable, that is, whether the failure or any of its causes
+	 * is an instance of a {@link #getRetryableExceptionTypes() retryable exception type}.
+	 *
+	 * @param failure {@link Throwable} to evaluate.
+	 * @return a boolean value indicating whether the given failure is retryable.
+	 */
+	public boolean isRetryable(@Nullable Throwable failure) {
+
+		for (Throwable cause = failure; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+			for (Class<? extends Throwable> retryableExceptionType : this.retryableExceptionTypes) {
+				if (retryableExceptionType.isInstance(cause)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Computes the jittered backoff before the given retry.
+	 *
+	 * @param retry number of the retry, starting at {@literal 1}.
+	 * @return the jittered backoff, in milliseconds, before the given retry.
+	 */
+	public long getBackoff(int retry) {
+
+		double backoff = Math.min(this.backoffInMilliseconds * Math.pow(this.multiplier, Math.max(retry - 1, 0)),
+			this.maxBackoffInMilliseconds);
+
+		return Math.round(backoff - backoff * this.jitter * ThreadLocalRandom.current().nextDouble());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s { maxAttempts = %d, backoff = %d ms, maxBackoff = %d ms, multiplier = %s,"
+				+ " jitter = %s, retryFor = %s }", getClass().getSimpleName(), this.maxAttempts,
+			this.backoffInMilliseconds, this.maxBackoffInMilliseconds, this.multiplier, this.jitter,
+			this.retryableExceptionTypes);
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Buffers the puts and removes performed on {@link Region Regions} within a cache transaction managed by
+ * the {@link GemfireTransactionManager}, with
+ * {@link GemfireTransactionManager#setWriteBuffering(boolean) write buffering} enabled, and applies them,
+ * per {@link Region}, with a single {@link Region#putAll(Map)} and {@link Region#removeAll(Collection)}
+ * just before the transaction is committed.
+ *
+ * Only the last write of each key is applied. Reads of buffered keys are served from the buffer, so the transaction
+ * reads its own writes. Operations that cannot be served from the buffer, such as conditional writes and queries,
+ * must {@link #flush(Region) flush} the buffered writes first.
+ *
+ * Buffered writes never read the {@link Region}. Therefore,
+ * {@link org.springframework.data.gemfire.GemfireTemplate#put(Object, Object)} and
+ * {@link org.springframework.data.gemfire.GemfireTemplate#remove(Object)} return the buffered old value of the key,
+ * or {@literal null} if no write to the key is buffered, rather than the value stored in the {@link Region}.
+ *
+ * A {@link TransactionalWriteBuffer} is bound to the transaction and used only by the transaction {@link Thread}.
+ *
+ * @see GemfireTransactionManager#setWriteBuffering(boolean)
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ */
+public class TransactionalWriteBuffer {
+
+	private static final Object REMOVED = new Object();
+
+	private final Map<Region<?, ?>, Map<Object, Object>> writes = new LinkedHashMap<>();
+
+	/**
+	 * Returns the {@link TransactionalWriteBuffer} of the cache transaction in progress on the current {@link Thread}
+	 * in the {@link RegionService cache} of the given {@link Region}.
+	 *
+	 * @param region {@link Region} accessed in the transaction.
+	 * @return the {@link TransactionalWriteBuffer} of the current cache transaction, or {@literal null}
+	 * if no transaction is in progress or write buffering is disabled.
+	 */
+	public static @Nullable TransactionalWriteBuffer getCurrent(@Nullable Region<?, ?> region) {
+
+		RegionService cache = region != null && TransactionSynchronizationManager.isActualTransactionActive()
+			? region.getRegionService()
+			: null;
+
+		Object resource = cache != null ? TransactionSynchronizationManager.getResource(cache) : null;
+
+		return resource instanceof GemfireTransactionManager.CacheHolder
+			? ((GemfireTransactionManager.CacheHolder) resource).getWriteBuffer()
+			: null;
+	}
+
+	TransactionalWriteBuffer() { }
+
+	private Map<Object, Object> getWrites(Region<?, ?> region) {
+
+		Assert.notNull(region, "Region must not be null");
+
+		return this.writes.computeIfAbsent(region, key -> new LinkedHashMap<>());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <V> V resolveValue(@Nullable Object value) {
+		return value != REMOVED ? (V) value : null;
+	}
+
+	/**
+	 * Determines whether a write to the given key of the given {@link Region} is buffered.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @param key key to evaluate.
+	 * @return a boolean value indicating whether a write to the key is buffered.
+	 */
+	public boolean isBuffered(@NonNull Region<?, ?> region, Object key) {
+
+		Map<Object, Object> regionWrites = this.writes.get(region);
+
+		return regionWrites != null && regionWrites.containsKey(key);
+	}
+
+	public boolean isEmpty() {
+		return this.writes.values().stream().allMatch(Map::isEmpty);
+	}
+
+	/**
+	 * Returns the full paths of the {@link Region Regions} with buffered writes.
+	 *
+	 * @return the full paths of the {@link Region Regions} with buffered writes.
+	 * @see Region#getFullPath()
+	 */
+	@NonNull Set<String> getRegionPaths() {
+
+		Set<String> regionPaths = new TreeSet<>();
+
+		this.writes.forEach((region, regionWrites) -> {
+			if (!regionWrites.isEmpty()) {
+				regionPaths.add(region.getFullPath());
+			}
+		});
+
+		return regionPaths;
+	}
+
+	/**
+	 * Returns the buffered value of the given key of the given {@link Region}.
+	 *
+	 * @param <V> {@link Class type} of the value.
+	 * @param region {@link Region} to read.
+	 * @param key key to read.
+	 * @return the buffered value, or {@literal null} if the key was removed or no write to the key is buffered.
+	 * @see #isBuffered(Region, Object)
+	 */
+	public @Nullable <V> V get(@NonNull Region<?, ?> region, Object key) {
+
+		Map<Object, Object> regionWrites = this.writes.get(region);
+
+		return regionWrites != null ? resolveValue(regionWrites.get(key)) : null;
+	}
+
+	/**
+	 * Returns the values of the given keys of the given {@link Region}, reading the buffered values
+	 * and getting the values of the other keys from the {@link Region} in a single {@link Region#getAll(Collection)}.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param region {@link Region} to read.
+	 * @param keys keys to read.
+	 * @return a {@link Map} of the keys to their values; as with {@link Region#getAll(Collection)}, keys without
+	 * a value, including keys removed in the transaction, are mapped to {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public @NonNull <K, V> Map<K, V> getAll(@NonNull Region<K, V> region, @NonNull Collection<?> keys) {
+
+		Map<Object, Object> regionWrites = this.writes.get(region);
+
+		if (regionWrites == null || regionWrites.isEmpty()) {
+			return region.getAll(keys);
+		}
+
+		Map<K, V> values = new HashMap<>(keys.size());
+
+		List<Object> unbufferedKeys = new ArrayList<>(keys.size());
+
+		for (Object key : keys) {
+			if (regionWrites.containsKey(key)) {
+				values.put((K) key, resolveValue(regionWrites.get(key)));
+			}
+			else {
+				unbufferedKeys.add(key);
+			}
+		}
+
+		if (!unbufferedKeys.isEmpty()) {
+			values.putAll(region.getAll(unbufferedKeys));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Buffers a put of the given key and value to the given {@link Region}.
+	 *
+	 * @param <V> {@link Class type} of the value.
+	 * @param region {@link Region} to write.
+	 * @param key key to put.
+	 * @param value value to put.
+	 * @return the previously buffered value, or {@literal null} if no value of the key is buffered.
+	 */
+	public @Nullable <V> V put(@NonNull Region<?, ?> region, Object key, V value) {
+		return resolveValue(getWrites(region).put(key, value));
+	}
+
+	/**
+	 * Buffers a put of all the entries of the given {@link Map} to the given {@link Region}.
+	 *
+	 * @param region {@link Region} to write.
+	 * @param map {@link Map} of the entries to put.
+	 */
+	public void putAll(@NonNull Region<?, ?> region, @NonNull Map<?, ?> map) {
+		getWrites(region).putAll(map);
+	}
+
+	/**
+	 * Buffers a remove of the given key from the given {@link Region}.
+	 *
+	 * @param <V> {@link Class type} of the value.
+	 * @param region {@link Region} to write.
+	 * @param key key to remove.
+	 * @return the previously buffered value, or {@literal null} if no value of the key is buffered.
+	 */
+	public @Nullable <V> V remove(@NonNull Region<?, ?> region, Object key) {
+		return resolveValue(getWrites(region).put(key, REMOVED));
+	}
+
+	/**
+	 * Buffers a remove of all the given keys from the given {@link Region}.
+	 *
+	 * @param region {@link Region} to write.
+	 * @param keys keys to remove.
+	 */
+	public void removeAll(@NonNull Region<?, ?> region, @NonNull Collection<?> keys) {
+
+		Map<Object, Object> regionWrites = getWrites(region);
+
+		for (Object key : keys) {
+			regionWrites.put(key, REMOVED);
+		}
+	}
+
+	/**
+	 * Discards all buffered writes.
+	 */
+	public void clear() {
+		this.writes.clear();
+	}
+
+	/**
+	 * Applies all buffered writes, {@link Region} by {@link Region}, in the order the {@link Region Regions}
+	 * were first written.
+	 *
+	 * @see #flush(Region)
+	 */
+	public void flush() {
+
+		for (Region<?, ?> region : new ArrayList<>(this.writes.keySet())) {
+			flush(region);
+		}
+	}
+
+	/**
+	 * Applies the buffered writes of the given {@link Region} with a single {@link Region#putAll(Map)}
+	 * and {@link Region#removeAll(Collection)}.
+	 *
+	 * @param region {@link Region} whose buffered writes are applied.
+	 */
+	@SuppressWarnings("unchecked")
+	public void flush(@NonNull Region<?, ?> region) {
+
+		Map<Object, Object> regionWrites = this.writes.remove(region);
+
+		if (regionWrites != null && !regionWrites.isEmpty()) {
+
+			Map<Object, Object> puts = new LinkedHashMap<>(regionWrites.size());
+
+			List<Object> removes = new ArrayList<>();
+
+			regionWrites.forEach((key, value) -> {
+				if (value != REMOVED) {
+					puts.put(key, value);
+				}
+				else {
+					removes.add(key);
+				}
+			});
+
+			if (!puts.isEmpty()) {
+				((Region<Object, Object>) region).putAll(puts);
+			}
+
+			if (!removes.isEmpty()) {
+				((Region<Object, Object>) region).removeAll(removes);
+			}
+		}
+	}
+}
@@ -45,4 +45,38 @@ public @interface EnableGemfireCacheTransactions {
 	 */
 	boolean enableAutoTransactionEventPublishing() default false;
 
+	/**
+	 * Configures whether automatically fired {@link TransactionApplicationEvent} objects are published asynchronously,
+	 * after the transaction completes, rather than on the transaction {@link Thread}.
+	 *
+	 * Asynchronously published events are only received by
+	 * {@link org.springframework.transaction.event.TransactionalEventListener} methods declaring
+	 * {@literal fallbackExecution}, since no transaction is active on the publishing {@link Thread}.
+	 *
+	 * @return a boolean value indicating whether transactional events are published asynchronously.
+	 * Defaults to {@literal false}.
+	 * @see org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter#withAsyncPublishing(int, int)
+	 */
+	boolean enableAsyncTransactionEventPublishing() default false;
+
+	/**
+	 * Configures the time, in milliseconds, after which a cache transaction is logged as slow, along with
+	 * the {@link org.apache.geode.cache.Region Regions} touched by the transaction.
+	 *
+	 * @return the time, in milliseconds, after which a cache transaction is logged as slow.
+	 * Defaults to {@literal 0}, which disables the slow transaction log.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager#setSlowTransactionThreshold(java.time.Duration)
+	 */
+	long slowTransactionThreshold() default 0L;
+
+	/**
+	 * Configures whether puts and removes performed through a {@link org.springframework.data.gemfire.GemfireTemplate},
+	 * or Spring Data Repository, within a cache transaction are buffered and applied with {@literal putAll}
+	 * and {@literal removeAll} just before the transaction is committed.
+	 *
+	 * @return a boolean value indicating whether writes are buffered until commit. Defaults to {@literal false}.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager#setWriteBuffering(boolean)
+	 */
+	boolean enableWriteBuffering() default false;
+
 }
@@ -5,15 +5,24 @@
 package org.springframework.data.gemfire.transaction.config;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.geode.cache.TransactionListener;
 import org.apache.geode.cache.TransactionWriter;
 import org.apache.geode.cache.client.ClientCache;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
+import org.springframework.context.annotation.Role;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.Order;
@@ -22,6 +31,9 @@ import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
 import org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.transaction.GemfireTransactionManager;
+import org.springframework.data.gemfire.transaction.RetryOnCommitConflict;
+import org.springframework.data.gemfire.transaction.TransactionOperationListener;
+import org.springframework.data.gemfire.transaction.TransactionRetryInterceptor;
 import org.springframework.data.gemfire.transaction.event.ComposableTransactionWriter;
 import org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -46,6 +58,8 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * @see ClientCacheConfigurer
  * @see AbstractAnnotationConfigSupport
  * @see GemfireTransactionManager
+ * @see RetryOnCommitConflict
+ * @see TransactionRetryInterceptor
  * @see ComposableTransactionWriter
  * @see TransactionListenerAdapter
  * @see EnableTransactionManagement
@@ -56,7 +70,11 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @SuppressWarnings("unused")
 public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
 
+	private volatile boolean enableAsyncTransactionEventPublishing;
 	private volatile boolean enableAutoTransactionEventPublishing;
+	private volatile boolean enableWriteBuffering;
+
+	private volatile long slowTransactionThreshold;
 
 	@Override
 	protected Class<? extends Annotation> getAnnotationType() {
@@ -72,6 +90,14 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 
 			this.enableAutoTransactionEventPublishing =
 				enableGemfireCacheTransactionsAttributes.getBoolean("enableAutoTransactionEventPublishing");
+
+			this.enableAsyncTransactionEventPublishing =
+				enableGemfireCacheTransactionsAttributes.getBoolean("enableAsyncTransactionEventPublishing");
+
+			this.enableWriteBuffering = enableGemfireCacheTransactionsAttributes.getBoolean("enableWriteBuffering");
+
+			this.slowTransactionThreshold =
+				enableGemfireCacheTransactionsAttributes.getNumber("slowTransactionThreshold").longValue();
 		}
 	}
 
@@ -79,14 +105,59 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 	 * Declares and registers SDG's {@link GemfireTransactionManager} as the {@literal transactionManager}
 	 * in Spring's Transaction Management infrastructure to manage local, GemFire/Geode cache transactions.
 	 *
+	 * The {@link GemfireTransactionManager} notifies the single {@link TransactionOperationListener} bean, if any,
+	 * of the operations performed on cache transactions.
+	 *
 	 * @param gemfireCache reference to the {@link ClientCache}.
+	 * @param transactionOperationListener {@link ObjectProvider} of an optional {@link TransactionOperationListener}.
 	 * @return a new instance of {@link GemfireTransactionManager} initialized with the given {@link ClientCache}.
 	 * @see GemfireTransactionManager
+	 * @see TransactionOperationListener
 	 * @see ClientCache
 	 */
 	@Bean
-	public GemfireTransactionManager transactionManager(ClientCache gemfireCache) {
-		return new GemfireTransactionManager(gemfireCache);
+	public GemfireTransactionManager transactionManager(ClientCache gemfireCache,
+			ObjectProvider<TransactionOperationListener> transactionOperationListener) {
+
+		GemfireTransactionManager transactionManager = new GemfireTransactionManager(gemfireCache);
+
+		transactionManager.setSlowTransactionThreshold(Duration.ofMillis(this.slowTransactionThreshold));
+		transactionManager.setTransactionOperationListener(transactionOperationListener.getIfUnique());
+		transactionManager.setWriteBuffering(this.enableWriteBuffering);
+
+		return transactionManager;
+	}
+
+	/**
+	 * Declares and registers an {@link Advisor} applying the {@link TransactionRetryInterceptor} to
+	 * {@link RetryOnCommitConflict} annotated classes and methods.
+	 *
+	 * The {@link Advisor} is ordered before Spring's transaction {@link Advisor} so that each attempt
+	 * is executed in a new transaction.
+	 *
+	 * @param transactionRetryInterceptor {@link TransactionRetryInterceptor} retrying conflicting transactions.
+	 * @return a new {@link Advisor} retrying {@link RetryOnCommitConflict} annotated methods.
+	 * @see TransactionRetryInterceptor
+	 * @see RetryOnCommitConflict
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public Advisor transactionRetryAdvisor(TransactionRetryInterceptor transactionRetryInterceptor) {
+
+		Pointcut pointcut = Pointcuts.union(new AnnotationMatchingPointcut(RetryOnCommitConflict.class, true),
+			new AnnotationMatchingPointcut(null, RetryOnCommitConflict.class, true));
+
+		DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, transactionRetryInterceptor);
+
+		advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+		return advisor;
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public TransactionRetryInterceptor transactionRetryInterceptor() {
+		return new TransactionRetryInterceptor();
 	}
 
 	@Bean
@@ -105,7 +176,15 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 	private TransactionListenerAdapter newTransactionListenerAdapter(
 			ApplicationEventPublisher applicationEventPublisher) {
 
-		return new TransactionListenerAdapter(applicationEventPublisher);
+		TransactionListenerAdapter transactionListener = new TransactionListenerAdapter(applicationEventPublisher);
+
+		boolean asyncTransactionEventPublishing =
+			this.enableAutoTransactionEventPublishing && this.enableAsyncTransactionEventPublishing;
+
+		return asyncTransactionEventPublishing
+			? transactionListener.withAsyncPublishing(TransactionListenerAdapter.DEFAULT_ASYNC_CONCURRENCY,
+				TransactionListenerAdapter.DEFAULT_ASYNC_QUEUE_CAPACITY)
+			: transactionListener;
 	}
 
 	protected void registerGemFireCacheTransactionEventHandlers(ClientCacheFactoryBean cacheFactoryBean,
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Publishes {@link TransactionApplicationEvent TransactionApplicationEvents} asynchronously, off the
+ * transaction {@link Thread}, on a fixed number of lanes.
+ *
+ * Each lane is a bounded queue drained, in order, by a single {@link Thread}. All events of a transaction
+ * are published on the same lane, selected by the transaction ID, so the events of a transaction are published
+ * in the order the transaction raised them. Publishing blocks the transaction {@link Thread} while the lane
+ * is full rather than dropping events or publishing them out of order.
+ *
+ * Events may optionally be coalesced into a {@link TransactionApplicationEventBatch} of up to a maximum size,
+ * collected within a window starting at the first event of the batch.
+ *
+ * Events are queued from construction, but only published once the publisher is {@link #start() started},
+ * so that a replacement publisher can accept events while the publisher it replaces is closed. Events queued
+ * before the publisher is {@link #close(Duration) closed} are always published by the lanes; events published
+ * afterwards are published on the calling {@link Thread}.
+ *
+ * @see TransactionApplicationEvent
+ * @see TransactionApplicationEventBatch
+ * @see TransactionListenerAdapter
+ */
+class AsyncTransactionEventPublisher {
+
+	static final long POLL_TIMEOUT_IN_MILLISECONDS = 100L;
+
+	private final int maximumBatchSize;
+
+	private final long batchWindowInNanoseconds;
+
+	private volatile boolean running = true;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	private final Lane[] lanes;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+	AsyncTransactionEventPublisher(@NonNull ApplicationEventPublisher applicationEventPublisher,
+			@NonNull ThreadFactory threadFactory, int concurrency, int queueCapacity, @NonNull Duration batchWindow,
+			int maximumBatchSize) {
+
+		Assert.notNull(applicationEventPublisher, "ApplicationEventPublisher must not be null");
+		Assert.notNull(threadFactory, "ThreadFactory must not be null");
+		Assert.isTrue(concurrency > 0, () -> String.format("Concurrency [%d] must be greater than 0", concurrency));
+		Assert.isTrue(queueCapacity > 0,
+			() -> String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+		Assert.notNull(batchWindow, "Batch window must not be null");
+		Assert.isTrue(!batchWindow.isNegative(),
+			() -> String.format("Batch window [%s] must not be negative", batchWindow));
+		Assert.isTrue(maximumBatchSize > 0,
+			() -> String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.batchWindowInNanoseconds = batchWindow.toNanos();
+		this.maximumBatchSize = maximumBatchSize;
+		this.lanes = new Lane[concurrency];
+
+		for (int index = 0; index < concurrency; index++) {
+			this.lanes[index] = new Lane(threadFactory, queueCapacity);
+		}
+	}
+
+	/**
+	 * Starts publishing the queued events.
+	 *
+	 * @return this {@link AsyncTransactionEventPublisher}.
+	 */
+	AsyncTransactionEventPublisher start() {
+
+		for (Lane lane : this.lanes) {
+			lane.thread.start();
+		}
+
+		return this;
+	}
+
+	int getConcurrency() {
+		return this.lanes.length;
+	}
+
+	boolean isBatching() {
+		return this.maximumBatchSize > 1;
+	}
+
+	boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Queues the given {@link TransactionApplicationEvent} for publication on the lane of the given transaction.
+	 *
+	 * @param transactionId ID of the transaction that raised the event.
+	 * @param event {@link TransactionApplicationEvent} to publish; published on the calling {@link Thread}
+	 * if this publisher was closed.
+	 */
+	void publish(@Nullable Object transactionId, @NonNull TransactionApplicationEvent event) {
+
+		if (!queue(transactionId, event)) {
+			publishEvents(List.of(event));
+		}
+	}
+
+	private boolean queue(Object transactionId, TransactionApplicationEvent event) {
+
+		this.runningLock.readLock().lock();
+
+		try {
+			if (isRunning()) {
+				this.lanes[Math.floorMod(spread(Objects.hashCode(transactionId)), this.lanes.length)].queue.put(event);
+				return true;
+			}
+
+			return false;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		finally {
+			this.runningLock.readLock().unlock();
+		}
+	}
+
+	private static int spread(int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+
+	/**
+	 * Stops accepting events and waits, up to the given timeout, for the queued events to be published.
+	 *
+	 * No events are queued once this method returns, so that every queued event is published by the lanes.
+	 *
+	 * @param timeout {@link Duration} to wait for the queued events to be published.
+	 */
+	void close(@NonNull Duration timeout) {
+
+		stop();
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+
+		for (Lane lane : this.lanes) {
+			try {
+				lane.thread.join(Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1L));
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting events and waits for all the queued events to be published.
+	 *
+	 * @throws InterruptedException if the calling {@link Thread} is interrupted while waiting.
+	 */
+	void closeAndAwait() throws InterruptedException {
+
+		stop();
+
+		for (Lane lane : this.lanes) {
+			lane.thread.join();
+		}
+	}
+
+	private void stop() {
+
+		this.runningLock.writeLock().lock();
+
+		try {
+			this.running = false;
+		}
+		finally {
+			this.runningLock.writeLock().unlock();
+		}
+	}
+
+	private void publishEvents(List<TransactionApplicationEvent> events) {
+
+		try {
+			if (isBatching()) {
+				this.applicationEventPublisher
+					.publishEvent(new TransactionApplicationEventBatch(new ArrayList<>(events)));
+			}
+			else {
+				events.forEach(this.applicationEventPublisher::publishEvent);
+			}
+		}
+		catch (RuntimeException cause) {
+			this.logger.error(String.format("Failed to publish [%d] transaction event(s)", events.size()), cause);
+		}
+	}
+
+	private final class Lane implements Runnable {
+
+		private final BlockingQueue<TransactionApplicationEvent> queue;
+
+		private final Thread thread;
+
+		private Lane(ThreadFactory threadFactory, int queueCapacity) {
+
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+			this.thread = threadFactory.newThread(this);
+
+			Assert.state(this.thread != null, () -> String.format("ThreadFactory [%s] did not create a Thread",
+				threadFactory));
+		}
+
+		@Override
+		public void run() {
+
+			List<TransactionApplicationEvent> events = new ArrayList<>(maximumBatchSize);
+
+			while (isRunning() || !this.queue.isEmpty()) {
+				try {
+
+					TransactionApplicationEvent event =
+						this.queue.poll(POLL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+
+					if (event != null) {
+
+						events.add(event);
+
+						if (isBatching()) {
+							fill(events);
+						}
+
+						publishEvents(events);
+						events.clear();
+					}
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+
+		private void fill(List<TransactionApplicationEvent> events) throws InterruptedException {
+
+			long deadline = System.nanoTime() + batchWindowInNanoseconds;
+
+			this.queue.drainTo(events, maximumBatchSize - events.size());
+
+			long pollTimeout = TimeUnit.MILLISECONDS.toNanos(POLL_TIMEOUT_IN_MILLISECONDS);
+
+			while (events.size() < maximumBatchSize) {
+
+				long remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0) {
+					break;
+				}
+
+				TransactionApplicationEvent event =
+					this.queue.poll(Math.min(remaining, pollTimeout), TimeUnit.NANOSECONDS);
+
+				if (event != null) {
+					events.add(event);
+					this.queue.drainTo(events, maximumBatchSize - events.size());
+				}
+				else if (!isRunning()) {
+					break;
+				}
+			}
+		}
+	}
+}
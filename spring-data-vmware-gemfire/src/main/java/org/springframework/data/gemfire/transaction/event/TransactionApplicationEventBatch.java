@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link ApplicationEvent} coalescing multiple {@link TransactionApplicationEvent TransactionApplicationEvents},
+ * in the order the transactions completed, when {@link TransactionListenerAdapter} publishes transaction events
+ * asynchronously in batches.
+ *
+ * @see ApplicationEvent
+ * @see TransactionApplicationEvent
+ * @see TransactionListenerAdapter#withBatching(java.time.Duration, int)
+ */
+@SuppressWarnings("unused")
+public class TransactionApplicationEventBatch extends ApplicationEvent {
+
+	/**
+	 * Constructs a new {@link TransactionApplicationEventBatch} for the given {@link List}
+	 * of {@link TransactionApplicationEvent TransactionApplicationEvents}.
+	 *
+	 * @param events {@link List} of {@link TransactionApplicationEvent TransactionApplicationEvents} in the batch.
+	 */
+	public TransactionApplicationEventBatch(@NonNull List<TransactionApplicationEvent> events) {
+		super(Collections.unmodifiableList(events));
+	}
+
+	/**
+	 * Returns the {@link TransactionApplicationEvent TransactionApplicationEvents} in this batch.
+	 *
+	 * @return the {@link TransactionApplicationEvent TransactionApplicationEvents} in this batch.
+	 */
+	@SuppressWarnings("unchecked")
+	public @NonNull List<TransactionApplicationEvent> getEvents() {
+		return (List<TransactionApplicationEvent>) getSource();
+	}
+
+	public int size() {
+		return getEvents().size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[%d]", getClass().getSimpleName(), size());
+	}
+}
@@ -4,6 +4,9 @@
  */
 package org.springframework.data.gemfire.transaction.event;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
 import org.apache.geode.cache.TransactionEvent;
 import org.apache.geode.cache.TransactionListener;
 import org.apache.geode.cache.TransactionWriter;
@@ -11,6 +14,9 @@ import org.apache.geode.cache.TransactionWriter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -18,18 +24,47 @@ import org.springframework.util.Assert;
  * and {@link TransactionWriter} implementation that publishes the {@link TransactionEvent} to application components
  * and beans declared in the Spring {@link ApplicationContext} using the {@link ApplicationEventPublisher}.
  *
+ * By default, events are published synchronously on the transaction {@link Thread}. With
+ * {@link #withAsyncPublishing(int, int) asynchronous publishing}, events are published after the transaction
+ * completes on a bounded number of publisher {@link Thread Threads}, so slow listeners do not add to the latency
+ * of the commit, while the events of a transaction are still published in order.
+ *
+ * When Spring transaction synchronization is active on the transaction {@link Thread}, such as for a transaction
+ * managed by the {@link org.springframework.data.gemfire.transaction.GemfireTransactionManager}, asynchronously
+ * published events are handed to the publisher {@link Thread Threads} after the Spring transaction completes.
+ * No transaction is active on the publisher {@link Thread Threads}, so these events are received by
+ * {@link org.springframework.context.event.EventListener} methods, and by
+ * {@link org.springframework.transaction.event.TransactionalEventListener} methods declaring
+ * {@link org.springframework.transaction.event.TransactionalEventListener#fallbackExecution() fallback execution}.
+ *
  * @author John Blum
  * @see TransactionEvent
  * @see TransactionListener
  * @see TransactionWriter
  * @see ApplicationContext
  * @see ApplicationEventPublisher
+ * @see TransactionApplicationEventBatch
  * @since 2.3.0
  */
 public class TransactionListenerAdapter implements TransactionListener, TransactionWriter {
 
+	public static final int DEFAULT_ASYNC_CONCURRENCY = 1;
+	public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 10000;
+
+	protected static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+	private int asyncConcurrency = DEFAULT_ASYNC_CONCURRENCY;
+	private int asyncQueueCapacity = DEFAULT_ASYNC_QUEUE_CAPACITY;
+	private int maximumBatchSize = 1;
+
+	private Duration batchWindow = Duration.ZERO;
+
 	private final ApplicationEventPublisher applicationEventPublisher;
 
+	private ThreadFactory threadFactory = newThreadFactory();
+
+	private volatile AsyncTransactionEventPublisher asyncTransactionEventPublisher;
+
 	/**
 	 * Constructs a new instance of the {@link TransactionListenerAdapter} initialized with the required
 	 * {@link ApplicationEventPublisher} to publish Apache Geode cache {@link TransactionEvent TransactionEvents}
@@ -57,6 +92,160 @@ public class TransactionListenerAdapter implements TransactionListener, Transact
 		return this.applicationEventPublisher;
 	}
 
+	private static ThreadFactory newThreadFactory() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("TransactionEventPublisher-");
+
+		threadFactory.setDaemon(true);
+
+		return threadFactory;
+	}
+
+	/**
+	 * Sets the {@link ThreadFactory} used to create the {@link Thread Threads} publishing events asynchronously,
+	 * restarting {@link #isAsyncPublishing() asynchronous publishing} if necessary.
+	 *
+	 * @param threadFactory {@link ThreadFactory} used to create the publisher {@link Thread Threads};
+	 * must not be {@literal null}.
+	 * @return this {@link TransactionListenerAdapter}.
+	 * @throws IllegalArgumentException if {@link ThreadFactory} is {@literal null}.
+	 * @see #withAsyncPublishing(int, int)
+	 */
+	public synchronized @NonNull TransactionListenerAdapter withThreadFactory(@NonNull ThreadFactory threadFactory) {
+
+		Assert.notNull(threadFactory, "ThreadFactory must not be null");
+
+		this.threadFactory = threadFactory;
+
+		return isAsyncPublishing() ? restartAsyncPublishing() : this;
+	}
+
+	/**
+	 * Publishes {@link TransactionApplicationEvent TransactionApplicationEvents} asynchronously on the given number
+	 * of publisher {@link Thread Threads}, each draining a queue bounded by the given capacity.
+	 *
+	 * The events of a transaction are always published by the same {@link Thread}, in order. The transaction
+	 * {@link Thread} blocks while the queue is full.
+	 *
+	 * @param concurrency number of publisher {@link Thread Threads}; must be greater than {@literal 0}.
+	 * @param queueCapacity maximum number of events queued per publisher {@link Thread};
+	 * must be greater than {@literal 0}.
+	 * @return this {@link TransactionListenerAdapter}.
+	 * @throws IllegalArgumentException if {@code concurrency} or {@code queueCapacity} is less than {@literal 1}.
+	 */
+	public synchronized @NonNull TransactionListenerAdapter withAsyncPublishing(int concurrency, int queueCapacity) {
+
+		this.asyncConcurrency = concurrency;
+		this.asyncQueueCapacity = queueCapacity;
+
+		return restartAsyncPublishing();
+	}
+
+	/**
+	 * Coalesces the asynchronously published {@link TransactionApplicationEvent TransactionApplicationEvents}
+	 * into {@link TransactionApplicationEventBatch TransactionApplicationEventBatches} of up to the given maximum
+	 * size, collected within the given window, enabling {@link #withAsyncPublishing(int, int) asynchronous publishing}
+	 * with the defaults if necessary.
+	 *
+	 * @param window {@link Duration} to wait for additional events after the first event of a batch;
+	 * must not be {@literal null} or negative.
+	 * @param maximumBatchSize maximum number of events in a batch; must be greater than {@literal 0}.
+	 * @return this {@link TransactionListenerAdapter}.
+	 * @throws IllegalArgumentException if {@code window} is {@literal null} or negative,
+	 * or {@code maximumBatchSize} is less than {@literal 1}.
+	 * @see TransactionApplicationEventBatch
+	 */
+	public synchronized @NonNull TransactionListenerAdapter withBatching(@NonNull Duration window,
+			int maximumBatchSize) {
+
+		this.batchWindow = window;
+		this.maximumBatchSize = maximumBatchSize;
+
+		return restartAsyncPublishing();
+	}
+
+	/**
+	 * Replaces the current {@link AsyncTransactionEventPublisher}. The new publisher queues events immediately,
+	 * but only starts publishing them once all the events queued by the current publisher were published,
+	 * so that the events of a transaction remain in order and are never published concurrently.
+	 */
+	private TransactionListenerAdapter restartAsyncPublishing() {
+
+		AsyncTransactionEventPublisher asyncTransactionEventPublisher =
+			new AsyncTransactionEventPublisher(getApplicationEventPublisher(), this.threadFactory,
+				this.asyncConcurrency, this.asyncQueueCapacity, this.batchWindow, this.maximumBatchSize);
+
+		AsyncTransactionEventPublisher existingAsyncTransactionEventPublisher = this.asyncTransactionEventPublisher;
+
+		this.asyncTransactionEventPublisher = asyncTransactionEventPublisher;
+
+		try {
+			if (existingAsyncTransactionEventPublisher != null) {
+				existingAsyncTransactionEventPublisher.closeAndAwait();
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			asyncTransactionEventPublisher.start();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Determines whether {@link TransactionApplicationEvent TransactionApplicationEvents} are published
+	 * asynchronously.
+	 *
+	 * @return a boolean value indicating whether {@link TransactionApplicationEvent TransactionApplicationEvents}
+	 * are published asynchronously.
+	 * @see #withAsyncPublishing(int, int)
+	 */
+	public boolean isAsyncPublishing() {
+		return this.asyncTransactionEventPublisher != null;
+	}
+
+	/**
+	 * Publishes a {@link TransactionApplicationEvent} for the given {@link TransactionEvent}, asynchronously
+	 * if {@link #isAsyncPublishing() enabled}, once the Spring transaction active on the calling {@link Thread},
+	 * if any, completes.
+	 *
+	 * @param event {@link TransactionEvent} to publish.
+	 */
+	protected void publish(@NonNull TransactionEvent event) {
+
+		TransactionApplicationEvent transactionApplicationEvent = TransactionApplicationEvent.of(event);
+
+		if (!isAsyncPublishing()) {
+			getApplicationEventPublisher().publishEvent(transactionApplicationEvent);
+		}
+		else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					publishAsync(event.getTransactionId(), transactionApplicationEvent);
+				}
+			});
+		}
+		else {
+			publishAsync(event.getTransactionId(), transactionApplicationEvent);
+		}
+	}
+
+	private void publishAsync(Object transactionId, TransactionApplicationEvent event) {
+
+		AsyncTransactionEventPublisher asyncTransactionEventPublisher = this.asyncTransactionEventPublisher;
+
+		if (asyncTransactionEventPublisher != null) {
+			asyncTransactionEventPublisher.publish(transactionId, event);
+		}
+		else {
+			getApplicationEventPublisher().publishEvent(event);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -76,7 +265,7 @@ public class TransactionListenerAdapter implements TransactionListener, Transact
 	 */
 	@Override
 	public void afterCommit(TransactionEvent event) {
-		getApplicationEventPublisher().publishEvent(TransactionApplicationEvent.of(event));
+		publish(event);
 	}
 
 	/**
@@ -90,6 +279,20 @@ public class TransactionListenerAdapter implements TransactionListener, Transact
 	 */
 	@Override
 	public void afterRollback(TransactionEvent event) {
-		getApplicationEventPublisher().publishEvent(TransactionApplicationEvent.of(event));
+		publish(event);
+	}
+
+	/**
+	 * Stops asynchronous publishing, waiting for the queued events to be published.
+	 */
+	@Override
+	public synchronized void close() {
+
+		AsyncTransactionEventPublisher asyncTransactionEventPublisher = this.asyncTransactionEventPublisher;
+
+		if (asyncTransactionEventPublisher != null) {
+			this.asyncTransactionEventPublisher = null;
+			asyncTransactionEventPublisher.close(CLOSE_TIMEOUT);
+		}
 	}
 }
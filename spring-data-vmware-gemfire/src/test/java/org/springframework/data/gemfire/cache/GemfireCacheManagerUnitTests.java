@@ -5,6 +5,8 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -12,10 +14,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
 import org.junit.Before;
@@ -24,6 +30,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Unit Tests for {@link GemfireCacheManager}.
@@ -338,4 +345,84 @@ public class GemfireCacheManagerUnitTests {
 
 		assertThat(cacheManager.getRegions()).isNull();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void newGemfireCacheUsesNearCacheFromNearCacheProvider() {
+
+		NearCache nearCache = new NearCache();
+
+		when(mockRegion.getName()).thenReturn("Example");
+		when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+
+		cacheManager.setNearCacheProvider(name -> "Example".equals(name) ? nearCache : null);
+
+		assertThat(cacheManager.newGemfireCache(mockRegion).getNearCache()).isSameAs(nearCache);
+	}
+
+	@Test
+	public void newGemfireCacheWithoutNearCacheProviderHasNoNearCache() {
+		assertThat(cacheManager.newGemfireCache(mockRegion).getNearCache()).isNull();
+	}
+
+	@Test
+	public void newGemfireCacheUsesDefaultAsyncExecutorShutDownOnDestroy() {
+
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		GemfireCache cache = cacheManager.newGemfireCache(mockRegion);
+
+		assertThat(cacheManager.getAsyncExecutor()).isNull();
+		assertThat(cache.getAsyncExecutor()).isInstanceOf(ThreadPoolTaskExecutor.class);
+		assertThat(cacheManager.newGemfireCache(mockRegion).getAsyncExecutor()).isSameAs(cache.getAsyncExecutor());
+		assertThat(cache.retrieve("key").join()).isEqualTo("value");
+
+		ThreadPoolTaskExecutor defaultAsyncExecutor = (ThreadPoolTaskExecutor) cache.getAsyncExecutor();
+
+		assertThat(defaultAsyncExecutor.getThreadPoolExecutor().isShutdown()).isFalse();
+
+		cacheManager.destroy();
+
+		assertThat(defaultAsyncExecutor.getThreadPoolExecutor().isShutdown()).isTrue();
+	}
+
+	@Test
+	public void newGemfireCacheUsesConfiguredAsyncExecutorNotShutDownOnDestroy() {
+
+		ExecutorService asyncExecutor = Executors.newSingleThreadExecutor();
+
+		try {
+			cacheManager.setAsyncExecutor(asyncExecutor);
+
+			assertThat(cacheManager.newGemfireCache(mockRegion).getAsyncExecutor()).isSameAs(asyncExecutor);
+
+			cacheManager.destroy();
+
+			assertThat(asyncExecutor.isShutdown()).isFalse();
+		}
+		finally {
+			asyncExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void newGemfireCacheWithGetBatchingReadsKeysWithGetAll() {
+
+		when(mockRegion.getAll(eq(Collections.singleton("key")))).thenReturn(Collections.singletonMap("key", "value"));
+
+		GemfireCache cache = cacheManager.withGetBatching(Duration.ofMillis(10L), 10).newGemfireCache(mockRegion);
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void withGetBatchingWithInvalidMaximumBatchSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> cacheManager.withGetBatching(Duration.ofMillis(10L), 0))
+			.withMessage("Maximum batch size [0] must be greater than 0");
+	}
 }
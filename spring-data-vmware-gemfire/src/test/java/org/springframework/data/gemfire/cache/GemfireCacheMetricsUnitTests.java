@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GemfireCacheMetrics} and {@link GemfireCacheStatistics}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.GemfireCacheMetrics
+ * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class GemfireCacheMetricsUnitTests {
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@Test
+	public void statisticsRecordCacheOperations() {
+
+		when(this.mockRegion.get(eq("hit"))).thenReturn("value");
+
+		GemfireCacheStatistics statistics = new GemfireCacheStatistics((value -> 16), 1);
+
+		GemfireCache cache = GemfireCache.wrap(this.mockRegion).withStatistics(statistics);
+
+		assertThat(cache.get("hit")).isNotNull();
+		assertThat(cache.get("miss")).isNull();
+		assertThat(cache.get("loaded", () -> "loadedValue")).isEqualTo("loadedValue");
+
+		cache.put("key", "value");
+		cache.evict("key");
+
+		assertThat(statistics.getHitCount()).isEqualTo(1L);
+		assertThat(statistics.getMissCount()).isEqualTo(2L);
+		assertThat(statistics.getHitRatio()).isEqualTo(1.0d / 3.0d);
+		assertThat(statistics.getPutCount()).isEqualTo(2L);
+		assertThat(statistics.getRemovalCount()).isEqualTo(1L);
+		assertThat(statistics.getLoadSuccessCount()).isEqualTo(1L);
+		assertThat(statistics.getLoadFailureCount()).isZero();
+		assertThat(statistics.getAverageValueSize()).isEqualTo(16.0d);
+	}
+
+	@Test
+	public void metricsFollowMicrometerCacheMeterConventions() {
+
+		when(this.mockRegion.getName()).thenReturn("Example");
+		when(this.mockRegion.get(eq("hit"))).thenReturn("value");
+		when(this.mockRegion.size()).thenReturn(42);
+
+		GemfireCache cache = GemfireCache.wrap(this.mockRegion);
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		GemfireCacheMetrics.monitor(meterRegistry, cache, Tags.of("application", "test"));
+
+		cache.get("hit");
+		cache.get("miss");
+		cache.get("loaded", () -> "loadedValue");
+
+		assertThat(meterRegistry.get("cache.gets").tags("cache", "Example", "result", "hit")
+			.functionCounter().count()).isEqualTo(1.0d);
+		assertThat(meterRegistry.get("cache.gets").tags("cache", "Example", "result", "miss")
+			.functionCounter().count()).isEqualTo(2.0d);
+		assertThat(meterRegistry.get("cache.puts").tag("application", "test").functionCounter().count())
+			.isEqualTo(1.0d);
+		assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(42.0d);
+		assertThat(meterRegistry.get("cache.load").tag("result", "success").functionCounter().count())
+			.isEqualTo(1.0d);
+		assertThat(meterRegistry.get("cache.load.duration").timer().count()).isEqualTo(1L);
+
+		cache.evict("hit");
+
+		assertThat(meterRegistry.get("cache.removals").functionCounter().count()).isEqualTo(1.0d);
+		assertThat(meterRegistry.find("cache.evictions").meter()).isNull();
+		assertThat(meterRegistry.find("cache.value.size").meter()).isNull();
+	}
+
+	@Test
+	public void sizeIsNotReportedForRegionWithoutLocalStorage() {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.EMPTY);
+		when(this.mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(this.mockRegion.getName()).thenReturn("Example");
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		GemfireCacheMetrics.monitor(meterRegistry, GemfireCache.wrap(this.mockRegion), null);
+
+		assertThat(meterRegistry.find("cache.size").gauge()).isNull();
+
+		verify(this.mockRegion, never()).size();
+	}
+
+	@Test
+	public void monitoringCacheInSeveralRegistriesRecordsLoadDurationsInEachRegistry() {
+
+		when(this.mockRegion.getName()).thenReturn("Example");
+
+		GemfireCache cache = GemfireCache.wrap(this.mockRegion);
+
+		MeterRegistry meterRegistryOne = new SimpleMeterRegistry();
+		MeterRegistry meterRegistryTwo = new SimpleMeterRegistry();
+
+		GemfireCacheMetrics.monitor(meterRegistryOne, cache, null);
+		GemfireCacheMetrics.monitor(meterRegistryTwo, cache, null);
+		GemfireCacheMetrics.monitor(meterRegistryTwo, cache, null);
+
+		cache.get("loaded", () -> "loadedValue");
+
+		assertThat(meterRegistryOne.get("cache.load.duration").timer().count()).isEqualTo(1L);
+		assertThat(meterRegistryTwo.get("cache.load.duration").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	public void valueSizesAreNotEstimatedByDefault() {
+
+		GemfireCacheStatistics statistics = new GemfireCacheStatistics();
+
+		GemfireCache.wrap(this.mockRegion).withStatistics(statistics).put("key", "value");
+
+		assertThat(statistics.isValueSizeEstimated()).isFalse();
+		assertThat(statistics.getPutCount()).isEqualTo(1L);
+		assertThat(statistics.getAverageValueSize()).isZero();
+	}
+
+	@Test
+	public void constructMetricsForCacheWithoutStatisticsThrowsIllegalStateException() {
+
+		when(this.mockRegion.getName()).thenReturn("Example");
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> new GemfireCacheMetrics(GemfireCache.wrap(this.mockRegion), null))
+			.withMessage("GemfireCache [Example] does not record statistics");
+	}
+}
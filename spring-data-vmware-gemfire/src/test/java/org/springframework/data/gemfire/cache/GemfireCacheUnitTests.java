@@ -5,23 +5,41 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Region;
 
 import org.springframework.cache.Cache;
@@ -237,6 +255,292 @@ public class GemfireCacheUnitTests {
 		}
 	}
 
+	@Test
+	public void concurrentCacheMissesForSameKeyShareOneLoad() throws Exception {
+
+		AtomicInteger loadCount = new AtomicInteger();
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+
+		Callable<String> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			loading.countDown();
+			releaseLoad.await(5L, TimeUnit.SECONDS);
+			return "mockValue";
+		};
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> one = executor.submit(() -> gemfireCache.get("key", valueLoader));
+
+			assertThat(loading.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> two = executor.submit(() -> gemfireCache.get("key", valueLoader));
+
+			Thread.sleep(100L);
+			releaseLoad.countDown();
+
+			assertThat(one.get(5L, TimeUnit.SECONDS)).isEqualTo("mockValue");
+			assertThat(two.get(5L, TimeUnit.SECONDS)).isEqualTo("mockValue");
+			assertThat(loadCount.get()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(timeout = 5000L)
+	public void recursiveLoadOfSameKeyThrowsIllegalStateException() {
+
+		when(mockRegion.getName()).thenReturn("Example");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		Callable<String> valueLoader = () -> gemfireCache.get("key", () -> "mockValue");
+
+		assertThatThrownBy(() -> gemfireCache.get("key", valueLoader))
+			.isInstanceOf(Cache.ValueRetrievalException.class)
+			.hasCauseInstanceOf(IllegalStateException.class)
+			.hasRootCauseMessage("Recursive load of key [key] in cache [Example]");
+
+		verify(mockRegion, never()).put(any(), any());
+
+		assertThat(gemfireCache.get("key", () -> "mockValue")).isEqualTo("mockValue");
+	}
+
+	@Test
+	public void concurrentCacheMissesForSameKeyAreReleasedWhenLoadThrowsError() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+
+		Callable<String> valueLoader = () -> {
+			loading.countDown();
+			releaseLoad.await(5L, TimeUnit.SECONDS);
+			throw new AssertionError("TEST");
+		};
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> one = executor.submit(() -> gemfireCache.get("key", valueLoader));
+
+			assertThat(loading.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> two = executor.submit(() -> gemfireCache.get("key", valueLoader));
+
+			Thread.sleep(100L);
+			releaseLoad.countDown();
+
+			assertThatThrownBy(() -> one.get(5L, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+			assertThatThrownBy(() -> two.get(5L, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+				.hasRootCauseInstanceOf(AssertionError.class);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void concurrentCacheMissesForDifferentKeysLoadInParallel() throws Exception {
+
+		CountDownLatch bothLoading = new CountDownLatch(2);
+
+		Callable<Boolean> valueLoader = () -> {
+			bothLoading.countDown();
+			return bothLoading.await(5L, TimeUnit.SECONDS);
+		};
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<Boolean> one = executor.submit(() -> gemfireCache.get("keyOne", valueLoader));
+			Future<Boolean> two = executor.submit(() -> gemfireCache.get("keyTwo", valueLoader));
+
+			assertThat(one.get(10L, TimeUnit.SECONDS)).isTrue();
+			assertThat(two.get(10L, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithNearCacheServesHitsWithoutAccessingRegion() {
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		NearCache nearCache = new NearCache();
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion).withNearCache(nearCache);
+
+		assertThat(gemfireCache.getNearCache()).isSameAs(nearCache);
+		assertThat(gemfireCache.get("key").get()).isEqualTo("value");
+		assertThat(gemfireCache.get("key", String.class)).isEqualTo("value");
+
+		verify(mockAttributesMutator).addCacheListener(eq(nearCache));
+		verify(mockRegion, times(1)).get(eq("key"));
+
+		gemfireCache.evict("key");
+
+		assertThat(gemfireCache.get("key").get()).isEqualTo("value");
+
+		verify(mockRegion, times(1)).remove(eq("key"));
+		verify(mockRegion, times(2)).get(eq("key"));
+	}
+
+	@Test
+	public void retrieveReturnsCachedValue() {
+
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setAsyncExecutor(Runnable::run);
+
+		assertThat(gemfireCache.retrieve("key").join()).isEqualTo("value");
+		assertThat(gemfireCache.retrieve("missing").join()).isNull();
+	}
+
+	@Test
+	public void retrieveWithoutAsyncExecutorThrowsIllegalStateException() {
+
+		when(mockRegion.getName()).thenReturn("Example");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> gemfireCache.retrieve("key"))
+			.withMessage("An async Executor must be set to asynchronously retrieve values from cache [Example]");
+
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retrieveWithValueLoaderLoadsAndCachesValueOnCacheMiss() {
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setAsyncExecutor(Runnable::run);
+
+		assertThat(gemfireCache.retrieve("key", () -> CompletableFuture.completedFuture("value")).join())
+			.isEqualTo("value");
+
+		verify(mockRegion, times(2)).get(eq("key"));
+		verify(mockRegion, times(1)).put(eq("key"), eq("value"));
+	}
+
+	@Test
+	public void concurrentRetrievesForSameKeyShareOneLoad() {
+
+		AtomicInteger loadCount = new AtomicInteger();
+
+		CompletableFuture<String> loadedValue = new CompletableFuture<>();
+
+		Supplier<CompletableFuture<String>> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			return loadedValue;
+		};
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setAsyncExecutor(Runnable::run);
+
+		CompletableFuture<String> one = gemfireCache.retrieve("key", valueLoader);
+		CompletableFuture<String> two = gemfireCache.retrieve("key", valueLoader);
+
+		assertThat(one).isNotDone();
+		assertThat(two).isNotDone();
+
+		loadedValue.complete("value");
+
+		assertThat(one.join()).isEqualTo("value");
+		assertThat(two.join()).isEqualTo("value");
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void retrieveWithFailingValueLoaderCompletesExceptionally() {
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setAsyncExecutor(Runnable::run);
+
+		CompletableFuture<Object> value = gemfireCache.retrieve("key",
+			() -> CompletableFuture.failedFuture(new IllegalStateException("TEST")));
+
+		assertThat(value).isCompletedExceptionally();
+		assertThatThrownBy(value::join).hasRootCauseInstanceOf(IllegalStateException.class)
+			.hasRootCauseMessage("TEST");
+
+		verify(mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getAllReadsKeysMissingFromNearCacheWithRegionGetAll() {
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+		when(mockRegion.get(eq("one"))).thenReturn("ONE");
+		when(mockRegion.getAll(eq(Arrays.asList("two", "three")))).thenReturn(Collections.singletonMap("two", "TWO"));
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion).withNearCache(new NearCache());
+
+		assertThat(gemfireCache.get("one").get()).isEqualTo("ONE");
+
+		Map<Object, Object> values = gemfireCache.getAll(Arrays.asList("one", "two", "three"));
+
+		assertThat(values).containsExactly(entry("one", "ONE"), entry("two", "TWO"));
+		assertThat(gemfireCache.get("two").get()).isEqualTo("TWO");
+
+		verify(mockRegion, times(1)).getAll(any());
+		verify(mockRegion, never()).get(eq("two"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllStoresNonNullValuesWithRegionPutAll() {
+
+		Map<Object, Object> entries = new HashMap<>();
+
+		entries.put("one", "ONE");
+		entries.put("two", null);
+
+		GemfireCache.wrap(mockRegion).putAll(entries);
+
+		verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("one", "ONE")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithGetBatchingReadsValueWithRegionGetAll() {
+
+		when(mockRegion.getAll(eq(Collections.singleton("key")))).thenReturn(Collections.singletonMap("key", "value"));
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion).withGetBatching(Duration.ZERO, 10);
+
+		assertThat(gemfireCache.get("key", String.class)).isEqualTo("value");
+
+		verify(mockRegion, never()).get(any());
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void putCachesValue() {
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link GetAllBatcher}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.data.gemfire.cache.GetAllBatcher
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class GetAllBatcherUnitTests {
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	private static Map<Object, Object> upperCaseValues(Collection<Object> keys) {
+
+		Map<Object, Object> values = new HashMap<>();
+
+		for (Object key : keys) {
+			if (!"missing".equals(key)) {
+				values.put(key, String.valueOf(key).toUpperCase());
+			}
+		}
+
+		return values;
+	}
+
+	private void stubGetAll() {
+		when(this.mockRegion.getAll(any())).thenAnswer(invocation -> upperCaseValues(invocation.getArgument(0)));
+	}
+
+	private void stubGetAllBlockingOnKey(Object blockingKey, CountDownLatch reading, CountDownLatch releaseRead,
+			Answer<Object> answer) {
+
+		when(this.mockRegion.getAll(any())).thenAnswer(invocation -> {
+
+			if (invocation.<Collection<Object>>getArgument(0).contains(blockingKey)) {
+				reading.countDown();
+				releaseRead.await(5L, TimeUnit.SECONDS);
+			}
+
+			return answer.answer(invocation);
+		});
+	}
+
+	@Test
+	public void constructGetAllBatcherWithInvalidMaximumBatchSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new GetAllBatcher(this.mockRegion, Duration.ofMillis(1L), 0))
+			.withMessage("Maximum batch size [0] must be greater than 0");
+	}
+
+	@Test
+	public void getReadsValueWithGetAll() {
+
+		stubGetAll();
+
+		GetAllBatcher batcher = new GetAllBatcher(this.mockRegion, Duration.ZERO, 10);
+
+		assertThat(batcher.get("key")).isEqualTo("KEY");
+		assertThat(batcher.get("missing")).isNull();
+
+		verify(this.mockRegion, times(2)).getAll(any());
+	}
+
+	@Test(timeout = 2000L)
+	public void uncontendedGetIsReadWithoutWaitingForWindow() {
+
+		stubGetAll();
+
+		GetAllBatcher batcher = new GetAllBatcher(this.mockRegion, Duration.ofSeconds(30L), 10);
+
+		assertThat(batcher.get("key")).isEqualTo("KEY");
+
+		verify(this.mockRegion, times(1)).getAll(eq(Collections.singleton("key")));
+	}
+
+	@Test
+	public void concurrentGetsWhileReadIsInFlightAreCoalescedIntoOneGetAll() throws Exception {
+
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch releaseRead = new CountDownLatch(1);
+
+		stubGetAllBlockingOnKey("blocking", reading, releaseRead,
+			invocation -> upperCaseValues(invocation.getArgument(0)));
+
+		GetAllBatcher batcher = new GetAllBatcher(this.mockRegion, Duration.ofSeconds(30L), 3);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			Future<Object> blocking = executor.submit(() -> batcher.get("blocking"));
+
+			assertThat(reading.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> one = executor.submit(() -> batcher.get("one"));
+			Future<Object> two = executor.submit(() -> batcher.get("two"));
+			Future<Object> three = executor.submit(() -> batcher.get("three"));
+
+			assertThat(one.get(2L, TimeUnit.SECONDS)).isEqualTo("ONE");
+			assertThat(two.get(2L, TimeUnit.SECONDS)).isEqualTo("TWO");
+			assertThat(three.get(2L, TimeUnit.SECONDS)).isEqualTo("THREE");
+
+			releaseRead.countDown();
+
+			assertThat(blocking.get(2L, TimeUnit.SECONDS)).isEqualTo("BLOCKING");
+
+			verify(this.mockRegion, times(2)).getAll(any());
+			verify(this.mockRegion, times(1)).getAll(argThat(keys ->
+				keys.size() == 3 && keys.containsAll(Arrays.asList("one", "two", "three"))));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void batchIsReadWhenReadsInFlightComplete() throws Exception {
+
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch releaseRead = new CountDownLatch(1);
+
+		stubGetAllBlockingOnKey("blocking", reading, releaseRead,
+			invocation -> upperCaseValues(invocation.getArgument(0)));
+
+		GetAllBatcher batcher = new GetAllBatcher(this.mockRegion, Duration.ofSeconds(30L), 10);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<Object> blocking = executor.submit(() -> batcher.get("blocking"));
+
+			assertThat(reading.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> one = executor.submit(() -> batcher.get("one"));
+
+			Thread.sleep(100L);
+
+			assertThat(one).isNotDone();
+
+			releaseRead.countDown();
+
+			assertThat(blocking.get(2L, TimeUnit.SECONDS)).isEqualTo("BLOCKING");
+			assertThat(one.get(2L, TimeUnit.SECONDS)).isEqualTo("ONE");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getAllFailureIsRethrown() {
+
+		when(this.mockRegion.getAll(any())).thenThrow(new IllegalStateException("TEST"));
+
+		GetAllBatcher batcher = new GetAllBatcher(this.mockRegion, Duration.ZERO, 10);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> batcher.get("key"))
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void getAllErrorReleasesAllWaitersOfBatch() throws Exception {
+
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch releaseRead = new CountDownLatch(1);
+
+		stubGetAllBlockingOnKey("blocking", reading, releaseRead, invocation -> {
+			throw new AssertionError("TEST");
+		});
+
+		GetAllBatcher batcher = new GetAllBatcher(this.mockRegion, Duration.ofSeconds(30L), 2);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+
+			Future<Object> blocking = executor.submit(() -> batcher.get("blocking"));
+
+			assertThat(reading.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> one = executor.submit(() -> batcher.get("one"));
+			Future<Object> two = executor.submit(() -> batcher.get("two"));
+
+			assertThatThrownBy(() -> one.get(2L, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+			assertThatThrownBy(() -> two.get(2L, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+
+			releaseRead.countDown();
+
+			assertThatThrownBy(() -> blocking.get(2L, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * Unit Tests for {@link NearCache}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.cache.NearCache
+ */
+@SuppressWarnings("unchecked")
+public class NearCacheUnitTests {
+
+	private NearCache newNearCache(String... keys) {
+
+		NearCache nearCache = new NearCache(100, Duration.ofMinutes(1L));
+
+		for (String key : keys) {
+			nearCache.put(key, key.toUpperCase(), nearCache.getInvalidationSequence(key));
+		}
+
+		return nearCache;
+	}
+
+	@Test
+	public void constructNearCacheWithInvalidMaximumSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new NearCache(0, Duration.ofSeconds(1L)))
+			.withMessage("Maximum size [0] must be greater than 0");
+	}
+
+	@Test
+	public void constructNearCacheWithNegativeTimeToLiveThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new NearCache(1, Duration.ofSeconds(-1L)))
+			.withMessage("Time-to-live [PT-1S] must not be negative");
+	}
+
+	@Test
+	public void getReturnsCachedValueAndRecordsHitsAndMisses() {
+
+		NearCache nearCache = newNearCache("one");
+
+		assertThat(nearCache.get("one")).isEqualTo("ONE");
+		assertThat(nearCache.get("one")).isEqualTo("ONE");
+		assertThat(nearCache.get("two")).isNull();
+		assertThat(nearCache.getHitCount()).isEqualTo(2L);
+		assertThat(nearCache.getMissCount()).isEqualTo(1L);
+		assertThat(nearCache.getHitRatio()).isEqualTo(2.0d / 3.0d);
+	}
+
+	@Test
+	public void nullValuesAreNotCached() {
+
+		NearCache nearCache = newNearCache();
+
+		nearCache.put("key", null, nearCache.getInvalidationSequence("key"));
+
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void entriesExpireAfterTimeToLive() {
+
+		AtomicLong clock = new AtomicLong();
+
+		NearCache nearCache = new NearCache(10, Duration.ofNanos(100L));
+
+		nearCache.setClock(clock::get);
+		nearCache.put("key", "value", nearCache.getInvalidationSequence("key"));
+		clock.set(99L);
+
+		assertThat(nearCache.get("key")).isEqualTo("value");
+
+		clock.set(100L);
+
+		assertThat(nearCache.get("key")).isNull();
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void valueReadConcurrentlyWithInvalidationIsNotCached() {
+
+		NearCache nearCache = newNearCache();
+
+		long invalidationSequence = nearCache.getInvalidationSequence("key");
+
+		nearCache.invalidate("key");
+		nearCache.put("key", "staleValue", invalidationSequence);
+
+		assertThat(nearCache.get("key")).isNull();
+	}
+
+	@Test
+	public void invalidationOfOtherKeyDoesNotPreventCachingOfValueReadConcurrently() {
+
+		NearCache nearCache = newNearCache();
+
+		long invalidationSequence = nearCache.getInvalidationSequence("key");
+
+		nearCache.invalidate("otherKey");
+
+		assertThat(nearCache.getInvalidationSequence("key")).isEqualTo(invalidationSequence);
+
+		nearCache.put("key", "value", invalidationSequence);
+
+		assertThat(nearCache.get("key")).isEqualTo("value");
+	}
+
+	@Test
+	public void expiredEntriesAreRemovedWithoutBeingAccessed() {
+
+		AtomicLong clock = new AtomicLong();
+
+		NearCache nearCache = new NearCache(10, Duration.ofNanos(100L));
+
+		nearCache.setClock(clock::get);
+		nearCache.put("one", 1, nearCache.getInvalidationSequence("one"));
+		clock.set(50L);
+		nearCache.put("two", 2, nearCache.getInvalidationSequence("two"));
+		clock.set(100L);
+		nearCache.put("three", 3, nearCache.getInvalidationSequence("three"));
+
+		assertThat(nearCache.size()).isEqualTo(2);
+
+		clock.set(150L);
+		nearCache.cleanUp();
+
+		assertThat(nearCache.size()).isOne();
+		assertThat(nearCache.get("three")).isEqualTo(3);
+	}
+
+	@Test
+	public void frequentlyUsedEntriesAreNotEvictedByOneHitWonders() {
+
+		NearCache nearCache = new NearCache(100, Duration.ofMinutes(1L));
+
+		for (int key = 0; key < 100; key++) {
+			for (int access = 0; access < 5; access++) {
+				nearCache.get(key);
+			}
+
+			nearCache.put(key, key, nearCache.getInvalidationSequence(key));
+		}
+
+		assertThat(nearCache.size()).isEqualTo(100);
+
+		for (int key = 100; key < 200; key++) {
+			nearCache.get(key);
+			nearCache.put(key, key, nearCache.getInvalidationSequence(key));
+		}
+
+		assertThat(nearCache.size()).isLessThanOrEqualTo(100);
+		assertThat(nearCache.getEvictionCount()).isGreaterThanOrEqualTo(100L);
+
+		int frequentlyUsedEntryCount = 0;
+
+		for (int key = 0; key < 100; key++) {
+			frequentlyUsedEntryCount += nearCache.get(key) != null ? 1 : 0;
+		}
+
+		assertThat(frequentlyUsedEntryCount).isGreaterThanOrEqualTo(90);
+	}
+
+	@Test
+	public void regionEntryEventsInvalidateEntries() {
+
+		NearCache nearCache = newNearCache("one", "two", "three");
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("one", "two");
+
+		nearCache.afterUpdate(mockEntryEvent);
+		nearCache.afterDestroy(mockEntryEvent);
+
+		assertThat(nearCache.get("one")).isNull();
+		assertThat(nearCache.get("two")).isNull();
+		assertThat(nearCache.get("three")).isEqualTo("THREE");
+		assertThat(nearCache.getInvalidationCount()).isEqualTo(2L);
+		assertThat(nearCache.getAverageInvalidationLag()).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	public void invalidationLagIsRecordedForEventsWithResolvedTime() {
+
+		NearCache nearCache = newNearCache("one");
+
+		nearCache.setEventTimeResolver(event -> System.currentTimeMillis() - 1000L);
+		nearCache.afterUpdate(mock(EntryEvent.class));
+
+		assertThat(nearCache.getMaximumInvalidationLag()).isGreaterThanOrEqualTo(Duration.ofSeconds(1L));
+		assertThat(nearCache.getAverageInvalidationLag()).isGreaterThanOrEqualTo(Duration.ofSeconds(1L));
+	}
+
+	@Test
+	public void regionClearInvalidatesAllEntries() {
+
+		NearCache nearCache = newNearCache("one", "two");
+
+		nearCache.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void cqListenerInvalidatesEntries() {
+
+		NearCache nearCache = newNearCache("one", "two");
+
+		CqEvent mockCqEvent = mock(CqEvent.class);
+
+		when(mockCqEvent.getKey()).thenReturn("one");
+
+		nearCache.newCqListener().onEvent(mockCqEvent);
+
+		assertThat(nearCache.get("one")).isNull();
+		assertThat(nearCache.get("two")).isEqualTo("TWO");
+	}
+
+	@Test
+	public void bindToClientRegionRegistersCacheListenerAndInterest() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+
+		NearCache nearCache = newNearCache();
+
+		nearCache.bind(mockRegion);
+
+		verify(mockAttributesMutator).addCacheListener(nearCache);
+		verify(mockRegion).registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+	}
+
+	@Test
+	public void bindToClientRegionWithSubscriptionsDisabledThrowsIllegalStateException() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		Pool mockPool = mock(Pool.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockPool.getName()).thenReturn("TestPool");
+		when(mockPool.getSubscriptionEnabled()).thenReturn(false);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegionAttributes.getPoolName()).thenReturn("TestPool");
+
+		NearCache nearCache = newNearCache();
+
+		nearCache.setPoolResolver(poolName -> mockPool);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> nearCache.bind(mockRegion))
+			.withMessageStartingWith("Pool [TestPool] of Region [/Example] must enable subscriptions");
+
+		verify(mockAttributesMutator, never()).addCacheListener(any());
+		verify(mockRegion, never()).registerInterestForAllKeys(any(), anyBoolean(), anyBoolean());
+
+		nearCache.setRegisterInterest(false);
+		nearCache.bind(mockRegion);
+
+		verify(mockAttributesMutator).addCacheListener(nearCache);
+	}
+}
@@ -6,16 +6,21 @@ package org.springframework.data.gemfire.expiration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.expiration.AnnotationBasedExpiration.ExpirationMetaData;
 
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -29,6 +34,7 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.gemfire.TestUtils;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.expression.BeanResolver;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypeConverter;
@@ -419,6 +425,160 @@ public class AnnotationBasedExpirationUnitTests {
 		assertExpiration(expirationMetaData, 300, ExpirationActionType.LOCAL_DESTROY);
 	}
 
+	@Test
+	public void expirationMetaDataIsResolvedOncePerRegionEntryValueType() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+
+		ExpirationMetaData expirationMetaData = noDefaultExpiration.getExpirationMetaData(mockRegionEntry);
+
+		assertExpiration(expirationMetaData, 60, ExpirationActionType.INVALIDATE);
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+
+		assertThat(noDefaultExpiration.getExpirationMetaData(mockRegionEntry)).isSameAs(expirationMetaData);
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithNoExpiration());
+
+		assertThat(noDefaultExpiration.getExpirationMetaData(mockRegionEntry)).isNull();
+		assertThat(noDefaultExpiration.getExpirationMetaData(mockRegionEntry)).isNull();
+	}
+
+	@Test
+	public void literalExpressionsAreEvaluatedOnce() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithLiteralExpressionExpiration());
+
+		ExpirationMetaData expirationMetaData = noDefaultExpiration.getExpirationMetaData(mockRegionEntry);
+
+		assertExpiration(expirationMetaData, 120, ExpirationActionType.LOCAL_DESTROY);
+		assertThat(noDefaultExpiration.getExpirationMetaData(mockRegionEntry)).isSameAs(expirationMetaData);
+	}
+
+	@Test
+	public void dynamicExpressionsAreEvaluatedForEachRegionEntry() {
+
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+
+		evaluationContext.setVariable("timeout", 30);
+
+		AnnotationBasedExpiration.EVALUATION_CONTEXT_REFERENCE.set(evaluationContext);
+
+		try {
+
+			Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+			when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithDynamicExpressionExpiration());
+
+			assertExpiration(noDefaultExpiration.getExpirationMetaData(mockRegionEntry), 30,
+				ExpirationActionType.DESTROY);
+
+			evaluationContext.setVariable("timeout", 45);
+
+			assertExpiration(noDefaultExpiration.getExpirationMetaData(mockRegionEntry), 45,
+				ExpirationActionType.DESTROY);
+		}
+		finally {
+			AnnotationBasedExpiration.EVALUATION_CONTEXT_REFERENCE.set(null);
+		}
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void invalidTimeoutThrowsNumberFormatException() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithInvalidTimeoutExpiration());
+
+		noDefaultExpiration.getExpirationMetaData(mockRegionEntry);
+	}
+
+	@Test
+	public void forTimeToLiveWithTimeToLiveProperty() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		AnnotationBasedExpiration expiration = AnnotationBasedExpiration.forTimeToLive();
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(90_500L));
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 91, ExpirationAction.LOCAL_DESTROY);
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(30_000L));
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 30, ExpirationAction.LOCAL_DESTROY);
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(null));
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 300, ExpirationAction.LOCAL_DESTROY);
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(0L));
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 300, ExpirationAction.LOCAL_DESTROY);
+	}
+
+	@Test
+	public void forTimeToLiveWithTimeToLiveGetter() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		AnnotationBasedExpiration expiration = AnnotationBasedExpiration.forTimeToLive();
+
+		when(mockRegionEntry.getValue())
+			.thenReturn(new RegionEntryValueWithExpiresAtGetter(Instant.now().plusSeconds(3600L)));
+
+		ExpirationAttributes expirationAttributes = expiration.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes.getTimeout()).isBetween(3595, 3600);
+		assertThat(expirationAttributes.getAction()).isEqualTo(ExpirationAction.INVALIDATE);
+
+		when(mockRegionEntry.getValue())
+			.thenReturn(new RegionEntryValueWithExpiresAtGetter(Instant.now().minusSeconds(60L)));
+
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 1, ExpirationAction.INVALIDATE);
+	}
+
+	@Test
+	public void forIdleTimeoutIgnoresTimeToLiveProperty() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		AnnotationBasedExpiration expiration = AnnotationBasedExpiration.forIdleTimeout();
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(30_000L));
+
+		assertThat(expiration.getExpiry(mockRegionEntry)).isNull();
+	}
+
+	@Test
+	public void timeToLivePropertyIsReadWithMappingContext() {
+
+		GemfireMappingContext mappingContext = spy(new GemfireMappingContext());
+
+		AnnotationBasedExpiration expiration = AnnotationBasedExpiration.forTimeToLive();
+
+		expiration.setMappingContext(mappingContext);
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(60_000L));
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 60, ExpirationAction.LOCAL_DESTROY);
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithTimeToLiveProperty(120_000L));
+		assertExpiration(expiration.getExpiry(mockRegionEntry), 120, ExpirationAction.LOCAL_DESTROY);
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithNoExpiration());
+		assertThat(expiration.getExpiry(mockRegionEntry)).isNull();
+
+		verify(mappingContext, times(1)).getPersistentEntity(eq(RegionEntryValueWithTimeToLiveProperty.class));
+		verify(mappingContext, never()).getPersistentEntity(eq(RegionEntryValueWithNoExpiration.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void timeToLivePropertyOfUnsupportedType() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithInvalidTimeToLiveProperty());
+
+		AnnotationBasedExpiration.forTimeToLive().getExpiry(mockRegionEntry);
+	}
+
 	@Test
 	public void toExpirationAttributes() {
 
@@ -456,4 +616,49 @@ public class AnnotationBasedExpirationUnitTests {
 
 	public static class RegionEntryValueWithNoExpiration { }
 
+	@Expiration(timeout = "60 * 2", action = "'local_destroy'")
+	public static class RegionEntryValueWithLiteralExpressionExpiration { }
+
+	@Expiration(timeout = "#timeout", action = "DESTROY")
+	public static class RegionEntryValueWithDynamicExpressionExpiration { }
+
+	@Expiration(timeout = "${gemfire.region.entry.expiration.timeout}", action = "DESTROY")
+	public static class RegionEntryValueWithInvalidTimeoutExpiration { }
+
+	@TimeToLiveExpiration(timeout = "300", action = "LOCAL_DESTROY")
+	public static class RegionEntryValueWithTimeToLiveProperty {
+
+		@TimeToLive(unit = TimeUnit.MILLISECONDS, action = "LOCAL_DESTROY")
+		private Long timeToLive;
+
+		public RegionEntryValueWithTimeToLiveProperty(Long timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public Long getTimeToLive() {
+			return this.timeToLive;
+		}
+	}
+
+	public static class RegionEntryValueWithExpiresAtGetter {
+
+		private final Instant expiresAt;
+
+		public RegionEntryValueWithExpiresAtGetter(Instant expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		@TimeToLive
+		public Instant getExpiresAt() {
+			return this.expiresAt;
+		}
+	}
+
+	public static class RegionEntryValueWithInvalidTimeToLiveProperty {
+
+		@TimeToLive
+		private String timeToLive = "60";
+
+	}
+
 }
@@ -6,8 +6,10 @@ package org.springframework.data.gemfire.function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -16,7 +18,9 @@ import java.util.stream.IntStream;
 
 import org.junit.Test;
 
+import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 
 import org.assertj.core.api.Assertions;
 
@@ -160,6 +164,116 @@ public class BatchingResultSenderTest {
 		testBatchingResultSender(new TestListResultSender(),1000);
 	}
 
+	@Test
+	public void listChunkingByEstimatedBytes() {
+
+		ChunkRecordingResultSender resultSender = new ChunkRecordingResultSender();
+
+		ObjectSizer objectSizer = value -> ((String) value).length();
+
+		new BatchingResultSender(0, resultSender)
+			.withMaxBatchBytes(10)
+			.withObjectSizer(objectSizer)
+			.sendResults(Arrays.asList("aaaaaaaaaaaa", "b", "c", "dddddddd", "e", "ffffffffff"));
+
+		assertThat(resultSender.getChunks()).containsExactly(
+			Collections.singletonList("aaaaaaaaaaaa"),
+			Arrays.asList("b", "c", "dddddddd"),
+			Arrays.asList("e", "ffffffffff"));
+		assertThat(resultSender.isLastResultSent()).isTrue();
+	}
+
+	@Test
+	public void arrayChunkingByEstimatedBytes() {
+
+		ChunkRecordingResultSender resultSender = new ChunkRecordingResultSender();
+
+		ObjectSizer objectSizer = value -> ((String) value).length();
+
+		new BatchingResultSender(0, resultSender)
+			.withMaxBatchBytes(10)
+			.withObjectSizer(objectSizer)
+			.sendArrayResults(new String[] { "aaaaaaaaaaaa", "b", "c", "dddddddd", "e" });
+
+		assertThat(resultSender.getChunks()).containsExactly(
+			Collections.singletonList("aaaaaaaaaaaa"),
+			Arrays.asList("b", "c", "dddddddd"),
+			Collections.singletonList("e"));
+	}
+
+	@Test
+	public void chunkingByBatchSizeOrEstimatedBytesWhicheverComesFirst() {
+
+		ChunkRecordingResultSender resultSender = new ChunkRecordingResultSender();
+
+		new BatchingResultSender(2, resultSender)
+			.withMaxBatchBytes(10)
+			.withObjectSizer(value -> ((String) value).length())
+			.sendResults(Arrays.asList("a", "b", "cccccccccccc", "d"));
+
+		assertThat(resultSender.getChunks()).containsExactly(
+			Arrays.asList("a", "b"),
+			Collections.singletonList("cccccccccccc"),
+			Collections.singletonList("d"));
+	}
+
+	@Test
+	public void chunkingByLatency() {
+
+		ChunkRecordingResultSender resultSender = new ChunkRecordingResultSender();
+
+		Iterable<Object> slowResults = () -> IntStream.range(0, 3).<Object>mapToObj(index -> {
+			try {
+				Thread.sleep(20L);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+			return index;
+		}).iterator();
+
+		new BatchingResultSender(0, resultSender)
+			.withMaxBatchLatency(10)
+			.sendResults(slowResults);
+
+		assertThat(resultSender.getChunks()).hasSize(3);
+		assertThat(resultSender.isLastResultSent()).isTrue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void withNegativeMaxBatchBytesThrowsIllegalArgumentException() {
+		new BatchingResultSender(0, mock(ResultSender.class)).withMaxBatchBytes(-1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchingResultSenderFactoryCreatesConfiguredBatchingResultSender() {
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		FunctionContext<Object> mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.<Object>getResultSender()).thenReturn(mockResultSender);
+
+		ObjectSizer objectSizer = value -> 1;
+
+		BatchingResultSenderFactory factory = new BatchingResultSenderFactory();
+
+		factory.setBatchSize(10);
+		factory.setMaxBatchBytes(1024L);
+		factory.setMaxBatchLatency(50L);
+		factory.setObjectSizer(objectSizer);
+
+		BatchingResultSender batchingResultSender = factory.create(mockFunctionContext);
+
+		assertThat(batchingResultSender.getBatchSize()).isEqualTo(10);
+		assertThat(batchingResultSender.getMaxBatchBytes()).isEqualTo(1024L);
+		assertThat(batchingResultSender.getMaxBatchLatency()).isEqualTo(50L);
+		assertThat(batchingResultSender.getObjectSizer()).isSameAs(objectSizer);
+		assertThat(batchingResultSender.getResultSender()).isSameAs(mockResultSender);
+	}
+
     private void testBatchingResultSender(AbstractTestResultSender resultSender, int batchSize, int resultSetSize){
 
         BatchingResultSender batchResultSender = new BatchingResultSender(batchSize, resultSender);
@@ -235,6 +349,24 @@ public class BatchingResultSenderTest {
 		}
 	}
 
+	public static class ChunkRecordingResultSender extends AbstractTestResultSender {
+
+		private final List<List<Object>> chunks = new ArrayList<>();
+
+		protected void addResults(Object result, List<Object> results) {
+
+			List<Object> chunk = result.getClass().isArray()
+				? Arrays.asList((Object[]) result)
+				: new ArrayList<>((Collection<?>) result);
+
+			this.chunks.add(chunk);
+		}
+
+		public List<List<Object>> getChunks() {
+			return this.chunks;
+		}
+	}
+
 	public static class TestListResultSender extends AbstractTestResultSender {
 
 		protected void addResults(Object result, List<Object> results) {
@@ -5,6 +5,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -16,22 +18,36 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.ResultCollector;
 
+import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
+
 /**
  * The AbstractFunctionExecutionTest class is a test suite of test cases testing the contract and functionality
  * of the AbstractFunctionExecution class.
@@ -90,6 +106,278 @@ public class AbstractFunctionExecutionTest {
 		verify(mockResultCollector, never()).getResult();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executePublishesFunctionExecutionEvent() {
+
+		List<FunctionExecutionEvent> events = new ArrayList<>();
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("testFunction"))).thenReturn(mockResultCollector);
+		when(mockResultCollector.getResult()).thenReturn(Arrays.asList("one", "two"));
+
+		AbstractFunctionExecution functionExecution = new OnRegionFunctionExecution(mock(Region.class)) {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		functionExecution.setFunctionId("testFunction").setFunctionExecutionListener(events::add).execute();
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getFunctionId()).isEqualTo("testFunction");
+		assertThat(events.get(0).getTarget()).isEqualTo("OnRegion");
+		assertThat(events.get(0).getResultCount()).isEqualTo(2);
+		assertThat(events.get(0).getDuration()).isNotNull();
+		assertThat(events.get(0).isSuccessful()).isTrue();
+		assertThat(events.get(0).isTimeout()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executePublishesFunctionExecutionEventOnTimeout() throws Exception {
+
+		List<FunctionExecutionEvent> events = new ArrayList<>();
+
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("testFunction"))).thenReturn(mockResultCollector);
+		when(mockResultCollector.getResult(500, TimeUnit.MILLISECONDS))
+			.thenThrow(new FunctionException("All results not received in time provided"));
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		functionExecution.setFunctionId("testFunction").setTimeout(500).setFunctionExecutionListener(events::add);
+
+		assertThatExceptionOfType(FunctionException.class).isThrownBy(functionExecution::execute);
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).isSuccessful()).isFalse();
+		assertThat(events.get(0).isTimeout()).isTrue();
+		assertThat(events.get(0).hasResultCount()).isFalse();
+	}
+
+	@Test
+	public void isTimeoutRecognizesTimeoutFailures() {
+
+		assertThat(AbstractFunctionExecution.isTimeout(new ExecutionTimeoutFunctionException("TEST"))).isTrue();
+		assertThat(AbstractFunctionExecution.isTimeout(new FunctionException(new TimeoutException()))).isTrue();
+		assertThat(AbstractFunctionExecution.isTimeout(
+			new FunctionException("Failed to collect Function results in the configured timeout [50 ms]"))).isTrue();
+		assertThat(AbstractFunctionExecution.isTimeout(new FunctionException("TEST"))).isFalse();
+		assertThat(AbstractFunctionExecution.isTimeout(null)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsyncStartsExecutionAndCollectsResultsOnExecutor() throws Exception {
+
+		List<Object> results = Arrays.asList("one", "two");
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor executor = tasks::add;
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(mockFunction))).thenReturn(mockResultCollector);
+		when(mockFunction.hasResult()).thenReturn(true);
+		when(mockResultCollector.getResult()).thenReturn(results);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Iterable<Object>> future = functionExecution.setFunction(mockFunction).executeAsync(executor);
+
+		verify(mockExecution, never()).execute(any(Function.class));
+		verify(mockResultCollector, never()).getResult();
+
+		assertThat(future).isNotDone();
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		assertThat(future.get()).isEqualTo(results);
+
+		verify(mockExecution, times(1)).execute(eq(mockFunction));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsyncStartsExecutionOnExecutorThread() throws Exception {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+			new Thread(runnable, "FunctionExecutor"));
+
+		try {
+
+			AtomicReference<String> executingThreadName = new AtomicReference<>();
+
+			Function mockFunction = mock(Function.class, "MockFunction");
+
+			ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+			when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+			when(mockExecution.execute(eq(mockFunction))).thenAnswer(invocation -> {
+				executingThreadName.set(Thread.currentThread().getName());
+				return mockResultCollector;
+			});
+			when(mockFunction.hasResult()).thenReturn(true);
+			when(mockResultCollector.getResult()).thenReturn(Collections.singletonList("test"));
+
+			AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+				@Override protected Execution getExecution() {
+					return mockExecution;
+				}
+			};
+
+			CompletableFuture<Iterable<Object>> future =
+				functionExecution.setFunction(mockFunction).executeAsync(executor);
+
+			assertThat(future.get(5, TimeUnit.SECONDS)).containsExactly("test");
+			assertThat(executingThreadName.get()).isEqualTo("FunctionExecutor");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsyncCompletesExceptionallyOnTimeout() throws Exception {
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(mockFunction))).thenReturn(mockResultCollector);
+		when(mockFunction.hasResult()).thenReturn(true);
+		when(mockResultCollector.getResult(500, TimeUnit.MILLISECONDS))
+			.thenThrow(new FunctionException("timed out"));
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Object> future = functionExecution.setFunction(mockFunction).setTimeout(500)
+			.executeAndExtractAsync(Runnable::run);
+
+		assertThat(future).isCompletedExceptionally();
+
+		assertThatExceptionOfType(CompletionException.class)
+			.isThrownBy(future::join)
+			.withCauseInstanceOf(FunctionException.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsStreamStreamsResultsAddedToStreamingResultCollector() {
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(StreamingResultCollector.class))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(mockFunction))).thenAnswer(invocation -> {
+
+			ResultCollector resultCollector = functionExecutionResultCollector(mockExecution);
+
+			resultCollector.addResult(null, "one");
+			resultCollector.addResult(null, "two");
+			resultCollector.endResults();
+
+			return resultCollector;
+		});
+		when(mockFunction.hasResult()).thenReturn(true);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		Stream<Object> results = functionExecution.setFunction(mockFunction).executeAsStream(Runnable::run, 4);
+
+		assertThat(results.collect(Collectors.toList())).containsExactly("one", "two");
+	}
+
+	@Test
+	public void executeAsStreamWithConfiguredResultCollectorThrowsIllegalStateException() {
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		functionExecution.setResultCollector(mock(ResultCollector.class, "MockResultCollector"));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> functionExecution.executeAsStream(Runnable::run, 4))
+			.withMessageStartingWith("Function results cannot be streamed when a ResultCollector");
+
+		verify(mockExecution, never()).execute(any(Function.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAndReduceFoldsResultsAddedToReducingResultCollector() {
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ReducingResultCollector.class))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq(mockFunction))).thenAnswer(invocation -> {
+
+			ResultCollector resultCollector = functionExecutionResultCollector(mockExecution);
+
+			resultCollector.addResult(null, 1);
+			resultCollector.addResult(null, 2);
+			resultCollector.addResult(null, 3);
+			resultCollector.endResults();
+
+			return resultCollector;
+		});
+		when(mockFunction.hasResult()).thenReturn(true);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		Integer result = functionExecution.setFunction(mockFunction).setTimeout(500)
+			.executeAndReduce(Integer::sum);
+
+		assertThat(result).isEqualTo(6);
+	}
+
+	private ResultCollector functionExecutionResultCollector(Execution execution) {
+
+		ArgumentCaptor<ResultCollector> resultCollector = ArgumentCaptor.forClass(ResultCollector.class);
+
+		verify(execution).withCollector(resultCollector.capture());
+
+		return resultCollector.getValue();
+	}
+
 	@Test
 	public void executeAndExtractWithSingleResult() {
 
@@ -5,22 +5,42 @@
 package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.ReduceWith;
+import org.springframework.data.util.CloseableIterator;
 
 import org.aopalliance.intercept.MethodInvocation;
 
@@ -87,6 +107,396 @@ public class GemfireFunctionProxyFactoryBeanUnitTests {
 			.execute("oneArg", invocation.getArguments());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invokeAsyncReturnsCompletableFutureCompletedOnConfiguredExecutor() throws Exception {
+
+		Executor executor = Runnable::run;
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("asyncOneArg", String.class)
+			.withArguments("test");
+
+		when(this.functionOperations.executeAsync(eq(executor), eq("asyncOneArg"), eq("test")))
+			.thenReturn(CompletableFuture.completedFuture(Collections.singleton(1)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		proxy.setExecutor(executor);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat(((CompletableFuture<Object>) result).get()).isEqualTo(1);
+
+		verify(this.functionOperations, times(1))
+			.executeAsync(eq(executor), eq("asyncOneArg"), eq("test"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invokeAsyncWithCollectionResultType() throws Exception {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("asyncCollections")
+			.withArguments();
+
+		when(this.functionOperations.executeAsync(any(Executor.class), eq("asyncCollections")))
+			.thenReturn(CompletableFuture.completedFuture(Collections.singletonList(1)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletionStage.class);
+		assertThat(((CompletionStage<Object>) result).toCompletableFuture().get())
+			.isEqualTo(Collections.singletonList(1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invokeStreamingReturnsStream() {
+
+		Executor executor = Runnable::run;
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("streamAll")
+			.withArguments();
+
+		when(this.functionOperations.executeAsStream(eq(executor), eq("streamAll")))
+			.thenReturn(Stream.of(1, 2, 3));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		proxy.setExecutor(executor);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(Stream.class);
+		assertThat(((Stream<Object>) result).collect(Collectors.toList())).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invokeStreamingReturnsIterator() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("iterateAll")
+			.withArguments();
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		when(this.functionOperations.executeAsStream(any(Executor.class), eq("iterateAll")))
+			.thenReturn(Stream.<Object>of(1, 2).onClose(() -> closed.set(true)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CloseableIterator.class);
+		assertThat(closed).isFalse();
+		assertThat((Iterator<Object>) result).toIterable().containsExactly(1, 2);
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void closingIteratorClosesStream() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("iterateAll")
+			.withArguments();
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		when(this.functionOperations.executeAsStream(any(Executor.class), eq("iterateAll")))
+			.thenReturn(Stream.<Object>of(1, 2).onClose(() -> closed.set(true)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		CloseableIterator<Object> iterator = (CloseableIterator<Object>) proxy.invoke(invocation);
+
+		assertThat(iterator.next()).isEqualTo(1);
+
+		iterator.close();
+
+		assertThat(closed).isTrue();
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void methodExecutionPlanIsComputedOnce() throws Exception {
+
+		Method method = IFoo.class.getMethod("oneArg", String.class);
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		MethodExecutionPlan plan = proxy.getMethodExecutionPlan(method);
+
+		assertThat(plan.getFunctionId()).isEqualTo("oneArg");
+		assertThat(plan.isSingleResult()).isFalse();
+		assertThat(plan.hasFilter()).isFalse();
+		assertThat(plan.getReturnAdapter()).isEqualTo(MethodExecutionPlan.ReturnAdapter.RESULT);
+		assertThat(plan.getResultType()).isEqualTo(Integer.class);
+		assertThat(proxy.getMethodExecutionPlan(method)).isSameAs(plan);
+	}
+
+	@Test
+	public void methodExecutionPlanForAsyncAndStreamingMethods() throws Exception {
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		MethodExecutionPlan asyncPlan = proxy.getMethodExecutionPlan(IFoo.class.getMethod("asyncCollections"));
+
+		assertThat(asyncPlan.getReturnAdapter()).isEqualTo(MethodExecutionPlan.ReturnAdapter.ASYNC);
+		assertThat(asyncPlan.getResultType()).isEqualTo(List.class);
+		assertThat(proxy.getMethodExecutionPlan(IFoo.class.getMethod("streamAll")).getReturnAdapter())
+			.isEqualTo(MethodExecutionPlan.ReturnAdapter.STREAM);
+		assertThat(proxy.getMethodExecutionPlan(IFoo.class.getMethod("iterateAll")).getReturnAdapter())
+			.isEqualTo(MethodExecutionPlan.ReturnAdapter.ITERATOR);
+	}
+
+	@Test
+	public void onRegionMethodExecutionPlanExtractsFilter() throws Exception {
+
+		GemfireOnRegionOperations mockRegionOperations = mock(GemfireOnRegionOperations.class);
+
+		Set<String> filter = Collections.singleton("key");
+
+		when(mockRegionOperations.execute(eq("filtered"), eq(filter), eq("test")))
+			.thenReturn(Arrays.asList(1, 2));
+
+		OnRegionFunctionProxyFactoryBean proxy =
+			new OnRegionFunctionProxyFactoryBean(IRegionFoo.class, mockRegionOperations);
+
+		MethodInvocation invocation = new TestMethodInvocation(IRegionFoo.class)
+			.withMethodNameAndArgTypes("filtered", String.class, Set.class)
+			.withArguments("test", filter);
+
+		MethodExecutionPlan plan = proxy.getMethodExecutionPlan(invocation.getMethod());
+
+		assertThat(plan.getFilterArgPosition()).isEqualTo(1);
+		assertThat(plan.getFilter(invocation.getArguments())).isSameAs(filter);
+		assertThat(plan.getFunctionArguments(invocation.getArguments())).containsExactly("test");
+		assertThat(proxy.invoke(invocation)).isEqualTo(Arrays.asList(1, 2));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invokeWithCombinerReducesResults() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("sum", String.class)
+			.withArguments("test");
+
+		when(this.functionOperations.executeAndReduce(any(IntegerSum.class), eq("sum"), eq("test")))
+			.thenReturn(6);
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		assertThat(proxy.getMethodExecutionPlan(invocation.getMethod()).isReducing()).isTrue();
+		assertThat(proxy.invoke(invocation)).isEqualTo(6);
+
+		verify(this.functionOperations, times(1))
+			.executeAndReduce(any(IntegerSum.class), eq("sum"), eq("test"));
+	}
+
+	@Test
+	public void invokeWithCombinerReturnsIdentityWhenThereAreNoResults() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("sumOrZero")
+			.withArguments();
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		assertThat(proxy.getMethodExecutionPlan(invocation.getMethod()).getIdentity()).isEqualTo(0);
+		assertThat(proxy.invoke(invocation)).isEqualTo(0);
+	}
+
+	@Test
+	public void invokeWithCombinerAndPrimitiveReturnTypeWithoutIdentityThrowsEmptyResultDataAccessException() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("primitiveSum")
+			.withArguments();
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		assertThatExceptionOfType(EmptyResultDataAccessException.class)
+			.isThrownBy(() -> proxy.invoke(invocation))
+			.withMessage("Function Execution method [primitiveSum] returning primitive type [int]"
+				+ " received no results to reduce and declares no identity");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invokeAsyncWithCombinerReducesResultsOnConfiguredExecutor() throws Exception {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("asyncSum")
+			.withArguments();
+
+		when(this.functionOperations.executeAndReduce(any(IntegerSum.class), eq("asyncSum")))
+			.thenReturn(6);
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		proxy.setExecutor(Runnable::run);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat(((CompletableFuture<Object>) result).get()).isEqualTo(6);
+	}
+
+	@Test
+	public void streamingMethodWithCombinerThrowsIllegalStateException() {
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IInvalidFoo.class, this.functionOperations);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> proxy.getMethodExecutionPlan(IInvalidFoo.class.getMethod("streamSum")))
+			.withMessage("Function Execution method [streamSum] returning a Stream or Iterator"
+				+ " cannot declare a combiner");
+	}
+
+	@Test
+	public void invokeDispatchesThroughProtectedExtensionPoints() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("oneArg", String.class)
+			.withArguments("test");
+
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class,
+				this.functionOperations) {
+
+			@Override
+			protected Object invokeFunction(Method method, Object[] args) {
+				return Collections.singletonList(args[0]);
+			}
+
+			@Override
+			protected boolean isInstanceOfFunctionReturnType(MethodInvocation invocation, Object value) {
+				return true;
+			}
+		};
+
+		assertThat(proxy.invoke(invocation)).isEqualTo(Collections.singletonList("test"));
+
+		verifyNoInteractions(this.functionOperations);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void onRegionInvokeAsyncExtractsFilter() throws Exception {
+
+		Executor executor = Runnable::run;
+
+		GemfireOnRegionOperations mockRegionOperations = mock(GemfireOnRegionOperations.class);
+
+		Set<String> filter = Collections.singleton("key");
+
+		when(mockRegionOperations.executeAsync(eq(executor), eq("asyncFiltered"), eq(filter), eq("test")))
+			.thenReturn(CompletableFuture.completedFuture(Arrays.asList(1, 2)));
+
+		OnRegionFunctionProxyFactoryBean proxy =
+			new OnRegionFunctionProxyFactoryBean(IRegionFoo.class, mockRegionOperations);
+
+		proxy.setExecutor(executor);
+
+		MethodInvocation invocation = new TestMethodInvocation(IRegionFoo.class)
+			.withMethodNameAndArgTypes("asyncFiltered", String.class, Set.class)
+			.withArguments("test", filter);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat(((CompletableFuture<Object>) result).get()).isEqualTo(Arrays.asList(1, 2));
+	}
+
+	@Test
+	public void defaultExecutorIsBoundedAndShutDownOnDestroy() {
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Executor executor = proxy.getExecutor();
+
+		assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize())
+			.isEqualTo(GemfireFunctionProxyFactoryBean.DEFAULT_EXECUTOR_POOL_SIZE);
+		assertThat(proxy.getExecutor()).isSameAs(executor);
+
+		proxy.destroy();
+
+		assertThat(((ThreadPoolExecutor) executor).isShutdown()).isTrue();
+	}
+
+	@Test
+	public void destroyDoesNotShutDownConfiguredExecutor() {
+
+		ExecutorService executor = mock(ExecutorService.class);
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		proxy.setExecutor(executor);
+		proxy.destroy();
+
+		assertThat(proxy.getExecutor()).isSameAs(executor);
+
+		verifyNoInteractions(executor);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void onRegionInvokeWithoutFilterExecutesOnRegion() {
+
+		GemfireOnRegionOperations mockRegionOperations = mock(GemfireOnRegionOperations.class);
+
+		when(mockRegionOperations.execute(eq("filtered"), eq("test"))).thenReturn(Arrays.asList(1, 2));
+
+		OnRegionFunctionProxyFactoryBean proxy =
+			new OnRegionFunctionProxyFactoryBean(IRegionFoo.class, mockRegionOperations);
+
+		MethodInvocation invocation = new TestMethodInvocation(IRegionFoo.class)
+			.withMethodNameAndArgTypes("filtered", String.class, Set.class)
+			.withArguments("test", null);
+
+		assertThat(proxy.invoke(invocation)).isEqualTo(Arrays.asList(1, 2));
+
+		verify(mockRegionOperations, times(1)).execute(eq("filtered"), eq("test"));
+	}
+
+	@Test
+	public void resolveSingleResultIfPossibleIteratesResultsOnce() {
+
+		Iterable<?> mockResults = mock(Iterable.class);
+
+		when(mockResults.iterator()).thenAnswer(invocation -> Collections.singletonList(1).iterator());
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		assertThat(proxy.resolveSingleResultIfPossible(mockResults)).isEqualTo(1);
+		assertThat(proxy.resolveSingleResultIfPossible(Arrays.asList(1, 2))).isEqualTo(Arrays.asList(1, 2));
+
+		verify(mockResults, times(1)).iterator();
+	}
+
 	@SuppressWarnings("unused")
 	private static class TestMethodInvocation implements MethodInvocation {
 
@@ -161,5 +571,50 @@ public class GemfireFunctionProxyFactoryBeanUnitTests {
 
 		Map<String, Integer> getMapWithNoArgs();
 
+		CompletableFuture<Integer> asyncOneArg(String key);
+
+		CompletionStage<List<Integer>> asyncCollections();
+
+		Stream<Integer> streamAll();
+
+		Iterator<Integer> iterateAll();
+
+		@ReduceWith(IntegerSum.class)
+		Integer sum(String key);
+
+		@ReduceWith(IntegerSum.class)
+		CompletableFuture<Integer> asyncSum();
+
+		@ReduceWith(value = IntegerSum.class, identity = "0")
+		int sumOrZero();
+
+		@ReduceWith(IntegerSum.class)
+		int primitiveSum();
+
+	}
+
+	@SuppressWarnings("unused")
+	public interface IInvalidFoo {
+
+		@ReduceWith(IntegerSum.class)
+		Stream<Integer> streamSum();
+
+	}
+
+	public static class IntegerSum implements BinaryOperator<Integer> {
+
+		@Override
+		public Integer apply(Integer one, Integer two) {
+			return one + two;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public interface IRegionFoo {
+
+		List<Integer> filtered(String arg, @Filter Set<String> keys);
+
+		CompletableFuture<List<Integer>> asyncFiltered(String arg, @Filter Set<String> keys);
+
 	}
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link GemfireOnRegionFunctionTemplate}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate
+ * @see org.springframework.data.gemfire.function.execution.FilterPartitioner
+ * @see org.springframework.data.gemfire.function.execution.PartitionResultReducer
+ */
+public class GemfireOnRegionFunctionTemplateUnitTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void executePartitionedExecutesEachPartitionConcurrently() {
+
+		CountDownLatch allPartitionsExecuting = new CountDownLatch(3);
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		GemfireOnRegionFunctionTemplate functionTemplate = new TestGemfireOnRegionFunctionTemplate() {
+
+			@Override
+			protected List<Object> results(String functionId, Set<?> keys) throws Exception {
+
+				threads.add(Thread.currentThread());
+				allPartitionsExecuting.countDown();
+
+				assertThat(allPartitionsExecuting.await(5L, TimeUnit.SECONDS)).isTrue();
+
+				return super.results(functionId, keys);
+			}
+		};
+
+		functionTemplate.setFilterPartitioner(FilterPartitioner.byHash(3));
+
+		Iterable<Object> results = functionTemplate.executePartitioned(this.executor, "testFunction",
+			new HashSet<>(Arrays.asList(0, 1, 2, 3, 4, 5)), PartitionResultReducer.concatenating());
+
+		assertThat(results).containsExactlyInAnyOrder("testFunction:0", "testFunction:1", "testFunction:2",
+			"testFunction:3", "testFunction:4", "testFunction:5");
+
+		assertThat(threads).hasSize(3);
+	}
+
+	@Test
+	public void executePartitionedReportsResultsAndLatencyPerPartition() {
+
+		GemfireOnRegionFunctionTemplate functionTemplate = new TestGemfireOnRegionFunctionTemplate();
+
+		functionTemplate.setFilterPartitioner(key -> ((Integer) key) % 2 == 0 ? "even" : "odd");
+
+		List<PartitionResult<Object>> partitionResults = functionTemplate.executePartitioned(this.executor,
+			"testFunction", new HashSet<>(Arrays.asList(1, 2, 3, 4)), results -> results);
+
+		assertThat(partitionResults).hasSize(2);
+
+		for (PartitionResult<Object> partitionResult : partitionResults) {
+
+			assertThat(partitionResult.getPartition()).isIn("even", "odd");
+			assertThat(partitionResult.getKeys()).hasSize(2);
+			assertThat(partitionResult.getResults()).hasSize(2);
+			assertThat(partitionResult.getLatency()).isNotNull();
+			assertThat(partitionResult.getLatency().isNegative()).isFalse();
+
+			Set<Object> expectedResults = partitionResult.getKeys().stream()
+				.map(key -> "testFunction:" + key)
+				.collect(Collectors.toSet());
+
+			assertThat(partitionResult.getResults()).containsExactlyInAnyOrderElementsOf(expectedResults);
+		}
+	}
+
+	@Test
+	public void executePartitionedWithSinglePartitionExecutesOnCallingThread() {
+
+		List<Thread> threads = new ArrayList<>();
+
+		GemfireOnRegionFunctionTemplate functionTemplate = new TestGemfireOnRegionFunctionTemplate() {
+
+			@Override
+			protected List<Object> results(String functionId, Set<?> keys) throws Exception {
+				threads.add(Thread.currentThread());
+				return super.results(functionId, keys);
+			}
+		};
+
+		functionTemplate.setFilterPartitioner(key -> "all");
+
+		Integer resultCount = functionTemplate.executePartitioned(this.executor, "testFunction",
+			new HashSet<>(Arrays.asList(1, 2, 3)), partitionResults -> partitionResults.get(0).getResults().size());
+
+		assertThat(resultCount).isEqualTo(3);
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	public void executePartitionedRethrowsFirstFailureWithOthersSuppressed() {
+
+		GemfireOnRegionFunctionTemplate functionTemplate = new TestGemfireOnRegionFunctionTemplate() {
+
+			@Override
+			protected List<Object> results(String functionId, Set<?> keys) {
+				throw new IllegalStateException(String.format("TEST %s", keys));
+			}
+		};
+
+		functionTemplate.setFilterPartitioner(key -> key);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> functionTemplate.executePartitioned(this.executor, "testFunction",
+				new HashSet<>(Arrays.asList(1, 2)), PartitionResultReducer.concatenating()))
+			.satisfies(cause -> assertThat(cause.getSuppressed()).hasSize(1));
+	}
+
+	@Test
+	public void executePartitionedWithNullReducerThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TestGemfireOnRegionFunctionTemplate().executePartitioned(this.executor,
+				"testFunction", Collections.emptySet(), null))
+			.withMessage("PartitionResultReducer must not be null");
+	}
+
+	@Test
+	public void defaultFilterPartitionerPartitionsClientRegionKeysByHash() {
+
+		FilterPartitioner filterPartitioner = new TestGemfireOnRegionFunctionTemplate().getFilterPartitioner();
+
+		assertThat(filterPartitioner).isNotNull();
+		assertThat(filterPartitioner.partitionFor("key")).isInstanceOf(Integer.class);
+	}
+
+	@Test
+	public void byHashWithInvalidNumberOfPartitionsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> FilterPartitioner.byHash(0))
+			.withMessage("Number of partitions [0] must be greater than 0");
+	}
+
+	@Test
+	public void byHashMapsKeysToPartitionsInRange() {
+
+		FilterPartitioner filterPartitioner = FilterPartitioner.byHash(4);
+
+		for (Object key : Arrays.asList(-7, "key", 42L, null)) {
+			assertThat((Integer) filterPartitioner.partitionFor(key)).isBetween(0, 3);
+		}
+	}
+
+	static class TestGemfireOnRegionFunctionTemplate extends GemfireOnRegionFunctionTemplate {
+
+		TestGemfireOnRegionFunctionTemplate() {
+			super(mock(Region.class));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+
+			try {
+				return (Iterable<T>) results(functionId, keys);
+			}
+			catch (RuntimeException cause) {
+				throw cause;
+			}
+			catch (Exception cause) {
+				throw new IllegalStateException(cause);
+			}
+		}
+
+		protected List<Object> results(String functionId, Set<?> keys) throws Exception {
+
+			return keys.stream()
+				.map(key -> functionId + ":" + key)
+				.collect(Collectors.toList());
+		}
+	}
+}
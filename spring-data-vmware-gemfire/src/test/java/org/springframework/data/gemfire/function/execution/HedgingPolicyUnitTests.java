@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.client.Pool;
+
+/**
+ * Unit Tests for {@link HedgingPolicy}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.HedgingPolicy
+ */
+public class HedgingPolicyUnitTests {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	private HedgingPolicy newHedgingPolicy() {
+
+		HedgingPolicy hedgingPolicy = new HedgingPolicy(10);
+
+		hedgingPolicy.setExecutor(this.executor);
+		hedgingPolicy.setInitialDelay(20L);
+		hedgingPolicy.setMinimumSamples(5);
+
+		return hedgingPolicy;
+	}
+
+	@Test
+	public void fastExecutionIsNotHedged() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		AtomicInteger executions = new AtomicInteger();
+
+		assertThat(hedgingPolicy.execute(() -> executions.incrementAndGet())).isEqualTo(1);
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(hedgingPolicy.getExecutionCount()).isEqualTo(1);
+		assertThat(hedgingPolicy.getHedgeCount()).isZero();
+		assertThat(hedgingPolicy.getHedgeRate()).isZero();
+	}
+
+	@Test
+	public void slowExecutionIsHedgedAndHedgeWins() throws Exception {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		AtomicInteger executions = new AtomicInteger();
+
+		CountDownLatch releasePrimary = new CountDownLatch(1);
+
+		String result = hedgingPolicy.execute(() -> {
+
+			if (executions.incrementAndGet() == 1) {
+				try {
+					releasePrimary.await(5L, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+
+				return "primary";
+			}
+
+			return "hedge";
+		});
+
+		releasePrimary.countDown();
+
+		assertThat(result).isEqualTo("hedge");
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(hedgingPolicy.getHedgeCount()).isEqualTo(1);
+		assertThat(hedgingPolicy.getHedgeWinCount()).isEqualTo(1);
+		assertThat(hedgingPolicy.getHedgeRate()).isEqualTo(1.0d);
+	}
+
+	@Test
+	public void hedgedExecutionFailsWhenBothExecutionsFail() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		hedgingPolicy.setInitialDelay(1L);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> hedgingPolicy.execute(() -> {
+				try {
+					Thread.sleep(50L);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+
+				throw new IllegalStateException("TEST");
+			}))
+			.withMessage("TEST");
+
+		assertThat(hedgingPolicy.getHedgeCount()).isEqualTo(1);
+		assertThat(hedgingPolicy.getHedgeWinCount()).isZero();
+	}
+
+	@Test
+	public void failedExecutionIsRethrownWithoutHedging() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> hedgingPolicy.execute(() -> {
+				throw new IllegalStateException("TEST");
+			}))
+			.withMessage("TEST");
+
+		assertThat(hedgingPolicy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	public void hedgeDelayIsComputedFromRecordedLatencies() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		assertThat(hedgingPolicy.getHedgeDelay()).isEqualTo(20L);
+
+		for (int count = 0; count < 5; count++) {
+			hedgingPolicy.execute(() -> "fast");
+		}
+
+		assertThat(hedgingPolicy.getHedgeDelay()).isLessThan(20L);
+		assertThat(hedgingPolicy.getHedgeDelay()).isGreaterThanOrEqualTo(hedgingPolicy.getMinimumDelay());
+	}
+
+	@Test
+	public void latenciesOfFailedExecutionsAreRecorded() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		hedgingPolicy.setInitialDelay(1000L);
+
+		for (int count = 0; count < 5; count++) {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> hedgingPolicy.execute(() -> {
+					throw new IllegalStateException("TEST");
+				}));
+		}
+
+		assertThat(hedgingPolicy.getHedgeDelay()).isLessThan(1000L);
+	}
+
+	@Test
+	public void rejectedExecutionRunsOnCallingThreadWithoutHedging() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		hedgingPolicy.setExecutor(runnable -> {
+			throw new RejectedExecutionException("TEST");
+		});
+
+		Thread callingThread = Thread.currentThread();
+
+		assertThat(hedgingPolicy.execute(() -> Thread.currentThread() == callingThread)).isTrue();
+		assertThat(hedgingPolicy.getExecutionCount()).isEqualTo(1);
+		assertThat(hedgingPolicy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	public void rejectedHedgeAwaitsFirstExecution() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		AtomicInteger submissions = new AtomicInteger();
+
+		hedgingPolicy.setInitialDelay(1L);
+		hedgingPolicy.setExecutor(runnable -> {
+			if (submissions.incrementAndGet() > 1) {
+				throw new RejectedExecutionException("TEST");
+			}
+
+			this.executor.execute(runnable);
+		});
+
+		assertThat(hedgingPolicy.execute(() -> {
+			try {
+				Thread.sleep(50L);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+
+			return "primary";
+		})).isEqualTo("primary");
+
+		assertThat(submissions.get()).isEqualTo(2);
+		assertThat(hedgingPolicy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	public void defaultExecutorIsBounded() {
+
+		assertThat(new HedgingPolicy().getExecutor()).isInstanceOfSatisfying(ThreadPoolExecutor.class,
+			executor -> assertThat(executor.getMaximumPoolSize()).isEqualTo(HedgingPolicy.DEFAULT_POOL_SIZE));
+	}
+
+	@Test
+	public void setInvalidPercentileThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new HedgingPolicy().setPercentile(1.5d))
+			.withMessage("Percentile [1.5] must be greater than 0.0 and less than or equal to 1.0");
+	}
+
+	@Test
+	public void onServerFunctionTemplateConfiguresHedgingPolicyOnPoolFunctionExecution() {
+
+		HedgingPolicy hedgingPolicy = newHedgingPolicy();
+
+		GemfireOnServerFunctionTemplate functionTemplate = new GemfireOnServerFunctionTemplate(mock(Pool.class));
+
+		functionTemplate.setHedgingPolicy(hedgingPolicy);
+
+		AbstractFunctionExecution functionExecution = functionTemplate.newFunctionExecutionUsingPool(mock(Pool.class));
+
+		assertThat(functionExecution).isInstanceOf(OnServerUsingPoolFunctionExecution.class);
+		assertThat(((OnServerUsingPoolFunctionExecution) functionExecution).getHedgingPolicy())
+			.isSameAs(hedgingPolicy);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link MicrometerFunctionExecutionListener}.
+ *
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.data.gemfire.function.execution.MicrometerFunctionExecutionListener
+ */
+public class MicrometerFunctionExecutionListenerUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MicrometerFunctionExecutionListener listener =
+		new MicrometerFunctionExecutionListener(this.meterRegistry);
+
+	@Test
+	public void constructWithNullMeterRegistryThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MicrometerFunctionExecutionListener(null))
+			.withMessage("MeterRegistry must not be null");
+	}
+
+	@Test
+	public void recordsSuccessfulExecution() {
+
+		this.listener.onFunctionExecution(new FunctionExecutionEvent("testFunction", "OnServerUsingPool",
+			Duration.ofMillis(25L), 3L, null, false));
+
+		assertThat(this.meterRegistry.get(MicrometerFunctionExecutionListener.EXECUTION_METER_NAME)
+			.tag("function.id", "testFunction")
+			.tag("target", "OnServerUsingPool")
+			.tag("outcome", "success")
+			.timer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(25.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerFunctionExecutionListener.RESULTS_METER_NAME)
+			.tag("function.id", "testFunction")
+			.summary()
+			.totalAmount()).isEqualTo(3.0d);
+
+		assertThat(this.meterRegistry.find(MicrometerFunctionExecutionListener.ERRORS_METER_NAME).counter()).isNull();
+		assertThat(this.meterRegistry.find(MicrometerFunctionExecutionListener.TIMEOUTS_METER_NAME).counter())
+			.isNull();
+	}
+
+	@Test
+	public void recordsFailedExecution() {
+
+		this.listener.onFunctionExecution(new FunctionExecutionEvent("testFunction", "OnRegion",
+			Duration.ofMillis(5L), FunctionExecutionEvent.UNKNOWN_RESULT_COUNT, new FunctionException("TEST"), false));
+
+		assertThat(this.meterRegistry.get(MicrometerFunctionExecutionListener.ERRORS_METER_NAME)
+			.tag("target", "OnRegion")
+			.tag("exception", "FunctionException")
+			.counter()
+			.count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerFunctionExecutionListener.EXECUTION_METER_NAME)
+			.tag("outcome", "error")
+			.timer()
+			.count()).isEqualTo(1L);
+
+		assertThat(this.meterRegistry.find(MicrometerFunctionExecutionListener.RESULTS_METER_NAME).summary())
+			.isNull();
+	}
+
+	@Test
+	public void recordsTimedOutExecution() {
+
+		this.listener.onFunctionExecution(new FunctionExecutionEvent("testFunction", "OnMembers",
+			Duration.ofMillis(500L), FunctionExecutionEvent.UNKNOWN_RESULT_COUNT,
+			new ExecutionTimeoutFunctionException("TEST"), true));
+
+		assertThat(this.meterRegistry.get(MicrometerFunctionExecutionListener.TIMEOUTS_METER_NAME)
+			.tag("function.id", "testFunction")
+			.counter()
+			.count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerFunctionExecutionListener.EXECUTION_METER_NAME)
+			.tag("outcome", "timeout")
+			.timer()
+			.count()).isEqualTo(1L);
+
+		assertThat(this.meterRegistry.find(MicrometerFunctionExecutionListener.ERRORS_METER_NAME).counter()).isNull();
+	}
+}
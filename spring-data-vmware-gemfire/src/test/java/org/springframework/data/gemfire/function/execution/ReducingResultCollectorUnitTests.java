@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+
+/**
+ * Unit Tests for {@link ReducingResultCollector}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.ReducingResultCollector
+ */
+public class ReducingResultCollectorUnitTests {
+
+	@Test
+	public void constructWithNullCombinerThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ReducingResultCollector<>(null))
+			.withMessage("Combiner must not be null");
+	}
+
+	@Test
+	public void foldsResultsAsTheyAreAdded() {
+
+		ReducingResultCollector<Integer> resultCollector = new ReducingResultCollector<>(Integer::sum);
+
+		resultCollector.addResult(null, 1);
+		resultCollector.addResult(null, null);
+		resultCollector.addResult(null, 2);
+		resultCollector.addResult(null, 3);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResultCount()).isEqualTo(3);
+		assertThat(resultCollector.getResult()).isEqualTo(6);
+	}
+
+	@Test
+	public void returnsNullWithoutResults() {
+
+		ReducingResultCollector<Integer> resultCollector = new ReducingResultCollector<>(Integer::sum);
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isNull();
+	}
+
+	@Test
+	public void foldsResultsStartingFromIdentity() {
+
+		ReducingResultCollector<Integer> resultCollector = new ReducingResultCollector<Integer>(Math::max)
+			.withIdentity(10);
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(10);
+
+		resultCollector.addResult(null, 5);
+		resultCollector.addResult(null, 12);
+
+		assertThat(resultCollector.getResult()).isEqualTo(12);
+	}
+
+	@Test
+	public void clearResultsResetsReducedValue() {
+
+		ReducingResultCollector<Integer> resultCollector = new ReducingResultCollector<>(Integer::sum);
+
+		resultCollector.addResult(null, 1);
+		resultCollector.clearResults();
+		resultCollector.addResult(null, 2);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(2);
+	}
+
+	@Test
+	public void failedResultIsRethrownAsFunctionException() {
+
+		ReducingResultCollector<Integer> resultCollector = new ReducingResultCollector<>(Integer::sum);
+
+		resultCollector.addResult(null, 1);
+		resultCollector.addResult(null, new IllegalStateException("TEST"));
+		resultCollector.addResult(null, 2);
+		resultCollector.endResults();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(resultCollector::getResult)
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void getResultWithTimeoutThrowsFunctionExceptionWhenResultsAreNotReceivedInTime() {
+
+		ReducingResultCollector<Integer> resultCollector = new ReducingResultCollector<>(Integer::sum);
+
+		resultCollector.addResult(null, 1);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> resultCollector.getResult(50L, TimeUnit.MILLISECONDS))
+			.withMessage("Failed to collect Function results in the configured timeout [50 ms]");
+	}
+
+	@Test
+	public void reduceFoldsIterable() {
+
+		assertThat(ReducingResultCollector.reduce(Arrays.asList(1, 2, 3), Integer::sum)).isEqualTo(6);
+		assertThat(ReducingResultCollector.<Integer>reduce(null, Integer::sum)).isNull();
+	}
+}
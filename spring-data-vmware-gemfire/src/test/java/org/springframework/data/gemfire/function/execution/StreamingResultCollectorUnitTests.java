@@ -0,0 +1,266 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ */
+public class StreamingResultCollectorUnitTests {
+
+	@Test
+	public void constructWithInvalidBufferCapacityThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>(0))
+			.withMessage("Buffer capacity [0] must be greater than 0");
+	}
+
+	@Test
+	public void constructWithInvalidConsumerTimeoutThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>(1, Duration.ZERO))
+			.withMessage("Consumer timeout [PT0S] must be greater than 0");
+	}
+
+	@Test
+	public void streamsResultsInOrder() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, null);
+		resultCollector.addResult(null, "three");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getBufferedResultCount()).isEqualTo(4);
+		assertThat(resultCollector.getResult().collect(Collectors.toList())).containsExactly("one", null, "three");
+	}
+
+	@Test
+	public void resultsAreConsumedWhileBeingAdded() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(1);
+
+		CountDownLatch thirdResultAdded = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> {
+			resultCollector.addResult(null, 1);
+			resultCollector.addResult(null, 2);
+			resultCollector.addResult(null, 3);
+			thirdResultAdded.countDown();
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		Iterator<Integer> iterator = resultCollector.iterator();
+
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(thirdResultAdded.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(iterator.next()).isEqualTo(2);
+		assertThat(iterator.next()).isEqualTo(3);
+		assertThat(iterator.hasNext()).isFalse();
+
+		producer.join(5000L);
+	}
+
+	@Test
+	public void failedResultIsRethrownAsFunctionException() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, new IllegalStateException("TEST"));
+
+		Iterator<Object> iterator = resultCollector.iterator();
+
+		assertThat(iterator.next()).isEqualTo("one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(iterator::hasNext)
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void getResultWithTimeoutThrowsFunctionExceptionWhenResultsAreNotReceivedInTime() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, "one");
+
+		Iterator<Object> iterator = resultCollector.getResult(50L, TimeUnit.MILLISECONDS).iterator();
+
+		assertThat(iterator.next()).isEqualTo("one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(iterator::hasNext)
+			.withMessage("Failed to collect Function results in the configured timeout [50 ms]");
+	}
+
+	@Test
+	public void closingStreamDiscardsRemainingResults() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(1);
+
+		Stream<Integer> results = resultCollector.getResult();
+
+		resultCollector.addResult(null, 1);
+
+		Thread producer = new Thread(() -> {
+			resultCollector.addResult(null, 2);
+			resultCollector.addResult(null, 3);
+			resultCollector.endResults();
+		});
+
+		producer.start();
+		results.close();
+		producer.join(5000L);
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(resultCollector.getBufferedResultCount()).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	public void consumingLastResultCancelsCollection() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult().findFirst()).hasValue("one");
+		assertThat(resultCollector.isCancelled()).isFalse();
+
+		Iterator<Object> iterator = resultCollector.iterator();
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(resultCollector.isCancelled()).isTrue();
+	}
+
+	@Test
+	public void consumingFailureCancelsCollection() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, new IllegalStateException("TEST"));
+		resultCollector.addResult(null, "one");
+
+		assertThat(resultCollector.getBufferedResultCount()).isOne();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> resultCollector.iterator().hasNext());
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+		assertThat(resultCollector.getBufferedResultCount()).isZero();
+	}
+
+	@Test
+	public void closingIteratorCancelsCollection() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(1);
+
+		CloseableIterator<Integer> iterator = resultCollector.iterator();
+
+		resultCollector.addResult(null, 1);
+
+		Thread producer = new Thread(() -> {
+			resultCollector.addResult(null, 2);
+			resultCollector.addResult(null, 3);
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		assertThat(iterator.next()).isEqualTo(1);
+
+		iterator.close();
+		producer.join(5000L);
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(resultCollector.isCancelled()).isTrue();
+	}
+
+	@Test
+	public void abandonedStreamCancelsCollectionAfterConsumerTimeout() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector =
+			new StreamingResultCollector<>(1, Duration.ofMillis(200L));
+
+		Iterator<Integer> iterator = resultCollector.getResult().iterator();
+
+		Thread producer = new Thread(() -> {
+			resultCollector.addResult(null, 1);
+			resultCollector.addResult(null, 2);
+			resultCollector.addResult(null, 3);
+			resultCollector.endResults();
+		});
+
+		producer.start();
+
+		assertThat(iterator.next()).isEqualTo(1);
+
+		producer.join(5000L);
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(resultCollector.isCancelled()).isTrue();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(iterator::hasNext)
+			.withMessage("Function results were not consumed in the configured timeout [200 ms]");
+	}
+
+	@Test
+	public void callbackReceivesResultsAsTheyAreAdded() {
+
+		List<Object> results = new ArrayList<>();
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(results::add);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, "two");
+
+		assertThat(results).containsExactly("one", "two");
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.isCallback()).isTrue();
+		assertThat(resultCollector.getResult()).isEmpty();
+	}
+
+	@Test
+	public void callbackGetResultRethrowsFailure() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(result -> { });
+
+		resultCollector.addResult(null, new FunctionException("TEST"));
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(resultCollector::getResult)
+			.withMessage("TEST");
+	}
+}
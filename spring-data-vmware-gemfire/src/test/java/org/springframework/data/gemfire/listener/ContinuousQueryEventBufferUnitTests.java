@@ -0,0 +1,304 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
+/**
+ * Unit Tests for {@link ContinuousQueryEventBuffer}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryEventBuffer
+ * @see org.springframework.data.gemfire.listener.OverflowPolicy
+ */
+public class ContinuousQueryEventBufferUnitTests {
+
+	private File spillDirectory;
+
+	private final ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+	@Before
+	public void createSpillDirectory() throws Exception {
+		this.spillDirectory = Files.createTempDirectory("cq-event-buffer-test").toFile();
+	}
+
+	@After
+	public void deleteSpillDirectory() {
+
+		File[] files = this.spillDirectory.listFiles();
+
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+
+		this.spillDirectory.delete();
+	}
+
+	private CqEvent mockCqEvent(Object key) {
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		when(mockEvent.getKey()).thenReturn(key);
+
+		return mockEvent;
+	}
+
+	private Object pollKey(ContinuousQueryEventBuffer eventBuffer) {
+
+		ContinuousQueryEventBuffer.BufferedEvent bufferedEvent = eventBuffer.poll();
+
+		return bufferedEvent != null ? bufferedEvent.getEvent().getKey() : null;
+	}
+
+	@Test
+	public void constructWithInvalidCapacityThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ContinuousQueryEventBuffer(0, OverflowPolicy.BLOCK))
+			.withMessage("Capacity [0] must be greater than 0");
+	}
+
+	@Test
+	public void constructWithNullOverflowPolicyThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ContinuousQueryEventBuffer(1, null))
+			.withMessage("OverflowPolicy is required");
+	}
+
+	@Test
+	public void offerAndPollInOrder() {
+
+		ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(3, OverflowPolicy.DROP_NEWEST);
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+		eventBuffer.offer(this.mockListener, mockCqEvent(2));
+
+		assertThat(eventBuffer.getDepth()).isEqualTo(2);
+
+		ContinuousQueryEventBuffer.BufferedEvent bufferedEvent = eventBuffer.poll();
+
+		assertThat(bufferedEvent).isNotNull();
+		assertThat(bufferedEvent.getListener()).isSameAs(this.mockListener);
+		assertThat(bufferedEvent.getEvent().getKey()).isEqualTo(1);
+		assertThat(pollKey(eventBuffer)).isEqualTo(2);
+		assertThat(eventBuffer.poll()).isNull();
+		assertThat(eventBuffer.getDepth()).isZero();
+	}
+
+	@Test
+	public void dropNewestDiscardsIncomingEvent() {
+
+		ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(2, OverflowPolicy.DROP_NEWEST);
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+		eventBuffer.offer(this.mockListener, mockCqEvent(2));
+		eventBuffer.offer(this.mockListener, mockCqEvent(3));
+
+		assertThat(eventBuffer.getDepth()).isEqualTo(2);
+		assertThat(eventBuffer.getDroppedEventCount()).isEqualTo(1L);
+		assertThat(pollKey(eventBuffer)).isEqualTo(1);
+		assertThat(pollKey(eventBuffer)).isEqualTo(2);
+		assertThat(eventBuffer.poll()).isNull();
+	}
+
+	@Test
+	public void dropOldestDiscardsHeadOfBuffer() {
+
+		ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(2, OverflowPolicy.DROP_OLDEST);
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+		eventBuffer.offer(this.mockListener, mockCqEvent(2));
+		eventBuffer.offer(this.mockListener, mockCqEvent(3));
+
+		assertThat(eventBuffer.getDepth()).isEqualTo(2);
+		assertThat(eventBuffer.getDroppedEventCount()).isEqualTo(1L);
+		assertThat(pollKey(eventBuffer)).isEqualTo(2);
+		assertThat(pollKey(eventBuffer)).isEqualTo(3);
+	}
+
+	@Test
+	public void blockWaitsForCapacity() throws Exception {
+
+		ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(1, OverflowPolicy.BLOCK);
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+
+		CountDownLatch offered = new CountDownLatch(1);
+
+		CqEvent mockEvent = mockCqEvent(2);
+
+		Thread producer = new Thread(() -> {
+			eventBuffer.offer(this.mockListener, mockEvent);
+			offered.countDown();
+		});
+
+		producer.start();
+
+		assertThat(offered.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(pollKey(eventBuffer)).isEqualTo(1);
+		assertThat(offered.await(5L, TimeUnit.SECONDS)).isTrue();
+		assertThat(pollKey(eventBuffer)).isEqualTo(2);
+		assertThat(eventBuffer.getDroppedEventCount()).isZero();
+
+		producer.join(5000L);
+	}
+
+	@Test
+	public void spillWritesOverflowToDiskAndPreservesOrder() {
+
+		ContinuousQueryEventBuffer eventBuffer =
+			new ContinuousQueryEventBuffer(1, OverflowPolicy.SPILL, this.spillDirectory);
+
+		CqQuery mockQuery = mock(CqQuery.class);
+
+		CqEvent mockEvent = mockCqEvent("two");
+
+		when(mockEvent.getCq()).thenReturn(mockQuery);
+		when(mockEvent.getNewValue()).thenReturn("test");
+		when(mockEvent.getBaseOperation()).thenReturn(Operation.UPDATE);
+		when(mockEvent.getQueryOperation()).thenReturn(Operation.CREATE);
+		when(mockEvent.getDeltaValue()).thenReturn(new byte[] { 1, 2 });
+
+		eventBuffer.offer(this.mockListener, mockCqEvent("one"));
+		eventBuffer.offer(this.mockListener, mockEvent);
+		eventBuffer.offer(this.mockListener, mockCqEvent("three"));
+
+		assertThat(eventBuffer.getDepth()).isEqualTo(3);
+		assertThat(eventBuffer.getSpilledEventCount()).isEqualTo(2L);
+		assertThat(this.spillDirectory.listFiles()).hasSize(1);
+		assertThat(pollKey(eventBuffer)).isEqualTo("one");
+
+		// capacity is available again, but spilled events must be delivered first
+		eventBuffer.offer(this.mockListener, mockCqEvent("four"));
+
+		ContinuousQueryEventBuffer.BufferedEvent bufferedEvent = eventBuffer.poll();
+
+		assertThat(bufferedEvent).isNotNull();
+		assertThat(bufferedEvent.getListener()).isSameAs(this.mockListener);
+
+		CqEvent spilledEvent = bufferedEvent.getEvent();
+
+		assertThat(spilledEvent.getCq()).isSameAs(mockQuery);
+		assertThat(spilledEvent.getKey()).isEqualTo("two");
+		assertThat(spilledEvent.getNewValue()).isEqualTo("test");
+		assertThat(spilledEvent.getBaseOperation()).isEqualTo(Operation.UPDATE);
+		assertThat(spilledEvent.getQueryOperation()).isEqualTo(Operation.CREATE);
+		assertThat(spilledEvent.getDeltaValue()).containsExactly(1, 2);
+		assertThat(spilledEvent.getThrowable()).isNull();
+
+		assertThat(pollKey(eventBuffer)).isEqualTo("three");
+		assertThat(pollKey(eventBuffer)).isEqualTo("four");
+		assertThat(eventBuffer.poll()).isNull();
+		assertThat(eventBuffer.getDroppedEventCount()).isZero();
+		assertThat(this.spillDirectory.listFiles()).isEmpty();
+	}
+
+	@Test
+	public void spillFallsBackToBlockForEventsThatCannotBeSerialized() throws Exception {
+
+		ContinuousQueryEventBuffer eventBuffer =
+			new ContinuousQueryEventBuffer(1, OverflowPolicy.SPILL, this.spillDirectory);
+
+		eventBuffer.offer(this.mockListener, mockCqEvent("one"));
+		eventBuffer.offer(this.mockListener, mockCqEvent("two"));
+
+		CqEvent mockEvent = mockCqEvent("three");
+
+		when(mockEvent.getNewValue()).thenReturn(new Object());
+
+		CountDownLatch offered = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> {
+			eventBuffer.offer(this.mockListener, mockEvent);
+			offered.countDown();
+		});
+
+		producer.start();
+
+		assertThat(offered.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(pollKey(eventBuffer)).isEqualTo("one");
+		assertThat(offered.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(pollKey(eventBuffer)).isEqualTo("two");
+		assertThat(offered.await(5L, TimeUnit.SECONDS)).isTrue();
+		assertThat(eventBuffer.poll().getEvent()).isSameAs(mockEvent);
+		assertThat(eventBuffer.getDroppedEventCount()).isZero();
+		assertThat(eventBuffer.getSpilledEventCount()).isEqualTo(1L);
+		assertThat(this.spillDirectory.listFiles()).isEmpty();
+
+		producer.join(5000L);
+	}
+
+	@Test
+	public void awaitDrainedWaitsUntilBufferIsEmpty() throws Exception {
+
+		ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(2, OverflowPolicy.BLOCK);
+
+		assertThat(eventBuffer.awaitDrained(0L, TimeUnit.MILLISECONDS)).isTrue();
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+
+		assertThat(eventBuffer.startDraining()).isTrue();
+		assertThat(eventBuffer.awaitDrained(10L, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(pollKey(eventBuffer)).isEqualTo(1);
+		assertThat(eventBuffer.poll()).isNull();
+		assertThat(eventBuffer.awaitDrained(0L, TimeUnit.MILLISECONDS)).isTrue();
+	}
+
+	@Test
+	public void startDrainingIsExclusiveUntilBufferIsEmpty() {
+
+		ContinuousQueryEventBuffer eventBuffer = new ContinuousQueryEventBuffer(2, OverflowPolicy.BLOCK);
+
+		assertThat(eventBuffer.startDraining()).isFalse();
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+
+		assertThat(eventBuffer.startDraining()).isTrue();
+		assertThat(eventBuffer.startDraining()).isFalse();
+		assertThat(pollKey(eventBuffer)).isEqualTo(1);
+		assertThat(eventBuffer.poll()).isNull();
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(2));
+
+		assertThat(eventBuffer.startDraining()).isTrue();
+	}
+
+	@Test
+	public void clearDiscardsEventsAndSpillFile() {
+
+		ContinuousQueryEventBuffer eventBuffer =
+			new ContinuousQueryEventBuffer(1, OverflowPolicy.SPILL, this.spillDirectory);
+
+		eventBuffer.offer(this.mockListener, mockCqEvent(1));
+		eventBuffer.offer(this.mockListener, mockCqEvent(2));
+
+		assertThat(eventBuffer.getDepth()).isEqualTo(2);
+
+		eventBuffer.clear();
+
+		assertThat(eventBuffer.getDepth()).isZero();
+		assertThat(eventBuffer.poll()).isNull();
+		assertThat(this.spillDirectory.listFiles()).isEmpty();
+	}
+}
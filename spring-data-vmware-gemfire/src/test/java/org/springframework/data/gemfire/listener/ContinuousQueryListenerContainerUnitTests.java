@@ -13,23 +13,29 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.query.ExcludedEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -38,7 +44,9 @@ import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.query.CqAttributes;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
+import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
 import org.apache.geode.cache.query.CqState;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
@@ -747,6 +755,229 @@ public class ContinuousQueryListenerContainerUnitTests {
 		}
 	}
 
+	@Test
+	public void cqListenerContainerStartsWithParallelismExecutingQueriesConcurrently() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		CqQuery mockQueryOne = mock(CqQuery.class);
+		CqQuery mockQueryTwo = mock(CqQuery.class);
+
+		doAnswer(invocation -> {
+			latch.countDown();
+			assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+			return null;
+		}).when(mockQueryOne).execute();
+
+		doAnswer(invocation -> {
+			latch.countDown();
+			assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+			return null;
+		}).when(mockQueryTwo).execute();
+
+		cqListenerContainer.getContinuousQueries().add(mockQueryOne);
+		cqListenerContainer.getContinuousQueries().add(mockQueryTwo);
+		cqListenerContainer.setStartupParallelism(4);
+		cqListenerContainer.start();
+
+		assertThat(cqListenerContainer.isRunning()).isTrue();
+
+		verify(mockQueryOne, times(1)).execute();
+		verify(mockQueryTwo, times(1)).execute();
+	}
+
+	@Test(expected = GemfireQueryException.class)
+	public void cqListenerContainerStartWithParallelismHandlesCqException() throws Exception {
+
+		CqQuery mockQueryOne = mock(CqQuery.class);
+		CqQuery mockQueryTwo = mock(CqQuery.class);
+
+		when(mockQueryOne.getName()).thenReturn("ONE");
+		doThrow(new CqException("ONE")).when(mockQueryOne).execute();
+
+		cqListenerContainer.getContinuousQueries().add(mockQueryOne);
+		cqListenerContainer.getContinuousQueries().add(mockQueryTwo);
+		cqListenerContainer.setStartupParallelism(2);
+
+		try {
+			cqListenerContainer.start();
+		}
+		catch (GemfireQueryException cause) {
+
+			assertThat(cause).hasMessageStartingWith("Could not execute query [ONE]");
+			assertThat(cause).hasCauseInstanceOf(CqException.class);
+
+			throw cause;
+		}
+		finally {
+			assertThat(cqListenerContainer.isRunning()).isFalse();
+
+			verify(mockQueryOne, times(1)).execute();
+			verify(mockQueryTwo, times(1)).execute();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setStartupParallelismToZeroThrowsIllegalArgumentException() {
+		cqListenerContainer.setStartupParallelism(0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void initialResultsAreDeliveredInChunksBeforeCqEvents() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		CqQuery mockQuery = mock(CqQuery.class);
+
+		CqAttributes[] attributes = new CqAttributes[1];
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean())).thenAnswer(invocation -> {
+			attributes[0] = invocation.getArgument(1);
+			return mockQuery;
+		});
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		when(mockResults.iterator()).thenReturn(Arrays.<Object>asList(1, 2, 3, 4, 5).iterator());
+
+		when(mockQuery.executeWithInitialResults()).thenAnswer(invocation -> {
+			// CQ events received while the initial results are being delivered are held back
+			attributes[0].getCqListener().onEvent(mockEvent);
+			return mockResults;
+		});
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryInitialResultsListener mockListener = mock(ContinuousQueryInitialResultsListener.class);
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition("SELECT * FROM /Example", mockListener)
+				.withInitialResults(true)
+				.withInitialResultsChunkSize(2);
+
+		cqListenerContainer.setQueryService(mockQueryService);
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+		cqListenerContainer.addContinuousQuery(definition);
+
+		assertThat(attributes[0].getCqListener())
+			.isInstanceOf(ContinuousQueryListenerContainer.InitialResultsEventDispatcherAdapter.class);
+
+		cqListenerContainer.start();
+
+		InOrder inOrder = inOrder(mockListener);
+
+		inOrder.verify(mockListener).onInitialResults(eq(Arrays.asList(1, 2)));
+		inOrder.verify(mockListener).onInitialResults(eq(Arrays.asList(3, 4)));
+		inOrder.verify(mockListener).onInitialResults(eq(Arrays.asList(5)));
+		inOrder.verify(mockListener).onEvent(eq(mockEvent));
+
+		verify(mockQuery, never()).execute();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void initialResultsAreOnlyDeliveredOnFirstExecution() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		CqQuery mockQuery = mock(CqQuery.class);
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean())).thenReturn(mockQuery);
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		when(mockResults.iterator()).thenReturn(Arrays.<Object>asList(1, 2).iterator());
+		when(mockQuery.executeWithInitialResults()).thenReturn((CqResults) mockResults);
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryInitialResultsListener mockListener = mock(ContinuousQueryInitialResultsListener.class);
+
+		cqListenerContainer.setQueryService(mockQueryService);
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+		cqListenerContainer.addContinuousQuery(new ContinuousQueryDefinition("SELECT * FROM /Example", mockListener)
+			.withInitialResults(true));
+
+		cqListenerContainer.start();
+		cqListenerContainer.stop();
+		cqListenerContainer.start();
+
+		verify(mockQuery, times(1)).executeWithInitialResults();
+		verify(mockQuery, times(1)).stop();
+		verify(mockQuery, times(1)).execute();
+		verify(mockListener, times(1)).onInitialResults(eq(Arrays.asList(1, 2)));
+	}
+
+	@Test
+	public void initialResultsEventDispatcherAdapterBoundsHeldEventsAndReleasesThemInOrderOutsideLock()
+			throws Exception {
+
+		CqListener mockEventDispatcher = mock(CqListener.class);
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+		CqEvent mockEventThree = mock(CqEvent.class);
+
+		ContinuousQueryListenerContainer.InitialResultsEventDispatcherAdapter eventDispatcher =
+			cqListenerContainer.new InitialResultsEventDispatcherAdapter(
+				mock(ContinuousQueryInitialResultsListener.class), mockEventDispatcher, 1, 2);
+
+		List<Boolean> locked = new ArrayList<>();
+
+		doAnswer(invocation -> locked.add(Thread.holdsLock(eventDispatcher)))
+			.when(mockEventDispatcher).onEvent(any());
+
+		eventDispatcher.hold();
+		eventDispatcher.onEvent(mockEventOne);
+		eventDispatcher.onEvent(mockEventTwo);
+
+		CountDownLatch dispatched = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> {
+			eventDispatcher.onEvent(mockEventThree);
+			dispatched.countDown();
+		});
+
+		producer.start();
+
+		assertThat(dispatched.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+
+		verifyNoInteractions(mockEventDispatcher);
+
+		eventDispatcher.release();
+
+		assertThat(dispatched.await(5L, TimeUnit.SECONDS)).isTrue();
+
+		producer.join(5000L);
+
+		InOrder inOrder = inOrder(mockEventDispatcher);
+
+		inOrder.verify(mockEventDispatcher).onEvent(eq(mockEventOne));
+		inOrder.verify(mockEventDispatcher).onEvent(eq(mockEventTwo));
+		inOrder.verify(mockEventDispatcher).onEvent(eq(mockEventThree));
+		assertThat(locked).containsOnly(false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInitialResultsRequiresInitialResultsListener() {
+
+		new ContinuousQueryDefinition("SELECT * FROM /Example", mock(ContinuousQueryListener.class))
+			.withInitialResults(true);
+	}
+
 	@Test
 	public void cqListenerContainerDoesNotStartWhenAlreadyRunning() {
 
@@ -810,6 +1041,481 @@ public class ContinuousQueryListenerContainerUnitTests {
 		verify(mockErrorHandler, times(1)).handleError(eq(expectedCause));
 	}
 
+	@Test
+	public void newCqListenerForBatchingDefinitionReturnsBatchingEventDispatcherAdapter() {
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition("SELECT * FROM /Example", mockBatchListener).withBatchSize(10);
+
+		assertThat(cqListenerContainer.newCqListener(definition, mockBatchListener))
+			.isInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class);
+	}
+
+	@Test
+	public void newCqListenerForNonBatchingDefinitionReturnsEventDispatcherAdapter() {
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		ContinuousQueryDefinition definition = new ContinuousQueryDefinition("SELECT * FROM /Example", mockBatchListener);
+
+		assertThat(cqListenerContainer.newCqListener(definition, mockBatchListener))
+			.isNotInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class)
+			.isInstanceOf(ContinuousQueryListenerContainer.EventDispatcherAdapter.class);
+	}
+
+	@Test
+	public void batchingEventDispatcherAdapterDispatchesFullBatches() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+		CqEvent mockEventThree = mock(CqEvent.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter eventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(mockBatchListener, 2, 0L);
+
+		eventDispatcher.onEvent(mockEventOne);
+
+		verifyNoInteractions(mockBatchListener);
+
+		eventDispatcher.onEvent(mockEventTwo);
+		eventDispatcher.onEvent(mockEventThree);
+
+		verify(mockBatchListener, times(1)).onEvents(eq(Arrays.asList(mockEventOne, mockEventTwo)));
+		verify(mockBatchListener, never()).onEvents(eq(List.of(mockEventThree)));
+
+		eventDispatcher.flush();
+
+		verify(mockBatchListener, times(1)).onEvents(eq(List.of(mockEventThree)));
+		verify(mockExecutor, times(2)).execute(isA(Runnable.class));
+	}
+
+	@Test
+	public void batchingEventDispatcherAdapterDispatchesPartialBatchOnTimeout() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		try {
+
+			ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter eventDispatcher =
+				cqListenerContainer.new BatchingEventDispatcherAdapter(mockBatchListener, 100, 50L);
+
+			eventDispatcher.onEvent(mockEvent);
+
+			verify(mockBatchListener, timeout(5000L).times(1)).onEvents(eq(List.of(mockEvent)));
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void newCqListenerForBatchTimeoutOnlyDefinitionBatchesByTimeAlone() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryDefinition definition = new ContinuousQueryDefinition("SELECT * FROM /Example",
+			mockBatchListener).withBatchTimeout(60000L);
+
+		try {
+
+			ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter eventDispatcher =
+				(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter)
+					cqListenerContainer.newCqListener(definition, mockBatchListener);
+
+			assertThat(eventDispatcher.getBatchSize()).isEqualTo(Integer.MAX_VALUE);
+
+			eventDispatcher.onEvent(mockEventOne);
+			eventDispatcher.onEvent(mockEventTwo);
+
+			verifyNoInteractions(mockBatchListener);
+
+			eventDispatcher.flush();
+
+			verify(mockBatchListener, times(1)).onEvents(eq(Arrays.asList(mockEventOne, mockEventTwo)));
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchingEventDispatcherAdapterDeliversErrorEventsOnTheirOwnAfterPendingBatch() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEvent = mock(CqEvent.class);
+		CqEvent mockErrorEvent = mock(CqEvent.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter eventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(mockBatchListener, 10, 0L);
+
+		eventDispatcher.onEvent(mockEvent);
+		eventDispatcher.onError(mockErrorEvent);
+
+		InOrder inOrder = inOrder(mockBatchListener);
+
+		inOrder.verify(mockBatchListener, times(1)).onEvents(eq(List.of(mockEvent)));
+		inOrder.verify(mockBatchListener, times(1)).onEvent(eq(mockErrorEvent));
+
+		eventDispatcher.flush();
+
+		verify(mockBatchListener, times(1)).onEvents(any());
+	}
+
+	@Test
+	public void batchingEventDispatcherAdapterDeliversBatchesOneAtATimeInOrder() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+		CqEvent mockEventThree = mock(CqEvent.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter eventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(mockBatchListener, 1, 0L);
+
+		eventDispatcher.onEvent(mockEventOne);
+		eventDispatcher.onEvent(mockEventTwo);
+		eventDispatcher.onEvent(mockEventThree);
+
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		InOrder inOrder = inOrder(mockBatchListener);
+
+		inOrder.verify(mockBatchListener, times(1)).onEvents(eq(List.of(mockEventOne)));
+		inOrder.verify(mockBatchListener, times(1)).onEvents(eq(List.of(mockEventTwo)));
+		inOrder.verify(mockBatchListener, times(1)).onEvents(eq(List.of(mockEventThree)));
+
+		eventDispatcher.onEvent(mockEventOne);
+
+		assertThat(tasks).hasSize(2);
+	}
+
+	private CqEvent mockCqEvent(Object key) {
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		when(mockEvent.getKey()).thenReturn(key);
+
+		return mockEvent;
+	}
+
+	@Test
+	public void newCqListenerForConflatingDefinitionReturnsConflatingEventDispatcherAdapter() {
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition("SELECT * FROM /Example", mockListener).withConflation(true);
+
+		assertThat(cqListenerContainer.newCqListener(definition, mockListener))
+			.isInstanceOf(ContinuousQueryListenerContainer.ConflatingEventDispatcherAdapter.class);
+	}
+
+	@Test
+	public void conflatingEventDispatcherAdapterConflatesPendingEventsByKey() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(mockExecutor).execute(any());
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqEvent mockEventOne = mockCqEvent(1);
+		CqEvent mockEventTwo = mockCqEvent(2);
+		CqEvent mockEventThree = mockCqEvent(1);
+		CqEvent mockEventFour = mockCqEvent(1);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition("SELECT * FROM /Example", mockListener).withConflation(true);
+
+		ContinuousQueryListenerContainer.ConflatingEventDispatcherAdapter eventDispatcher =
+			(ContinuousQueryListenerContainer.ConflatingEventDispatcherAdapter)
+				cqListenerContainer.newCqListener(definition, mockListener);
+
+		eventDispatcher.onEvent(mockEventOne);
+		eventDispatcher.onEvent(mockEventTwo);
+		eventDispatcher.onEvent(mockEventThree);
+		eventDispatcher.onEvent(mockEventFour);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(eventDispatcher.getConflatedEventCount()).isEqualTo(2L);
+		assertThat(cqListenerContainer.getConflatedEventCount()).isEqualTo(2L);
+
+		tasks.get(0).run();
+
+		verify(mockListener, never()).onEvent(eq(mockEventOne));
+		verify(mockListener, never()).onEvent(eq(mockEventThree));
+		verify(mockListener, times(1)).onEvent(eq(mockEventTwo));
+		verify(mockListener, times(1)).onEvent(eq(mockEventFour));
+
+		eventDispatcher.onEvent(mockEventOne);
+
+		assertThat(tasks).hasSize(2);
+
+		tasks.get(1).run();
+
+		verify(mockListener, times(1)).onEvent(eq(mockEventOne));
+	}
+
+	@Test
+	public void conflatingEventDispatcherAdapterDispatchesConflatedBatches() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEventOne = mockCqEvent(1);
+		CqEvent mockEventTwo = mockCqEvent(2);
+		CqEvent mockEventThree = mockCqEvent(3);
+		CqEvent mockEventFour = mockCqEvent(2);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryListenerContainer.ConflatingEventDispatcherAdapter eventDispatcher =
+			cqListenerContainer.new ConflatingEventDispatcherAdapter(mockBatchListener, 2);
+
+		eventDispatcher.onEvent(mockEventOne);
+		eventDispatcher.onEvent(mockEventTwo);
+		eventDispatcher.onEvent(mockEventThree);
+		eventDispatcher.onEvent(mockEventFour);
+
+		tasks.get(0).run();
+
+		assertThat(eventDispatcher.getConflatedEventCount()).isEqualTo(1L);
+
+		verify(mockBatchListener, times(1)).onEvents(eq(Arrays.asList(mockEventOne, mockEventFour)));
+		verify(mockBatchListener, times(1)).onEvents(eq(List.of(mockEventThree)));
+	}
+
+	@Test
+	public void newCqListenerUsesSharedEventBufferWhenConfigured() {
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		cqListenerContainer.setEventBufferCapacity(10);
+		cqListenerContainer.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+
+		ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter eventDispatcherOne =
+			(ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter) cqListenerContainer.newCqListener(
+				new ContinuousQueryDefinition("SELECT * FROM /One", mockListener), mockListener);
+
+		ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter eventDispatcherTwo =
+			(ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter) cqListenerContainer.newCqListener(
+				new ContinuousQueryDefinition("SELECT * FROM /Two", mockListener), mockListener);
+
+		ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter eventDispatcherThree =
+			(ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter) cqListenerContainer.newCqListener(
+				new ContinuousQueryDefinition("SELECT * FROM /Three", mockListener)
+					.withEventBuffer(5, OverflowPolicy.DROP_NEWEST), mockListener);
+
+		assertThat(eventDispatcherOne.getEventBuffer()).isSameAs(eventDispatcherTwo.getEventBuffer());
+		assertThat(eventDispatcherOne.getEventBuffer().getCapacity()).isEqualTo(10);
+		assertThat(eventDispatcherOne.getEventBuffer().getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_OLDEST);
+		assertThat(eventDispatcherThree.getEventBuffer()).isNotSameAs(eventDispatcherOne.getEventBuffer());
+		assertThat(eventDispatcherThree.getEventBuffer().getCapacity()).isEqualTo(5);
+		assertThat(eventDispatcherThree.getEventBuffer().getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_NEWEST);
+		assertThat(cqListenerContainer.getEventBuffers()).hasSize(2);
+	}
+
+	@Test
+	public void bufferingEventDispatcherAdapterDrainsBufferInOrderWithSingleTask() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(mockExecutor).execute(any());
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqEvent mockEventOne = mockCqEvent(1);
+		CqEvent mockEventTwo = mockCqEvent(2);
+		CqEvent mockEventThree = mockCqEvent(3);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter eventDispatcher =
+			cqListenerContainer.new BufferingEventDispatcherAdapter(mockListener,
+				new ContinuousQueryEventBuffer(2, OverflowPolicy.DROP_NEWEST));
+
+		eventDispatcher.onEvent(mockEventOne);
+		eventDispatcher.onEvent(mockEventTwo);
+		eventDispatcher.onEvent(mockEventThree);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(eventDispatcher.getEventBuffer().getDepth()).isEqualTo(2);
+		assertThat(eventDispatcher.getEventBuffer().getDroppedEventCount()).isEqualTo(1L);
+
+		tasks.get(0).run();
+
+		InOrder inOrder = inOrder(mockListener);
+
+		inOrder.verify(mockListener).onEvent(eq(mockEventOne));
+		inOrder.verify(mockListener).onEvent(eq(mockEventTwo));
+		verify(mockListener, never()).onEvent(eq(mockEventThree));
+		assertThat(eventDispatcher.getEventBuffer().getDepth()).isZero();
+	}
+
+	@Test
+	public void newCqListenerBuffersEventsInFrontOfBatching() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(mockExecutor).execute(any());
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		CqEvent mockEventOne = mockCqEvent(1);
+		CqEvent mockEventTwo = mockCqEvent(2);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+		cqListenerContainer.setEventBufferCapacity(10);
+
+		ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter eventDispatcher =
+			(ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter) cqListenerContainer.newCqListener(
+				new ContinuousQueryDefinition("SELECT * FROM /Example", mockBatchListener).withBatchSize(2),
+					mockBatchListener);
+
+		assertThat(eventDispatcher.getEventDispatcher())
+			.isInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class);
+
+		eventDispatcher.onEvent(mockEventOne);
+		eventDispatcher.onEvent(mockEventTwo);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(cqListenerContainer.getBufferedEventCount()).isEqualTo(2L);
+
+		tasks.get(0).run();
+
+		assertThat(tasks).hasSize(2);
+		assertThat(cqListenerContainer.getBufferedEventCount()).isZero();
+
+		tasks.get(1).run();
+
+		verify(mockBatchListener, times(1)).onEvents(eq(Arrays.asList(mockEventOne, mockEventTwo)));
+	}
+
+	@Test
+	public void getSpilledEventCountReturnsEventsSpilledAcrossEventBuffers() {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(mockExecutor).execute(any());
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		CqListener eventDispatcher = cqListenerContainer.newCqListener(
+			new ContinuousQueryDefinition("SELECT * FROM /Example", mockListener)
+				.withEventBuffer(1, OverflowPolicy.SPILL), mockListener);
+
+		eventDispatcher.onEvent(mockCqEvent(1));
+		eventDispatcher.onEvent(mockCqEvent(2));
+
+		assertThat(cqListenerContainer.getSpilledEventCount()).isEqualTo(1L);
+
+		tasks.get(0).run();
+
+		verify(mockListener, times(2)).onEvent(any());
+		assertThat(cqListenerContainer.getBufferedEventCount()).isZero();
+		assertThat(cqListenerContainer.getSpilledEventCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void destroyDeliversBufferedEvents() {
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqEvent mockEventOne = mockCqEvent(1);
+		CqEvent mockEventTwo = mockCqEvent(2);
+
+		cqListenerContainer.setEventBufferCapacity(10);
+
+		ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter eventDispatcher =
+			(ContinuousQueryListenerContainer.BufferingEventDispatcherAdapter) cqListenerContainer.newCqListener(
+				new ContinuousQueryDefinition("SELECT * FROM /Example", mockListener), mockListener);
+
+		eventDispatcher.getEventBuffer().offer(mockListener, mockEventOne);
+		eventDispatcher.getEventBuffer().offer(mockListener, mockEventTwo);
+
+		cqListenerContainer.destroy();
+
+		InOrder inOrder = inOrder(mockListener);
+
+		inOrder.verify(mockListener).onEvent(eq(mockEventOne));
+		inOrder.verify(mockListener).onEvent(eq(mockEventTwo));
+		assertThat(cqListenerContainer.getEventBuffers()).isEmpty();
+	}
+
 	@Test
 	public void stopStopsCqsCallsRunnableHandlesExceptionsOnCqQueryStopWhenRunning() throws Exception {
 
@@ -6,16 +6,22 @@ package org.springframework.data.gemfire.listener.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -23,7 +29,11 @@ import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqQuery;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.gemfire.listener.ContinuousQueryBatchListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 
 /**
  * Unit Tests for {@link ContinuousQueryListenerAdapter}.
@@ -61,6 +71,8 @@ public class QueryListenerAdapterUnitTests {
 
 		void handleInvalid(Object o1, Object o2, Object o3);
 
+		void handleBatch(List<CqEvent> events);
+
 	}
 
 	static class SampleListener implements ContinuousQueryListener {
@@ -301,4 +313,163 @@ public class QueryListenerAdapterUnitTests {
 		listenerAdapter.onEvent(event());
 		assertThat(listener.count).isEqualTo(1);
 	}
+
+	@Test
+	public void handlesBatch() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate);
+
+		List<CqEvent> events = Arrays.asList(event(), event(), event());
+
+		cqListenerAdapter.setDefaultListenerMethod("handleBatch");
+		cqListenerAdapter.onEvents(events);
+
+		verify(mockDelegate, times(1)).handleBatch(eq(events));
+	}
+
+	@Test
+	public void handlesSingleEventAsBatch() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate);
+
+		CqEvent event = event();
+
+		cqListenerAdapter.setDefaultListenerMethod("handleBatch");
+		cqListenerAdapter.onEvent(event);
+
+		verify(mockDelegate, times(1)).handleBatch(eq(List.of(event)));
+	}
+
+	@Test
+	public void handlesBatchWithSingleEventListenerMethod() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate);
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+
+		cqListenerAdapter.onEvents(Arrays.asList(eventOne, eventTwo));
+
+		verify(mockDelegate, times(1)).handleEvent(same(eventOne));
+		verify(mockDelegate, times(1)).handleEvent(same(eventTwo));
+	}
+
+	@Test
+	public void onEventsDelegatesToBatchListener() {
+
+		ContinuousQueryBatchListener mockBatchListener = mock(ContinuousQueryBatchListener.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockBatchListener);
+
+		List<CqEvent> events = Arrays.asList(event(), event());
+
+		cqListenerAdapter.onEvents(events);
+
+		verify(mockBatchListener, times(1)).onEvents(eq(events));
+	}
+
+	@Test
+	public void onEventsDelegatesEachEventToListener() {
+
+		SampleListener listener = new SampleListener();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(listener);
+
+		cqListenerAdapter.onEvents(Arrays.asList(event(), event(), event()));
+
+		assertThat(listener.count).isEqualTo(3);
+	}
+
+	@Test
+	public void onEventsHandlesListenerMethodExceptionPerEvent() {
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		doThrow(new RuntimeException("TEST")).when(mockDelegate).handleEvent(same(eventOne));
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = spy(new ContinuousQueryListenerAdapter(mockDelegate));
+
+		cqListenerAdapter.onEvents(Arrays.asList(eventOne, eventTwo));
+
+		verify(mockDelegate, times(1)).handleEvent(same(eventTwo));
+		verify(cqListenerAdapter, times(1)).handleListenerException(isA(GemfireListenerExecutionFailedException.class));
+	}
+
+	@Test
+	public void onEventsInvokesListenerMethodForEachEvent() {
+
+		List<CqEvent> invokedEvents = new ArrayList<>();
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate) {
+
+			@Override
+			protected String getListenerMethodName(CqEvent event) {
+				return invokedEvents.isEmpty() ? "handleEvent" : "handleBatch";
+			}
+
+			@Override
+			protected void invokeListenerMethod(CqEvent event, String methodName) {
+				invokedEvents.add(event);
+				super.invokeListenerMethod(event, methodName);
+			}
+		};
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+		CqEvent eventThree = event();
+
+		cqListenerAdapter.onEvents(Arrays.asList(eventOne, eventTwo, eventThree));
+
+		assertThat(invokedEvents).containsExactly(eventOne);
+
+		verify(mockDelegate, times(1)).handleEvent(same(eventOne));
+		verify(mockDelegate, times(1)).handleBatch(eq(Arrays.asList(eventTwo, eventThree)));
+	}
+
+	@Test
+	public void listenerMethodExceptionIsWrappedAndHandled() {
+
+		RuntimeException expectedCause = new RuntimeException("TEST");
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		doThrow(expectedCause).when(mockDelegate).handleEvent(any());
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = spy(new ContinuousQueryListenerAdapter(mockDelegate));
+
+		cqListenerAdapter.onEvent(event());
+
+		verify(cqListenerAdapter, times(1)).handleListenerException(argThat(cause ->
+			cause instanceof GemfireListenerExecutionFailedException
+				&& "Listener method [handleEvent] threw Exception".equals(cause.getMessage())
+				&& cause.getCause() == expectedCause));
+	}
+
+	@Test
+	public void listenerMethodDataAccessExceptionIsRethrownAndHandled() {
+
+		DataAccessException expectedCause = new DataRetrievalFailureException("TEST");
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		doThrow(expectedCause).when(mockDelegate).handleKey(any());
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = spy(new ContinuousQueryListenerAdapter(mockDelegate));
+
+		cqListenerAdapter.setDefaultListenerMethod("handleKey");
+		cqListenerAdapter.onEvent(event());
+
+		verify(cqListenerAdapter, times(1)).handleListenerException(same(expectedCause));
+	}
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.pdx.PdxInstance;
+
+/**
+ * Unit Tests for {@link MappingObjectSizer}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+ */
+public class MappingObjectSizerUnitTests {
+
+	private final MappingObjectSizer objectSizer = new MappingObjectSizer();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullMappingContextThrowsIllegalArgumentException() {
+
+		try {
+			new MappingObjectSizer(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("MappingContext must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void createWithNullMappingContextUsesNewMappingContext() {
+		assertThat(MappingObjectSizer.create(null).getMappingContext()).isNotNull();
+	}
+
+	@Test
+	public void sizeofNullIsZero() {
+		assertThat(objectSizer.sizeof(null)).isZero();
+	}
+
+	@Test
+	public void sizeofStringGrowsWithLength() {
+
+		int emptySize = objectSizer.sizeof("");
+		int size = objectSizer.sizeof(String.join("", Collections.nCopies(100, "x")));
+
+		assertThat(emptySize).isGreaterThan(0);
+		assertThat(size - emptySize).isBetween(96, 104);
+	}
+
+	@Test
+	public void sizeofPrimitiveArray() {
+
+		assertThat(objectSizer.sizeof(new byte[100])).isEqualTo(120);
+		assertThat(objectSizer.sizeof(new long[10])).isEqualTo(96);
+	}
+
+	@Test
+	public void sizeofEntityIncludesReferencedValues() {
+
+		Customer customer = new Customer(1L, "Jon Doe", Collections.emptyList());
+
+		int size = objectSizer.sizeof(customer);
+
+		assertThat(size).isGreaterThanOrEqualTo(objectSizer.sizeof(customer.getName())
+			+ (int) MappingObjectSizer.shallowSizeOf(Customer.class));
+
+		customer = new Customer(1L, String.join("", Collections.nCopies(1000, "x")),
+			Arrays.asList("one", "two", "three"));
+
+		assertThat(objectSizer.sizeof(customer)).isGreaterThan(size + 1000);
+	}
+
+	@Test
+	public void sizeofCollectionExtrapolatesSampledElements() {
+
+		List<String> tenElements = new ArrayList<>(Collections.nCopies(10, "0123456789"));
+		List<String> oneHundredElements = new ArrayList<>(Collections.nCopies(100, "0123456789"));
+
+		int elementSize = objectSizer.sizeof("0123456789");
+
+		int tenElementsSize = objectSizer.sizeof(tenElements);
+		int oneHundredElementsSize = objectSizer.sizeof(oneHundredElements);
+
+		assertThat(oneHundredElementsSize - tenElementsSize).isGreaterThanOrEqualTo(90 * elementSize);
+	}
+
+	@Test
+	public void sizeofMapIncludesKeysAndValues() {
+
+		Map<String, Customer> map = new HashMap<>();
+
+		int emptySize = objectSizer.sizeof(map);
+
+		map.put("one", new Customer(1L, "Jon Doe", Collections.emptyList()));
+
+		assertThat(objectSizer.sizeof(map)).isGreaterThan(emptySize + objectSizer.sizeof("one"));
+	}
+
+	@Test
+	public void sizeofSelfReferencingEntityTerminates() {
+
+		Node node = new Node();
+
+		node.next = node;
+
+		assertThat(objectSizer.sizeof(node)).isGreaterThan(0);
+	}
+
+	@Test
+	public void sizeofCyclicReferencesSizesEachObjectOnce() {
+
+		Node one = new Node();
+		Node two = new Node();
+
+		one.next = two;
+		two.next = one;
+
+		assertThat(objectSizer.sizeof(one)).isEqualTo(2 * MappingObjectSizer.shallowSizeOf(Node.class));
+
+		List<Object> list = new ArrayList<>();
+
+		list.add(list);
+
+		List<Object> listOfNull = new ArrayList<>(Collections.singleton(null));
+
+		assertThat(objectSizer.sizeof(list)).isEqualTo(objectSizer.sizeof(listOfNull));
+	}
+
+	@Test
+	public void sizeofPdxInstanceUsesFallbackObjectSizerWithoutResolvingPersistentEntity() {
+
+		GemfireMappingContext mappingContext = spy(new GemfireMappingContext());
+
+		MappingObjectSizer objectSizer = new MappingObjectSizer(mappingContext);
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(64).when(mockObjectSizer).sizeof(any());
+
+		objectSizer.setFallbackObjectSizer(mockObjectSizer);
+
+		assertThat(objectSizer.sizeof(mockPdxInstance)).isEqualTo(64);
+
+		verify(mockObjectSizer, times(1)).sizeof(eq(mockPdxInstance));
+		verify(mappingContext, never()).getPersistentEntity(any(Class.class));
+	}
+
+	@Test
+	public void persistentEntityIsResolvedOncePerType() {
+
+		GemfireMappingContext mappingContext = spy(new GemfireMappingContext());
+
+		MappingObjectSizer objectSizer = new MappingObjectSizer(mappingContext);
+
+		int size = objectSizer.sizeof(new Customer(1L, "Jon Doe", Collections.emptyList()));
+
+		assertThat(objectSizer.sizeof(new Customer(2L, "Jon Doe", Collections.emptyList()))).isEqualTo(size);
+
+		verify(mappingContext, times(1)).getPersistentEntity(eq(Customer.class));
+	}
+
+	@Test
+	public void sizeofNonEntityUsesFallbackObjectSizer() {
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		doReturn(42).when(mockObjectSizer).sizeof(any());
+
+		objectSizer.setFallbackObjectSizer(mockObjectSizer);
+
+		AtomicLong value = new AtomicLong();
+
+		assertThat(objectSizer.sizeof(value)).isEqualTo(42);
+
+		verify(mockObjectSizer, times(1)).sizeof(eq(value));
+	}
+
+	public static class Customer {
+
+		private final Long id;
+
+		private final String name;
+
+		private final List<String> tags;
+
+		private int age;
+
+		public Customer(Long id, String name, List<String> tags) {
+			this.id = id;
+			this.name = name;
+			this.tags = tags;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public List<String> getTags() {
+			return this.tags;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+	}
+
+	public static class Node {
+
+		private Node next;
+
+		public Node getNext() {
+			return this.next;
+		}
+	}
+}
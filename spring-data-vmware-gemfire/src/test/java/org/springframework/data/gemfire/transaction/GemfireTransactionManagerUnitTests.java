@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheTransactionObject.newCacheTransactionObject;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheEvent;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.TransactionEvent;
+import org.apache.geode.cache.TransactionId;
+import org.apache.geode.cache.client.ClientCache;
+
+import org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder;
+import org.springframework.data.gemfire.transaction.GemfireTransactionManager.TransactionRegionRecorder;
+import org.springframework.data.gemfire.transaction.TransactionOperationEvent.Operation;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit Tests for {@link GemfireTransactionManager}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ */
+public class GemfireTransactionManagerUnitTests {
+
+	private final CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+
+	private final ClientCache mockClientCache = mock(ClientCache.class);
+
+	private final List<TransactionOperationEvent> events = new ArrayList<>();
+
+	private final TransactionId mockTransactionId = mock(TransactionId.class);
+
+	private GemfireTransactionManager transactionManager;
+
+	@Before
+	public void setup() {
+
+		doReturn(this.mockCacheTransactionManager).when(this.mockClientCache).getCacheTransactionManager();
+		doReturn(this.mockTransactionId).when(this.mockCacheTransactionManager).getTransactionId();
+
+		this.transactionManager = new GemfireTransactionManager(this.mockClientCache);
+		this.transactionManager.setTransactionOperationListener(this.events::add);
+	}
+
+	@Test
+	public void publishesBeginAndCommitOperations() {
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.transactionManager.commit(status);
+
+		assertThat(this.events).extracting(TransactionOperationEvent::getOperation)
+			.containsExactly(Operation.BEGIN, Operation.COMMIT);
+
+		assertThat(this.events).allMatch(TransactionOperationEvent::isSuccessful);
+		assertThat(this.events).allMatch(event -> this.mockTransactionId.equals(event.getTransactionId()));
+		assertThat(this.events.get(0).hasTransactionDuration()).isFalse();
+		assertThat(this.events.get(1).getTransactionDuration())
+			.isGreaterThanOrEqualTo(this.events.get(1).getDuration());
+	}
+
+	@Test
+	public void publishesFailedCommitOperation() {
+
+		doThrow(new CommitConflictException("TEST")).when(this.mockCacheTransactionManager).commit();
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		assertThatExceptionOfType(GemfireTransactionCommitException.class)
+			.isThrownBy(() -> this.transactionManager.commit(status));
+
+		TransactionOperationEvent commitEvent = this.events.get(1);
+
+		assertThat(commitEvent.getOperation()).isEqualTo(Operation.COMMIT);
+		assertThat(commitEvent.isSuccessful()).isFalse();
+		assertThat(commitEvent.isConflict()).isTrue();
+		assertThat(commitEvent.getFailure()).isInstanceOf(CommitConflictException.class);
+	}
+
+	@Test
+	public void publishesRollbackOperation() {
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.transactionManager.rollback(status);
+
+		assertThat(this.events).extracting(TransactionOperationEvent::getOperation)
+			.containsExactly(Operation.BEGIN, Operation.ROLLBACK);
+
+		assertThat(this.events.get(1).hasTransactionDuration()).isTrue();
+	}
+
+	@Test
+	public void publishesSuspendAndResumeOperations() {
+
+		doReturn(this.mockTransactionId).when(this.mockCacheTransactionManager).suspend();
+		doReturn(false).when(this.mockCacheTransactionManager).tryResume(any(TransactionId.class));
+
+		CacheHolder holder = CacheHolder.newCacheHolder(this.mockTransactionId);
+
+		TransactionSynchronizationManager.bindResource(this.mockClientCache, holder);
+
+		Object suspendedResources = this.transactionManager.doSuspend(newCacheTransactionObject(holder));
+
+		assertThat(suspendedResources).isSameAs(holder);
+
+		this.transactionManager.doResume(newCacheTransactionObject(null), suspendedResources);
+
+		assertThat(this.events).extracting(TransactionOperationEvent::getOperation)
+			.containsExactly(Operation.SUSPEND, Operation.RESUME);
+
+		assertThat(this.events.get(0).isSuccessful()).isTrue();
+		assertThat(this.events.get(1).isTimeout()).isTrue();
+		assertThat(this.events.get(1).isSuccessful()).isFalse();
+	}
+
+	@Test
+	public void transactionRegionRecorderIsRegisteredOnlyWhenSlowTransactionLogIsEnabled() {
+
+		this.transactionManager.commit(this.transactionManager.getTransaction(new DefaultTransactionDefinition()));
+
+		verify(this.mockCacheTransactionManager, never()).addListener(any());
+
+		this.transactionManager.setSlowTransactionThreshold(Duration.ofNanos(1L));
+		this.transactionManager.commit(this.transactionManager.getTransaction(new DefaultTransactionDefinition()));
+		this.transactionManager.commit(this.transactionManager.getTransaction(new DefaultTransactionDefinition()));
+
+		verify(this.mockCacheTransactionManager, times(1)).addListener(any(TransactionRegionRecorder.class));
+	}
+
+	@Test
+	public void transactionRegionRecorderRecordsRegionsOfTrackedTransactions() {
+
+		TransactionId mockUntrackedTransactionId = mock(TransactionId.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		CacheEvent<?, ?> mockCacheEvent = mock(CacheEvent.class);
+
+		TransactionEvent mockTransactionEvent = mock(TransactionEvent.class);
+		TransactionEvent mockUntrackedTransactionEvent = mock(TransactionEvent.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(mockRegion).when(mockCacheEvent).getRegion();
+		doReturn(this.mockTransactionId).when(mockTransactionEvent).getTransactionId();
+		doReturn(Collections.singletonList(mockCacheEvent)).when(mockTransactionEvent).getEvents();
+		doReturn(mockUntrackedTransactionId).when(mockUntrackedTransactionEvent).getTransactionId();
+
+		TransactionRegionRecorder recorder = new TransactionRegionRecorder();
+
+		recorder.track(this.mockTransactionId);
+		recorder.afterCommit(mockTransactionEvent);
+		recorder.afterCommit(mockUntrackedTransactionEvent);
+
+		assertThat(recorder.remove(this.mockTransactionId)).containsExactly("/Example");
+		assertThat(recorder.remove(this.mockTransactionId)).isEmpty();
+		assertThat(recorder.remove(mockUntrackedTransactionId)).isEmpty();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CommitConflictException;
+
+import org.springframework.data.gemfire.transaction.TransactionOperationEvent.Operation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link MicrometerTransactionOperationListener}.
+ *
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.data.gemfire.transaction.MicrometerTransactionOperationListener
+ */
+public class MicrometerTransactionOperationListenerUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MicrometerTransactionOperationListener listener =
+		new MicrometerTransactionOperationListener(this.meterRegistry);
+
+	@Test
+	public void constructWithNullMeterRegistryThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MicrometerTransactionOperationListener(null))
+			.withMessage("MeterRegistry must not be null");
+	}
+
+	@Test
+	public void recordsSuccessfulCommit() {
+
+		this.listener.onTransactionOperation(new TransactionOperationEvent(Operation.COMMIT, null,
+			Duration.ofMillis(5L), Duration.ofMillis(40L), null, false));
+
+		assertThat(this.meterRegistry.get(MicrometerTransactionOperationListener.OPERATION_METER_NAME)
+			.tag("operation", "commit")
+			.tag("outcome", "success")
+			.timer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerTransactionOperationListener.DURATION_METER_NAME)
+			.tag("operation", "commit")
+			.timer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerTransactionOperationListener.COMMITS_METER_NAME)
+			.tag("outcome", "success")
+			.counter()
+			.count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.find(MicrometerTransactionOperationListener.ROLLBACKS_METER_NAME).counter())
+			.isNull();
+	}
+
+	@Test
+	public void recordsConflictingCommit() {
+
+		this.listener.onTransactionOperation(new TransactionOperationEvent(Operation.COMMIT, null,
+			Duration.ofMillis(5L), Duration.ofMillis(10L),
+			new GemfireTransactionCommitException("TEST", new CommitConflictException("TEST")), false));
+
+		assertThat(this.meterRegistry.get(MicrometerTransactionOperationListener.COMMITS_METER_NAME)
+			.tag("outcome", "conflict")
+			.counter()
+			.count()).isEqualTo(1.0d);
+	}
+
+	@Test
+	public void recordsRollback() {
+
+		this.listener.onTransactionOperation(new TransactionOperationEvent(Operation.ROLLBACK, null,
+			Duration.ofMillis(1L), Duration.ofMillis(10L), null, false));
+
+		assertThat(this.meterRegistry.get(MicrometerTransactionOperationListener.ROLLBACKS_METER_NAME)
+			.tag("outcome", "success")
+			.counter()
+			.count()).isEqualTo(1.0d);
+
+		assertThat(this.meterRegistry.find(MicrometerTransactionOperationListener.COMMITS_METER_NAME).counter())
+			.isNull();
+	}
+
+	@Test
+	public void recordsResumeWaitTimeout() {
+
+		this.listener.onTransactionOperation(new TransactionOperationEvent(Operation.RESUME, null,
+			Duration.ofMillis(250L), null, null, true));
+
+		assertThat(this.meterRegistry.get(MicrometerTransactionOperationListener.OPERATION_METER_NAME)
+			.tag("operation", "resume")
+			.tag("outcome", "timeout")
+			.timer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250.0d);
+
+		assertThat(this.meterRegistry.find(MicrometerTransactionOperationListener.DURATION_METER_NAME).timer())
+			.isNull();
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.CommitConflictException;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit Tests for {@link TransactionRetryInterceptor} and {@link TransactionRetryPolicy}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.transaction.TransactionRetryInterceptor
+ * @see org.springframework.data.gemfire.transaction.TransactionRetryPolicy
+ */
+public class TransactionRetryInterceptorUnitTests {
+
+	private final TransactionRetryInterceptor interceptor = new TransactionRetryInterceptor();
+
+	@After
+	public void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T proxy(T target) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(this.interceptor);
+
+		return (T) proxyFactory.getProxy();
+	}
+
+	@Test
+	public void retriesCommitConflictUntilSuccessful() {
+
+		TestService service = new TestService(2);
+
+		assertThat(proxy(service).conflicting()).isEqualTo("committed");
+		assertThat(service.invocations.get()).isEqualTo(3);
+		assertThat(this.interceptor.getConflictCount()).isEqualTo(2L);
+		assertThat(this.interceptor.getRetryCount()).isEqualTo(2L);
+		assertThat(this.interceptor.getExhaustedCount()).isZero();
+		assertThat(this.interceptor.getConflictCountsByMethod())
+			.containsEntry(TestService.class.getName() + ".conflicting", 2L);
+	}
+
+	@Test(expected = GemfireTransactionCommitException.class)
+	public void rethrowsCommitConflictWhenAttemptsAreExhausted() {
+
+		TestService service = new TestService(Integer.MAX_VALUE);
+
+		try {
+			proxy(service).conflicting();
+		}
+		catch (GemfireTransactionCommitException expected) {
+
+			assertThat(expected).hasCauseInstanceOf(CommitConflictException.class);
+			assertThat(service.invocations.get()).isEqualTo(4);
+			assertThat(this.interceptor.getConflictCount()).isEqualTo(4L);
+			assertThat(this.interceptor.getRetryCount()).isEqualTo(3L);
+			assertThat(this.interceptor.getExhaustedCount()).isOne();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void doesNotRetryNonRetryableException() {
+
+		TestService service = new TestService(0);
+
+		try {
+			proxy(service).failing();
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("TEST");
+			assertThat(expected).hasNoCause();
+			assertThat(service.invocations.get()).isOne();
+			assertThat(this.interceptor.getConflictCount()).isZero();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = GemfireTransactionCommitException.class)
+	public void doesNotRetryWhenTransactionIsInProgress() {
+
+		TestService service = new TestService(1);
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+			proxy(service).conflicting();
+		}
+		catch (GemfireTransactionCommitException expected) {
+
+			assertThat(service.invocations.get()).isOne();
+			assertThat(this.interceptor.getRetryCount()).isZero();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void classLevelAnnotationAppliesToAllMethods() {
+
+		AnnotatedTestService service = new AnnotatedTestService();
+
+		assertThat(proxy(service).conflictOnce()).isEqualTo("committed");
+		assertThat(service.invocations.get()).isEqualTo(2);
+		assertThat(this.interceptor.getRetryCount()).isOne();
+	}
+
+	@Test
+	public void unannotatedMethodIsNotRetried() {
+
+		TestService service = new TestService(1);
+
+		assertThat(proxy(service).unannotated()).isEqualTo("conflict");
+		assertThat(service.invocations.get()).isOne();
+	}
+
+	@Test
+	public void backoffIsExponentialJitteredAndBounded() {
+
+		TransactionRetryPolicy retryPolicy = new TransactionRetryPolicy(5, Duration.ofMillis(100L),
+			Duration.ofMillis(300L), 2.0d, 0.5d, Collections.singleton(CommitConflictException.class));
+
+		for (int count = 0; count < 100; count++) {
+			assertThat(retryPolicy.getBackoff(1)).isBetween(50L, 100L);
+			assertThat(retryPolicy.getBackoff(2)).isBetween(100L, 200L);
+			assertThat(retryPolicy.getBackoff(3)).isBetween(150L, 300L);
+			assertThat(retryPolicy.getBackoff(10)).isBetween(150L, 300L);
+		}
+	}
+
+	@Test
+	public void retryableExceptionIsFoundInCauseChain() {
+
+		TransactionRetryPolicy retryPolicy = TransactionRetryPolicy.withDefaults();
+
+		assertThat(retryPolicy.isRetryable(new RuntimeException(new CommitConflictException("TEST")))).isTrue();
+		assertThat(retryPolicy.isRetryable(new RuntimeException(new IllegalStateException("TEST")))).isFalse();
+		assertThat(retryPolicy.isRetryable(null)).isFalse();
+	}
+
+	@Test
+	public void invalidRetryPolicyThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TransactionRetryPolicy(0, Duration.ZERO, Duration.ZERO, 1.0d, 0.0d, null))
+			.withMessage("Max attempts [0] must be greater than 0");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TransactionRetryPolicy(1, Duration.ZERO, Duration.ZERO, 1.0d, 1.5d, null))
+			.withMessage("Jitter [1.5] must be between 0.0 and 1.0");
+	}
+
+	public static class TestService {
+
+		private final AtomicInteger conflicts;
+
+		private final AtomicInteger invocations = new AtomicInteger(0);
+
+		public TestService(int conflicts) {
+			this.conflicts = new AtomicInteger(conflicts);
+		}
+
+		@RetryOnCommitConflict(maxAttempts = 4, backoff = 0L, maxBackoff = 0L)
+		public String conflicting() {
+
+			this.invocations.incrementAndGet();
+
+			if (this.conflicts.getAndDecrement() > 0) {
+				throw new GemfireTransactionCommitException("Unexpected failure on commit of Cache local transaction",
+					new CommitConflictException("TEST"));
+			}
+
+			return "committed";
+		}
+
+		@RetryOnCommitConflict(backoff = 0L, maxBackoff = 0L)
+		public String failing() {
+			this.invocations.incrementAndGet();
+			throw new IllegalStateException("TEST");
+		}
+
+		public String unannotated() {
+			this.invocations.incrementAndGet();
+			return this.conflicts.get() > 0 ? "conflict" : "committed";
+		}
+	}
+
+	@RetryOnCommitConflict(backoff = 0L, maxBackoff = 0L)
+	public static class AnnotatedTestService {
+
+		private final AtomicInteger invocations = new AtomicInteger(0);
+
+		public String conflictOnce() {
+
+			if (this.invocations.incrementAndGet() == 1) {
+				throw new GemfireTransactionCommitException("TEST", new CommitConflictException("TEST"));
+			}
+
+			return "committed";
+		}
+	}
+}
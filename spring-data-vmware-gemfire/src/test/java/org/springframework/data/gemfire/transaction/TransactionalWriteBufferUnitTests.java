@@ -0,0 +1,290 @@
+/*
+ * Copyright 2022-2024 Broadcom. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.TransactionId;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ServerOperationException;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.support.SimpleGemfireRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit Tests for {@link TransactionalWriteBuffer}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @see org.springframework.data.gemfire.transaction.TransactionalWriteBuffer
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class TransactionalWriteBufferUnitTests {
+
+	private final CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+
+	private final ClientCache mockClientCache = mock(ClientCache.class);
+
+	private final Region<Object, Object> mockRegion = mock(Region.class);
+
+	private GemfireTemplate template;
+
+	private GemfireTransactionManager transactionManager;
+
+	@Before
+	public void setup() {
+
+		doReturn(this.mockCacheTransactionManager).when(this.mockClientCache).getCacheTransactionManager();
+		doReturn(mock(TransactionId.class)).when(this.mockCacheTransactionManager).getTransactionId();
+		doReturn(this.mockClientCache).when(this.mockRegion).getRegionService();
+
+		this.template = new GemfireTemplate(this.mockRegion);
+		this.transactionManager = new GemfireTransactionManager(this.mockClientCache);
+		this.transactionManager.setWriteBuffering(true);
+	}
+
+	@Test
+	public void bufferedWritesAreAppliedWithPutAllAndRemoveAllBeforeCommit() {
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.put("one", 1);
+		this.template.put("two", 2);
+		this.template.put("one", 11);
+		this.template.remove("three");
+		this.template.put("four", 4);
+		this.template.remove("four");
+
+		verify(this.mockRegion, never()).put(any(), any());
+		verify(this.mockRegion, never()).remove(any());
+
+		this.transactionManager.commit(status);
+
+		Map<Object, Object> expectedPuts = new HashMap<>();
+
+		expectedPuts.put("one", 11);
+		expectedPuts.put("two", 2);
+
+		InOrder inOrder = inOrder(this.mockRegion, this.mockCacheTransactionManager);
+
+		inOrder.verify(this.mockRegion, times(1)).putAll(eq(expectedPuts));
+		inOrder.verify(this.mockRegion, times(1)).removeAll(eq(Arrays.asList("three", "four")));
+		inOrder.verify(this.mockCacheTransactionManager, times(1)).commit();
+	}
+
+	@Test
+	public void bufferedWritesAreReadFromBuffer() {
+
+		doReturn(Collections.singletonMap("three", 3)).when(this.mockRegion)
+			.getAll(eq(Collections.singletonList("three")));
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.put("one", 1);
+		this.template.remove("two");
+
+		assertThat((Object) this.template.get("one")).isEqualTo(1);
+		assertThat((Object) this.template.get("two")).isNull();
+		assertThat(this.template.containsKey("one")).isTrue();
+		assertThat(this.template.containsKey("two")).isFalse();
+		assertThat(this.template.getAll(Arrays.asList("one", "two", "three")))
+			.containsEntry("one", 1)
+			.containsEntry("two", null)
+			.containsEntry("three", 3);
+
+		verify(this.mockRegion, never()).get(any());
+		verify(this.mockRegion, never()).containsKey(any());
+
+		this.transactionManager.rollback(status);
+
+		verify(this.mockRegion, never()).putAll(anyMap());
+		verify(this.mockRegion, never()).removeAll(anyCollection());
+	}
+
+	@Test
+	public void regionPathsOfBufferedWritesAreRecordedForSlowTransactionLog() {
+
+		Region<Object, Object> mockOtherRegion = mock(Region.class);
+
+		doReturn("/Example").when(this.mockRegion).getFullPath();
+
+		TransactionalWriteBuffer writeBuffer = new TransactionalWriteBuffer();
+
+		assertThat(writeBuffer.getRegionPaths()).isEmpty();
+
+		writeBuffer.put(this.mockRegion, "one", 1);
+		writeBuffer.removeAll(mockOtherRegion, Collections.emptyList());
+
+		assertThat(writeBuffer.getRegionPaths()).containsExactly("/Example");
+
+		this.transactionManager.setSlowTransactionThreshold(Duration.ofNanos(1L));
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.put("one", 1);
+		this.transactionManager.rollback(status);
+
+		verify(this.mockRegion, times(2)).getFullPath();
+	}
+
+	@Test
+	public void bufferedPutAndRemoveReturnBufferedOldValueWithoutReadingRegion() {
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		assertThat((Object) this.template.put("one", 1)).isNull();
+		assertThat((Object) this.template.put("one", 11)).isEqualTo(1);
+		assertThat((Object) this.template.remove("one")).isEqualTo(11);
+		assertThat((Object) this.template.remove("two")).isNull();
+		assertThat((Object) this.template.put("two", 2)).isNull();
+
+		verify(this.mockRegion, never()).get(any());
+		verify(this.mockRegion, never()).put(any(), any());
+		verify(this.mockRegion, never()).remove(any());
+
+		this.transactionManager.rollback(status);
+	}
+
+	@Test
+	public void getAllMapsKeysRemovedInTransactionToNullLikeRegionGetAllMapsKeysWithoutValue() {
+
+		Map<Object, Object> regionValues = new HashMap<>();
+
+		regionValues.put("two", null);
+		regionValues.put("three", 3);
+
+		doReturn(regionValues).when(this.mockRegion).getAll(eq(Arrays.asList("two", "three")));
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.removeAll(Collections.singletonList("one"));
+
+		Map<Object, Object> values = this.template.getAll(Arrays.asList("one", "two", "three"));
+
+		assertThat(values).hasSize(3);
+		assertThat(values).containsEntry("one", null);
+		assertThat(values).containsEntry("two", null);
+		assertThat(values).containsEntry("three", 3);
+
+		verify(this.mockRegion, never()).getAll(eq(Arrays.asList("one", "two", "three")));
+
+		this.transactionManager.rollback(status);
+	}
+
+	@Test
+	public void repositorySaveAndDeleteAreBufferedWithoutReadingRegion() {
+
+		EntityInformation<Object, Object> mockEntityInformation = mock(EntityInformation.class);
+
+		doReturn("one").when(mockEntityInformation).getRequiredId(any());
+
+		SimpleGemfireRepository<Object, Object> repository =
+			new SimpleGemfireRepository<>(this.template, mockEntityInformation);
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		repository.save("ONE");
+		repository.deleteById("two");
+
+		verify(this.mockRegion, never()).get(any());
+
+		this.transactionManager.commit(status);
+
+		verify(this.mockRegion, times(1)).putAll(eq(Collections.singletonMap("one", "ONE")));
+		verify(this.mockRegion, times(1)).removeAll(eq(Collections.singletonList("two")));
+	}
+
+	@Test
+	public void conditionalWriteFlushesBufferedWritesOfRegion() {
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.put("one", 1);
+		this.template.putIfAbsent("two", 2);
+
+		InOrder inOrder = inOrder(this.mockRegion);
+
+		inOrder.verify(this.mockRegion, times(1)).putAll(eq(Collections.singletonMap("one", 1)));
+		inOrder.verify(this.mockRegion, times(1)).putIfAbsent(eq("two"), eq(2));
+
+		this.transactionManager.commit(status);
+
+		verify(this.mockRegion, times(1)).putAll(anyMap());
+	}
+
+	@Test
+	public void failureToApplyBufferedWritesRollsBackTransaction() {
+
+		doThrow(new ServerOperationException("TEST")).when(this.mockRegion).putAll(anyMap());
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.put("one", 1);
+
+		assertThatExceptionOfType(ServerOperationException.class)
+			.isThrownBy(() -> this.transactionManager.commit(status));
+
+		verify(this.mockCacheTransactionManager, never()).commit();
+		verify(this.mockCacheTransactionManager, times(1)).rollback();
+		assertThat(TransactionSynchronizationManager.hasResource(this.mockClientCache)).isFalse();
+	}
+
+	@Test
+	public void writesAreNotBufferedWhenWriteBufferingIsDisabled() {
+
+		this.transactionManager.setWriteBuffering(false);
+
+		TransactionStatus status = this.transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+		this.template.put("one", 1);
+
+		verify(this.mockRegion, times(1)).put(eq("one"), eq(1));
+
+		this.transactionManager.commit(status);
+
+		verify(this.mockRegion, never()).putAll(anyMap());
+	}
+
+	@Test
+	public void writesAreNotBufferedOutsideOfTransaction() {
+
+		assertThat(TransactionalWriteBuffer.getCurrent(this.mockRegion)).isNull();
+
+		this.template.put("one", 1);
+
+		verify(this.mockRegion, times(1)).put(eq("one"), eq(1));
+		verify(this.mockRegion, never()).getRegionService();
+	}
+}
@@ -8,10 +8,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.junit.Test;
@@ -20,9 +27,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import org.apache.geode.cache.TransactionEvent;
+import org.apache.geode.cache.TransactionId;
 
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit Tests for {@link TransactionListenerAdapter}.
@@ -118,4 +128,230 @@ public class TransactionListenerAdapterUnitTests {
 	public void afterRollbackInvokesApplicationEventPublisher() {
 		invokingApplicationEventPublisherTest(listener -> listener.afterRollback(this.mockTransactionEvent));
 	}
+
+	private TransactionEvent mockTransactionEvent(TransactionId transactionId) {
+
+		TransactionEvent mockTransactionEvent = mock(TransactionEvent.class);
+
+		doReturn(transactionId).when(mockTransactionEvent).getTransactionId();
+
+		return mockTransactionEvent;
+	}
+
+	@Test
+	public void asyncPublishingPublishesEventsOffTheTransactionThread() {
+
+		List<String> publishingThreadNames = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> publishingThreadNames.add(Thread.currentThread().getName()))
+			.when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withAsyncPublishing(2, 16);
+
+		assertThat(listener.isAsyncPublishing()).isTrue();
+
+		listener.afterCommit(mockTransactionEvent(mock(TransactionId.class)));
+		listener.afterRollback(mockTransactionEvent(mock(TransactionId.class)));
+		listener.close();
+
+		assertThat(listener.isAsyncPublishing()).isFalse();
+		assertThat(publishingThreadNames).hasSize(2);
+		assertThat(publishingThreadNames).allMatch(threadName -> threadName.startsWith("TransactionEventPublisher-"));
+	}
+
+	@Test
+	public void asyncPublishingPublishesEventsOfATransactionInOrder() {
+
+		List<Object> publishedEventSources = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> publishedEventSources.add(invocation.getArgument(0, ApplicationEvent.class).getSource()))
+			.when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withAsyncPublishing(4, 8);
+
+		TransactionId transactionId = mock(TransactionId.class);
+
+		List<TransactionEvent> transactionEvents = new ArrayList<>();
+
+		for (int count = 0; count < 100; count++) {
+
+			TransactionEvent transactionEvent = mockTransactionEvent(transactionId);
+
+			transactionEvents.add(transactionEvent);
+			listener.afterCommit(transactionEvent);
+		}
+
+		listener.close();
+
+		assertThat(publishedEventSources).containsExactlyElementsOf(transactionEvents);
+	}
+
+	@Test
+	public void asyncPublishingWithBatchingCoalescesEvents() {
+
+		List<TransactionApplicationEventBatch> batches = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> batches.add(invocation.getArgument(0, TransactionApplicationEventBatch.class)))
+			.when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withBatching(Duration.ofSeconds(5), 10);
+
+		assertThat(listener.isAsyncPublishing()).isTrue();
+
+		TransactionId transactionId = mock(TransactionId.class);
+
+		for (int count = 0; count < 25; count++) {
+			listener.afterCommit(mockTransactionEvent(transactionId));
+		}
+
+		listener.close();
+
+		assertThat(batches).isNotEmpty();
+		assertThat(batches).allMatch(batch -> batch.size() <= 10);
+		assertThat(batches.stream().mapToInt(TransactionApplicationEventBatch::size).sum()).isEqualTo(25);
+	}
+
+	@Test
+	public void asyncPublishingContinuesAfterListenerFailure() {
+
+		List<Object> publishedEventSources = new CopyOnWriteArrayList<>();
+
+		TransactionEvent failingTransactionEvent = mockTransactionEvent(mock(TransactionId.class));
+		TransactionEvent transactionEvent = mockTransactionEvent(mock(TransactionId.class));
+
+		doAnswer(invocation -> {
+
+			Object source = invocation.getArgument(0, ApplicationEvent.class).getSource();
+
+			if (source == failingTransactionEvent) {
+				throw new IllegalStateException("TEST");
+			}
+
+			return publishedEventSources.add(source);
+
+		}).when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withAsyncPublishing(1, 4);
+
+		listener.afterCommit(failingTransactionEvent);
+		listener.afterCommit(transactionEvent);
+		listener.close();
+
+		assertThat(publishedEventSources).containsExactly(transactionEvent);
+	}
+
+	@Test
+	public void asyncPublishingPublishesEventsOffTheTransactionThreadAfterSpringTransactionCompletes() {
+
+		List<String> publishingThreadNames = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> publishingThreadNames.add(Thread.currentThread().getName()))
+			.when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withAsyncPublishing(1, 16);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+			listener.afterCommit(mockTransactionEvent(mock(TransactionId.class)));
+
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+			assertThat(synchronizations).hasSize(1);
+			assertThat(publishingThreadNames).isEmpty();
+
+			synchronizations.forEach(synchronization ->
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+			listener.close();
+		}
+
+		assertThat(publishingThreadNames).hasSize(1);
+		assertThat(publishingThreadNames).allMatch(threadName -> threadName.startsWith("TransactionEventPublisher-"));
+	}
+
+	@Test
+	public void asyncPublishingUsesConfiguredThreadFactory() {
+
+		List<String> publishingThreadNames = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> publishingThreadNames.add(Thread.currentThread().getName()))
+			.when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withThreadFactory(runnable -> new Thread(runnable, "CustomPublisher"))
+			.withAsyncPublishing(1, 16);
+
+		listener.afterCommit(mockTransactionEvent(mock(TransactionId.class)));
+		listener.close();
+
+		assertThat(publishingThreadNames).containsExactly("CustomPublisher");
+	}
+
+	@Test
+	public void restartingAsyncPublishingPublishesQueuedEventsBeforeNewEvents() {
+
+		List<Object> publishedEventSources = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> {
+			Thread.sleep(1L);
+			return publishedEventSources.add(invocation.getArgument(0, ApplicationEvent.class).getSource());
+		}).when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withAsyncPublishing(1, 100);
+
+		TransactionId transactionId = mock(TransactionId.class);
+
+		List<TransactionEvent> transactionEvents = new ArrayList<>();
+
+		for (int count = 0; count < 40; count++) {
+
+			if (count == 20) {
+				listener.withAsyncPublishing(2, 100);
+			}
+
+			TransactionEvent transactionEvent = mockTransactionEvent(transactionId);
+
+			transactionEvents.add(transactionEvent);
+			listener.afterCommit(transactionEvent);
+		}
+
+		listener.close();
+
+		assertThat(publishedEventSources).containsExactlyElementsOf(transactionEvents);
+	}
+
+	@Test
+	public void eventsPublishedConcurrentlyWithCloseAreNotLost() throws InterruptedException {
+
+		AtomicInteger publishedEventCount = new AtomicInteger();
+
+		doAnswer(invocation -> publishedEventCount.incrementAndGet())
+			.when(this.mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		TransactionListenerAdapter listener = new TransactionListenerAdapter(this.mockApplicationEventPublisher)
+			.withAsyncPublishing(2, 8);
+
+		TransactionEvent transactionEvent = mockTransactionEvent(mock(TransactionId.class));
+
+		Thread transactionThread = new Thread(() -> {
+			for (int count = 0; count < 1000; count++) {
+				listener.afterCommit(transactionEvent);
+			}
+		});
+
+		transactionThread.start();
+		listener.close();
+		transactionThread.join();
+
+		assertThat(publishedEventCount).hasValue(1000);
+	}
 }